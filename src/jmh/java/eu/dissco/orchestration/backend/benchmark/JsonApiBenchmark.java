@@ -0,0 +1,104 @@
+package eu.dissco.orchestration.backend.benchmark;
+
+import static eu.dissco.orchestration.backend.testutils.TestUtils.HANDLE;
+import static eu.dissco.orchestration.backend.testutils.TestUtils.MAPPER;
+import static eu.dissco.orchestration.backend.testutils.TestUtils.givenMas;
+import static eu.dissco.orchestration.backend.testutils.TestUtils.givenSourceSystem;
+
+import eu.dissco.orchestration.backend.domain.ObjectType;
+import eu.dissco.orchestration.backend.domain.RawJsonObject;
+import eu.dissco.orchestration.backend.domain.jsonapi.JsonApiData;
+import eu.dissco.orchestration.backend.domain.jsonapi.JsonApiLinks;
+import eu.dissco.orchestration.backend.domain.jsonapi.JsonApiListWrapper;
+import eu.dissco.orchestration.backend.schema.MachineAnnotationService;
+import eu.dissco.orchestration.backend.schema.SourceSystem;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import tools.jackson.databind.JsonNode;
+
+/**
+ * Flattening of the domain objects into the data of a JSON:API response, as done by the wrapSingleResponse methods of
+ * the services, compared to writing the stored JSON of a page as it is read from the database
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JsonApiBenchmark {
+
+	private MachineAnnotationService mas;
+
+	private SourceSystem sourceSystem;
+
+	@Setup
+	public void setup() {
+		mas = givenMas();
+		sourceSystem = givenSourceSystem();
+	}
+
+	@Benchmark
+	public JsonNode flattenMas() {
+		return MAPPER.valueToTree(mas);
+	}
+
+	@Benchmark
+	public JsonNode flattenSourceSystem() {
+		return MAPPER.valueToTree(sourceSystem);
+	}
+
+	@Benchmark
+	public List<JsonApiData> wrapMasData(Page page) {
+		return page.mass.stream().map(r -> new JsonApiData(HANDLE, ObjectType.MAS, MAPPER.valueToTree(r))).toList();
+	}
+
+	@Benchmark
+	public String writeMasPageFromObjects(Page page) {
+		var data = page.storedMass.stream()
+			.map(r -> new JsonApiData(r.id(), ObjectType.MAS,
+					MAPPER.valueToTree(MAPPER.readValue(r.json(), MachineAnnotationService.class))))
+			.toList();
+		return MAPPER.writeValueAsString(new JsonApiListWrapper(data, new JsonApiLinks(HANDLE)));
+	}
+
+	@Benchmark
+	public String writeMasPageFromRawJson(Page page) {
+		var data = page.storedMass.stream().map(r -> JsonApiData.fromRawJson(r, ObjectType.MAS)).toList();
+		return MAPPER.writeValueAsString(new JsonApiListWrapper(data, new JsonApiLinks(HANDLE)));
+	}
+
+	@State(Scope.Benchmark)
+	public static class Page {
+
+		@Param({ "10", "100" })
+		private int pageSize;
+
+		private List<MachineAnnotationService> mass;
+
+		private List<RawJsonObject> storedMass;
+
+		@Setup
+		public void setup() {
+			mass = IntStream.range(0, pageSize).mapToObj(i -> givenMas()).toList();
+			storedMass = mass.stream()
+				.map(r -> new RawJsonObject(HANDLE, Instant.EPOCH, MAPPER.writeValueAsString(r)))
+				.toList();
+		}
+
+	}
+
+}
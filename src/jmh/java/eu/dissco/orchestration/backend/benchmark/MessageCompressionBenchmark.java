@@ -0,0 +1,62 @@
+package eu.dissco.orchestration.backend.benchmark;
+
+import static eu.dissco.orchestration.backend.testutils.TestUtils.MAPPER;
+import static eu.dissco.orchestration.backend.testutils.TestUtils.TTL;
+import static eu.dissco.orchestration.backend.testutils.TestUtils.givenAgent;
+import static eu.dissco.orchestration.backend.testutils.TestUtils.givenMas;
+
+import eu.dissco.orchestration.backend.component.MessageCompressionComponent;
+import eu.dissco.orchestration.backend.properties.ApplicationProperties;
+import eu.dissco.orchestration.backend.service.ProvenanceService;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+
+/**
+ * Compression and decompression of a provenance event as it is published to RabbitMQ
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MessageCompressionBenchmark {
+
+	private final MessageCompressionComponent compressionComponent = new MessageCompressionComponent();
+
+	private String event;
+
+	private Message message;
+
+	@Setup
+	public void setup() {
+		var properties = new ApplicationProperties();
+		properties.setBaseUrl("https://orchestration.dissco.tech");
+		var provenanceService = new ProvenanceService(MAPPER, properties);
+		event = MAPPER.writeValueAsString(provenanceService.generateUpdateEvent(MAPPER.valueToTree(givenMas(2)),
+				MAPPER.valueToTree(givenMas(1, "The old name for the mas", TTL)), givenAgent()));
+		message = compressionComponent.toMessage(event, new MessageProperties());
+	}
+
+	@Benchmark
+	public Message toMessage() {
+		return compressionComponent.toMessage(event, new MessageProperties());
+	}
+
+	@Benchmark
+	public Object fromMessage() {
+		return compressionComponent.fromMessage(message);
+	}
+
+}
@@ -0,0 +1,60 @@
+package eu.dissco.orchestration.backend.benchmark;
+
+import static eu.dissco.orchestration.backend.testutils.TestUtils.MAPPER;
+import static eu.dissco.orchestration.backend.testutils.TestUtils.TTL;
+import static eu.dissco.orchestration.backend.testutils.TestUtils.givenAgent;
+import static eu.dissco.orchestration.backend.testutils.TestUtils.givenMas;
+
+import eu.dissco.orchestration.backend.properties.ApplicationProperties;
+import eu.dissco.orchestration.backend.schema.Agent;
+import eu.dissco.orchestration.backend.schema.CreateUpdateTombstoneEvent;
+import eu.dissco.orchestration.backend.service.ProvenanceService;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import tools.jackson.databind.JsonNode;
+
+/**
+ * Creation of the provenance event of an update, the json patch of the two versions and the mapping of the entity to
+ * its provenance value
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProvenanceBenchmark {
+
+	private ProvenanceService provenanceService;
+
+	private JsonNode mas;
+
+	private JsonNode currentMas;
+
+	private Agent agent;
+
+	@Setup
+	public void setup() {
+		var properties = new ApplicationProperties();
+		properties.setBaseUrl("https://orchestration.dissco.tech");
+		provenanceService = new ProvenanceService(MAPPER, properties);
+		mas = MAPPER.valueToTree(givenMas(2));
+		currentMas = MAPPER.valueToTree(givenMas(1, "The old name for the mas", TTL));
+		agent = givenAgent();
+	}
+
+	@Benchmark
+	public CreateUpdateTombstoneEvent generateUpdateEvent() {
+		return provenanceService.generateUpdateEvent(mas, currentMas, agent);
+	}
+
+}
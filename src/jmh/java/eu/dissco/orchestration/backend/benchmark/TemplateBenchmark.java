@@ -0,0 +1,168 @@
+package eu.dissco.orchestration.backend.benchmark;
+
+import static eu.dissco.orchestration.backend.testutils.TestUtils.BARE_HANDLE;
+import static eu.dissco.orchestration.backend.testutils.TestUtils.MAPPER;
+import static eu.dissco.orchestration.backend.testutils.TestUtils.MAS_NAME;
+import static eu.dissco.orchestration.backend.testutils.TestUtils.givenMas;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.dataformat.yaml.YAMLMapper;
+import eu.dissco.orchestration.backend.component.MasDeploymentBlueprintComponent;
+import eu.dissco.orchestration.backend.component.TranslatorJobBlueprintComponent;
+import eu.dissco.orchestration.backend.properties.MachineAnnotationServiceProperties;
+import eu.dissco.orchestration.backend.properties.TranslatorJobProperties;
+import eu.dissco.orchestration.backend.schema.MachineAnnotationService;
+import eu.dissco.orchestration.backend.schema.SourceSystem.OdsTranslatorType;
+import freemarker.template.Configuration;
+import freemarker.template.Template;
+import freemarker.template.TemplateException;
+import io.kubernetes.client.openapi.ApiClient;
+import io.kubernetes.client.openapi.models.V1Deployment;
+import io.kubernetes.client.openapi.models.V1Job;
+import java.io.File;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Creation of the Kubernetes resources of a source system and a machine annotation service. The render benchmarks
+ * render the template and parse the YAML on every call, as the services did before the blueprints were introduced. The
+ * blueprint benchmarks copy a parsed blueprint and set the values, as the services do now.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TemplateBenchmark {
+
+	private static final String JOB_NAME = "dwca-gw0-pop-xsl-translator-service";
+
+	private final Configuration configuration = new Configuration(Configuration.VERSION_2_3_32);
+
+	private final YAMLMapper yamlMapper = new YAMLMapper(YAMLMapper.builder().findAndAddModules().build());
+
+	private final ObjectMapper jsonMapper = new ObjectMapper().findAndRegisterModules();
+
+	private final MachineAnnotationServiceProperties masProperties = new MachineAnnotationServiceProperties();
+
+	private Template jobTemplate;
+
+	private Template deploymentTemplate;
+
+	private TranslatorJobBlueprintComponent jobBlueprintComponent;
+
+	private MasDeploymentBlueprintComponent deploymentBlueprintComponent;
+
+	private MachineAnnotationService mas;
+
+	private Map<String, Object> jobProperties;
+
+	private Map<String, Object> deploymentProperties;
+
+	private static Map<String, Object> givenJobProperties(TranslatorJobProperties properties) {
+		var map = new HashMap<String, Object>();
+		map.put("image", properties.getImage());
+		map.put("sourceSystemId", BARE_HANDLE);
+		map.put("maxItems", 25);
+		map.put("jobName", JOB_NAME);
+		map.put("namespace", properties.getNamespace());
+		map.put("containerName", JOB_NAME);
+		map.put("database_url", properties.getDatabaseUrl());
+		map.put("forceMasSchedule", false);
+		map.put("specimenMass", "https://hdl.handle.net/TEST/SSS-SSS-SSS");
+		return map;
+	}
+
+	private static Map<String, Object> givenDeploymentProperties(MachineAnnotationService mas) {
+		var map = new HashMap<String, Object>();
+		map.put("image", mas.getOdsContainerImage());
+		map.put("imageTag", mas.getOdsContainerTag());
+		map.put("pid", "gw0-pop-xsl");
+		map.put("name", MAS_NAME);
+		map.put("id", BARE_HANDLE);
+		map.put("topicName", mas.getOdsTopicName());
+		map.put("runningEndpoint", "https://dev.dissco.tech/api/running");
+		return map;
+	}
+
+	@Setup
+	public void setup() throws IOException, TemplateException {
+		configuration.setDirectoryForTemplateLoading(new File("src/main/resources/templates/"));
+		var translatorJobProperties = new TranslatorJobProperties();
+		translatorJobProperties.setDatabaseUrl("jdbc:postgresql://localhost:5432/translator");
+		jobTemplate = configuration.getTemplate(TranslatorJobBlueprintComponent.templateName(OdsTranslatorType.DWCA,
+				false));
+		deploymentTemplate = configuration.getTemplate("mas-template.ftl");
+		jobBlueprintComponent = new TranslatorJobBlueprintComponent(configuration, yamlMapper, translatorJobProperties,
+				new ApiClient());
+		jobBlueprintComponent.loadBlueprints();
+		deploymentBlueprintComponent = new MasDeploymentBlueprintComponent(masProperties, deploymentTemplate,
+				yamlMapper, new ApiClient());
+		deploymentBlueprintComponent.loadBlueprint();
+		mas = givenMas();
+		jobProperties = givenJobProperties(translatorJobProperties);
+		deploymentProperties = givenDeploymentProperties(mas);
+	}
+
+	private String render(Template template, Map<String, Object> templateProperties)
+			throws IOException, TemplateException {
+		var writer = new StringWriter();
+		template.process(templateProperties, writer);
+		return writer.toString();
+	}
+
+	@Benchmark
+	public V1Job renderTranslatorJob() throws IOException, TemplateException {
+		return yamlMapper.readValue(render(jobTemplate, jobProperties), V1Job.class);
+	}
+
+	@Benchmark
+	public V1Job blueprintTranslatorJob() {
+		return jobBlueprintComponent.createJob(OdsTranslatorType.DWCA, jobProperties);
+	}
+
+	@Benchmark
+	public V1Deployment renderMasDeployment() throws IOException, TemplateException {
+		var templateAsNode = (ObjectNode) yamlMapper.readTree(render(deploymentTemplate, deploymentProperties));
+		var environment = (ArrayNode) templateAsNode.get("spec")
+			.get("template")
+			.get("spec")
+			.get("containers")
+			.get(0)
+			.get("env");
+		mas.getOdsHasEnvironmentalVariables()
+			.forEach(env -> environment.addObject()
+				.put("name", env.getSchemaName())
+				.put("value", env.getSchemaValue().toString()));
+		mas.getOdsHasSecretVariables().forEach(secret -> {
+			var secretNode = environment.addObject().put("name", secret.getSchemaName());
+			secretNode.putObject("valueFrom")
+				.putObject("secretKeyRef")
+				.put("name", masProperties.getMasSecretStore())
+				.put("key", secret.getOdsSecretKeyRef());
+		});
+		return MAPPER.readValue(jsonMapper.writeValueAsString(templateAsNode), V1Deployment.class);
+	}
+
+	@Benchmark
+	public V1Deployment blueprintMasDeployment() {
+		return deploymentBlueprintComponent.createDeployment(mas, deploymentProperties);
+	}
+
+}
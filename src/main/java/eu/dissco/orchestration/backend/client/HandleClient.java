@@ -4,6 +4,7 @@ import eu.dissco.orchestration.backend.exception.PidException;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.service.annotation.DeleteExchange;
+import org.springframework.web.service.annotation.PatchExchange;
 import org.springframework.web.service.annotation.PostExchange;
 import org.springframework.web.service.annotation.PutExchange;
 import tools.jackson.databind.JsonNode;
@@ -18,6 +19,9 @@ public interface HandleClient {
 	@PutExchange("{pid}")
 	void tombstoneHandle(@PathVariable String pid, @RequestBody JsonNode handleRequest) throws PidException;
 
+	@PatchExchange("{pid}")
+	void updateHandle(@PathVariable String pid, @RequestBody JsonNode handleRequest) throws PidException;
+
 	@DeleteExchange("rollback/create")
 	void rollbackHandle(@RequestBody JsonNode handleRequest) throws PidException;
 
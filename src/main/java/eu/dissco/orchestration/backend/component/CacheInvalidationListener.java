@@ -0,0 +1,146 @@
+package eu.dissco.orchestration.backend.component;
+
+import eu.dissco.orchestration.backend.domain.CacheInvalidation;
+import eu.dissco.orchestration.backend.properties.ReadCacheProperties;
+import eu.dissco.orchestration.backend.repository.ObjectCache;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static eu.dissco.orchestration.backend.repository.ObjectCache.INVALIDATION_CHANNEL;
+
+/**
+ * Keeps the read caches of the replicas coherent. Listens on a dedicated database connection, outside the connection
+ * pool, for the notifications sent by the repositories of all replicas after a write and evicts the written object
+ * from the local cache. Notifications sent while the listener is not connected are lost, so all caches are cleared
+ * each time the listener (re)connects.
+ */
+@Slf4j
+@Component
+public class CacheInvalidationListener {
+
+	private final Map<String, ObjectCache<?>> caches;
+
+	private final JsonMapper mapper;
+
+	private final ReadCacheProperties properties;
+
+	private final String databaseUrl;
+
+	private final String databaseUsername;
+
+	private final String databasePassword;
+
+	private volatile boolean running;
+
+	private volatile boolean listening;
+
+	private Thread listenerThread;
+
+	public CacheInvalidationListener(List<ObjectCache<?>> caches, JsonMapper mapper, ReadCacheProperties properties,
+			@Value("${spring.datasource.url}") String databaseUrl,
+			@Value("${spring.datasource.username}") String databaseUsername,
+			@Value("${spring.datasource.password}") String databasePassword) {
+		this.caches = caches.stream().collect(Collectors.toMap(ObjectCache::getName, Function.identity()));
+		this.mapper = mapper;
+		this.properties = properties;
+		this.databaseUrl = databaseUrl;
+		this.databaseUsername = databaseUsername;
+		this.databasePassword = databasePassword;
+	}
+
+	public boolean isListening() {
+		return listening;
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public synchronized void start() {
+		if (!properties.isListenerEnabled()) {
+			log.info("Cache invalidation listener is disabled, only writes of this replica evict cached objects");
+			return;
+		}
+		running = true;
+		listenerThread = Thread.ofVirtual().name("cache-invalidation-listener").start(this::listen);
+	}
+
+	@PreDestroy
+	public synchronized void stop() {
+		running = false;
+		if (listenerThread != null) {
+			listenerThread.interrupt();
+		}
+	}
+
+	private void listen() {
+		while (running) {
+			try (var connection = DriverManager.getConnection(databaseUrl, databaseUsername, databasePassword)) {
+				try (var statement = connection.createStatement()) {
+					statement.execute("LISTEN " + INVALIDATION_CHANNEL);
+				}
+				caches.values().forEach(ObjectCache::evictAll);
+				listening = true;
+				log.info("Listening for cache invalidations on channel: {}", INVALIDATION_CHANNEL);
+				var pgConnection = connection.unwrap(PGConnection.class);
+				var pollTimeout = (int) properties.getListenerPollTimeout().toMillis();
+				while (running) {
+					var notifications = pgConnection.getNotifications(pollTimeout);
+					if (notifications != null) {
+						for (var notification : notifications) {
+							handleNotification(notification.getParameter());
+						}
+					}
+				}
+			}
+			catch (SQLException e) {
+				if (running) {
+					log.warn("Lost the connection listening for cache invalidations, reconnecting", e);
+				}
+			}
+			finally {
+				listening = false;
+			}
+			waitBeforeReconnect();
+		}
+	}
+
+	private void waitBeforeReconnect() {
+		if (running) {
+			try {
+				Thread.sleep(properties.getListenerReconnectDelay());
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				running = false;
+			}
+		}
+	}
+
+	private void handleNotification(String payload) {
+		try {
+			var invalidation = mapper.readValue(payload, CacheInvalidation.class);
+			var cache = caches.get(invalidation.type());
+			if (cache != null) {
+				log.debug("Evicting {} {} after version {} was written", invalidation.type(), invalidation.id(),
+						invalidation.version());
+				cache.evict(invalidation.id());
+			}
+		}
+		catch (JacksonException e) {
+			log.warn("Ignoring invalid cache invalidation: {}", payload);
+		}
+	}
+
+}
@@ -0,0 +1,62 @@
+package eu.dissco.orchestration.backend.component;
+
+import org.springframework.boot.health.contributor.Health;
+import org.springframework.boot.health.contributor.HealthIndicator;
+import org.springframework.boot.health.contributor.Status;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Reports whether this replica finished its first synchronization with the cluster. Until then the status is
+ * SYNCHRONIZING, which is ignored by the default health group and only mapped to unavailable by the writes group, so
+ * the replica is live and serves reads while synchronizing. A replica which can never synchronize, for example
+ * because it is not allowed to take part in the leader election, reports DOWN with the reason. Synchronizations which
+ * failed and are being retried are reported as a detail, the replica is up as its change handlers reconcile the
+ * cluster in the meantime.
+ */
+@Component("clusterSync")
+public class ClusterSyncHealthIndicator implements HealthIndicator {
+
+	public static final Status SYNCHRONIZING = new Status("SYNCHRONIZING",
+			"Waiting for the first synchronization with the cluster");
+
+	private volatile boolean synced;
+
+	private volatile String failure;
+
+	private volatile List<String> failedSynchronizations = List.of();
+
+	public boolean isSynced() {
+		return synced;
+	}
+
+	public void markSynced() {
+		markSynced(List.of());
+	}
+
+	public void markSynced(List<String> failedSynchronizations) {
+		this.failedSynchronizations = List.copyOf(failedSynchronizations);
+		synced = true;
+	}
+
+	public void markFailed(String reason) {
+		failure = reason;
+	}
+
+	@Override
+	public Health health() {
+		if (failure != null) {
+			return Health.down().withDetail("reason", failure).build();
+		}
+		if (!synced) {
+			return Health.status(SYNCHRONIZING).build();
+		}
+		var failed = failedSynchronizations;
+		if (failed.isEmpty()) {
+			return Health.up().build();
+		}
+		return Health.up().withDetail("failedSynchronizations", failed).build();
+	}
+
+}
@@ -0,0 +1,170 @@
+package eu.dissco.orchestration.backend.component;
+
+import eu.dissco.orchestration.backend.exception.PidException;
+import eu.dissco.orchestration.backend.properties.HandleClientProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.ConnectException;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static lombok.Lombok.sneakyThrow;
+
+/**
+ * Guards the requests to the handle server. Idempotent requests which are throttled (429), fail with a server error
+ * (5xx) or an I/O error are retried with a jittered exponential backoff, a request which could not connect never
+ * reached the server and is retried whatever its method. After a number of consecutive failed requests the circuit
+ * breaker opens and requests fail fast, until a single trial request after the open duration succeeds. Requests
+ * which fail on an I/O error or the open circuit breaker throw a {@link PidException}, like an error response.
+ */
+@Slf4j
+public class HandleClientInterceptor implements ClientHttpRequestInterceptor {
+
+	/*
+	 * A server error on a mint doesn't tell whether the handles were minted, only idempotent methods are retried
+	 */
+	private static final Set<HttpMethod> IDEMPOTENT_METHODS = Set.of(HttpMethod.GET, HttpMethod.HEAD, HttpMethod.PUT,
+			HttpMethod.PATCH, HttpMethod.DELETE);
+
+	private final HandleClientProperties properties;
+
+	private CircuitState circuitState = CircuitState.CLOSED;
+
+	private int consecutiveFailures;
+
+	private long openedAt;
+
+	public HandleClientInterceptor(HandleClientProperties properties) {
+		this.properties = properties;
+	}
+
+	private static boolean isRetryable(HttpMethod method, HttpStatusCode status) {
+		return status.value() == HttpStatus.TOO_MANY_REQUESTS.value()
+				|| (status.is5xxServerError() && IDEMPOTENT_METHODS.contains(method));
+	}
+
+	private static boolean isRetryable(HttpMethod method, IOException e) {
+		return e instanceof ConnectException || IDEMPOTENT_METHODS.contains(method);
+	}
+
+	private static boolean isFailure(HttpStatusCode status) {
+		return status.is5xxServerError() || status.value() == HttpStatus.TOO_MANY_REQUESTS.value();
+	}
+
+	@Override
+	public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+			throws IOException {
+		acquirePermission(request);
+		var method = request.getMethod();
+		var succeeded = false;
+		try {
+			var attempt = 0;
+			while (true) {
+				try {
+					var response = execution.execute(request, body);
+					var status = response.getStatusCode();
+					if (attempt >= properties.getMaxRetries() || !isRetryable(method, status)) {
+						succeeded = !isFailure(status);
+						return response;
+					}
+					log.warn("PID service request {} {} failed with status: {}, retry {} of {}", method,
+							request.getURI().getPath(), status, attempt + 1, properties.getMaxRetries());
+					response.close();
+				}
+				catch (IOException e) {
+					if (attempt >= properties.getMaxRetries() || !isRetryable(method, e)) {
+						log.error("Unable to reach the PID service for request {} {}", method,
+								request.getURI().getPath(), e);
+						throw sneakyThrow(new PidException("Unable to reach the PID service"));
+					}
+					log.warn("PID service request {} {} failed with: {}, retry {} of {}", method,
+							request.getURI().getPath(), e.getMessage(), attempt + 1, properties.getMaxRetries());
+				}
+				attempt++;
+				sleep(backoff(attempt));
+			}
+		}
+		finally {
+			// Every exit records its result, an interrupted trial request would otherwise leave the breaker half open
+			recordResult(succeeded);
+		}
+	}
+
+	public synchronized CircuitState getCircuitState() {
+		return circuitState;
+	}
+
+	/*
+	 * Once the open duration has passed, the first request is the trial request, others keep failing fast until its
+	 * result is known
+	 */
+	private synchronized void acquirePermission(HttpRequest request) {
+		if (circuitState == CircuitState.OPEN
+				&& System.nanoTime() - openedAt >= properties.getCircuitBreakerOpenDuration().toNanos()) {
+			log.info("Circuit breaker of the PID service is half open, letting a trial request through");
+			circuitState = CircuitState.HALF_OPEN;
+			return;
+		}
+		if (circuitState != CircuitState.CLOSED) {
+			log.warn("Circuit breaker of the PID service is open, rejecting request {} {}", request.getMethod(),
+					request.getURI().getPath());
+			throw sneakyThrow(new PidException("The PID service is unavailable"));
+		}
+	}
+
+	private synchronized void recordResult(boolean success) {
+		if (success) {
+			if (circuitState != CircuitState.CLOSED) {
+				log.info("Circuit breaker of the PID service is closed");
+			}
+			circuitState = CircuitState.CLOSED;
+			consecutiveFailures = 0;
+			return;
+		}
+		consecutiveFailures++;
+		if (circuitState == CircuitState.HALF_OPEN
+				|| consecutiveFailures >= properties.getCircuitBreakerFailureThreshold()) {
+			if (circuitState != CircuitState.OPEN) {
+				log.error("Circuit breaker of the PID service opened after {} consecutive failed requests",
+						consecutiveFailures);
+			}
+			circuitState = CircuitState.OPEN;
+			openedAt = System.nanoTime();
+		}
+	}
+
+	/*
+	 * Full jitter: a random wait up to the exponential backoff
+	 */
+	private long backoff(int attempt) {
+		var maxBackoff = properties.getRetryBackoff().toNanos() << Math.min(attempt - 1, 16);
+		return ThreadLocalRandom.current().nextLong(maxBackoff + 1);
+	}
+
+	private void sleep(long nanos) throws InterruptedIOException {
+		try {
+			TimeUnit.NANOSECONDS.sleep(nanos);
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException("Interrupted while waiting to retry the PID service request");
+		}
+	}
+
+	public enum CircuitState {
+
+		CLOSED, OPEN, HALF_OPEN
+
+	}
+
+}
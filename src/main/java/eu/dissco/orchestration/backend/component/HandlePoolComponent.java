@@ -0,0 +1,226 @@
+package eu.dissco.orchestration.backend.component;
+
+import eu.dissco.orchestration.backend.domain.ObjectType;
+import eu.dissco.orchestration.backend.exception.PidException;
+import eu.dissco.orchestration.backend.properties.HandlePoolProperties;
+import eu.dissco.orchestration.backend.repository.HandleReservationRepository;
+import eu.dissco.orchestration.backend.service.FdoRecordService;
+import eu.dissco.orchestration.backend.web.HandleComponent;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+import tools.jackson.databind.JsonNode;
+
+import java.time.Instant;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static eu.dissco.orchestration.backend.utils.HandleUtils.removeProxy;
+
+/**
+ * Takes the handle server off the critical path of a create. The leader keeps a pool of reserved handles per FDO
+ * type in the database, so the pool survives restarts and is shared by all replicas. A create claims a reserved
+ * handle and sets its attributes in the background, it only mints a handle itself when the pool is empty or
+ * disabled. The claim is kept until the attributes are set, the leader retries the updates which failed. Reservations
+ * which are not claimed within their time to live are rolled back on the handle server.
+ */
+@Slf4j
+@Component
+public class HandlePoolComponent {
+
+	private static final List<ObjectType> POOLED_TYPES = List.of(ObjectType.SOURCE_SYSTEM, ObjectType.DATA_MAPPING,
+			ObjectType.MAS);
+
+	private final HandleComponent handleComponent;
+
+	private final FdoRecordService fdoRecordService;
+
+	private final HandleReservationRepository repository;
+
+	private final LeaderElectionComponent leaderElectionComponent;
+
+	private final HandlePoolProperties properties;
+
+	private final MeterRegistry meterRegistry;
+
+	private final ExecutorService updateExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+	private volatile boolean running;
+
+	private Thread refillThread;
+
+	public HandlePoolComponent(HandleComponent handleComponent, FdoRecordService fdoRecordService,
+			HandleReservationRepository repository, LeaderElectionComponent leaderElectionComponent,
+			HandlePoolProperties properties, MeterRegistry meterRegistry) {
+		this.handleComponent = handleComponent;
+		this.fdoRecordService = fdoRecordService;
+		this.repository = repository;
+		this.leaderElectionComponent = leaderElectionComponent;
+		this.properties = properties;
+		this.meterRegistry = meterRegistry;
+	}
+
+	/**
+	 * Gets the handle for a new object, preferably from the pool
+	 * @param createRequest the create request of the handle, as built by the {@link FdoRecordService}
+	 * @return the handle, without the handle proxy
+	 */
+	public String createHandle(JsonNode createRequest) throws PidException {
+		if (properties.isEnabled()) {
+			var fdoType = createRequest.get("data").get("type").asString();
+			try {
+				var handle = repository.claimHandle(fdoType, getReservationCutoff(), createRequest);
+				if (handle.isPresent()) {
+					updateExecutor.execute(() -> updateHandle(handle.get(), createRequest));
+					return handle.get();
+				}
+				log.warn("Handle pool of type: {} is empty, minting the handle during the create", fdoType);
+			}
+			catch (DataAccessException e) {
+				log.error("Unable to claim a handle of type: {}, minting the handle during the create", fdoType, e);
+			}
+			meterRegistry.counter("handle.pool.miss", "type", fdoType).increment();
+		}
+		return handleComponent.postHandle(createRequest);
+	}
+
+	/**
+	 * Stops setting the attributes of a claimed handle, called before the handle is rolled back
+	 * @param handle the handle, with or without the handle proxy
+	 */
+	public void cancelHandleUpdate(String handle) {
+		if (properties.isEnabled()) {
+			repository.removeClaim(removeProxy(handle));
+		}
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public synchronized void start() {
+		if (!properties.isEnabled()) {
+			log.info("Handle pool is disabled, handles are minted during the create");
+			return;
+		}
+		for (var type : POOLED_TYPES) {
+			var fdoType = fdoRecordService.getFdoType(type);
+			Gauge.builder("handle.pool.size", () -> repository.countReservations(fdoType, getReservationCutoff()))
+				.tag("type", fdoType)
+				.register(meterRegistry);
+		}
+		running = true;
+		refillThread = Thread.ofVirtual().name("handle-pool-refill").start(this::runRefills);
+	}
+
+	@PreDestroy
+	public synchronized void stop() {
+		running = false;
+		if (refillThread != null) {
+			refillThread.interrupt();
+		}
+		updateExecutor.close();
+	}
+
+	/**
+	 * Retries the failed updates of claimed handles, rolls back the expired reservations and tops up the pool of each
+	 * type to the minimum size
+	 */
+	public void refill() {
+		retryPendingUpdates();
+		reclaimExpiredReservations();
+		for (var type : POOLED_TYPES) {
+			try {
+				refill(type);
+			}
+			catch (PidException e) {
+				log.error("Unable to refill the handle pool of type: {}", type.getFullName(), e);
+			}
+		}
+	}
+
+	private void runRefills() {
+		while (running) {
+			if (leaderElectionComponent.isLeader()) {
+				try {
+					refill();
+				}
+				catch (DataAccessException e) {
+					log.error("Unable to refill the handle pool", e);
+				}
+			}
+			try {
+				Thread.sleep(properties.getRefillInterval());
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				running = false;
+			}
+		}
+	}
+
+	private void refill(ObjectType type) throws PidException {
+		var fdoType = fdoRecordService.getFdoType(type);
+		var size = repository.countReservations(fdoType, getReservationCutoff());
+		var request = fdoRecordService.buildReservationRequest(type);
+		while (size < properties.getMinimumSize()) {
+			var batchSize = Math.min(properties.getMinimumSize() - size, properties.getBatchSize());
+			var sample = Timer.start(meterRegistry);
+			var handles = handleComponent.postHandles(Collections.nCopies(batchSize, request));
+			try {
+				repository.reserveHandles(fdoType, handles);
+			}
+			catch (DataAccessException e) {
+				handleComponent.rollbackHandleCreation(fdoRecordService.buildRollbackCreateRequest(handles));
+				throw e;
+			}
+			sample.stop(meterRegistry.timer("handle.pool.refill", "type", fdoType));
+			size += batchSize;
+		}
+	}
+
+	private void reclaimExpiredReservations() {
+		var handles = repository.removeExpiredReservations(getReservationCutoff());
+		if (!handles.isEmpty()) {
+			log.info("Rolling back {} handle reservations which were not used", handles.size());
+			handleComponent.rollbackHandleCreation(fdoRecordService.buildRollbackCreateRequest(handles));
+		}
+	}
+
+	/*
+	 * Claims younger than the refill interval may still be updated by the create which claimed them
+	 */
+	private void retryPendingUpdates() {
+		var pendingUpdates = repository.getPendingUpdates(Instant.now().minus(properties.getRefillInterval()),
+				properties.getBatchSize());
+		if (!pendingUpdates.isEmpty()) {
+			log.warn("Retrying the update of {} claimed handles", pendingUpdates.size());
+			pendingUpdates.forEach(this::updateHandle);
+		}
+	}
+
+	/*
+	 * The object is already stored with the handle, until the update succeeds the handle record has the attributes
+	 * of the reservation
+	 */
+	private void updateHandle(String handle, JsonNode createRequest) {
+		try {
+			handleComponent.updateHandle(fdoRecordService.buildUpdateRequest(createRequest, handle), handle);
+			repository.removeClaim(handle);
+		}
+		catch (PidException | RuntimeException e) {
+			log.error("Unable to set the attributes of the reserved handle: {}, retrying it with the next refill",
+					handle, e);
+		}
+	}
+
+	private Instant getReservationCutoff() {
+		return Instant.now().minus(properties.getReservationTimeToLive());
+	}
+
+}
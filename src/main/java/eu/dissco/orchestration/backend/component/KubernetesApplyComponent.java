@@ -0,0 +1,162 @@
+package eu.dissco.orchestration.backend.component;
+
+import eu.dissco.orchestration.backend.domain.InformedResourceType;
+import eu.dissco.orchestration.backend.domain.kubernetes.RabbitBinding;
+import eu.dissco.orchestration.backend.domain.kubernetes.RabbitBindingList;
+import eu.dissco.orchestration.backend.domain.kubernetes.RabbitQueue;
+import eu.dissco.orchestration.backend.domain.kubernetes.RabbitQueueList;
+import eu.dissco.orchestration.backend.domain.kubernetes.ScaledObject;
+import eu.dissco.orchestration.backend.domain.kubernetes.ScaledObjectList;
+import eu.dissco.orchestration.backend.exception.KubernetesFailedException;
+import eu.dissco.orchestration.backend.properties.KubernetesProperties;
+import eu.dissco.orchestration.backend.properties.MachineAnnotationServiceProperties;
+import eu.dissco.orchestration.backend.properties.TranslatorJobProperties;
+import io.kubernetes.client.custom.V1Patch;
+import io.kubernetes.client.openapi.ApiClient;
+import io.kubernetes.client.openapi.ApiException;
+import io.kubernetes.client.openapi.JSON;
+import io.kubernetes.client.openapi.models.V1CronJob;
+import io.kubernetes.client.openapi.models.V1CronJobList;
+import io.kubernetes.client.openapi.models.V1Deployment;
+import io.kubernetes.client.openapi.models.V1DeploymentList;
+import io.kubernetes.client.openapi.models.V1StatusCause;
+import io.kubernetes.client.util.generic.GenericKubernetesApi;
+import io.kubernetes.client.util.generic.KubernetesApiResponse;
+import io.kubernetes.client.util.generic.options.PatchOptions;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+import java.net.HttpURLConnection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import static eu.dissco.orchestration.backend.domain.InformedResourceType.DEPLOYMENT;
+import static eu.dissco.orchestration.backend.domain.InformedResourceType.EXPORT_CRON_JOB;
+import static eu.dissco.orchestration.backend.domain.InformedResourceType.RABBIT_BINDING;
+import static eu.dissco.orchestration.backend.domain.InformedResourceType.RABBIT_QUEUE;
+import static eu.dissco.orchestration.backend.domain.InformedResourceType.SCALED_OBJECT;
+import static eu.dissco.orchestration.backend.domain.InformedResourceType.TRANSLATOR_CRON_JOB;
+
+/**
+ * Writes the generated manifests to the cluster with server-side apply. Creating, updating and resynchronising a
+ * resource are all the same idempotent request, the api server merges the manifest into the live object and keeps
+ * track of the fields owned by this application.
+ */
+@Slf4j
+@Component
+public class KubernetesApplyComponent {
+
+	public static final String FIELD_MANAGER = "dissco-orchestration-backend";
+
+	private static final int HTTP_UNPROCESSABLE_ENTITY = 422;
+
+	private static final String IMMUTABLE_FIELD = "field is immutable";
+
+	private static final String FORBIDDEN_FIELD = ": Forbidden:";
+
+	private final JSON json;
+
+	private final KubernetesInformerComponent informerComponent;
+
+	private final Map<InformedResourceType, GenericKubernetesApi<?, ?>> apis = new EnumMap<>(
+			InformedResourceType.class);
+
+	private final Map<InformedResourceType, String> namespaces = new EnumMap<>(InformedResourceType.class);
+
+	public KubernetesApplyComponent(@Qualifier("apiClient") ApiClient apiClient,
+			KubernetesInformerComponent informerComponent, KubernetesProperties properties,
+			MachineAnnotationServiceProperties masProperties, TranslatorJobProperties jobProperties) {
+		this.json = apiClient.getJSON();
+		this.informerComponent = informerComponent;
+		registerApi(DEPLOYMENT, new GenericKubernetesApi<>(V1Deployment.class, V1DeploymentList.class, "apps", "v1",
+				"deployments", apiClient), masProperties.getNamespace());
+		registerApi(SCALED_OBJECT, new GenericKubernetesApi<>(ScaledObject.class, ScaledObjectList.class,
+				properties.getKedaGroup(), properties.getKedaVersion(), properties.getKedaResource(), apiClient),
+				masProperties.getNamespace());
+		registerApi(RABBIT_BINDING, new GenericKubernetesApi<>(RabbitBinding.class, RabbitBindingList.class,
+				properties.getRabbitGroup(), properties.getRabbitVersion(), properties.getRabbitBindingResource(),
+				apiClient), masProperties.getNamespace());
+		registerApi(RABBIT_QUEUE, new GenericKubernetesApi<>(RabbitQueue.class, RabbitQueueList.class,
+				properties.getRabbitGroup(), properties.getRabbitVersion(), properties.getRabbitQueueResource(),
+				apiClient), masProperties.getNamespace());
+		registerApi(TRANSLATOR_CRON_JOB, new GenericKubernetesApi<>(V1CronJob.class, V1CronJobList.class, "batch",
+				"v1", "cronjobs", apiClient), jobProperties.getNamespace());
+		registerApi(EXPORT_CRON_JOB, new GenericKubernetesApi<>(V1CronJob.class, V1CronJobList.class, "batch", "v1",
+				"cronjobs", apiClient), jobProperties.getExport().getNamespace());
+	}
+
+	private static PatchOptions applyOptions() {
+		var patchOptions = new PatchOptions();
+		patchOptions.setFieldManager(FIELD_MANAGER);
+		patchOptions.setForce(true);
+		return patchOptions;
+	}
+
+	/*
+	 * The api server rejects changes to immutable fields as invalid, with "field is immutable" as the cause. Admission
+	 * webhooks such as the one of the RabbitMQ topology operator reject them as a forbidden field change. Other invalid
+	 * manifests are rejected with the same status codes and must not lead to the deletion of the resource.
+	 */
+	private static boolean isImmutableFieldChange(KubernetesApiResponse<?> response) {
+		var status = response.getStatus();
+		if (status == null) {
+			return false;
+		}
+		if (response.getHttpStatusCode() == HTTP_UNPROCESSABLE_ENTITY) {
+			var causes = status.getDetails() == null || status.getDetails().getCauses() == null
+					? List.<V1StatusCause>of() : status.getDetails().getCauses();
+			return contains(status.getMessage(), IMMUTABLE_FIELD)
+					|| causes.stream().anyMatch(cause -> contains(cause.getMessage(), IMMUTABLE_FIELD));
+		}
+		return response.getHttpStatusCode() == HttpURLConnection.HTTP_FORBIDDEN
+				&& contains(status.getMessage(), FORBIDDEN_FIELD);
+	}
+
+	private static boolean contains(String message, String cause) {
+		return message != null && message.contains(cause);
+	}
+
+	private static void checkResponse(KubernetesApiResponse<?> response) throws ApiException {
+		if (!response.isSuccess()) {
+			var status = response.getStatus();
+			throw new ApiException(response.getHttpStatusCode(), Map.of(),
+					status == null ? null : status.getMessage());
+		}
+	}
+
+	private void registerApi(InformedResourceType type, GenericKubernetesApi<?, ?> api, String namespace) {
+		apis.put(type, api);
+		namespaces.put(type, namespace);
+	}
+
+	/**
+	 * Applies the manifest, creating the resource if it doesn't exist yet. Fields set by another field manager are
+	 * taken over. When the manifest changes an immutable field, the resource is deleted and applied again once the
+	 * deletion has been observed. A resource which was deleted in the meantime is simply created.
+	 * @param type the type of the resource, determines the api and namespace which are used
+	 * @param name the name of the resource
+	 * @param manifest the full manifest, including the apiVersion and kind
+	 */
+	public void apply(InformedResourceType type, String name, Object manifest)
+			throws ApiException, KubernetesFailedException {
+		var api = apis.get(type);
+		var namespace = namespaces.get(type);
+		var patch = new V1Patch(json.serialize(manifest));
+		KubernetesApiResponse<?> response = api.patch(namespace, name, V1Patch.PATCH_FORMAT_APPLY_YAML, patch,
+				applyOptions());
+		if (!response.isSuccess() && isImmutableFieldChange(response)) {
+			log.warn("Unable to apply {}: {} in place, recreating it. Reason: {}", type, name,
+					response.getStatus().getMessage());
+			var deleteResponse = api.delete(namespace, name);
+			if (deleteResponse.getHttpStatusCode() != HttpURLConnection.HTTP_NOT_FOUND) {
+				checkResponse(deleteResponse);
+			}
+			informerComponent.awaitDeletion(type, name);
+			response = api.patch(namespace, name, V1Patch.PATCH_FORMAT_APPLY_YAML, patch, applyOptions());
+		}
+		checkResponse(response);
+	}
+
+}
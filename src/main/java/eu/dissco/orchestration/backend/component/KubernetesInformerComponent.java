@@ -0,0 +1,357 @@
+package eu.dissco.orchestration.backend.component;
+
+import eu.dissco.orchestration.backend.component.ReconciliationComponent.ReconciliationAction;
+import eu.dissco.orchestration.backend.domain.InformedResourceType;
+import eu.dissco.orchestration.backend.domain.kubernetes.RabbitBinding;
+import eu.dissco.orchestration.backend.domain.kubernetes.RabbitBindingList;
+import eu.dissco.orchestration.backend.domain.kubernetes.RabbitQueue;
+import eu.dissco.orchestration.backend.domain.kubernetes.RabbitQueueList;
+import eu.dissco.orchestration.backend.domain.kubernetes.ScaledObject;
+import eu.dissco.orchestration.backend.domain.kubernetes.ScaledObjectList;
+import eu.dissco.orchestration.backend.exception.KubernetesFailedException;
+import eu.dissco.orchestration.backend.properties.KubernetesProperties;
+import eu.dissco.orchestration.backend.properties.MachineAnnotationServiceProperties;
+import eu.dissco.orchestration.backend.properties.TranslatorJobProperties;
+import io.kubernetes.client.common.KubernetesListObject;
+import io.kubernetes.client.common.KubernetesObject;
+import io.kubernetes.client.informer.ResourceEventHandler;
+import io.kubernetes.client.informer.SharedIndexInformer;
+import io.kubernetes.client.informer.SharedInformerFactory;
+import io.kubernetes.client.informer.cache.Indexer;
+import io.kubernetes.client.informer.cache.Lister;
+import io.kubernetes.client.openapi.ApiClient;
+import io.kubernetes.client.openapi.models.V1CronJob;
+import io.kubernetes.client.openapi.models.V1CronJobList;
+import io.kubernetes.client.openapi.models.V1Deployment;
+import io.kubernetes.client.openapi.models.V1DeploymentList;
+import io.kubernetes.client.util.generic.GenericKubernetesApi;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static eu.dissco.orchestration.backend.domain.InformedResourceType.DEPLOYMENT;
+import static eu.dissco.orchestration.backend.domain.InformedResourceType.EXPORT_CRON_JOB;
+import static eu.dissco.orchestration.backend.domain.InformedResourceType.RABBIT_BINDING;
+import static eu.dissco.orchestration.backend.domain.InformedResourceType.RABBIT_QUEUE;
+import static eu.dissco.orchestration.backend.domain.InformedResourceType.SCALED_OBJECT;
+import static eu.dissco.orchestration.backend.domain.InformedResourceType.TRANSLATOR_CRON_JOB;
+
+/**
+ * Keeps a watch-based cache of the Kubernetes resources managed by the orchestration backend. Reads are served
+ * from the cache, changes to the cached objects are passed on, debounced, to the registered change handlers.
+ */
+@Slf4j
+@Component
+public class KubernetesInformerComponent {
+
+	private final ApiClient apiClient;
+
+	private final KubernetesProperties properties;
+
+	private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+	private final List<SharedInformerFactory> factories = new ArrayList<>();
+
+	private final Map<InformedResourceType, SharedIndexInformer<? extends KubernetesObject>> informers = new EnumMap<>(
+			InformedResourceType.class);
+
+	private final Map<InformedResourceType, String> namespaces = new EnumMap<>(InformedResourceType.class);
+
+	private final Map<InformedResourceType, ReconciliationAction<String>> changeHandlers = new ConcurrentHashMap<>();
+
+	private final DelayQueue<PendingChange> pendingChanges = new DelayQueue<>();
+
+	private final Set<ChangeKey> pendingKeys = ConcurrentHashMap.newKeySet();
+
+	private final Map<ChangeKey, CompletableFuture<Void>> pendingDeletions = new ConcurrentHashMap<>();
+
+	private Thread changeWorker;
+
+	private boolean started;
+
+	public KubernetesInformerComponent(@Qualifier("informerApiClient") ApiClient apiClient,
+			KubernetesProperties properties, MachineAnnotationServiceProperties masProperties,
+			TranslatorJobProperties jobProperties) {
+		this.apiClient = apiClient;
+		this.properties = properties;
+		registerInformer(DEPLOYMENT, V1Deployment.class, V1DeploymentList.class, "apps", "v1", "deployments",
+				masProperties.getNamespace());
+		registerInformer(SCALED_OBJECT, ScaledObject.class, ScaledObjectList.class, properties.getKedaGroup(),
+				properties.getKedaVersion(), properties.getKedaResource(), masProperties.getNamespace());
+		registerInformer(RABBIT_BINDING, RabbitBinding.class, RabbitBindingList.class, properties.getRabbitGroup(),
+				properties.getRabbitVersion(), properties.getRabbitBindingResource(), masProperties.getNamespace());
+		registerInformer(RABBIT_QUEUE, RabbitQueue.class, RabbitQueueList.class, properties.getRabbitGroup(),
+				properties.getRabbitVersion(), properties.getRabbitQueueResource(), masProperties.getNamespace());
+		registerInformer(TRANSLATOR_CRON_JOB, V1CronJob.class, V1CronJobList.class, "batch", "v1", "cronjobs",
+				jobProperties.getNamespace());
+		registerInformer(EXPORT_CRON_JOB, V1CronJob.class, V1CronJobList.class, "batch", "v1", "cronjobs",
+				jobProperties.getExport().getNamespace());
+	}
+
+	private static boolean isStatusUpdate(KubernetesObject oldObject, KubernetesObject newObject) {
+		var oldMetadata = oldObject.getMetadata();
+		var newMetadata = newObject.getMetadata();
+		return newMetadata.getGeneration() != null
+				&& Objects.equals(oldMetadata.getGeneration(), newMetadata.getGeneration())
+				&& !Objects.equals(oldMetadata.getResourceVersion(), newMetadata.getResourceVersion());
+	}
+
+	/*
+	 * Informers are keyed on their api type within a factory, as we watch the same type in multiple namespaces each
+	 * informer gets its own factory
+	 */
+	private <T extends KubernetesObject, L extends KubernetesListObject> void registerInformer(InformedResourceType type,
+			Class<T> apiTypeClass, Class<L> apiListTypeClass, String group, String version, String plural,
+			String namespace) {
+		var factory = new SharedInformerFactory(apiClient, executor);
+		var informer = factory.sharedIndexInformerFor(
+				new GenericKubernetesApi<>(apiTypeClass, apiListTypeClass, group, version, plural, apiClient),
+				apiTypeClass, properties.getInformerResyncPeriod().toMillis(), namespace);
+		informer.addEventHandler(new ResourceEventHandler<>() {
+			@Override
+			public void onAdd(T object) {
+				handleAdd(type, object);
+			}
+
+			@Override
+			public void onUpdate(T oldObject, T newObject) {
+				handleUpdate(type, oldObject, newObject);
+			}
+
+			@Override
+			public void onDelete(T object, boolean deletedFinalStateUnknown) {
+				handleDelete(type, object);
+			}
+		});
+		factories.add(factory);
+		informers.put(type, informer);
+		namespaces.put(type, namespace);
+	}
+
+	/**
+	 * Starts the informers, if not started yet, and waits until all caches are filled.
+	 * @throws KubernetesFailedException if the caches are not filled within the configured timeout
+	 */
+	public synchronized void start() throws KubernetesFailedException {
+		if (!started) {
+			factories.forEach(SharedInformerFactory::startAllRegisteredInformers);
+			changeWorker = Thread.ofVirtual().name("informer-change-worker").start(this::processChanges);
+			started = true;
+		}
+		var deadline = System.nanoTime() + properties.getInformerSyncTimeout().toNanos();
+		while (!informers.values().stream().allMatch(SharedIndexInformer::hasSynced)) {
+			if (System.nanoTime() > deadline) {
+				throw new KubernetesFailedException(
+						"Informer caches did not sync within " + properties.getInformerSyncTimeout());
+			}
+			try {
+				Thread.sleep(100);
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new KubernetesFailedException("Interrupted while waiting for informer caches to sync", e);
+			}
+		}
+	}
+
+	@PreDestroy
+	public void stop() {
+		factories.forEach(SharedInformerFactory::stopAllRegisteredInformers);
+		if (changeWorker != null) {
+			changeWorker.interrupt();
+		}
+		executor.shutdownNow();
+	}
+
+	/**
+	 * Registers the handler which reconciles a single object when it is added, changed or deleted in the cluster.
+	 * Status-only updates are ignored. The handler receives the name of the object.
+	 */
+	public void addChangeHandler(InformedResourceType type, ReconciliationAction<String> handler) {
+		changeHandlers.put(type, handler);
+	}
+
+	/**
+	 * Removes all change handlers, changes which are still pending are dropped once they are due.
+	 */
+	public void removeChangeHandlers() {
+		changeHandlers.clear();
+	}
+
+	/**
+	 * Blocks until the deletion of the object has been observed by the informer, or the object is no longer in the
+	 * cache. Starts the informers when needed, as followers don't start them for reconciliation.
+	 * @throws KubernetesFailedException if the deletion is not observed within the configured timeout
+	 */
+	public void awaitDeletion(InformedResourceType type, String name) throws KubernetesFailedException {
+		start();
+		var key = new ChangeKey(type, name);
+		var deletion = pendingDeletions.computeIfAbsent(key, k -> new CompletableFuture<>());
+		try {
+			if (lister(type).get(name) != null) {
+				deletion.get(properties.getDeletionTimeout().toMillis(), TimeUnit.MILLISECONDS);
+			}
+		}
+		catch (TimeoutException | ExecutionException e) {
+			throw new KubernetesFailedException(
+					"Deletion of " + type + ": " + name + " not observed within " + properties.getDeletionTimeout(), e);
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new KubernetesFailedException("Interrupted while waiting for the deletion of " + name, e);
+		}
+		finally {
+			pendingDeletions.remove(key, deletion);
+		}
+	}
+
+	void handleAdd(InformedResourceType type, KubernetesObject object) {
+		enqueueChange(type, object);
+	}
+
+	void handleUpdate(InformedResourceType type, KubernetesObject oldObject, KubernetesObject newObject) {
+		if (!isStatusUpdate(oldObject, newObject)) {
+			enqueueChange(type, newObject);
+		}
+	}
+
+	void handleDelete(InformedResourceType type, KubernetesObject object) {
+		var deletion = pendingDeletions.get(new ChangeKey(type, object.getMetadata().getName()));
+		if (deletion != null) {
+			deletion.complete(null);
+		}
+		enqueueChange(type, object);
+	}
+
+	private void enqueueChange(InformedResourceType type, KubernetesObject object) {
+		if (!changeHandlers.containsKey(type)) {
+			return;
+		}
+		var key = new ChangeKey(type, object.getMetadata().getName());
+		if (pendingKeys.add(key)) {
+			pendingChanges
+				.add(new PendingChange(key, System.nanoTime() + properties.getInformerReconcileDelay().toNanos()));
+		}
+	}
+
+	private void processChanges() {
+		while (!Thread.currentThread().isInterrupted()) {
+			ChangeKey key;
+			try {
+				key = pendingChanges.take().key();
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return;
+			}
+			pendingKeys.remove(key);
+			var handler = changeHandlers.get(key.type());
+			if (handler == null) {
+				continue;
+			}
+			try {
+				handler.accept(key.name());
+			}
+			catch (Exception e) {
+				log.error("Failed to reconcile {}: {} after a cluster change", key.type(), key.name(), e);
+			}
+		}
+	}
+
+	public List<V1Deployment> getDeployments() {
+		return list(DEPLOYMENT);
+	}
+
+	public Optional<V1Deployment> getDeployment(String name) {
+		return get(DEPLOYMENT, name);
+	}
+
+	public List<ScaledObject> getScaledObjects() {
+		return list(SCALED_OBJECT);
+	}
+
+	public Optional<ScaledObject> getScaledObject(String name) {
+		return get(SCALED_OBJECT, name);
+	}
+
+	public List<RabbitBinding> getRabbitBindings() {
+		return list(RABBIT_BINDING);
+	}
+
+	public Optional<RabbitBinding> getRabbitBinding(String name) {
+		return get(RABBIT_BINDING, name);
+	}
+
+	public List<RabbitQueue> getRabbitQueues() {
+		return list(RABBIT_QUEUE);
+	}
+
+	public Optional<RabbitQueue> getRabbitQueue(String name) {
+		return get(RABBIT_QUEUE, name);
+	}
+
+	public List<V1CronJob> getTranslatorCronJobs() {
+		return list(TRANSLATOR_CRON_JOB);
+	}
+
+	public Optional<V1CronJob> getTranslatorCronJob(String name) {
+		return get(TRANSLATOR_CRON_JOB, name);
+	}
+
+	public List<V1CronJob> getExportCronJobs() {
+		return list(EXPORT_CRON_JOB);
+	}
+
+	public Optional<V1CronJob> getExportCronJob(String name) {
+		return get(EXPORT_CRON_JOB, name);
+	}
+
+	private <T extends KubernetesObject> List<T> list(InformedResourceType type) {
+		return this.<T>lister(type).list();
+	}
+
+	private <T extends KubernetesObject> Optional<T> get(InformedResourceType type, String name) {
+		return Optional.ofNullable(this.<T>lister(type).get(name));
+	}
+
+	@SuppressWarnings("unchecked")
+	private <T extends KubernetesObject> Lister<T> lister(InformedResourceType type) {
+		return new Lister<>((Indexer<T>) informers.get(type).getIndexer(), namespaces.get(type));
+	}
+
+	private record ChangeKey(InformedResourceType type, String name) {
+	}
+
+	private record PendingChange(ChangeKey key, long readyAt) implements Delayed {
+
+		@Override
+		public long getDelay(TimeUnit unit) {
+			return unit.convert(readyAt - System.nanoTime(), TimeUnit.NANOSECONDS);
+		}
+
+		@Override
+		public int compareTo(Delayed other) {
+			return Long.compare(getDelay(TimeUnit.NANOSECONDS), other.getDelay(TimeUnit.NANOSECONDS));
+		}
+
+	}
+
+}
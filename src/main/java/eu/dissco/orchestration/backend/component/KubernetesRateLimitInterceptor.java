@@ -0,0 +1,153 @@
+package eu.dissco.orchestration.backend.component;
+
+import eu.dissco.orchestration.backend.properties.KubernetesProperties;
+import lombok.extern.slf4j.Slf4j;
+import okhttp3.Interceptor;
+import okhttp3.Response;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throttles the requests to the Kubernetes API server. Each HTTP verb has its own token bucket and concurrency cap,
+ * requests which are throttled (429) or fail with a server error (5xx) are retried with a jittered exponential
+ * backoff. Lease requests of the leader election are passed through, a throttled renewal would cost the leadership.
+ */
+@Slf4j
+public class KubernetesRateLimitInterceptor implements Interceptor {
+
+	private static final int HTTP_TOO_MANY_REQUESTS = 429;
+
+	private static final int HTTP_SERVER_ERROR = 500;
+
+	private static final String LEASE_PATH = "/apis/coordination.k8s.io/";
+
+	/*
+	 * A server error on a create doesn't tell whether the object was created, only idempotent verbs are retried
+	 */
+	private static final Set<String> IDEMPOTENT_METHODS = Set.of("GET", "HEAD", "PUT", "PATCH", "DELETE");
+
+	private final KubernetesProperties properties;
+
+	private final Map<String, VerbLimiter> limiters = new ConcurrentHashMap<>();
+
+	public KubernetesRateLimitInterceptor(KubernetesProperties properties) {
+		this.properties = properties;
+	}
+
+	private static void sleep(long nanos) throws InterruptedIOException {
+		if (nanos <= 0) {
+			return;
+		}
+		try {
+			TimeUnit.NANOSECONDS.sleep(nanos);
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException("Interrupted while waiting for the Kubernetes rate limiter");
+		}
+	}
+
+	private static boolean isRetryable(String method, int code) {
+		return code == HTTP_TOO_MANY_REQUESTS || (code >= HTTP_SERVER_ERROR && IDEMPOTENT_METHODS.contains(method));
+	}
+
+	@Override
+	public Response intercept(Chain chain) throws IOException {
+		var request = chain.request();
+		if (request.url().encodedPath().startsWith(LEASE_PATH)) {
+			return chain.proceed(request);
+		}
+		var method = request.method();
+		var limiter = limiters.computeIfAbsent(method, verb -> new VerbLimiter(properties.rateLimitFor(verb)));
+		var attempt = 0;
+		while (true) {
+			var response = limiter.proceed(chain);
+			if (attempt >= properties.getMaxRetries() || !isRetryable(method, response.code())) {
+				return response;
+			}
+			attempt++;
+			var backoff = backoff(response, attempt);
+			log.warn("Kubernetes request {} {} failed with code: {}, retry {} of {} in {} ms", method,
+					request.url().encodedPath(), response.code(), attempt, properties.getMaxRetries(),
+					TimeUnit.NANOSECONDS.toMillis(backoff));
+			response.close();
+			sleep(backoff);
+		}
+	}
+
+	/*
+	 * Full jitter: a random wait up to the exponential backoff, at least the Retry-After sent with a 429
+	 */
+	private long backoff(Response response, int attempt) {
+		var maxBackoff = properties.getRetryBackoff().toNanos() << Math.min(attempt - 1, 16);
+		var backoff = ThreadLocalRandom.current().nextLong(maxBackoff + 1);
+		var retryAfter = response.header("Retry-After");
+		if (retryAfter != null) {
+			try {
+				backoff = Math.max(backoff, TimeUnit.SECONDS.toNanos(Long.parseLong(retryAfter.trim())));
+			}
+			catch (NumberFormatException e) {
+				log.debug("Ignoring Retry-After header which is not in seconds: {}", retryAfter);
+			}
+		}
+		return backoff;
+	}
+
+	private static final class VerbLimiter {
+
+		private final Semaphore permits;
+
+		private final double permitsPerNano;
+
+		private final double capacity;
+
+		private double tokens;
+
+		private long lastRefill = System.nanoTime();
+
+		private VerbLimiter(KubernetesProperties.RateLimit rateLimit) {
+			this.permits = new Semaphore(rateLimit.getMaxConcurrency(), true);
+			this.permitsPerNano = rateLimit.getPermitsPerSecond() / TimeUnit.SECONDS.toNanos(1);
+			this.capacity = rateLimit.getBurst();
+			this.tokens = capacity;
+		}
+
+		/*
+		 * Takes a token, possibly ahead of time, and returns how long to wait before it may be used. Reserving keeps
+		 * waiting requests in order without holding the lock while sleeping.
+		 */
+		private synchronized long reserve() {
+			var now = System.nanoTime();
+			tokens = Math.min(capacity, tokens + (now - lastRefill) * permitsPerNano);
+			lastRefill = now;
+			tokens--;
+			return tokens >= 0 ? 0 : (long) (-tokens / permitsPerNano);
+		}
+
+		private Response proceed(Chain chain) throws IOException {
+			sleep(reserve());
+			try {
+				permits.acquire();
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new InterruptedIOException("Interrupted while waiting for a Kubernetes request slot");
+			}
+			try {
+				return chain.proceed(chain.request());
+			}
+			finally {
+				permits.release();
+			}
+		}
+
+	}
+
+}
@@ -0,0 +1,282 @@
+package eu.dissco.orchestration.backend.component;
+
+import eu.dissco.orchestration.backend.component.ReconciliationComponent.ReconciliationAction;
+import eu.dissco.orchestration.backend.domain.InformedResourceType;
+import eu.dissco.orchestration.backend.exception.KubernetesFailedException;
+import eu.dissco.orchestration.backend.properties.KubernetesProperties;
+import io.kubernetes.client.extended.leaderelection.LeaderElectionConfig;
+import io.kubernetes.client.extended.leaderelection.LeaderElector;
+import io.kubernetes.client.extended.leaderelection.resourcelock.LeaseLock;
+import io.kubernetes.client.openapi.ApiClient;
+import io.kubernetes.client.openapi.ApiException;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.net.HttpURLConnection;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Elects a single replica of the backend, through a Kubernetes Lease, to reconcile the cluster. The leader runs the
+ * registered leader tasks, followers only serve API traffic. Runs in the background once the application is ready,
+ * so API traffic is served while the cluster is synchronized.
+ * <p>
+ * Each term of leadership runs the leader tasks on its own thread, which is interrupted when the lease is lost. The
+ * change handlers of the tasks are only registered while the same term is still leading, so a term which ended can't
+ * register them after they were removed. A task whose synchronization fails is retried until it succeeds.
+ */
+@Slf4j
+@Component
+public class LeaderElectionComponent {
+
+	private final ApiClient apiClient;
+
+	private final KubernetesProperties properties;
+
+	private final KubernetesInformerComponent informerComponent;
+
+	private final ClusterSyncHealthIndicator clusterSyncHealthIndicator;
+
+	private final String identity;
+
+	private final List<LeaderTask> leaderTasks = new CopyOnWriteArrayList<>();
+
+	private volatile boolean running;
+
+	private volatile boolean leader;
+
+	// Guards the term and the thread running its leader tasks, separate from the monitor of start and stop, as the
+	// elector calls the hooks from its own threads while stop closes it
+	private final Object termLock = new Object();
+
+	private long term;
+
+	private Thread leaderTaskThread;
+
+	private volatile LeaderElector leaderElector;
+
+	private Thread electionThread;
+
+	public LeaderElectionComponent(@Qualifier("apiClient") ApiClient apiClient, KubernetesProperties properties,
+			KubernetesInformerComponent informerComponent, ClusterSyncHealthIndicator clusterSyncHealthIndicator) {
+		this.apiClient = apiClient;
+		this.properties = properties;
+		this.informerComponent = informerComponent;
+		this.clusterSyncHealthIndicator = clusterSyncHealthIndicator;
+		this.identity = Optional.ofNullable(System.getenv("HOSTNAME")).orElseGet(() -> UUID.randomUUID().toString());
+	}
+
+	/**
+	 * Registers a task which is run each time this replica becomes the leader.
+	 */
+	public void addLeaderTask(LeaderTask task) {
+		leaderTasks.add(task);
+	}
+
+	public boolean isLeader() {
+		return leader;
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public synchronized void start() {
+		running = true;
+		electionThread = Thread.ofVirtual().name("leader-election").start(() -> {
+			try {
+				informerComponent.start();
+			}
+			catch (KubernetesFailedException e) {
+				log.error("Failed to start the informers, synchronizing them as part of the leader tasks", e);
+			}
+			if (properties.isLeaderElectionEnabled()) {
+				runElection();
+			}
+			else {
+				log.info("Leader election is disabled, reconciling as the only replica");
+				onStartLeading();
+			}
+		});
+	}
+
+	@PreDestroy
+	public synchronized void stop() {
+		running = false;
+		var elector = leaderElector;
+		if (elector != null) {
+			elector.close();
+		}
+		if (electionThread != null) {
+			electionThread.interrupt();
+		}
+		synchronized (termLock) {
+			if (leaderTaskThread != null) {
+				leaderTaskThread.interrupt();
+			}
+		}
+	}
+
+	/*
+	 * An elector can't be reused once its renew loop has ended, so each term gets a new one. After losing the lease
+	 * this replica rejoins the election as a follower.
+	 */
+	private void runElection() {
+		var lock = new LeaseLock(properties.getLeaseNamespace(), properties.getLeaseName(), identity, apiClient);
+		if (!canAccessLease(lock)) {
+			return;
+		}
+		while (running) {
+			try (var elector = new LeaderElector(new LeaderElectionConfig(lock, properties.getLeaseDuration(),
+					properties.getLeaseRenewDeadline(), properties.getLeaseRetryPeriod()))) {
+				leaderElector = elector;
+				elector.run(this::onStartLeading, this::onStopLeading, this::onNewLeader);
+			}
+			catch (Exception e) {
+				log.error("Leader election for lease: {} failed", properties.getLeaseName(), e);
+			}
+			finally {
+				leaderElector = null;
+			}
+		}
+	}
+
+	/*
+	 * The elector retries failed requests on the lease indefinitely, so a replica which is not allowed to access the
+	 * lease would silently never become the leader. Other failures, including a missing lease, are left to the elector.
+	 */
+	boolean canAccessLease(LeaseLock lock) {
+		try {
+			lock.get();
+		}
+		catch (ApiException e) {
+			if (e.getCode() == HttpURLConnection.HTTP_FORBIDDEN) {
+				log.error("Replica: {} is not allowed to access lease: {} in namespace: {}, the service account needs "
+						+ "get, create and update permissions on leases. Not taking part in the leader election",
+						identity, properties.getLeaseName(), properties.getLeaseNamespace(), e);
+				clusterSyncHealthIndicator.markFailed("Not allowed to access lease: " + properties.getLeaseName()
+						+ " in namespace: " + properties.getLeaseNamespace());
+				return false;
+			}
+		}
+		return true;
+	}
+
+	void onStartLeading() {
+		synchronized (termLock) {
+			var leaderTerm = ++term;
+			log.info("Replica: {} is now the leader, running {} leader tasks", identity, leaderTasks.size());
+			leader = true;
+			leaderTaskThread = Thread.ofVirtual()
+				.name("leader-tasks-" + leaderTerm)
+				.start(() -> runLeaderTasks(leaderTerm));
+		}
+	}
+
+	/*
+	 * The change handlers are registered before the synchronization, so a failed synchronization does not stop the
+	 * reconciliation of cluster changes. Failed synchronizations are retried for as long as the term leads.
+	 */
+	private void runLeaderTasks(long leaderTerm) {
+		for (var task : leaderTasks) {
+			registerChangeHandlers(leaderTerm, task.changeHandlers());
+		}
+		var failedTasks = synchronize(leaderTerm, leaderTasks);
+		clusterSyncHealthIndicator.markSynced(failedTasks.stream().map(LeaderTask::name).toList());
+		while (!failedTasks.isEmpty() && isLeading(leaderTerm)) {
+			log.warn("Retrying the synchronization of {} in {}", failedTasks.stream().map(LeaderTask::name).toList(),
+					properties.getLeaderSyncRetryInterval());
+			try {
+				Thread.sleep(properties.getLeaderSyncRetryInterval());
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return;
+			}
+			failedTasks = synchronize(leaderTerm, failedTasks);
+			clusterSyncHealthIndicator.markSynced(failedTasks.stream().map(LeaderTask::name).toList());
+		}
+	}
+
+	private List<LeaderTask> synchronize(long leaderTerm, List<LeaderTask> tasks) {
+		var failedTasks = new ArrayList<LeaderTask>();
+		for (var task : tasks) {
+			if (!isLeading(leaderTerm)) {
+				log.warn("Leadership ended during the leader tasks, skipping the remaining tasks");
+				break;
+			}
+			try {
+				task.synchronization().run();
+			}
+			catch (Exception e) {
+				log.error("Failed to synchronize leader task: {}", task.name(), e);
+				failedTasks.add(task);
+			}
+		}
+		return failedTasks;
+	}
+
+	private boolean isLeading(long leaderTerm) {
+		synchronized (termLock) {
+			return leader && term == leaderTerm;
+		}
+	}
+
+	private void registerChangeHandlers(long leaderTerm,
+			Map<InformedResourceType, ReconciliationAction<String>> handlers) {
+		synchronized (termLock) {
+			if (isLeading(leaderTerm)) {
+				handlers.forEach(informerComponent::addChangeHandler);
+			}
+			else {
+				log.warn("Leadership ended before the leader tasks started, not reconciling cluster changes");
+			}
+		}
+	}
+
+	/*
+	 * Another replica reconciles the cluster, writes on this replica only depend on its own informer caches
+	 */
+	private void onNewLeader(String leaderIdentity) {
+		if (!identity.equals(leaderIdentity)) {
+			log.info("Replica: {} is the leader", leaderIdentity);
+			clusterSyncHealthIndicator.markSynced();
+		}
+	}
+
+	void onStopLeading() {
+		synchronized (termLock) {
+			log.warn("Replica: {} lost the leadership, no longer reconciling cluster changes", identity);
+			leader = false;
+			informerComponent.removeChangeHandlers();
+			if (leaderTaskThread != null) {
+				leaderTaskThread.interrupt();
+				leaderTaskThread = null;
+			}
+		}
+	}
+
+	/**
+	 * Work of the leader for a group of resources
+	 * @param name the name of the task, reported when its synchronization fails
+	 * @param changeHandlers the handlers which reconcile a single object after a cluster change
+	 * @param synchronization reconciles all resources of the task, retried when it fails
+	 */
+	public record LeaderTask(String name, Map<InformedResourceType, ReconciliationAction<String>> changeHandlers,
+			Synchronization synchronization) {
+
+	}
+
+	@FunctionalInterface
+	public interface Synchronization {
+
+		void run() throws KubernetesFailedException;
+
+	}
+
+}
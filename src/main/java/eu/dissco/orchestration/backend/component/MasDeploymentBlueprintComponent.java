@@ -0,0 +1,135 @@
+package eu.dissco.orchestration.backend.component;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import eu.dissco.orchestration.backend.properties.MachineAnnotationServiceProperties;
+import eu.dissco.orchestration.backend.schema.MachineAnnotationService;
+import freemarker.template.Template;
+import freemarker.template.TemplateException;
+import io.kubernetes.client.openapi.ApiClient;
+import io.kubernetes.client.openapi.models.V1Container;
+import io.kubernetes.client.openapi.models.V1Deployment;
+import io.kubernetes.client.openapi.models.V1EnvVar;
+import io.kubernetes.client.openapi.models.V1EnvVarSource;
+import io.kubernetes.client.openapi.models.V1SecretKeySelector;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Builds the deployment of a machine annotation service from a blueprint. The deployment template is rendered and
+ * parsed once on startup, every deployment is a deep copy of the blueprint on which the values of the machine
+ * annotation service are set and its environmental and secret variables are added.
+ */
+@Component
+@RequiredArgsConstructor
+public class MasDeploymentBlueprintComponent {
+
+	private static final String BLUEPRINT_VALUE = "blueprint";
+
+	private static final String APP_LABEL = "app";
+
+	private static final String PID = "pid";
+
+	private final MachineAnnotationServiceProperties properties;
+
+	@Qualifier("deploymentTemplate")
+	private final Template deploymentTemplate;
+
+	// Uses the Jackson2 module as the yaml mapper hasn't been updated yet
+	@Qualifier("yamlMapper")
+	private final ObjectMapper yamlMapper;
+
+	@Qualifier("apiClient")
+	private final ApiClient apiClient;
+
+	private V1Deployment blueprint;
+
+	private static String getProperty(Map<String, Object> templateProperties, String property) {
+		return String.valueOf(templateProperties.get(property));
+	}
+
+	private static void setEnvironment(V1Container container, Map<String, Object> templateProperties) {
+		for (var envVar : container.getEnv()) {
+			switch (envVar.getName()) {
+				case "MAS_NAME" -> envVar.setValue(getProperty(templateProperties, "name"));
+				case "MAS_ID" -> envVar.setValue(getProperty(templateProperties, "id"));
+				case "RABBITMQ_QUEUE" ->
+					envVar.setValue("mas-" + getProperty(templateProperties, "topicName") + "-queue");
+				default -> {
+				}
+			}
+		}
+	}
+
+	@PostConstruct
+	public void loadBlueprint() throws IOException, TemplateException {
+		var templateProperties = new HashMap<String, Object>();
+		List.of("image", "imageTag", PID, "name", "id", "topicName", "runningEndpoint")
+			.forEach(property -> templateProperties.put(property, BLUEPRINT_VALUE));
+		var writer = new StringWriter();
+		deploymentTemplate.process(templateProperties, writer);
+		blueprint = yamlMapper.readValue(writer.toString(), V1Deployment.class);
+	}
+
+	/**
+	 * Creates the deployment of a machine annotation service
+	 * @param mas the machine annotation service, its environmental and secret variables are added to the container
+	 * @param templateProperties the properties the deployment template would be rendered with
+	 * @return a new deployment, which may be modified by the caller
+	 */
+	public V1Deployment createDeployment(MachineAnnotationService mas, Map<String, Object> templateProperties) {
+		var gson = apiClient.getJSON().getGson();
+		var deployment = gson.fromJson(gson.toJsonTree(blueprint), V1Deployment.class);
+		var pid = getProperty(templateProperties, PID);
+		deployment.getMetadata().name(pid + "-deployment").putLabelsItem(APP_LABEL, pid);
+		deployment.getSpec().getSelector().putMatchLabelsItem(APP_LABEL, pid);
+		var podTemplate = deployment.getSpec().getTemplate();
+		podTemplate.getMetadata().putLabelsItem(APP_LABEL, pid);
+		var container = podTemplate.getSpec().getContainers().getFirst();
+		container.name(pid)
+			.image(getProperty(templateProperties, "image") + ":" + getProperty(templateProperties, "imageTag"));
+		setEnvironment(container, templateProperties);
+		var environment = new ArrayList<>(container.getEnv());
+		environment.addAll(getEnvironmentalVariables(mas));
+		environment.addAll(getSecretVariables(mas));
+		container.setEnv(environment);
+		return deployment;
+	}
+
+	private List<V1EnvVar> getEnvironmentalVariables(MachineAnnotationService mas) {
+		var environment = new ArrayList<V1EnvVar>();
+		if (mas.getOdsHasEnvironmentalVariables() != null) {
+			mas.getOdsHasEnvironmentalVariables().forEach(env -> {
+				if (env.getSchemaValue() instanceof String || env.getSchemaValue() instanceof Integer
+						|| env.getSchemaValue() instanceof Boolean) {
+					environment.add(new V1EnvVar().name(env.getSchemaName()).value(env.getSchemaValue().toString()));
+				}
+				else {
+					throw new IllegalArgumentException();
+				}
+			});
+		}
+		return environment;
+	}
+
+	private List<V1EnvVar> getSecretVariables(MachineAnnotationService mas) {
+		var environment = new ArrayList<V1EnvVar>();
+		if (mas.getOdsHasSecretVariables() != null) {
+			mas.getOdsHasSecretVariables()
+				.forEach(secret -> environment.add(new V1EnvVar().name(secret.getSchemaName())
+					.valueFrom(new V1EnvVarSource().secretKeyRef(new V1SecretKeySelector()
+						.name(properties.getMasSecretStore())
+						.key(secret.getOdsSecretKeyRef())))));
+		}
+		return environment;
+	}
+
+}
@@ -0,0 +1,185 @@
+package eu.dissco.orchestration.backend.component;
+
+import eu.dissco.orchestration.backend.properties.TokenRefreshProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.security.oauth2.client.OAuth2AuthorizeRequest;
+import org.springframework.security.oauth2.client.OAuth2AuthorizedClient;
+import org.springframework.security.oauth2.client.OAuth2AuthorizedClientManager;
+import org.springframework.security.oauth2.client.OAuth2AuthorizedClientService;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Keeps the client credentials token of the backend fresh, so outbound requests don't wait for the token endpoint.
+ * The token is refreshed in the background ahead of its expiry, a request only refreshes it when the background
+ * refresh failed and the token is about to expire. Concurrent refreshes are deduplicated, callers wait for the
+ * refresh in flight instead of fetching a token of their own. The token does not depend on the user of a request, so
+ * a single token is shared by all requests.
+ */
+@Slf4j
+@Component
+public class OAuth2TokenComponent {
+
+	public static final String CLIENT_REGISTRATION_ID = "dissco";
+
+	private static final String PRINCIPAL = "orchestration-backend";
+
+	private final OAuth2AuthorizedClientManager authorizedClientManager;
+
+	private final OAuth2AuthorizedClientService authorizedClientService;
+
+	private final TokenRefreshProperties properties;
+
+	private final MeterRegistry meterRegistry;
+
+	private final OAuth2AuthorizeRequest authorizeRequest = OAuth2AuthorizeRequest
+		.withClientRegistrationId(CLIENT_REGISTRATION_ID)
+		.principal(PRINCIPAL)
+		.build();
+
+	private final ReentrantLock refreshLock = new ReentrantLock();
+
+	private volatile OAuth2AuthorizedClient authorizedClient;
+
+	private volatile boolean running;
+
+	private Thread refreshThread;
+
+	/**
+	 * @param authorizedClientManager fetches the token, it considers a token expired once it is within the refresh
+	 * ahead time of its expiry
+	 */
+	public OAuth2TokenComponent(OAuth2AuthorizedClientManager authorizedClientManager,
+			OAuth2AuthorizedClientService authorizedClientService, TokenRefreshProperties properties,
+			MeterRegistry meterRegistry) {
+		this.authorizedClientManager = authorizedClientManager;
+		this.authorizedClientService = authorizedClientService;
+		this.properties = properties;
+		this.meterRegistry = meterRegistry;
+		Gauge.builder("oauth2.token.age", this, OAuth2TokenComponent::getTokenAge)
+			.description("Time since the access token was issued")
+			.baseUnit("seconds")
+			.register(meterRegistry);
+	}
+
+	private static boolean isValidFor(OAuth2AuthorizedClient client, Duration validity) {
+		if (client == null) {
+			return false;
+		}
+		var expiresAt = client.getAccessToken().getExpiresAt();
+		return expiresAt == null || expiresAt.isAfter(Instant.now().plus(validity));
+	}
+
+	/**
+	 * Gets the authorized client with a token which is valid for at least the minimum validity, the authorize request
+	 * of the caller is only used for its client registration
+	 */
+	public OAuth2AuthorizedClient authorize(OAuth2AuthorizeRequest request) {
+		var current = authorizedClient;
+		if (isValidFor(current, properties.getMinimumValidity())) {
+			return current;
+		}
+		return refresh(properties.getMinimumValidity());
+	}
+
+	/**
+	 * Discards the token after it was rejected, the next request waits for a new token
+	 */
+	public void invalidate() {
+		refreshLock.lock();
+		try {
+			log.warn("Access token was rejected, discarding it");
+			authorizedClient = null;
+			authorizedClientService.removeAuthorizedClient(CLIENT_REGISTRATION_ID, PRINCIPAL);
+		}
+		finally {
+			refreshLock.unlock();
+		}
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public synchronized void start() {
+		running = true;
+		refreshThread = Thread.ofVirtual().name("oauth2-token-refresh").start(this::runRefreshes);
+	}
+
+	@PreDestroy
+	public synchronized void stop() {
+		running = false;
+		if (refreshThread != null) {
+			refreshThread.interrupt();
+		}
+	}
+
+	/**
+	 * Refreshes the token when it is within the refresh ahead time of its expiry
+	 */
+	public void refreshIfExpiring() {
+		if (!isValidFor(authorizedClient, properties.getRefreshAhead())) {
+			refresh(properties.getRefreshAhead());
+		}
+	}
+
+	private void runRefreshes() {
+		while (running) {
+			try {
+				refreshIfExpiring();
+			}
+			catch (RuntimeException e) {
+				log.error("Unable to refresh the access token, retrying in {}", properties.getCheckInterval(), e);
+			}
+			try {
+				Thread.sleep(properties.getCheckInterval());
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				running = false;
+			}
+		}
+	}
+
+	/*
+	 * Callers which waited for the lock get the token of the refresh they waited for
+	 */
+	private OAuth2AuthorizedClient refresh(Duration validity) {
+		refreshLock.lock();
+		try {
+			var current = authorizedClient;
+			if (isValidFor(current, validity)) {
+				return current;
+			}
+			var sample = Timer.start(meterRegistry);
+			var outcome = "failure";
+			try {
+				var refreshed = authorizedClientManager.authorize(authorizeRequest);
+				outcome = "success";
+				authorizedClient = refreshed;
+				return refreshed;
+			}
+			finally {
+				sample.stop(meterRegistry.timer("oauth2.token.refresh", "outcome", outcome));
+			}
+		}
+		finally {
+			refreshLock.unlock();
+		}
+	}
+
+	private double getTokenAge() {
+		var current = authorizedClient;
+		if (current == null || current.getAccessToken().getIssuedAt() == null) {
+			return Double.NaN;
+		}
+		return Duration.between(current.getAccessToken().getIssuedAt(), Instant.now()).toMillis() / 1000.0;
+	}
+
+}
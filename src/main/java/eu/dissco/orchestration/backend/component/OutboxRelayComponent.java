@@ -0,0 +1,111 @@
+package eu.dissco.orchestration.backend.component;
+
+import eu.dissco.orchestration.backend.properties.OutboxProperties;
+import eu.dissco.orchestration.backend.repository.EventOutboxRepository;
+import eu.dissco.orchestration.backend.service.RabbitMqPublisherService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Publishes the provenance events from the outbox to RabbitMQ. Only the leader relays. Ordering is only guaranteed per
+ * object: the changes of an object are serialized by the lock on its row, so its events are stored in the order of its
+ * versions, and an event is held back while an earlier event of the object is not released. Events of different
+ * objects can be published in another order than they were committed. An event is removed from the outbox once the
+ * broker confirmed it. When the process stops between the confirmation and the removal, or two replicas relay during a
+ * change of leader, the event is published again, consumers recognize the duplicate by the id of the event, which is
+ * unique per version of an object.
+ */
+@Slf4j
+@Component
+public class OutboxRelayComponent {
+
+	private final EventOutboxRepository repository;
+
+	private final RabbitMqPublisherService publisherService;
+
+	private final LeaderElectionComponent leaderElectionComponent;
+
+	private final OutboxProperties properties;
+
+	private final Counter relayedCounter;
+
+	private final AtomicInteger pendingEvents;
+
+	private volatile boolean running;
+
+	private Thread relayThread;
+
+	public OutboxRelayComponent(EventOutboxRepository repository, RabbitMqPublisherService publisherService,
+			LeaderElectionComponent leaderElectionComponent, OutboxProperties properties, MeterRegistry meterRegistry) {
+		this.repository = repository;
+		this.publisherService = publisherService;
+		this.leaderElectionComponent = leaderElectionComponent;
+		this.properties = properties;
+		this.relayedCounter = meterRegistry.counter("outbox.relayed");
+		this.pendingEvents = meterRegistry.gauge("outbox.pending", new AtomicInteger());
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public synchronized void start() {
+		running = true;
+		relayThread = Thread.ofVirtual().name("outbox-relay").start(this::runRelay);
+	}
+
+	@PreDestroy
+	public synchronized void stop() {
+		running = false;
+		if (relayThread != null) {
+			relayThread.interrupt();
+		}
+	}
+
+	/**
+	 * Publishes the released events in the outbox until none are left
+	 * @return the number of published events
+	 */
+	public int relay() {
+		var expired = repository.releaseExpiredEvents(properties.getReleaseTimeout());
+		if (expired > 0) {
+			log.warn("Released {} provenance events of changes which were not deployed within {}", expired,
+					properties.getReleaseTimeout());
+		}
+		var relayed = 0;
+		int batch;
+		do {
+			batch = repository.relayEvents(properties.getBatchSize(), publisherService::publishEvents);
+			relayed += batch;
+			relayedCounter.increment(batch);
+		}
+		while (batch == properties.getBatchSize());
+		pendingEvents.set(repository.countEvents());
+		return relayed;
+	}
+
+	private void runRelay() {
+		while (running) {
+			if (leaderElectionComponent.isLeader()) {
+				try {
+					relay();
+				}
+				catch (RuntimeException e) {
+					log.error("Unable to relay the provenance events, retrying in {}", properties.getPollInterval(), e);
+				}
+			}
+			try {
+				Thread.sleep(properties.getPollInterval());
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				running = false;
+			}
+		}
+	}
+
+}
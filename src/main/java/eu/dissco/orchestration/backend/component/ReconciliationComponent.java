@@ -0,0 +1,166 @@
+package eu.dissco.orchestration.backend.component;
+
+import eu.dissco.orchestration.backend.exception.KubernetesFailedException;
+import eu.dissco.orchestration.backend.properties.ReconciliationProperties;
+import io.kubernetes.client.openapi.ApiException;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.function.IntFunction;
+import java.util.stream.Stream;
+
+/**
+ * Runs the reconciliation of Kubernetes resources against the database. Independent resource kinds are
+ * reconciled concurrently on virtual threads, per-object calls share a single concurrency cap.
+ */
+@Slf4j
+@Component
+public class ReconciliationComponent {
+
+	private final ReconciliationProperties properties;
+
+	private final MeterRegistry meterRegistry;
+
+	private final Semaphore permits;
+
+	public ReconciliationComponent(ReconciliationProperties properties, MeterRegistry meterRegistry) {
+		this.properties = properties;
+		this.meterRegistry = meterRegistry;
+		this.permits = new Semaphore(properties.getMaxConcurrency());
+	}
+
+	private static void logFailure(Exception e) {
+		if (e instanceof ApiException apiException) {
+			log.error("Failed to reconcile kubernetes object with code: {} and message: {}", apiException.getCode(),
+					apiException.getResponseBody());
+		}
+		else {
+			log.error("Failed to reconcile kubernetes object", e);
+		}
+	}
+
+	/**
+	 * Reconciles each resource kind concurrently and waits until all have finished.
+	 * @param tasks reconciliation task per resource kind
+	 * @return the duration of each resource kind
+	 * @throws KubernetesFailedException if one or more resource kinds failed to reconcile
+	 */
+	public Map<String, Duration> reconcile(Map<String, ReconciliationTask> tasks) throws KubernetesFailedException {
+		var timings = new ConcurrentHashMap<String, Duration>();
+		Set<String> failedKinds = ConcurrentHashMap.newKeySet();
+		try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+			tasks.forEach((kind, task) -> executor.submit(() -> {
+				var start = System.nanoTime();
+				try {
+					task.run();
+				}
+				catch (Exception e) {
+					log.error("Failed to reconcile resource kind: {}", kind, e);
+					failedKinds.add(kind);
+				}
+				finally {
+					var duration = Duration.ofNanos(System.nanoTime() - start);
+					timings.put(kind, duration);
+					meterRegistry.timer("reconciliation.duration", "kind", kind).record(duration);
+					log.info("Reconciliation of {} finished in {} ms", kind, duration.toMillis());
+				}
+			}));
+		}
+		if (!failedKinds.isEmpty()) {
+			throw new KubernetesFailedException("Failed to reconcile resource kinds: " + failedKinds);
+		}
+		return timings;
+	}
+
+	/**
+	 * Applies the action to every item concurrently, bounded by the configured maximum concurrency. All items are
+	 * processed, even if some of them fail.
+	 * @throws KubernetesFailedException if the action failed for one or more items
+	 */
+	public <T> void forEach(Collection<T> items, ReconciliationAction<T> action) throws KubernetesFailedException {
+		var failures = new ConcurrentLinkedQueue<Exception>();
+		try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+			for (var item : items) {
+				executor.submit(() -> {
+					try {
+						permits.acquire();
+					}
+					catch (InterruptedException e) {
+						Thread.currentThread().interrupt();
+						failures.add(e);
+						return;
+					}
+					try {
+						action.accept(item);
+					}
+					catch (Exception e) {
+						logFailure(e);
+						failures.add(e);
+					}
+					finally {
+						permits.release();
+					}
+				});
+			}
+		}
+		if (!failures.isEmpty()) {
+			throw new KubernetesFailedException(
+					"Failed to reconcile " + failures.size() + " of " + items.size() + " objects", failures.peek());
+		}
+	}
+
+	/**
+	 * Applies the action to every item of every chunk, one chunk at a time, so only a single chunk is held in memory.
+	 * All chunks are processed, even if some of them fail.
+	 * @param chunkSource provides the stream of chunks for the configured chunk size
+	 * @throws KubernetesFailedException if the action failed for one or more items
+	 */
+	public <T> void forEachChunk(IntFunction<Stream<List<T>>> chunkSource, ReconciliationAction<T> action)
+			throws KubernetesFailedException {
+		var failedChunks = 0;
+		KubernetesFailedException firstFailure = null;
+		try (var chunks = chunkSource.apply(properties.getChunkSize())) {
+			var iterator = chunks.iterator();
+			while (iterator.hasNext()) {
+				try {
+					forEach(iterator.next(), action);
+				}
+				catch (KubernetesFailedException e) {
+					failedChunks++;
+					if (firstFailure == null) {
+						firstFailure = e;
+					}
+				}
+			}
+		}
+		if (firstFailure != null) {
+			throw new KubernetesFailedException("Failed to reconcile objects in " + failedChunks + " chunks",
+					firstFailure);
+		}
+	}
+
+	@FunctionalInterface
+	public interface ReconciliationTask {
+
+		void run() throws Exception;
+
+	}
+
+	@FunctionalInterface
+	public interface ReconciliationAction<T> {
+
+		void accept(T item) throws Exception;
+
+	}
+
+}
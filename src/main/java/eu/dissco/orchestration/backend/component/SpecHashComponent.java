@@ -0,0 +1,114 @@
+package eu.dissco.orchestration.backend.component;
+
+import com.google.gson.JsonElement;
+import io.kubernetes.client.common.KubernetesObject;
+import io.kubernetes.client.openapi.JSON;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * Decides whether a live Kubernetes resource matches the resource generated for it. The generated resource is hashed
+ * as it is applied and the hash is stored as an annotation, so the full synchronization at startup can compare
+ * annotations instead of the live resources. A change to the live resource does not change its annotation, so after a
+ * cluster change the live resource itself is compared with the generated resource.
+ */
+@Component
+public class SpecHashComponent {
+
+	public static final String SPEC_HASH_ANNOTATION = "orchestration.dissco.eu/spec-hash";
+
+	private static final String METADATA = "metadata";
+
+	private static final String ANNOTATIONS = "annotations";
+
+	private static final String SPEC = "spec";
+
+	private final JSON json = new JSON();
+
+	private static MessageDigest sha256() {
+		try {
+			return MessageDigest.getInstance("SHA-256");
+		}
+		catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256 is not supported by this JVM", e);
+		}
+	}
+
+	/**
+	 * Annotates the generated resource with the hash of its manifest
+	 * @param ignoredSpecFields fields of the spec which are not generated deterministically or are managed by
+	 * another controller, they are left out of the hash
+	 * @return the annotated resource
+	 */
+	public <T extends KubernetesObject> T withSpecHash(T object, String... ignoredSpecFields) {
+		var manifest = json.getGson().toJsonTree(object).getAsJsonObject();
+		var annotations = manifest.getAsJsonObject(METADATA).getAsJsonObject(ANNOTATIONS);
+		if (annotations != null) {
+			annotations.remove(SPEC_HASH_ANNOTATION);
+		}
+		var spec = manifest.getAsJsonObject(SPEC);
+		if (spec != null) {
+			for (var field : ignoredSpecFields) {
+				spec.remove(field);
+			}
+		}
+		var hash = sha256().digest(manifest.toString().getBytes(StandardCharsets.UTF_8));
+		object.getMetadata().putAnnotationsItem(SPEC_HASH_ANNOTATION, HexFormat.of().formatHex(hash));
+		return object;
+	}
+
+	/**
+	 * @param fullSync whether the resource is compared during the full synchronization at startup, which trusts the
+	 * hash annotation of the live resource
+	 * @return whether the live resource has the same hash annotation as the generated resource or, outside the full
+	 * synchronization, whether every field of the generated resource has the same value in the live resource
+	 */
+	public boolean isInSync(KubernetesObject live, KubernetesObject generated, boolean fullSync) {
+		if (fullSync) {
+			return hasSpecHash(live, generated);
+		}
+		var gson = json.getGson();
+		return contains(gson.toJsonTree(live), gson.toJsonTree(generated));
+	}
+
+	private static boolean hasSpecHash(KubernetesObject live, KubernetesObject generated) {
+		var annotations = live.getMetadata().getAnnotations();
+		var specHash = generated.getMetadata().getAnnotations().get(SPEC_HASH_ANNOTATION);
+		return annotations != null && specHash.equals(annotations.get(SPEC_HASH_ANNOTATION));
+	}
+
+	/*
+	 * The api server adds defaults and fields of other managers to the live resource, so it only has to contain the
+	 * generated fields. Lists are compared element by element, a list which gained elements is out of sync.
+	 */
+	private static boolean contains(JsonElement live, JsonElement generated) {
+		if (generated.isJsonObject()) {
+			if (!live.isJsonObject()) {
+				return false;
+			}
+			var liveObject = live.getAsJsonObject();
+			return generated.getAsJsonObject()
+				.entrySet()
+				.stream()
+				.allMatch(field -> liveObject.has(field.getKey())
+						&& contains(liveObject.get(field.getKey()), field.getValue()));
+		}
+		if (generated.isJsonArray()) {
+			if (!live.isJsonArray() || live.getAsJsonArray().size() != generated.getAsJsonArray().size()) {
+				return false;
+			}
+			for (int i = 0; i < generated.getAsJsonArray().size(); i++) {
+				if (!contains(live.getAsJsonArray().get(i), generated.getAsJsonArray().get(i))) {
+					return false;
+				}
+			}
+			return true;
+		}
+		return generated.equals(live);
+	}
+
+}
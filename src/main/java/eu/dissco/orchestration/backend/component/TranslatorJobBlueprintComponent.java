@@ -0,0 +1,163 @@
+package eu.dissco.orchestration.backend.component;
+
+import com.fasterxml.jackson.dataformat.yaml.YAMLMapper;
+import eu.dissco.orchestration.backend.properties.TranslatorJobProperties;
+import eu.dissco.orchestration.backend.schema.SourceSystem.OdsTranslatorType;
+import freemarker.template.Configuration;
+import freemarker.template.TemplateException;
+import io.kubernetes.client.openapi.ApiClient;
+import io.kubernetes.client.openapi.models.V1Container;
+import io.kubernetes.client.openapi.models.V1CronJob;
+import io.kubernetes.client.openapi.models.V1EnvVar;
+import io.kubernetes.client.openapi.models.V1Job;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Keeps the translator Job and CronJob templates as parsed blueprints. The templates are rendered and parsed once on
+ * startup, every job is a deep copy of its blueprint on which only the values of the source system are set. The
+ * image, namespace and database url are the same for every job and are part of the blueprint.
+ */
+@Component
+@RequiredArgsConstructor
+public class TranslatorJobBlueprintComponent {
+
+	private static final String BLUEPRINT_VALUE = "blueprint";
+
+	private static final String JOB_NAME = "jobName";
+
+	private static final String CRON = "cron";
+
+	// Environment variables of the translator container and the template property they are rendered from
+	private static final Map<String, String> ENVIRONMENT_PROPERTIES = Map.of("application.sourceSystemId",
+			"sourceSystemId", "application.maxItems", "maxItems", "mas.force-mas-schedule", "forceMasSchedule",
+			"mas.specimen-mass", "specimenMass", "mas.media-mass", "mediaMass", "rabbitmq.exchangeName",
+			"exchangeName", "rabbitmq.routingKeyName", "routingKeyName");
+
+	private final Configuration configuration;
+
+	@Qualifier("yamlMapper")
+	private final YAMLMapper yamlMapper;
+
+	private final TranslatorJobProperties jobProperties;
+
+	@Qualifier("apiClient")
+	private final ApiClient apiClient;
+
+	private final Map<OdsTranslatorType, V1Job> jobBlueprints = new EnumMap<>(OdsTranslatorType.class);
+
+	private final Map<OdsTranslatorType, V1CronJob> cronJobBlueprints = new EnumMap<>(OdsTranslatorType.class);
+
+	public static String templateName(OdsTranslatorType translatorType, boolean isCron) {
+		if (isCron) {
+			return switch (translatorType) {
+				case DWCA -> "dwca-cron-job.ftl";
+				case BIOCASE -> "biocase-cron-job.ftl";
+			};
+		}
+		else {
+			return switch (translatorType) {
+				case DWCA -> "dwca-translator-job.ftl";
+				case BIOCASE -> "biocase-translator-job.ftl";
+			};
+		}
+	}
+
+	/*
+	 * Every optional environment variable is rendered, so it keeps its position in the container. Variables without
+	 * a value for the source system are removed from the copy.
+	 */
+	private static void setEnvironment(V1Container container, Map<String, Object> templateProperties) {
+		var environment = new ArrayList<V1EnvVar>(container.getEnv().size());
+		for (var envVar : container.getEnv()) {
+			var property = ENVIRONMENT_PROPERTIES.get(envVar.getName());
+			if (property == null) {
+				environment.add(envVar);
+			}
+			else if (templateProperties.get(property) != null) {
+				environment.add(envVar.value(String.valueOf(templateProperties.get(property))));
+			}
+		}
+		container.setEnv(environment);
+	}
+
+	private static void setName(V1ObjectMeta metadata, V1Container container, Map<String, Object> templateProperties) {
+		var jobName = (String) templateProperties.get(JOB_NAME);
+		metadata.setName(jobName);
+		container.setName(jobName);
+	}
+
+	@PostConstruct
+	public void loadBlueprints() throws IOException, TemplateException {
+		for (var translatorType : OdsTranslatorType.values()) {
+			jobBlueprints.put(translatorType,
+					yamlMapper.readValue(renderBlueprint(templateName(translatorType, false)), V1Job.class));
+			cronJobBlueprints.put(translatorType,
+					yamlMapper.readValue(renderBlueprint(templateName(translatorType, true)), V1CronJob.class));
+		}
+	}
+
+	private String renderBlueprint(String templateName) throws IOException, TemplateException {
+		var templateProperties = new HashMap<String, Object>();
+		templateProperties.put("image", jobProperties.getImage());
+		templateProperties.put("namespace", jobProperties.getNamespace());
+		templateProperties.put("database_url", jobProperties.getDatabaseUrl());
+		templateProperties.put(JOB_NAME, BLUEPRINT_VALUE);
+		templateProperties.put("containerName", BLUEPRINT_VALUE);
+		templateProperties.put(CRON, BLUEPRINT_VALUE);
+		ENVIRONMENT_PROPERTIES.values().forEach(property -> templateProperties.put(property, BLUEPRINT_VALUE));
+		templateProperties.put("maxItems", 0);
+		templateProperties.put("forceMasSchedule", false);
+		var writer = new StringWriter();
+		configuration.getTemplate(templateName).process(templateProperties, writer);
+		return writer.toString();
+	}
+
+	/**
+	 * Creates a translator job from the blueprint of the translator type
+	 * @param translatorType the translator type, determines the blueprint
+	 * @param templateProperties the properties the job template would be rendered with
+	 * @return a new job, which may be modified by the caller
+	 */
+	public V1Job createJob(OdsTranslatorType translatorType, Map<String, Object> templateProperties) {
+		var job = copy(jobBlueprints.get(translatorType), V1Job.class);
+		var container = job.getSpec().getTemplate().getSpec().getContainers().getFirst();
+		setName(job.getMetadata(), container, templateProperties);
+		setEnvironment(container, templateProperties);
+		return job;
+	}
+
+	/**
+	 * Creates a translator cron job from the blueprint of the translator type
+	 * @param translatorType the translator type, determines the blueprint
+	 * @param templateProperties the properties the cron job template would be rendered with
+	 * @return a new cron job, which may be modified by the caller
+	 */
+	public V1CronJob createCronJob(OdsTranslatorType translatorType, Map<String, Object> templateProperties) {
+		var cronJob = copy(cronJobBlueprints.get(translatorType), V1CronJob.class);
+		var container = cronJob.getSpec().getJobTemplate().getSpec().getTemplate().getSpec().getContainers().getFirst();
+		setName(cronJob.getMetadata(), container, templateProperties);
+		setEnvironment(container, templateProperties);
+		cronJob.getSpec().setSchedule((String) templateProperties.get(CRON));
+		return cronJob;
+	}
+
+	/*
+	 * Copies through a json tree with the serializers of the Kubernetes client, no text is written or parsed
+	 */
+	private <T> T copy(T blueprint, Class<T> type) {
+		var gson = apiClient.getJSON().getGson();
+		return gson.fromJson(gson.toJsonTree(blueprint), type);
+	}
+
+}
@@ -0,0 +1,41 @@
+package eu.dissco.orchestration.backend.component;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.io.IOException;
+import java.util.Set;
+
+/**
+ * Rejects write requests with 503 until the first synchronization with the cluster finished, reads are always
+ * served.
+ */
+@Component
+@RequiredArgsConstructor
+public class WriteReadinessInterceptor implements HandlerInterceptor {
+
+	private static final Set<String> READ_METHODS = Set.of(HttpMethod.GET.name(), HttpMethod.HEAD.name(),
+			HttpMethod.OPTIONS.name());
+
+	private static final String RETRY_AFTER_SECONDS = "10";
+
+	private final ClusterSyncHealthIndicator clusterSyncHealthIndicator;
+
+	@Override
+	public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler)
+			throws IOException {
+		if (READ_METHODS.contains(request.getMethod()) || clusterSyncHealthIndicator.isSynced()) {
+			return true;
+		}
+		response.setHeader(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS);
+		response.sendError(HttpServletResponse.SC_SERVICE_UNAVAILABLE,
+				"Synchronization with the cluster is still in progress");
+		return false;
+	}
+
+}
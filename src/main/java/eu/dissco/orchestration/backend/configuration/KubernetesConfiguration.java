@@ -1,5 +1,6 @@
 package eu.dissco.orchestration.backend.configuration;
 
+import eu.dissco.orchestration.backend.component.KubernetesRateLimitInterceptor;
 import eu.dissco.orchestration.backend.properties.KubernetesProperties;
 import io.kubernetes.client.openapi.ApiClient;
 import io.kubernetes.client.openapi.apis.AppsV1Api;
@@ -18,6 +19,7 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 import java.io.IOException;
+import java.time.Duration;
 
 @Configuration
 @RequiredArgsConstructor
@@ -72,6 +74,24 @@ public class KubernetesConfiguration {
 			.writeTimeout(properties.getApiWriteTimeout())
 			.connectTimeout(properties.getApiConnectTimeout())
 			.pingInterval(properties.getApiPingInterval())
+			.addInterceptor(new KubernetesRateLimitInterceptor(properties))
+			.build();
+		apiClient.setHttpClient(httpClient);
+		return apiClient;
+	}
+
+	/*
+	 * Not rate limited, watches are long-running requests which would hold on to a request slot
+	 */
+	@Bean
+	public ApiClient informerApiClient() throws IOException {
+		var apiClient = Config.defaultClient();
+		var httpClient = apiClient.getHttpClient()
+			.newBuilder()
+			.retryOnConnectionFailure(true)
+			.readTimeout(Duration.ZERO)
+			.connectTimeout(properties.getApiConnectTimeout())
+			.pingInterval(properties.getApiPingInterval())
 			.build();
 		apiClient.setHttpClient(httpClient);
 		return apiClient;
@@ -0,0 +1,42 @@
+package eu.dissco.orchestration.backend.configuration;
+
+import eu.dissco.orchestration.backend.properties.ReadCacheProperties;
+import eu.dissco.orchestration.backend.repository.ObjectCache;
+import eu.dissco.orchestration.backend.schema.DataMapping;
+import eu.dissco.orchestration.backend.schema.MachineAnnotationService;
+import eu.dissco.orchestration.backend.schema.SourceSystem;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.jooq.DSLContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import tools.jackson.databind.json.JsonMapper;
+
+@Configuration
+@RequiredArgsConstructor
+public class ReadCacheConfiguration {
+
+	private final ReadCacheProperties properties;
+
+	private final MeterRegistry meterRegistry;
+
+	private final DSLContext context;
+
+	private final JsonMapper mapper;
+
+	@Bean
+	public ObjectCache<SourceSystem> sourceSystemCache() {
+		return new ObjectCache<>("sourceSystem", properties, meterRegistry, context, mapper);
+	}
+
+	@Bean
+	public ObjectCache<MachineAnnotationService> machineAnnotationServiceCache() {
+		return new ObjectCache<>("machineAnnotationService", properties, meterRegistry, context, mapper);
+	}
+
+	@Bean
+	public ObjectCache<DataMapping> dataMappingCache() {
+		return new ObjectCache<>("dataMapping", properties, meterRegistry, context, mapper);
+	}
+
+}
@@ -3,16 +3,30 @@ package eu.dissco.orchestration.backend.configuration;
 import static lombok.Lombok.sneakyThrow;
 
 import eu.dissco.orchestration.backend.client.HandleClient;
+import eu.dissco.orchestration.backend.component.HandleClientInterceptor;
+import eu.dissco.orchestration.backend.component.OAuth2TokenComponent;
 import eu.dissco.orchestration.backend.exception.PidException;
+import eu.dissco.orchestration.backend.properties.HandleClientProperties;
+import eu.dissco.orchestration.backend.properties.TokenRefreshProperties;
 import eu.dissco.orchestration.backend.properties.WebConnectionProperties;
+import io.micrometer.observation.ObservationRegistry;
 import java.nio.charset.StandardCharsets;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatusCode;
 import org.springframework.http.MediaType;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.observation.DefaultClientRequestObservationConvention;
 import org.springframework.security.oauth2.client.AuthorizedClientServiceOAuth2AuthorizedClientManager;
 import org.springframework.security.oauth2.client.OAuth2AuthorizedClientManager;
 import org.springframework.security.oauth2.client.OAuth2AuthorizedClientProviderBuilder;
@@ -30,12 +44,18 @@ public class RestClientConfiguration {
 
 	private final WebConnectionProperties properties;
 
+	/*
+	 * Fetches the tokens of the OAuth2TokenComponent, a token is refreshed once it is within the refresh ahead time of
+	 * its expiry
+	 */
 	@Bean
 	public OAuth2AuthorizedClientManager authorizedClientManager(
-			ClientRegistrationRepository clientRegistrationRepository, OAuth2AuthorizedClientService clientService) {
+			ClientRegistrationRepository clientRegistrationRepository, OAuth2AuthorizedClientService clientService,
+			TokenRefreshProperties tokenRefreshProperties) {
+		var clockSkew = tokenRefreshProperties.getRefreshAhead();
 		var authorizedClientProvider = OAuth2AuthorizedClientProviderBuilder.builder()
-			.refreshToken()
-			.clientCredentials()
+			.refreshToken(provider -> provider.clockSkew(clockSkew))
+			.clientCredentials(provider -> provider.clockSkew(clockSkew))
 			.build();
 		var authorizedClientManager = new AuthorizedClientServiceOAuth2AuthorizedClientManager(
 				clientRegistrationRepository, clientService);
@@ -43,15 +63,49 @@ public class RestClientConfiguration {
 		return authorizedClientManager;
 	}
 
+	/*
+	 * Pooled connections with bounded timeouts, so a slow PID service can't hold the request threads indefinitely.
+	 * Retries are left to the HandleClientInterceptor.
+	 */
+	private static ClientHttpRequestFactory handleRequestFactory(HandleClientProperties properties) {
+		var connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+			.setMaxConnTotal(properties.getMaxConnections())
+			.setMaxConnPerRoute(properties.getMaxConnections())
+			.setDefaultConnectionConfig(ConnectionConfig.custom()
+				.setConnectTimeout(Timeout.of(properties.getConnectTimeout()))
+				.setSocketTimeout(Timeout.of(properties.getReadTimeout()))
+				.build())
+			.build();
+		var httpClient = HttpClients.custom()
+			.setConnectionManager(connectionManager)
+			.setDefaultRequestConfig(RequestConfig.custom()
+				.setConnectionRequestTimeout(Timeout.of(properties.getConnectionRequestTimeout()))
+				.setResponseTimeout(Timeout.of(properties.getReadTimeout()))
+				.build())
+			.evictExpiredConnections()
+			.evictIdleConnections(TimeValue.of(properties.getIdleTimeout()))
+			.disableAutomaticRetries()
+			.build();
+		return new HttpComponentsClientHttpRequestFactory(httpClient);
+	}
+
 	@Bean
-	public HandleClient handleClient(OAuth2AuthorizedClientManager authorizedClientManager,
-			WebConnectionProperties webConnectionProperties) {
-		// Set up Oauth2
-		var interceptor = new OAuth2ClientHttpRequestInterceptor(authorizedClientManager);
-		interceptor.setClientRegistrationIdResolver(request -> "dissco");
+	public HandleClient handleClient(OAuth2TokenComponent tokenComponent,
+			WebConnectionProperties webConnectionProperties, HandleClientProperties handleClientProperties,
+			ObservationRegistry observationRegistry) {
+		// Set up Oauth2, the token is refreshed ahead of its expiry by the token component
+		var interceptor = new OAuth2ClientHttpRequestInterceptor(tokenComponent::authorize);
+		interceptor.setClientRegistrationIdResolver(request -> OAuth2TokenComponent.CLIENT_REGISTRATION_ID);
+		interceptor.setAuthorizationFailureHandler((exception, principal, attributes) -> tokenComponent.invalidate());
 		// Build web client
 		var restClient = RestClient.builder()
+			.requestFactory(handleRequestFactory(handleClientProperties))
 			.requestInterceptor(interceptor)
+			// Retry and circuit breaker, runs for each attempt after the token was added
+			.requestInterceptor(new HandleClientInterceptor(handleClientProperties))
+			// Latency per endpoint, as the handle.client.requests metric
+			.observationRegistry(observationRegistry)
+			.observationConvention(new DefaultClientRequestObservationConvention("handle.client.requests"))
 			// On status error, log the response and throw a PidException
 			.defaultStatusHandler(HttpStatusCode::isError, (request, response) -> {
 				var body = new String(response.getBody().readAllBytes(), StandardCharsets.UTF_8);
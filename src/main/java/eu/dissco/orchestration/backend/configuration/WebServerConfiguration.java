@@ -1,16 +1,27 @@
 package eu.dissco.orchestration.backend.configuration;
 
 import eu.dissco.orchestration.backend.component.StringToExportTypeConverter;
+import eu.dissco.orchestration.backend.component.WriteReadinessInterceptor;
+import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.format.FormatterRegistry;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 @Configuration
+@RequiredArgsConstructor
 public class WebServerConfiguration implements WebMvcConfigurer {
 
+	private final WriteReadinessInterceptor writeReadinessInterceptor;
+
 	@Override
 	public void addFormatters(FormatterRegistry registry) {
 		registry.addConverter(new StringToExportTypeConverter());
 	}
 
+	@Override
+	public void addInterceptors(InterceptorRegistry registry) {
+		registry.addInterceptor(writeReadinessInterceptor);
+	}
+
 }
@@ -5,6 +5,7 @@ import eu.dissco.orchestration.backend.domain.jsonapi.JsonApiWrapper;
 import eu.dissco.orchestration.backend.domain.openapi.datamapping.DataMappingRequestSchema;
 import eu.dissco.orchestration.backend.domain.openapi.datamapping.DataMappingResponseList;
 import eu.dissco.orchestration.backend.domain.openapi.datamapping.DataMappingResponseSingle;
+import eu.dissco.orchestration.backend.exception.BadRequestException;
 import eu.dissco.orchestration.backend.exception.ForbiddenException;
 import eu.dissco.orchestration.backend.exception.NotFoundException;
 import eu.dissco.orchestration.backend.exception.ProcessingFailedException;
@@ -151,9 +152,14 @@ public class DataMappingController {
 					defaultValue = DEFAULT_PAGE_NUM) int pageNum,
 			@Parameter(description = PAGE_SIZE_OAS) @RequestParam(value = "pageSize",
 					defaultValue = DEFAULT_PAGE_SIZE) int pageSize,
-			HttpServletRequest servletRequest) {
+			@Parameter(description = PAGE_CURSOR_OAS) @RequestParam(value = "page[cursor]",
+					required = false) String cursor,
+			HttpServletRequest servletRequest) throws BadRequestException {
 		log.info("Received get request for mappings with pageNumber: {} and pageSzie: {}: ", pageNum, pageSize);
 		String path = appProperties.getBaseUrl() + servletRequest.getRequestURI();
+		if (cursor != null) {
+			return ResponseEntity.status(HttpStatus.OK).body(service.getDataMappingPage(cursor, pageSize, path));
+		}
 		return ResponseEntity.status(HttpStatus.OK).body(service.getDataMappings(pageNum, pageSize, path));
 	}
 
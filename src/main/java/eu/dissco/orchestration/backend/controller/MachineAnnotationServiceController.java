@@ -6,6 +6,7 @@ import eu.dissco.orchestration.backend.domain.openapi.datamapping.DataMappingRes
 import eu.dissco.orchestration.backend.domain.openapi.mas.MasRequestSchema;
 import eu.dissco.orchestration.backend.domain.openapi.mas.MasResponseList;
 import eu.dissco.orchestration.backend.domain.openapi.mas.MasResponseSingle;
+import eu.dissco.orchestration.backend.exception.BadRequestException;
 import eu.dissco.orchestration.backend.exception.ForbiddenException;
 import eu.dissco.orchestration.backend.exception.NotFoundException;
 import eu.dissco.orchestration.backend.exception.ProcessingFailedException;
@@ -151,9 +152,15 @@ public class MachineAnnotationServiceController {
 					defaultValue = DEFAULT_PAGE_NUM) int pageNum,
 			@Parameter(description = PAGE_SIZE_OAS) @RequestParam(value = "pageSize",
 					defaultValue = DEFAULT_PAGE_SIZE) int pageSize,
-			HttpServletRequest servletRequest) {
+			@Parameter(description = PAGE_CURSOR_OAS) @RequestParam(value = "page[cursor]",
+					required = false) String cursor,
+			HttpServletRequest servletRequest) throws BadRequestException {
 		log.info("Received get request for machine annotation services");
 		String path = appProperties.getBaseUrl() + servletRequest.getRequestURI();
+		if (cursor != null) {
+			return ResponseEntity.status(HttpStatus.OK)
+				.body(service.getMachineAnnotationServicePage(cursor, pageSize, path));
+		}
 		return ResponseEntity.status(HttpStatus.OK).body(service.getMachineAnnotationServices(pageNum, pageSize, path));
 	}
 
@@ -1,5 +1,6 @@
 package eu.dissco.orchestration.backend.controller;
 
+import eu.dissco.orchestration.backend.exception.BadRequestException;
 import eu.dissco.orchestration.backend.exception.ForbiddenException;
 import eu.dissco.orchestration.backend.exception.NotFoundException;
 import org.springframework.dao.DuplicateKeyException;
@@ -20,6 +21,12 @@ public class RestResponseEntityExceptionHandler extends ResponseEntityExceptionH
 		return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
 	}
 
+	@ResponseStatus(HttpStatus.BAD_REQUEST)
+	@ExceptionHandler(BadRequestException.class)
+	public ResponseEntity<String> badRequestException(BadRequestException e) {
+		return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+	}
+
 	@ResponseStatus(HttpStatus.UNPROCESSABLE_CONTENT)
 	@ExceptionHandler(JacksonException.class)
 	public ResponseEntity<String> jacksonException(JacksonException e) {
@@ -1,13 +1,17 @@
 package eu.dissco.orchestration.backend.controller;
 
+import eu.dissco.orchestration.backend.domain.BulkCreateResponse;
 import eu.dissco.orchestration.backend.domain.ExportType;
 import eu.dissco.orchestration.backend.domain.MasScheduleData;
 import eu.dissco.orchestration.backend.domain.jsonapi.JsonApiListWrapper;
 import eu.dissco.orchestration.backend.domain.jsonapi.JsonApiWrapper;
+import eu.dissco.orchestration.backend.domain.openapi.sourcesystem.SourceSystemBulkRequestSchema;
 import eu.dissco.orchestration.backend.domain.openapi.sourcesystem.SourceSystemRequestSchema;
+import eu.dissco.orchestration.backend.domain.openapi.sourcesystem.SourceSystemRequestSchema.SourceSystemRequestData;
 import eu.dissco.orchestration.backend.domain.openapi.sourcesystem.SourceSystemResponseList;
 import eu.dissco.orchestration.backend.domain.openapi.sourcesystem.SourceSystemResponseSingle;
 import eu.dissco.orchestration.backend.domain.openapi.translatorjobrecord.TranslatorJobRecordResponseList;
+import eu.dissco.orchestration.backend.exception.BadRequestException;
 import eu.dissco.orchestration.backend.exception.ForbiddenException;
 import eu.dissco.orchestration.backend.exception.NotFoundException;
 import eu.dissco.orchestration.backend.exception.ProcessingFailedException;
@@ -88,6 +92,36 @@ public class SourceSystemController {
 		return ResponseEntity.status(HttpStatus.CREATED).body(result);
 	}
 
+	@Operation(summary = "Create multiple source systems", description = """
+			Create multiple source systems in a single request, for example when onboarding an aggregator.
+			Returns a result for every source system, in the order of the request.
+			The response status is 201 if all source systems were created, otherwise 207.
+			User must have orchestration admin rights.
+			""")
+	@ApiResponses(value = {
+			@ApiResponse(responseCode = "201", description = "All source systems successfully created",
+					content = { @Content(mediaType = "application/json",
+							schema = @Schema(implementation = BulkCreateResponse.class)) }),
+			@ApiResponse(responseCode = "207", description = "One or more source systems could not be created",
+					content = { @Content(mediaType = "application/json",
+							schema = @Schema(implementation = BulkCreateResponse.class)) }) })
+	@PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_JSON_VALUE,
+			produces = MediaType.APPLICATION_JSON_VALUE)
+	public ResponseEntity<BulkCreateResponse> createSourceSystems(Authentication authentication,
+			@RequestBody SourceSystemBulkRequestSchema requestBody)
+			throws BadRequestException, ProcessingFailedException, ForbiddenException {
+		if (requestBody.data() == null) {
+			throw new BadRequestException("Bulk request does not contain any source systems");
+		}
+		var sourceSystemRequests = requestBody.data().stream().map(SourceSystemRequestData::attributes).toList();
+		var agent = getAgent(authentication, CREATOR);
+		log.info("Received bulk create request for {} source systems from agent: {}", sourceSystemRequests.size(),
+				agent.getId());
+		var result = service.createSourceSystems(sourceSystemRequests, agent);
+		var status = result.allCreated() ? HttpStatus.CREATED : HttpStatus.MULTI_STATUS;
+		return ResponseEntity.status(status).body(result);
+	}
+
 	@Operation(summary = "Update a source system", description = """
 			Update an existing source system.
 			User must have orchestration admin rights.
@@ -208,9 +242,14 @@ public class SourceSystemController {
 					defaultValue = DEFAULT_PAGE_NUM) int pageNum,
 			@Parameter(description = PAGE_SIZE_OAS) @RequestParam(value = "pageSize",
 					defaultValue = DEFAULT_PAGE_SIZE) int pageSize,
-			HttpServletRequest servletRequest) {
+			@Parameter(description = PAGE_CURSOR_OAS) @RequestParam(value = "page[cursor]",
+					required = false) String cursor,
+			HttpServletRequest servletRequest) throws BadRequestException {
 		log.info("Received get request for source system with pageNumber: {} and pageSize: {}: ", pageNum, pageSize);
 		String path = appProperties.getBaseUrl() + servletRequest.getRequestURI();
+		if (cursor != null) {
+			return ResponseEntity.status(HttpStatus.OK).body(service.getSourceSystemPage(cursor, pageSize, path));
+		}
 		return ResponseEntity.status(HttpStatus.OK).body(service.getSourceSystems(pageNum, pageSize, path));
 	}
 
@@ -229,10 +268,15 @@ public class SourceSystemController {
 			defaultValue = DEFAULT_PAGE_NUM) int pageNum,
 	@Parameter(description = PAGE_SIZE_OAS) @RequestParam(value = "pageSize",
 			defaultValue = DEFAULT_PAGE_SIZE) int pageSize,
-			HttpServletRequest servletRequest) {
+			@Parameter(description = PAGE_CURSOR_OAS) @RequestParam(value = "page[cursor]",
+					required = false) String cursor,
+			HttpServletRequest servletRequest) throws BadRequestException {
 		var id = prefix + '/' + suffix;
 		log.info("Received request for translator job records for source system with id: {} with pageNumber: {} and pageSize: {}: ", id, pageNum, pageSize);
 		String path = appProperties.getBaseUrl() + servletRequest.getRequestURI();
+		if (cursor != null) {
+			return ResponseEntity.ok().body(jobRecordService.retrieveJobRecordPage(id, cursor, pageSize, path));
+		}
 		var translatorJobRecords = jobRecordService.retrieveJobRecords(id, pageNum, pageSize, path);
 		return ResponseEntity.ok().body(translatorJobRecords);
 	}
@@ -5,10 +5,14 @@ package eu.dissco.orchestration.backend.database.jooq;
 
 
 import eu.dissco.orchestration.backend.database.jooq.tables.DataMapping;
+import eu.dissco.orchestration.backend.database.jooq.tables.EventOutbox;
+import eu.dissco.orchestration.backend.database.jooq.tables.HandleReservation;
 import eu.dissco.orchestration.backend.database.jooq.tables.MachineAnnotationService;
 import eu.dissco.orchestration.backend.database.jooq.tables.SourceSystem;
 import eu.dissco.orchestration.backend.database.jooq.tables.TranslatorJobRecord;
 import eu.dissco.orchestration.backend.database.jooq.tables.records.DataMappingRecord;
+import eu.dissco.orchestration.backend.database.jooq.tables.records.EventOutboxRecord;
+import eu.dissco.orchestration.backend.database.jooq.tables.records.HandleReservationRecord;
 import eu.dissco.orchestration.backend.database.jooq.tables.records.MachineAnnotationServiceRecord;
 import eu.dissco.orchestration.backend.database.jooq.tables.records.SourceSystemRecord;
 import eu.dissco.orchestration.backend.database.jooq.tables.records.TranslatorJobRecordRecord;
@@ -31,6 +35,8 @@ public class Keys {
     // -------------------------------------------------------------------------
 
     public static final UniqueKey<DataMappingRecord> DATA_MAPPING_PK = Internal.createUniqueKey(DataMapping.DATA_MAPPING, DSL.name("data_mapping_pk"), new TableField[] { DataMapping.DATA_MAPPING.ID, DataMapping.DATA_MAPPING.VERSION }, true);
+    public static final UniqueKey<EventOutboxRecord> EVENT_OUTBOX_PKEY = Internal.createUniqueKey(EventOutbox.EVENT_OUTBOX, DSL.name("event_outbox_pkey"), new TableField[] { EventOutbox.EVENT_OUTBOX.ID }, true);
+    public static final UniqueKey<HandleReservationRecord> HANDLE_RESERVATION_PKEY = Internal.createUniqueKey(HandleReservation.HANDLE_RESERVATION, DSL.name("handle_reservation_pkey"), new TableField[] { HandleReservation.HANDLE_RESERVATION.HANDLE }, true);
     public static final UniqueKey<MachineAnnotationServiceRecord> MACHINE_ANNOTATION_SERVICES_PKEY = Internal.createUniqueKey(MachineAnnotationService.MACHINE_ANNOTATION_SERVICE, DSL.name("machine_annotation_services_pkey"), new TableField[] { MachineAnnotationService.MACHINE_ANNOTATION_SERVICE.ID }, true);
     public static final UniqueKey<SourceSystemRecord> ENDPOINT_UNIQUE = Internal.createUniqueKey(SourceSystem.SOURCE_SYSTEM, DSL.name("endpoint_unique"), new TableField[] { SourceSystem.SOURCE_SYSTEM.ENDPOINT, SourceSystem.SOURCE_SYSTEM.TOMBSTONED, SourceSystem.SOURCE_SYSTEM.FILTERS }, true);
     public static final UniqueKey<SourceSystemRecord> NAME_UNIQUE = Internal.createUniqueKey(SourceSystem.SOURCE_SYSTEM, DSL.name("name_unique"), new TableField[] { SourceSystem.SOURCE_SYSTEM.NAME }, true);
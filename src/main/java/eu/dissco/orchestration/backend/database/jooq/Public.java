@@ -5,6 +5,8 @@ package eu.dissco.orchestration.backend.database.jooq;
 
 
 import eu.dissco.orchestration.backend.database.jooq.tables.DataMapping;
+import eu.dissco.orchestration.backend.database.jooq.tables.EventOutbox;
+import eu.dissco.orchestration.backend.database.jooq.tables.HandleReservation;
 import eu.dissco.orchestration.backend.database.jooq.tables.MachineAnnotationService;
 import eu.dissco.orchestration.backend.database.jooq.tables.SourceSystem;
 import eu.dissco.orchestration.backend.database.jooq.tables.TranslatorJobRecord;
@@ -34,6 +36,16 @@ public class Public extends SchemaImpl {
      */
     public final DataMapping DATA_MAPPING = DataMapping.DATA_MAPPING;
 
+    /**
+     * The table <code>public.event_outbox</code>.
+     */
+    public final EventOutbox EVENT_OUTBOX = EventOutbox.EVENT_OUTBOX;
+
+    /**
+     * The table <code>public.handle_reservation</code>.
+     */
+    public final HandleReservation HANDLE_RESERVATION = HandleReservation.HANDLE_RESERVATION;
+
     /**
      * The table <code>public.machine_annotation_service</code>.
      */
@@ -66,6 +78,8 @@ public class Public extends SchemaImpl {
     public final List<Table<?>> getTables() {
         return Arrays.asList(
             DataMapping.DATA_MAPPING,
+            EventOutbox.EVENT_OUTBOX,
+            HandleReservation.HANDLE_RESERVATION,
             MachineAnnotationService.MACHINE_ANNOTATION_SERVICE,
             SourceSystem.SOURCE_SYSTEM,
             TranslatorJobRecord.TRANSLATOR_JOB_RECORD
@@ -5,6 +5,8 @@ package eu.dissco.orchestration.backend.database.jooq;
 
 
 import eu.dissco.orchestration.backend.database.jooq.tables.DataMapping;
+import eu.dissco.orchestration.backend.database.jooq.tables.EventOutbox;
+import eu.dissco.orchestration.backend.database.jooq.tables.HandleReservation;
 import eu.dissco.orchestration.backend.database.jooq.tables.MachineAnnotationService;
 import eu.dissco.orchestration.backend.database.jooq.tables.SourceSystem;
 import eu.dissco.orchestration.backend.database.jooq.tables.TranslatorJobRecord;
@@ -21,6 +23,16 @@ public class Tables {
      */
     public static final DataMapping DATA_MAPPING = DataMapping.DATA_MAPPING;
 
+    /**
+     * The table <code>public.event_outbox</code>.
+     */
+    public static final EventOutbox EVENT_OUTBOX = EventOutbox.EVENT_OUTBOX;
+
+    /**
+     * The table <code>public.handle_reservation</code>.
+     */
+    public static final HandleReservation HANDLE_RESERVATION = HandleReservation.HANDLE_RESERVATION;
+
     /**
      * The table <code>public.machine_annotation_service</code>.
      */
@@ -0,0 +1,14 @@
+package eu.dissco.orchestration.backend.domain;
+
+import java.util.List;
+
+/**
+ * Response of a bulk create request, with a result for every object in the order of the request
+ */
+public record BulkCreateResponse(List<BulkCreateResult> data) {
+
+	public boolean allCreated() {
+		return data.stream().allMatch(result -> result.error() == null);
+	}
+
+}
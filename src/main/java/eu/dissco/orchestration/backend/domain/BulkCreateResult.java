@@ -0,0 +1,16 @@
+package eu.dissco.orchestration.backend.domain;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import eu.dissco.orchestration.backend.domain.jsonapi.JsonApiData;
+
+/**
+ * Result of a single object of a bulk create request
+ * @param index position of the object in the request
+ * @param status HTTP status of the creation of the object
+ * @param data the created object, absent if the creation failed
+ * @param error reason the creation failed, absent if the object was created
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record BulkCreateResult(int index, int status, JsonApiData data, String error) {
+
+}
@@ -0,0 +1,11 @@
+package eu.dissco.orchestration.backend.domain;
+
+/**
+ * Notification of a written digital object, sent to all replicas to evict the object from their read cache
+ * @param type the name of the cache of the object type
+ * @param id the id of the object, without the handle proxy
+ * @param version the version which was written, null if the object was removed
+ */
+public record CacheInvalidation(String type, String id, Integer version) {
+
+}
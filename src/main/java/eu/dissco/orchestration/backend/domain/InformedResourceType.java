@@ -0,0 +1,7 @@
+package eu.dissco.orchestration.backend.domain;
+
+public enum InformedResourceType {
+
+	DEPLOYMENT, SCALED_OBJECT, RABBIT_BINDING, RABBIT_QUEUE, TRANSLATOR_CRON_JOB, EXPORT_CRON_JOB
+
+}
@@ -0,0 +1,19 @@
+package eu.dissco.orchestration.backend.domain;
+
+/**
+ * Provenance event which is stored in the outbox until it is published to RabbitMQ
+ * @param id the position of the event in the outbox, null if the event is not stored yet
+ * @param objectId the id of the changed object, without the handle proxy
+ * @param objectVersion the version of the object which the event describes
+ * @param exchange the exchange to publish the event to
+ * @param routingKey the routing key of the event
+ * @param payload the serialized event
+ */
+public record OutboxEvent(Long id, String objectId, int objectVersion, String exchange, String routingKey,
+		String payload) {
+
+	public OutboxEvent(String objectId, int objectVersion, String exchange, String routingKey, String payload) {
+		this(null, objectId, objectVersion, exchange, routingKey, payload);
+	}
+
+}
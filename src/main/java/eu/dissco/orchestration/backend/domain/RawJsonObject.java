@@ -0,0 +1,14 @@
+package eu.dissco.orchestration.backend.domain;
+
+import java.time.Instant;
+
+/**
+ * A digital object as stored in the database. The JSON is kept as stored, so it can be written to a response without
+ * being deserialized.
+ * @param id the id of the object, including the handle proxy
+ * @param created the creation date of the object
+ * @param json the JSON of the object
+ */
+public record RawJsonObject(String id, Instant created, String json) {
+
+}
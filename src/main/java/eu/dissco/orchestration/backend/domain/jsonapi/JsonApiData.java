@@ -1,8 +1,21 @@
 package eu.dissco.orchestration.backend.domain.jsonapi;
 
 import eu.dissco.orchestration.backend.domain.ObjectType;
+import eu.dissco.orchestration.backend.domain.RawJsonObject;
 import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.node.JsonNodeFactory;
+import tools.jackson.databind.util.RawValue;
 
 public record JsonApiData(String id, ObjectType type, JsonNode attributes) {
 
+	/**
+	 * Creates the data of a stored object, its JSON is written to the response as it is stored
+	 * @param object the stored object
+	 * @param type the type of the object
+	 * @return the data, with the raw JSON of the object as attributes
+	 */
+	public static JsonApiData fromRawJson(RawJsonObject object, ObjectType type) {
+		return new JsonApiData(object.id(), type, JsonNodeFactory.instance.rawValueNode(new RawValue(object.json())));
+	}
+
 }
@@ -22,6 +22,22 @@ public class JsonApiLinks {
 		this.next = (hasNext) ? path + pn + (pageNum + 1) + ps + pageSize : null;
 	}
 
+	/**
+	 * Links of a page in keyset pagination, there is no link to a previous page
+	 * @param pageSize the size of the page
+	 * @param cursor the cursor token of the page, empty for the first page
+	 * @param nextCursor the cursor token of the next page, null if this is the last page
+	 * @param path the path of the request
+	 */
+	public JsonApiLinks(int pageSize, String cursor, String nextCursor, String path) {
+		String pc = "?page%5Bcursor%5D=";
+		String ps = "&pageSize=";
+		this.self = path + pc + cursor + ps + pageSize;
+		this.first = path + pc + ps + pageSize;
+		this.prev = null;
+		this.next = (nextCursor != null) ? path + pc + nextCursor + ps + pageSize : null;
+	}
+
 	public JsonApiLinks(String self) {
 		this.self = self;
 		this.first = null;
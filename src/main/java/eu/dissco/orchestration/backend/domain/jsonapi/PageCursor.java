@@ -0,0 +1,49 @@
+package eu.dissco.orchestration.backend.domain.jsonapi;
+
+import eu.dissco.orchestration.backend.exception.BadRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.util.Base64;
+
+/**
+ * Position of the last item of a page in keyset pagination. The sort key and id of the item are exposed to clients as
+ * an opaque token, the next page starts after this item.
+ * @param key the sort key of the item, the creation date or the start time of a job record
+ * @param id the id of the item, breaks ties between items with the same key
+ */
+public record PageCursor(Instant key, String id) {
+
+	private static final String SEPARATOR = ",";
+
+	/**
+	 * Decodes the token of a page cursor
+	 * @param token the token, an empty token requests the first page
+	 * @return the cursor, or null for the first page
+	 * @throws BadRequestException if the token is not a valid page cursor
+	 */
+	public static PageCursor decode(String token) throws BadRequestException {
+		if (token == null || token.isEmpty()) {
+			return null;
+		}
+		try {
+			var value = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+			var separator = value.indexOf(SEPARATOR);
+			if (separator < 0) {
+				throw new BadRequestException("Invalid page cursor: " + token);
+			}
+			return new PageCursor(Instant.parse(value.substring(0, separator)), value.substring(separator + 1));
+		}
+		catch (IllegalArgumentException | DateTimeException e) {
+			throw new BadRequestException("Invalid page cursor: " + token);
+		}
+	}
+
+	public String encode() {
+		return Base64.getUrlEncoder()
+			.withoutPadding()
+			.encodeToString((key + SEPARATOR + id).getBytes(StandardCharsets.UTF_8));
+	}
+
+}
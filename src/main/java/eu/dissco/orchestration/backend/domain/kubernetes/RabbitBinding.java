@@ -0,0 +1,27 @@
+package eu.dissco.orchestration.backend.domain.kubernetes;
+
+import io.kubernetes.client.common.KubernetesObject;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import lombok.Data;
+
+/**
+ * Binding of the RabbitMQ messaging topology operator. Only the fields which are rendered by the orchestration
+ * backend are mapped, the status is ignored.
+ */
+@Data
+public class RabbitBinding implements KubernetesObject {
+
+	private String apiVersion;
+
+	private String kind;
+
+	private V1ObjectMeta metadata;
+
+	private Spec spec;
+
+	public record Spec(String destination, String destinationType, String routingKey, String source,
+			ResourceReference rabbitmqClusterReference, String vhost) {
+
+	}
+
+}
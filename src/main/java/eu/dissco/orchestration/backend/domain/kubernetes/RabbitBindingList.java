@@ -0,0 +1,21 @@
+package eu.dissco.orchestration.backend.domain.kubernetes;
+
+import io.kubernetes.client.common.KubernetesListObject;
+import io.kubernetes.client.openapi.models.V1ListMeta;
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+public class RabbitBindingList implements KubernetesListObject {
+
+	private String apiVersion;
+
+	private String kind;
+
+	private V1ListMeta metadata;
+
+	private List<RabbitBinding> items = new ArrayList<>();
+
+}
@@ -0,0 +1,21 @@
+package eu.dissco.orchestration.backend.domain.kubernetes;
+
+import io.kubernetes.client.common.KubernetesListObject;
+import io.kubernetes.client.openapi.models.V1ListMeta;
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+public class RabbitQueueList implements KubernetesListObject {
+
+	private String apiVersion;
+
+	private String kind;
+
+	private V1ListMeta metadata;
+
+	private List<RabbitQueue> items = new ArrayList<>();
+
+}
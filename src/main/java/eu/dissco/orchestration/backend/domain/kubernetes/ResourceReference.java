@@ -0,0 +1,5 @@
+package eu.dissco.orchestration.backend.domain.kubernetes;
+
+public record ResourceReference(String name, String namespace) {
+
+}
@@ -0,0 +1,34 @@
+package eu.dissco.orchestration.backend.domain.kubernetes;
+
+import io.kubernetes.client.common.KubernetesObject;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import lombok.Data;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * KEDA ScaledObject, scales the deployment of a machine annotation service on the length of its queue. Only the
+ * fields which are rendered by the orchestration backend are mapped, the status is ignored.
+ */
+@Data
+public class ScaledObject implements KubernetesObject {
+
+	private String apiVersion;
+
+	private String kind;
+
+	private V1ObjectMeta metadata;
+
+	private Spec spec;
+
+	public record Spec(Integer minReplicaCount, Integer maxReplicaCount, ResourceReference scaleTargetRef,
+			List<Trigger> triggers) {
+
+	}
+
+	public record Trigger(String type, Map<String, String> metadata, ResourceReference authenticationRef) {
+
+	}
+
+}
@@ -0,0 +1,11 @@
+package eu.dissco.orchestration.backend.domain.openapi.sourcesystem;
+
+import eu.dissco.orchestration.backend.domain.openapi.sourcesystem.SourceSystemRequestSchema.SourceSystemRequestData;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+
+@Schema
+public record SourceSystemBulkRequestSchema(
+		@Schema(description = "Desired source systems") List<SourceSystemRequestData> data) {
+
+}
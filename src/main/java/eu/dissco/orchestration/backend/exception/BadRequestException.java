@@ -0,0 +1,9 @@
+package eu.dissco.orchestration.backend.exception;
+
+public class BadRequestException extends Exception {
+
+	public BadRequestException(String message) {
+		super(message);
+	}
+
+}
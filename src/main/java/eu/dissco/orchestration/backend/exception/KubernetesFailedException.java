@@ -6,4 +6,8 @@ public class KubernetesFailedException extends Exception {
 		super(message);
 	}
 
+	public KubernetesFailedException(String message, Throwable e) {
+		super(message, e);
+	}
+
 }
@@ -0,0 +1,21 @@
+package eu.dissco.orchestration.backend.properties;
+
+import jakarta.validation.constraints.Positive;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+@Data
+@Validated
+@ConfigurationProperties("bulk-create")
+public class BulkCreateProperties {
+
+	// Maximum number of objects in a single bulk create request
+	@Positive
+	private int maxItems = 500;
+
+	// Maximum number of objects for which the Kubernetes resources are created concurrently
+	@Positive
+	private int maxConcurrency = 8;
+
+}
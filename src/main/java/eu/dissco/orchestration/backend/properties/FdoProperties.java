@@ -19,4 +19,8 @@ public class FdoProperties {
 	@NotBlank
 	private String masType = "https://doi.org/21.T11148/a369e128df5ef31044d4";
 
+	// Prefix of the handles minted for the objects, used to resolve Kubernetes resource names to their object
+	@NotBlank
+	private String handlePrefix = "20.5000.1025";
+
 }
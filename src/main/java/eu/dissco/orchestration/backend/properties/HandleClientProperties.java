@@ -0,0 +1,53 @@
+package eu.dissco.orchestration.backend.properties;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+@Data
+@Validated
+@ConfigurationProperties("handle-client")
+public class HandleClientProperties {
+
+	// Maximum number of pooled connections to the handle server
+	@Positive
+	private int maxConnections = 20;
+
+	// Maximum time to establish a connection to the handle server
+	@NotNull
+	private Duration connectTimeout = Duration.ofSeconds(2);
+
+	// Maximum time to wait for a pooled connection when all connections are in use
+	@NotNull
+	private Duration connectionRequestTimeout = Duration.ofSeconds(2);
+
+	// Maximum time to wait for the response of the handle server
+	@NotNull
+	private Duration readTimeout = Duration.ofSeconds(10);
+
+	// Time after which an idle pooled connection is closed
+	@NotNull
+	private Duration idleTimeout = Duration.ofMinutes(1);
+
+	// Maximum number of retries of a failed idempotent request
+	@PositiveOrZero
+	private int maxRetries = 2;
+
+	// Base of the exponential backoff between retries
+	@NotNull
+	private Duration retryBackoff = Duration.ofMillis(200);
+
+	// Number of consecutive failed requests after which the circuit breaker opens
+	@Positive
+	private int circuitBreakerFailureThreshold = 5;
+
+	// Time the circuit breaker stays open before a single trial request is let through
+	@NotNull
+	private Duration circuitBreakerOpenDuration = Duration.ofSeconds(30);
+
+}
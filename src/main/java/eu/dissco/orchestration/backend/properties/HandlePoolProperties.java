@@ -0,0 +1,36 @@
+package eu.dissco.orchestration.backend.properties;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+@Data
+@Validated
+@ConfigurationProperties("handle-pool")
+public class HandlePoolProperties {
+
+	// Take the handles of created objects from a pool of reserved handles, instead of minting them during the create
+	private boolean enabled = false;
+
+	// Number of reserved handles the pool is refilled to, per FDO type
+	@PositiveOrZero
+	private int minimumSize = 50;
+
+	// Maximum number of handles minted with a single call to the handle server
+	@Positive
+	private int batchSize = 50;
+
+	// Time between two refills of the pool
+	@NotNull
+	private Duration refillInterval = Duration.ofSeconds(30);
+
+	// Time after which an unused reservation is rolled back on the handle server
+	@NotNull
+	private Duration reservationTimeToLive = Duration.ofDays(7);
+
+}
@@ -1,14 +1,23 @@
 package eu.dissco.orchestration.backend.properties;
 
+import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
+import lombok.Data;
 import lombok.Getter;
 import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.validation.annotation.Validated;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.Duration;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
 
 @Setter
 @Getter
@@ -16,6 +25,9 @@ import java.time.Duration;
 @ConfigurationProperties("k8s")
 public class KubernetesProperties {
 
+	// Mounted into every pod with a service account, holds the namespace of the pod
+	private static final Path POD_NAMESPACE_FILE = Path.of("/var/run/secrets/kubernetes.io/serviceaccount/namespace");
+
 	@NotNull
 	private Duration apiPingInterval = Duration.ofSeconds(15L);
 
@@ -49,7 +61,91 @@ public class KubernetesProperties {
 	@NotBlank
 	private String rabbitQueueResource = "queues";
 
-	@Positive
-	private int kedaPatchWait = 500;
+	// Maximum time to wait for a deleted resource to disappear before it is recreated
+	@NotNull
+	private Duration deletionTimeout = Duration.ofSeconds(30L);
+
+	// Period after which the informers replay their cache, triggering a reconciliation of every object
+	@NotNull
+	private Duration informerResyncPeriod = Duration.ofMinutes(10L);
+
+	@NotNull
+	private Duration informerSyncTimeout = Duration.ofMinutes(2L);
+
+	// Delay before a changed object is reconciled, allows in-flight requests to finish their database write
+	@NotNull
+	private Duration informerReconcileDelay = Duration.ofSeconds(5L);
+
+	// When disabled, every replica reconciles the cluster, only suitable for a single replica
+	private boolean leaderElectionEnabled = true;
+
+	@NotBlank
+	private String leaseName = "orchestration-backend-leader";
+
+	// Defaults to the namespace of the pod, or the default namespace when not running in a pod
+	@NotBlank
+	private String leaseNamespace = podNamespace();
+
+	// Time after which a replica takes over the lease when the leader did not renew it
+	@NotNull
+	private Duration leaseDuration = Duration.ofSeconds(15L);
+
+	@NotNull
+	private Duration leaseRenewDeadline = Duration.ofSeconds(10L);
+
+	@NotNull
+	private Duration leaseRetryPeriod = Duration.ofSeconds(2L);
+
+	// Interval at which the leader retries a synchronization of the cluster which failed
+	@NotNull
+	private Duration leaderSyncRetryInterval = Duration.ofMinutes(1L);
+
+	// Rate limit of every HTTP verb which is not configured in the rate limits below
+	@Valid
+	@NotNull
+	private RateLimit defaultRateLimit = new RateLimit();
+
+	// Rate limit per HTTP verb, for example k8s.rate-limits.patch.permits-per-second=10
+	@NotNull
+	private Map<String, @Valid RateLimit> rateLimits = new HashMap<>();
+
+	// Number of retries of a request which was throttled (429) or failed with a server error (5xx)
+	@PositiveOrZero
+	private int maxRetries = 3;
+
+	// Base of the exponential backoff between retries, the actual wait is a random duration up to the backoff
+	@NotNull
+	private Duration retryBackoff = Duration.ofMillis(200L);
+
+	private static String podNamespace() {
+		try {
+			return Files.readString(POD_NAMESPACE_FILE).strip();
+		}
+		catch (IOException e) {
+			return "default";
+		}
+	}
+
+	public RateLimit rateLimitFor(String verb) {
+		return rateLimits.getOrDefault(verb.toLowerCase(Locale.ROOT), defaultRateLimit);
+	}
+
+	@Data
+	@Validated
+	public static class RateLimit {
+
+		// Sustained number of requests per second
+		@Positive
+		private double permitsPerSecond = 20;
+
+		// Number of requests which can be sent at once after an idle period
+		@Positive
+		private int burst = 40;
+
+		// Maximum number of requests in flight
+		@Positive
+		private int maxConcurrency = 16;
+
+	}
 
 }
@@ -0,0 +1,28 @@
+package eu.dissco.orchestration.backend.properties;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+@Data
+@Validated
+@ConfigurationProperties("outbox")
+public class OutboxProperties {
+
+	// Maximum number of provenance events published and confirmed at once
+	@Positive
+	private int batchSize = 100;
+
+	// Time between two polls of the outbox when it is empty or publishing failed
+	@NotNull
+	private Duration pollInterval = Duration.ofSeconds(1);
+
+	// Time after which an event whose change was neither deployed nor rolled back is released regardless
+	@NotNull
+	private Duration releaseTimeout = Duration.ofMinutes(10);
+
+}
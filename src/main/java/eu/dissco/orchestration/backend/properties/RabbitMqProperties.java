@@ -1,10 +1,14 @@
 package eu.dissco.orchestration.backend.properties;
 
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
 import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.validation.annotation.Validated;
 
+import java.time.Duration;
+
 @Data
 @Validated
 @ConfigurationProperties(prefix = "rabbitmq")
@@ -16,4 +20,10 @@ public class RabbitMqProperties {
 	@NotBlank
 	private String provenanceRoutingKeyPrefix = "provenance";
 
+	@NotNull
+	private Duration confirmTimeout = Duration.ofSeconds(10);
+
+	@Positive
+	private int maxUnconfirmed = 500;
+
 }
@@ -0,0 +1,35 @@
+package eu.dissco.orchestration.backend.properties;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.PositiveOrZero;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+@Data
+@Validated
+@ConfigurationProperties("read-cache")
+public class ReadCacheProperties {
+
+	// Maximum number of objects kept per object type, 0 disables the cache
+	@PositiveOrZero
+	private long maximumSize = 1000;
+
+	// Time after which a cached object is read from the database again, bounds the staleness on other replicas
+	@NotNull
+	private Duration timeToLive = Duration.ofMinutes(5);
+
+	// Listen for the writes of other replicas, only needed when running multiple replicas
+	private boolean listenerEnabled = true;
+
+	// Maximum time the listener waits for notifications before checking whether it should stop
+	@NotNull
+	private Duration listenerPollTimeout = Duration.ofSeconds(1);
+
+	// Delay before the listener reconnects after its connection to the database was lost
+	@NotNull
+	private Duration listenerReconnectDelay = Duration.ofSeconds(5);
+
+}
@@ -0,0 +1,21 @@
+package eu.dissco.orchestration.backend.properties;
+
+import jakarta.validation.constraints.Positive;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+@Data
+@Validated
+@ConfigurationProperties("reconciliation")
+public class ReconciliationProperties {
+
+	// Maximum number of concurrent per-object Kubernetes calls during reconciliation
+	@Positive
+	private int maxConcurrency = 16;
+
+	// Number of database records held in memory at once during reconciliation
+	@Positive
+	private int chunkSize = 500;
+
+}
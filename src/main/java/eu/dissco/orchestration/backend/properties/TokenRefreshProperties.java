@@ -0,0 +1,27 @@
+package eu.dissco.orchestration.backend.properties;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+@Data
+@Validated
+@ConfigurationProperties("token-refresh")
+public class TokenRefreshProperties {
+
+	// Time before the expiry of the access token at which it is refreshed in the background
+	@NotNull
+	private Duration refreshAhead = Duration.ofSeconds(60);
+
+	// Minimum remaining validity of the access token for a request, below it the request waits for a refresh
+	@NotNull
+	private Duration minimumValidity = Duration.ofSeconds(10);
+
+	// Time between two checks of the expiry of the access token
+	@NotNull
+	private Duration checkInterval = Duration.ofSeconds(10);
+
+}
@@ -1,10 +1,15 @@
 package eu.dissco.orchestration.backend.repository;
 
+import eu.dissco.orchestration.backend.domain.OutboxEvent;
+import eu.dissco.orchestration.backend.domain.RawJsonObject;
+import eu.dissco.orchestration.backend.domain.jsonapi.PageCursor;
 import eu.dissco.orchestration.backend.schema.DataMapping;
 import lombok.RequiredArgsConstructor;
 import org.jooq.DSLContext;
 import org.jooq.JSONB;
 import org.jooq.Record1;
+import org.jooq.Record3;
+import org.jooq.impl.DSL;
 import org.springframework.stereotype.Repository;
 import tools.jackson.databind.json.JsonMapper;
 
@@ -12,9 +17,13 @@ import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 
+import static eu.dissco.orchestration.backend.configuration.ApplicationConfiguration.HANDLE_PROXY;
 import static eu.dissco.orchestration.backend.database.jooq.Tables.DATA_MAPPING;
+import static eu.dissco.orchestration.backend.repository.EventOutboxRepository.insertEvent;
+import static eu.dissco.orchestration.backend.repository.EventOutboxRepository.removePendingEvents;
 import static eu.dissco.orchestration.backend.repository.RepositoryUtils.getOffset;
 import static eu.dissco.orchestration.backend.utils.HandleUtils.removeProxy;
+import static org.jooq.impl.DSL.row;
 
 @Repository
 @RequiredArgsConstructor
@@ -24,34 +33,52 @@ public class DataMappingRepository {
 
 	private final DSLContext context;
 
-	public void createDataMapping(DataMapping dataMapping) {
-		context.insertInto(DATA_MAPPING)
-			.set(DATA_MAPPING.ID, removeProxy(dataMapping.getId()))
-			.set(DATA_MAPPING.VERSION, dataMapping.getSchemaVersion())
-			.set(DATA_MAPPING.NAME, dataMapping.getSchemaName())
-			.set(DATA_MAPPING.CREATED, dataMapping.getSchemaDateCreated().toInstant())
-			.set(DATA_MAPPING.MODIFIED, dataMapping.getSchemaDateModified().toInstant())
-			.set(DATA_MAPPING.CREATOR, dataMapping.getSchemaCreator().getId())
-			.set(DATA_MAPPING.MAPPING_DATA_STANDARD, dataMapping.getOdsMappingDataStandard().value())
-			.set(DATA_MAPPING.DATA, mapToJSONB(dataMapping))
-			.execute();
+	private final ObjectCache<DataMapping> cache;
+
+	/**
+	 * Inserts the data mapping and its provenance event in one transaction
+	 */
+	public void createDataMapping(DataMapping dataMapping, OutboxEvent event) {
+		context.transaction(configuration -> {
+			var transactionContext = DSL.using(configuration);
+			transactionContext.insertInto(DATA_MAPPING)
+				.set(DATA_MAPPING.ID, removeProxy(dataMapping.getId()))
+				.set(DATA_MAPPING.VERSION, dataMapping.getSchemaVersion())
+				.set(DATA_MAPPING.NAME, dataMapping.getSchemaName())
+				.set(DATA_MAPPING.CREATED, dataMapping.getSchemaDateCreated().toInstant())
+				.set(DATA_MAPPING.MODIFIED, dataMapping.getSchemaDateModified().toInstant())
+				.set(DATA_MAPPING.CREATOR, dataMapping.getSchemaCreator().getId())
+				.set(DATA_MAPPING.MAPPING_DATA_STANDARD, dataMapping.getOdsMappingDataStandard().value())
+				.set(DATA_MAPPING.DATA, mapToJSONB(dataMapping))
+				.execute();
+			insertEvent(transactionContext, event, true).execute();
+		});
+		cache.invalidate(removeProxy(dataMapping.getId()), dataMapping.getSchemaVersion());
 	}
 
 	private JSONB mapToJSONB(DataMapping dataMapping) {
 		return JSONB.valueOf(mapper.writeValueAsString(dataMapping));
 	}
 
-	public void updateDataMapping(DataMapping dataMapping) {
-		context.update(DATA_MAPPING)
-			.set(DATA_MAPPING.VERSION, dataMapping.getSchemaVersion())
-			.set(DATA_MAPPING.NAME, dataMapping.getSchemaName())
-			.set(DATA_MAPPING.CREATED, dataMapping.getSchemaDateCreated().toInstant())
-			.set(DATA_MAPPING.MODIFIED, dataMapping.getSchemaDateModified().toInstant())
-			.set(DATA_MAPPING.CREATOR, dataMapping.getSchemaCreator().getId())
-			.set(DATA_MAPPING.MAPPING_DATA_STANDARD, dataMapping.getOdsMappingDataStandard().value())
-			.set(DATA_MAPPING.DATA, mapToJSONB(dataMapping))
-			.where(DATA_MAPPING.ID.eq(removeProxy(dataMapping.getId())))
-			.execute();
+	/**
+	 * Updates the data mapping and inserts its provenance event in one transaction
+	 */
+	public void updateDataMapping(DataMapping dataMapping, OutboxEvent event) {
+		context.transaction(configuration -> {
+			var transactionContext = DSL.using(configuration);
+			transactionContext.update(DATA_MAPPING)
+				.set(DATA_MAPPING.VERSION, dataMapping.getSchemaVersion())
+				.set(DATA_MAPPING.NAME, dataMapping.getSchemaName())
+				.set(DATA_MAPPING.CREATED, dataMapping.getSchemaDateCreated().toInstant())
+				.set(DATA_MAPPING.MODIFIED, dataMapping.getSchemaDateModified().toInstant())
+				.set(DATA_MAPPING.CREATOR, dataMapping.getSchemaCreator().getId())
+				.set(DATA_MAPPING.MAPPING_DATA_STANDARD, dataMapping.getOdsMappingDataStandard().value())
+				.set(DATA_MAPPING.DATA, mapToJSONB(dataMapping))
+				.where(DATA_MAPPING.ID.eq(removeProxy(dataMapping.getId())))
+				.execute();
+			insertEvent(transactionContext, event, true).execute();
+		});
+		cache.invalidate(removeProxy(dataMapping.getId()), dataMapping.getSchemaVersion());
 	}
 
 	public DataMapping getDataMapping(String id) {
@@ -63,40 +90,86 @@ public class DataMappingRepository {
 	}
 
 	public Optional<DataMapping> getActiveDataMapping(String id) {
+		return cache.get(removeProxy(id), this::loadActiveDataMapping);
+	}
+
+	private DataMapping loadActiveDataMapping(String id) {
 		return context.select(DATA_MAPPING.DATA)
 			.distinctOn(DATA_MAPPING.ID)
 			.from(DATA_MAPPING)
-			.where(DATA_MAPPING.ID.eq(removeProxy(id)))
+			.where(DATA_MAPPING.ID.eq(id))
 			.and(DATA_MAPPING.TOMBSTONED.isNull())
-			.fetchOptional(this::mapToDataMapping);
+			.fetchOne(this::mapToDataMapping);
+	}
+
+	public Optional<RawJsonObject> getRawDataMapping(String id) {
+		return context.select(DATA_MAPPING.ID, DATA_MAPPING.CREATED, DATA_MAPPING.DATA)
+			.distinctOn(DATA_MAPPING.ID)
+			.from(DATA_MAPPING)
+			.where(DATA_MAPPING.ID.eq(removeProxy(id)))
+			.fetchOptional(this::mapToRawJson);
 	}
 
-	public List<DataMapping> getDataMappings(int pageNum, int pageSize) {
+	public List<RawJsonObject> getDataMappings(int pageNum, int pageSize) {
 		int offset = getOffset(pageNum, pageSize);
-		return context.select(DATA_MAPPING.DATA)
+		return context.select(DATA_MAPPING.ID, DATA_MAPPING.CREATED, DATA_MAPPING.DATA)
 			.from(DATA_MAPPING)
 			.where(DATA_MAPPING.TOMBSTONED.isNull())
 			.offset(offset)
 			.limit(pageSize + 1)
-			.fetch(this::mapToDataMapping);
+			.fetch(this::mapToRawJson);
+	}
+
+	/**
+	 * Retrieves a page of active data mappings, ordered by creation date and id, starting after the cursor. One more
+	 * item than the page size is fetched to determine whether there is a next page.
+	 */
+	public List<RawJsonObject> getDataMappingPage(PageCursor cursor, int pageSize) {
+		var condition = DATA_MAPPING.TOMBSTONED.isNull();
+		if (cursor != null) {
+			condition = condition.and(row(DATA_MAPPING.CREATED, DATA_MAPPING.ID).gt(cursor.key(), cursor.id()));
+		}
+		return context.select(DATA_MAPPING.ID, DATA_MAPPING.CREATED, DATA_MAPPING.DATA)
+			.from(DATA_MAPPING)
+			.where(condition)
+			.orderBy(DATA_MAPPING.CREATED, DATA_MAPPING.ID)
+			.limit(pageSize + 1)
+			.fetch(this::mapToRawJson);
 	}
 
-	public void tombstoneDataMapping(DataMapping tombstoneDataMapping, Instant timestamp) {
-		context.update(DATA_MAPPING)
-			.set(DATA_MAPPING.TOMBSTONED, timestamp)
-			.set(DATA_MAPPING.MODIFIED, timestamp)
-			.set(DATA_MAPPING.VERSION, tombstoneDataMapping.getSchemaVersion())
-			.set(DATA_MAPPING.DATA, mapToJSONB(tombstoneDataMapping))
-			.where(DATA_MAPPING.ID.eq(removeProxy(tombstoneDataMapping.getId())))
-			.execute();
+	public void tombstoneDataMapping(DataMapping tombstoneDataMapping, Instant timestamp, OutboxEvent event) {
+		context.transaction(configuration -> {
+			var transactionContext = DSL.using(configuration);
+			transactionContext.update(DATA_MAPPING)
+				.set(DATA_MAPPING.TOMBSTONED, timestamp)
+				.set(DATA_MAPPING.MODIFIED, timestamp)
+				.set(DATA_MAPPING.VERSION, tombstoneDataMapping.getSchemaVersion())
+				.set(DATA_MAPPING.DATA, mapToJSONB(tombstoneDataMapping))
+				.where(DATA_MAPPING.ID.eq(removeProxy(tombstoneDataMapping.getId())))
+				.execute();
+			insertEvent(transactionContext, event, true).execute();
+		});
+		cache.invalidate(removeProxy(tombstoneDataMapping.getId()), tombstoneDataMapping.getSchemaVersion());
 	}
 
 	private DataMapping mapToDataMapping(Record1<JSONB> record1) {
 		return mapper.readValue(record1.get(DATA_MAPPING.DATA).data(), DataMapping.class);
 	}
 
+	private RawJsonObject mapToRawJson(Record3<String, Instant, JSONB> dbRecord) {
+		return new RawJsonObject(HANDLE_PROXY + dbRecord.value1(), dbRecord.value2(), dbRecord.value3().data());
+	}
+
+	/**
+	 * Removes the data mapping and its provenance events which are not published yet in one transaction
+	 */
 	public void rollbackDataMappingCreation(String id) {
-		context.deleteFrom(DATA_MAPPING).where(DATA_MAPPING.ID.eq(removeProxy(id))).execute();
+		context.transaction(configuration -> {
+			var transactionContext = DSL.using(configuration);
+			transactionContext.deleteFrom(DATA_MAPPING).where(DATA_MAPPING.ID.eq(removeProxy(id))).execute();
+			removePendingEvents(transactionContext, removeProxy(id), null).execute();
+		});
+		cache.invalidate(removeProxy(id), null);
 	}
 
 }
@@ -0,0 +1,127 @@
+package eu.dissco.orchestration.backend.repository;
+
+import eu.dissco.orchestration.backend.database.jooq.tables.records.EventOutboxRecord;
+import eu.dissco.orchestration.backend.domain.OutboxEvent;
+import lombok.RequiredArgsConstructor;
+import org.jooq.DSLContext;
+import org.jooq.Query;
+import org.jooq.impl.DSL;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static eu.dissco.orchestration.backend.database.jooq.Tables.EVENT_OUTBOX;
+
+/**
+ * Stores the provenance events until they are published. The repositories of the digital objects write the event in
+ * the transaction of the change, so an event is stored if and only if the change is committed. A change which still
+ * has to be deployed to the cluster stores its event unreleased, the event is released once the deployment succeeded
+ * and removed when the change is rolled back. Only released events are published, an event is removed once the broker
+ * confirmed it.
+ */
+@Repository
+@RequiredArgsConstructor
+public class EventOutboxRepository {
+
+	private final DSLContext context;
+
+	/**
+	 * Builds the insert of an event, to be executed in the transaction of the change which it describes
+	 * @param released false when the change still has to be deployed, the event is then not published until it is
+	 * released
+	 */
+	static Query insertEvent(DSLContext dslContext, OutboxEvent event, boolean released) {
+		return dslContext.insertInto(EVENT_OUTBOX)
+			.set(EVENT_OUTBOX.OBJECT_ID, event.objectId())
+			.set(EVENT_OUTBOX.OBJECT_VERSION, event.objectVersion())
+			.set(EVENT_OUTBOX.EXCHANGE, event.exchange())
+			.set(EVENT_OUTBOX.ROUTING_KEY, event.routingKey())
+			.set(EVENT_OUTBOX.PAYLOAD, event.payload())
+			.set(EVENT_OUTBOX.RELEASED, released);
+	}
+
+	/**
+	 * Builds the release of the events of an object up to the given version, to be executed once the change is
+	 * deployed
+	 * @param objectId the id of the object, without the handle proxy
+	 */
+	static Query releaseEvents(DSLContext dslContext, String objectId, int version) {
+		return dslContext.update(EVENT_OUTBOX)
+			.set(EVENT_OUTBOX.RELEASED, true)
+			.where(EVENT_OUTBOX.OBJECT_ID.eq(objectId))
+			.and(EVENT_OUTBOX.OBJECT_VERSION.le(version))
+			.and(EVENT_OUTBOX.RELEASED.isFalse());
+	}
+
+	/**
+	 * Builds the removal of the events of an object which are not published yet, to be executed in the transaction
+	 * which rolls back the changes. The events of a change which failed to deploy are not released yet, so they are
+	 * never published.
+	 * @param objectId the id of the object, without the handle proxy
+	 * @param version events of versions after this version are removed, all events of the object if null
+	 */
+	static Query removePendingEvents(DSLContext dslContext, String objectId, Integer version) {
+		var condition = EVENT_OUTBOX.OBJECT_ID.eq(objectId);
+		if (version != null) {
+			condition = condition.and(EVENT_OUTBOX.OBJECT_VERSION.gt(version));
+		}
+		return dslContext.deleteFrom(EVENT_OUTBOX).where(condition);
+	}
+
+	/**
+	 * Releases the events which were not released or removed within the timeout. This happens when the process stopped
+	 * between committing a change and deploying it, the reconciliation deploys the committed change instead.
+	 * @return the number of released events
+	 */
+	public int releaseExpiredEvents(Duration releaseTimeout) {
+		return context.update(EVENT_OUTBOX)
+			.set(EVENT_OUTBOX.RELEASED, true)
+			.where(EVENT_OUTBOX.RELEASED.isFalse())
+			.and(EVENT_OUTBOX.CREATED.lt(Instant.now().minus(releaseTimeout)))
+			.execute();
+	}
+
+	/**
+	 * Publishes the oldest released events and removes them once the publisher returned. No transaction or lock is
+	 * held while publishing, so a slow broker does not block the writes to the outbox. An event is held back while an
+	 * earlier version of the same object is not released. When the publisher fails, the events remain and are
+	 * published again by the next call.
+	 * @param batchSize the maximum number of events to publish
+	 * @param publisher publishes the events in order, returns once the broker confirmed all of them
+	 * @return the number of published events
+	 */
+	public int relayEvents(int batchSize, Consumer<List<OutboxEvent>> publisher) {
+		var earlier = EVENT_OUTBOX.as("earlier");
+		var events = context.selectFrom(EVENT_OUTBOX)
+			.where(EVENT_OUTBOX.RELEASED.isTrue())
+			.andNotExists(DSL.selectOne()
+				.from(earlier)
+				.where(earlier.OBJECT_ID.eq(EVENT_OUTBOX.OBJECT_ID))
+				.and(earlier.OBJECT_VERSION.lt(EVENT_OUTBOX.OBJECT_VERSION))
+				.and(earlier.RELEASED.isFalse()))
+			.orderBy(EVENT_OUTBOX.ID)
+			.limit(batchSize)
+			.fetch(this::mapToEvent);
+		if (events.isEmpty()) {
+			return 0;
+		}
+		publisher.accept(events);
+		context.deleteFrom(EVENT_OUTBOX)
+			.where(EVENT_OUTBOX.ID.in(events.stream().map(OutboxEvent::id).toList()))
+			.execute();
+		return events.size();
+	}
+
+	public int countEvents() {
+		return context.fetchCount(EVENT_OUTBOX);
+	}
+
+	private OutboxEvent mapToEvent(EventOutboxRecord dbRecord) {
+		return new OutboxEvent(dbRecord.getId(), dbRecord.getObjectId(), dbRecord.getObjectVersion(),
+				dbRecord.getExchange(), dbRecord.getRoutingKey(), dbRecord.getPayload());
+	}
+
+}
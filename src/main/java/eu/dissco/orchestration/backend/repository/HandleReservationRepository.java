@@ -0,0 +1,106 @@
+package eu.dissco.orchestration.backend.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.jooq.DSLContext;
+import org.jooq.JSONB;
+import org.springframework.stereotype.Repository;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static eu.dissco.orchestration.backend.database.jooq.Tables.HANDLE_RESERVATION;
+import static org.jooq.impl.DSL.select;
+
+/**
+ * Stores the handles of the handle pool, ids are stored without the handle proxy. A claimed handle is used by at most
+ * one create, also across replicas. It is kept together with the create request until its attributes are set on the
+ * handle server.
+ */
+@Repository
+@RequiredArgsConstructor
+public class HandleReservationRepository {
+
+	private final DSLContext context;
+
+	private final JsonMapper mapper;
+
+	public void reserveHandles(String fdoType, List<String> handles) {
+		var reserved = Instant.now();
+		var insert = context.insertInto(HANDLE_RESERVATION, HANDLE_RESERVATION.HANDLE, HANDLE_RESERVATION.FDO_TYPE,
+				HANDLE_RESERVATION.RESERVED);
+		for (var handle : handles) {
+			insert = insert.values(handle, fdoType, reserved);
+		}
+		insert.execute();
+	}
+
+	/**
+	 * Claims the oldest reserved handle of the type which was reserved after the cutoff. Rows claimed by a concurrent
+	 * transaction are skipped instead of waited for.
+	 * @param fdoType the FDO type of the handle
+	 * @param reservedAfter reservations before this moment are about to be reclaimed and are not claimed
+	 * @param createRequest the create request of the object, kept until the handle is updated with it
+	 * @return the claimed handle, empty if the pool of the type is empty
+	 */
+	public Optional<String> claimHandle(String fdoType, Instant reservedAfter, JsonNode createRequest) {
+		return context.update(HANDLE_RESERVATION)
+			.set(HANDLE_RESERVATION.CLAIMED, Instant.now())
+			.set(HANDLE_RESERVATION.CREATE_REQUEST, JSONB.valueOf(mapper.writeValueAsString(createRequest)))
+			.where(HANDLE_RESERVATION.HANDLE.eq(select(HANDLE_RESERVATION.HANDLE).from(HANDLE_RESERVATION)
+				.where(HANDLE_RESERVATION.FDO_TYPE.eq(fdoType))
+				.and(HANDLE_RESERVATION.CLAIMED.isNull())
+				.and(HANDLE_RESERVATION.RESERVED.gt(reservedAfter))
+				.orderBy(HANDLE_RESERVATION.RESERVED)
+				.limit(1)
+				.forUpdate()
+				.skipLocked()))
+			.returning(HANDLE_RESERVATION.HANDLE)
+			.fetchOptional(HANDLE_RESERVATION.HANDLE);
+	}
+
+	public int countReservations(String fdoType, Instant reservedAfter) {
+		return context.fetchCount(HANDLE_RESERVATION, HANDLE_RESERVATION.FDO_TYPE.eq(fdoType)
+			.and(HANDLE_RESERVATION.CLAIMED.isNull())
+			.and(HANDLE_RESERVATION.RESERVED.gt(reservedAfter)));
+	}
+
+	/**
+	 * @param claimedBefore claims after this moment are still being updated by the create which claimed them
+	 * @return the create requests of the claimed handles which were not updated yet, by handle
+	 */
+	public Map<String, JsonNode> getPendingUpdates(Instant claimedBefore, int limit) {
+		return context.select(HANDLE_RESERVATION.HANDLE, HANDLE_RESERVATION.CREATE_REQUEST)
+			.from(HANDLE_RESERVATION)
+			.where(HANDLE_RESERVATION.CLAIMED.le(claimedBefore))
+			.orderBy(HANDLE_RESERVATION.CLAIMED)
+			.limit(limit)
+			.fetchMap(HANDLE_RESERVATION.HANDLE, record -> mapper.readTree(record.value2().data()));
+	}
+
+	/**
+	 * Removes a claimed handle, once it is updated or when the create which claimed it is rolled back
+	 */
+	public void removeClaim(String handle) {
+		context.deleteFrom(HANDLE_RESERVATION)
+			.where(HANDLE_RESERVATION.HANDLE.eq(handle))
+			.and(HANDLE_RESERVATION.CLAIMED.isNotNull())
+			.execute();
+	}
+
+	/**
+	 * Removes the reservations which were not claimed before the cutoff
+	 * @return the removed handles, which should be rolled back on the handle server
+	 */
+	public List<String> removeExpiredReservations(Instant reservedBefore) {
+		return context.deleteFrom(HANDLE_RESERVATION)
+			.where(HANDLE_RESERVATION.CLAIMED.isNull())
+			.and(HANDLE_RESERVATION.RESERVED.le(reservedBefore))
+			.returning(HANDLE_RESERVATION.HANDLE)
+			.fetch(HANDLE_RESERVATION.HANDLE);
+	}
+
+}
@@ -1,52 +1,78 @@
 package eu.dissco.orchestration.backend.repository;
 
+import eu.dissco.orchestration.backend.domain.OutboxEvent;
+import eu.dissco.orchestration.backend.domain.RawJsonObject;
+import eu.dissco.orchestration.backend.domain.jsonapi.PageCursor;
 import eu.dissco.orchestration.backend.schema.Agent;
 import eu.dissco.orchestration.backend.schema.MachineAnnotationService;
 import eu.dissco.orchestration.backend.utils.HandleUtils;
 import lombok.RequiredArgsConstructor;
 import org.jooq.DSLContext;
 import org.jooq.JSONB;
-import org.jooq.Record1;
+import org.jooq.Query;
+import org.jooq.Record;
+import org.jooq.Record3;
+import org.jooq.impl.DSL;
 import org.springframework.stereotype.Repository;
 import tools.jackson.databind.json.JsonMapper;
 
 import java.time.Instant;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+import static eu.dissco.orchestration.backend.configuration.ApplicationConfiguration.HANDLE_PROXY;
 import static eu.dissco.orchestration.backend.database.jooq.Tables.MACHINE_ANNOTATION_SERVICE;
+import static eu.dissco.orchestration.backend.repository.EventOutboxRepository.insertEvent;
+import static eu.dissco.orchestration.backend.repository.EventOutboxRepository.removePendingEvents;
 import static eu.dissco.orchestration.backend.repository.RepositoryUtils.getOffset;
 import static eu.dissco.orchestration.backend.utils.HandleUtils.removeProxy;
+import static org.jooq.impl.DSL.row;
 
 @Repository
 @RequiredArgsConstructor
 public class MachineAnnotationServiceRepository {
 
+	public static final int DEFAULT_TIME_TO_LIVE = 86400;
+
 	private final DSLContext context;
 
 	private final JsonMapper mapper;
 
-	public void createMachineAnnotationService(MachineAnnotationService mas) {
+	private final ObjectCache<MachineAnnotationService> cache;
+
+	/**
+	 * Inserts the machine annotation service and its provenance event in one transaction, the event is released once
+	 * the machine annotation service is deployed
+	 */
+	public void createMachineAnnotationService(MachineAnnotationService mas, OutboxEvent event) {
 		mas.setOdsTimeToLive(getTTL(mas));
-		context.insertInto(MACHINE_ANNOTATION_SERVICE)
-			.set(MACHINE_ANNOTATION_SERVICE.ID, removeProxy(mas.getId()))
-			.set(MACHINE_ANNOTATION_SERVICE.VERSION, mas.getSchemaVersion())
-			.set(MACHINE_ANNOTATION_SERVICE.NAME, mas.getSchemaName())
-			.set(MACHINE_ANNOTATION_SERVICE.CREATED, mas.getSchemaDateCreated().toInstant())
-			.set(MACHINE_ANNOTATION_SERVICE.MODIFIED, mas.getSchemaDateModified().toInstant())
-			.set(MACHINE_ANNOTATION_SERVICE.CREATOR, mas.getSchemaCreator().getId())
-			.set(MACHINE_ANNOTATION_SERVICE.CONTAINER_IMAGE, mas.getOdsContainerImage())
-			.set(MACHINE_ANNOTATION_SERVICE.CONTAINER_IMAGE_TAG, mas.getOdsContainerTag())
-			.set(MACHINE_ANNOTATION_SERVICE.CREATIVE_WORK_STATE, mas.getSchemaCreativeWorkStatus())
-			.set(MACHINE_ANNOTATION_SERVICE.SERVICE_AVAILABILITY, mas.getOdsServiceAvailability())
-			.set(MACHINE_ANNOTATION_SERVICE.SOURCE_CODE_REPOSITORY, mas.getSchemaCodeRepository())
-			.set(MACHINE_ANNOTATION_SERVICE.CODE_MAINTAINER, getSchemaMaintainerId(mas.getSchemaMaintainer()))
-			.set(MACHINE_ANNOTATION_SERVICE.CODE_LICENSE, mas.getSchemaLicense())
-			.set(MACHINE_ANNOTATION_SERVICE.BATCHING_PERMITTED, mas.getOdsBatchingPermitted())
-			.set(MACHINE_ANNOTATION_SERVICE.TIME_TO_LIVE, mas.getOdsTimeToLive())
-			.set(MACHINE_ANNOTATION_SERVICE.DATA, mapToJSONB(mas))
-			.execute();
+		context.transaction(configuration -> {
+			var transactionContext = DSL.using(configuration);
+			transactionContext.insertInto(MACHINE_ANNOTATION_SERVICE)
+				.set(MACHINE_ANNOTATION_SERVICE.ID, removeProxy(mas.getId()))
+				.set(MACHINE_ANNOTATION_SERVICE.VERSION, mas.getSchemaVersion())
+				.set(MACHINE_ANNOTATION_SERVICE.NAME, mas.getSchemaName())
+				.set(MACHINE_ANNOTATION_SERVICE.CREATED, mas.getSchemaDateCreated().toInstant())
+				.set(MACHINE_ANNOTATION_SERVICE.MODIFIED, mas.getSchemaDateModified().toInstant())
+				.set(MACHINE_ANNOTATION_SERVICE.CREATOR, mas.getSchemaCreator().getId())
+				.set(MACHINE_ANNOTATION_SERVICE.CONTAINER_IMAGE, mas.getOdsContainerImage())
+				.set(MACHINE_ANNOTATION_SERVICE.CONTAINER_IMAGE_TAG, mas.getOdsContainerTag())
+				.set(MACHINE_ANNOTATION_SERVICE.CREATIVE_WORK_STATE, mas.getSchemaCreativeWorkStatus())
+				.set(MACHINE_ANNOTATION_SERVICE.SERVICE_AVAILABILITY, mas.getOdsServiceAvailability())
+				.set(MACHINE_ANNOTATION_SERVICE.SOURCE_CODE_REPOSITORY, mas.getSchemaCodeRepository())
+				.set(MACHINE_ANNOTATION_SERVICE.CODE_MAINTAINER, getSchemaMaintainerId(mas.getSchemaMaintainer()))
+				.set(MACHINE_ANNOTATION_SERVICE.CODE_LICENSE, mas.getSchemaLicense())
+				.set(MACHINE_ANNOTATION_SERVICE.BATCHING_PERMITTED, mas.getOdsBatchingPermitted())
+				.set(MACHINE_ANNOTATION_SERVICE.TIME_TO_LIVE, mas.getOdsTimeToLive())
+				.set(MACHINE_ANNOTATION_SERVICE.DATA, mapToJSONB(mas))
+				.execute();
+			insertEvent(transactionContext, event, false).execute();
+		});
+		cache.invalidate(removeProxy(mas.getId()), mas.getSchemaVersion());
 	}
 
 	private JSONB mapToJSONB(MachineAnnotationService mas) {
@@ -54,33 +80,52 @@ public class MachineAnnotationServiceRepository {
 	}
 
 	public Optional<MachineAnnotationService> getActiveMachineAnnotationService(String id) {
+		return cache.get(removeProxy(id), this::loadActiveMachineAnnotationService);
+	}
+
+	private MachineAnnotationService loadActiveMachineAnnotationService(String id) {
 		return context.select(MACHINE_ANNOTATION_SERVICE.DATA)
 			.from(MACHINE_ANNOTATION_SERVICE)
-			.where(MACHINE_ANNOTATION_SERVICE.ID.eq(removeProxy(id)))
+			.where(MACHINE_ANNOTATION_SERVICE.ID.eq(id))
 			.and(MACHINE_ANNOTATION_SERVICE.TOMBSTONED.isNull())
-			.fetchOptional(this::mapToMas);
+			.fetchOne(this::mapToMas);
 	}
 
 	public List<MachineAnnotationService> getActiveMachineAnnotationServices(Set<String> ids) {
-		return context.select(MACHINE_ANNOTATION_SERVICE.DATA)
+		return cache.getAll(ids.stream().map(HandleUtils::removeProxy).collect(Collectors.toSet()),
+				this::loadActiveMachineAnnotationServices);
+	}
+
+	private Map<String, MachineAnnotationService> loadActiveMachineAnnotationServices(Set<? extends String> ids) {
+		return context.select(MACHINE_ANNOTATION_SERVICE.ID, MACHINE_ANNOTATION_SERVICE.DATA)
 			.from(MACHINE_ANNOTATION_SERVICE)
-			.where(MACHINE_ANNOTATION_SERVICE.ID.in(ids.stream().map(HandleUtils::removeProxy).toList()))
+			.where(MACHINE_ANNOTATION_SERVICE.ID.in(ids))
 			.and(MACHINE_ANNOTATION_SERVICE.TOMBSTONED.isNull())
-			.fetch(this::mapToMas);
+			.fetchMap(MACHINE_ANNOTATION_SERVICE.ID, this::mapToMas);
 	}
 
-	private MachineAnnotationService mapToMas(Record1<JSONB> record1) {
-		return mapper.readValue(record1.get(MACHINE_ANNOTATION_SERVICE.DATA).data(), MachineAnnotationService.class);
+	private MachineAnnotationService mapToMas(Record dbRecord) {
+		return mapper.readValue(dbRecord.get(MACHINE_ANNOTATION_SERVICE.DATA).data(), MachineAnnotationService.class);
 	}
 
-	public void tombstoneMachineAnnotationService(MachineAnnotationService tombstoneMas, Instant timestamp) {
-		context.update(MACHINE_ANNOTATION_SERVICE)
-			.set(MACHINE_ANNOTATION_SERVICE.TOMBSTONED, timestamp)
-			.set(MACHINE_ANNOTATION_SERVICE.MODIFIED, timestamp)
-			.set(MACHINE_ANNOTATION_SERVICE.VERSION, tombstoneMas.getSchemaVersion())
-			.set(MACHINE_ANNOTATION_SERVICE.DATA, mapToJSONB(tombstoneMas))
-			.where(MACHINE_ANNOTATION_SERVICE.ID.eq(removeProxy(tombstoneMas.getId())))
-			.execute();
+	private RawJsonObject mapToRawJson(Record3<String, Instant, JSONB> dbRecord) {
+		return new RawJsonObject(HANDLE_PROXY + dbRecord.value1(), dbRecord.value2(), dbRecord.value3().data());
+	}
+
+	public void tombstoneMachineAnnotationService(MachineAnnotationService tombstoneMas, Instant timestamp,
+			OutboxEvent event) {
+		context.transaction(configuration -> {
+			var transactionContext = DSL.using(configuration);
+			transactionContext.update(MACHINE_ANNOTATION_SERVICE)
+				.set(MACHINE_ANNOTATION_SERVICE.TOMBSTONED, timestamp)
+				.set(MACHINE_ANNOTATION_SERVICE.MODIFIED, timestamp)
+				.set(MACHINE_ANNOTATION_SERVICE.VERSION, tombstoneMas.getSchemaVersion())
+				.set(MACHINE_ANNOTATION_SERVICE.DATA, mapToJSONB(tombstoneMas))
+				.where(MACHINE_ANNOTATION_SERVICE.ID.eq(removeProxy(tombstoneMas.getId())))
+				.execute();
+			insertEvent(transactionContext, event, true).execute();
+		});
+		cache.invalidate(removeProxy(tombstoneMas.getId()), tombstoneMas.getSchemaVersion());
 	}
 
 	public MachineAnnotationService getMachineAnnotationService(String id) {
@@ -90,19 +135,104 @@ public class MachineAnnotationServiceRepository {
 			.fetchOne(this::mapToMas);
 	}
 
-	public List<MachineAnnotationService> getMachineAnnotationServices(int pageNum, int pageSize) {
+	public Optional<RawJsonObject> getRawMachineAnnotationService(String id) {
+		return context
+			.select(MACHINE_ANNOTATION_SERVICE.ID, MACHINE_ANNOTATION_SERVICE.CREATED, MACHINE_ANNOTATION_SERVICE.DATA)
+			.from(MACHINE_ANNOTATION_SERVICE)
+			.where(MACHINE_ANNOTATION_SERVICE.ID.eq(removeProxy(id)))
+			.fetchOptional(this::mapToRawJson);
+	}
+
+	public List<RawJsonObject> getMachineAnnotationServices(int pageNum, int pageSize) {
 		int offset = getOffset(pageNum, pageSize);
-		return context.select(MACHINE_ANNOTATION_SERVICE.DATA)
+		return context
+			.select(MACHINE_ANNOTATION_SERVICE.ID, MACHINE_ANNOTATION_SERVICE.CREATED, MACHINE_ANNOTATION_SERVICE.DATA)
 			.from(MACHINE_ANNOTATION_SERVICE)
 			.where(MACHINE_ANNOTATION_SERVICE.TOMBSTONED.isNull())
 			.limit(pageSize + 1)
 			.offset(offset)
+			.fetch(this::mapToRawJson);
+	}
+
+	/**
+	 * Retrieves a page of active machine annotation services, ordered by creation date and id, starting after the
+	 * cursor. One more item than the page size is fetched to determine whether there is a next page.
+	 */
+	public List<RawJsonObject> getMachineAnnotationServicePage(PageCursor cursor, int pageSize) {
+		var condition = MACHINE_ANNOTATION_SERVICE.TOMBSTONED.isNull();
+		if (cursor != null) {
+			condition = condition.and(row(MACHINE_ANNOTATION_SERVICE.CREATED, MACHINE_ANNOTATION_SERVICE.ID)
+				.gt(cursor.key(), cursor.id()));
+		}
+		return context
+			.select(MACHINE_ANNOTATION_SERVICE.ID, MACHINE_ANNOTATION_SERVICE.CREATED, MACHINE_ANNOTATION_SERVICE.DATA)
+			.from(MACHINE_ANNOTATION_SERVICE)
+			.where(condition)
+			.orderBy(MACHINE_ANNOTATION_SERVICE.CREATED, MACHINE_ANNOTATION_SERVICE.ID)
+			.limit(pageSize + 1)
+			.fetch(this::mapToRawJson);
+	}
+
+	/**
+	 * Streams all active machine annotation services in chunks, ordered by id. Every chunk is fetched with a keyset
+	 * query when the previous chunk has been consumed.
+	 */
+	public Stream<List<MachineAnnotationService>> streamActiveMachineAnnotationServices(int chunkSize) {
+		return Stream.iterate(getActiveMachineAnnotationServicesAfter(null, chunkSize), chunk -> !chunk.isEmpty(),
+				chunk -> chunk.size() < chunkSize ? List.of()
+						: getActiveMachineAnnotationServicesAfter(chunk.getLast().getId(), chunkSize));
+	}
+
+	private List<MachineAnnotationService> getActiveMachineAnnotationServicesAfter(String lastId, int chunkSize) {
+		var condition = MACHINE_ANNOTATION_SERVICE.TOMBSTONED.isNull();
+		if (lastId != null) {
+			condition = condition.and(MACHINE_ANNOTATION_SERVICE.ID.gt(removeProxy(lastId)));
+		}
+		return context.select(MACHINE_ANNOTATION_SERVICE.DATA)
+			.from(MACHINE_ANNOTATION_SERVICE)
+			.where(condition)
+			.orderBy(MACHINE_ANNOTATION_SERVICE.ID)
+			.limit(chunkSize)
 			.fetch(this::mapToMas);
 	}
 
-	public void updateMachineAnnotationService(MachineAnnotationService mas) {
+	/**
+	 * Updates the machine annotation service and inserts its provenance event in one transaction, the event is
+	 * released once the update is deployed
+	 */
+	public void updateMachineAnnotationService(MachineAnnotationService mas, OutboxEvent event) {
 		mas.setOdsTimeToLive(getTTL(mas));
-		context.update(MACHINE_ANNOTATION_SERVICE)
+		context.transaction(configuration -> {
+			var transactionContext = DSL.using(configuration);
+			updateMachineAnnotationService(transactionContext, mas).execute();
+			insertEvent(transactionContext, event, false).execute();
+		});
+		cache.invalidate(removeProxy(mas.getId()), mas.getSchemaVersion());
+	}
+
+	/**
+	 * Releases the provenance events of the machine annotation service up to the given version, once it is deployed
+	 */
+	public void releaseEvents(String id, int version) {
+		EventOutboxRepository.releaseEvents(context, removeProxy(id), version).execute();
+	}
+
+	/**
+	 * Restores the previous version of the machine annotation service after a failed update. The provenance events of
+	 * later versions which are not published yet are removed in the same transaction.
+	 */
+	public void rollbackMasUpdate(MachineAnnotationService previousMas) {
+		context.transaction(configuration -> {
+			var transactionContext = DSL.using(configuration);
+			updateMachineAnnotationService(transactionContext, previousMas).execute();
+			removePendingEvents(transactionContext, removeProxy(previousMas.getId()), previousMas.getSchemaVersion())
+				.execute();
+		});
+		cache.invalidate(removeProxy(previousMas.getId()), previousMas.getSchemaVersion());
+	}
+
+	private Query updateMachineAnnotationService(DSLContext dslContext, MachineAnnotationService mas) {
+		return dslContext.update(MACHINE_ANNOTATION_SERVICE)
 			.set(MACHINE_ANNOTATION_SERVICE.VERSION, mas.getSchemaVersion())
 			.set(MACHINE_ANNOTATION_SERVICE.NAME, mas.getSchemaName())
 			.set(MACHINE_ANNOTATION_SERVICE.CREATED, mas.getSchemaDateCreated().toInstant())
@@ -118,18 +248,25 @@ public class MachineAnnotationServiceRepository {
 			.set(MACHINE_ANNOTATION_SERVICE.BATCHING_PERMITTED, mas.getOdsBatchingPermitted())
 			.set(MACHINE_ANNOTATION_SERVICE.TIME_TO_LIVE, mas.getOdsTimeToLive())
 			.set(MACHINE_ANNOTATION_SERVICE.DATA, mapToJSONB(mas))
-			.where(MACHINE_ANNOTATION_SERVICE.ID.eq(removeProxy(mas.getId())))
-			.execute();
+			.where(MACHINE_ANNOTATION_SERVICE.ID.eq(removeProxy(mas.getId())));
 	}
 
+	/**
+	 * Removes the machine annotation service and its provenance events which are not published yet in one transaction
+	 */
 	public void rollbackMasCreation(String pid) {
-		context.deleteFrom(MACHINE_ANNOTATION_SERVICE)
-			.where(MACHINE_ANNOTATION_SERVICE.ID.eq(removeProxy(pid)))
-			.execute();
+		context.transaction(configuration -> {
+			var transactionContext = DSL.using(configuration);
+			transactionContext.deleteFrom(MACHINE_ANNOTATION_SERVICE)
+				.where(MACHINE_ANNOTATION_SERVICE.ID.eq(removeProxy(pid)))
+				.execute();
+			removePendingEvents(transactionContext, removeProxy(pid), null).execute();
+		});
+		cache.invalidate(removeProxy(pid), null);
 	}
 
 	private static Integer getTTL(MachineAnnotationService mas) {
-		return mas.getOdsTimeToLive() == null ? 86400 : mas.getOdsTimeToLive();
+		return mas.getOdsTimeToLive() == null ? DEFAULT_TIME_TO_LIVE : mas.getOdsTimeToLive();
 	}
 
 	private static String getSchemaMaintainerId(Agent schemaMaintainer) {
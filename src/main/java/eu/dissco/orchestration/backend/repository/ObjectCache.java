@@ -0,0 +1,97 @@
+package eu.dissco.orchestration.backend.repository;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import eu.dissco.orchestration.backend.domain.CacheInvalidation;
+import eu.dissco.orchestration.backend.properties.ReadCacheProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.Getter;
+import org.jooq.DSLContext;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Bounded in-process cache of active digital objects, keyed by their id without the handle proxy. Only objects which
+ * exist are cached, so an object created on another replica can be read immediately. The repository invalidates an
+ * object on every write and notifies the other replicas through the {@value #INVALIDATION_CHANNEL} channel. Cached
+ * objects are shared between requests and must not be modified.
+ * @param <T> the type of the digital object
+ */
+public class ObjectCache<T> {
+
+	public static final String INVALIDATION_CHANNEL = "object_cache_invalidation";
+
+	@Getter
+	private final String name;
+
+	private final Cache<String, T> cache;
+
+	private final DSLContext context;
+
+	private final JsonMapper mapper;
+
+	public ObjectCache(String name, ReadCacheProperties properties, MeterRegistry meterRegistry, DSLContext context,
+			JsonMapper mapper) {
+		this.name = name;
+		this.context = context;
+		this.mapper = mapper;
+		this.cache = Caffeine.newBuilder()
+			.maximumSize(properties.getMaximumSize())
+			.expireAfterWrite(properties.getTimeToLive())
+			.recordStats()
+			.build();
+		CaffeineCacheMetrics.monitor(meterRegistry, cache, name);
+	}
+
+	/**
+	 * Gets an object from the cache or loads it. A write to the same id waits for a running load, so a load which
+	 * started before the write can not put the previous version in the cache after the invalidation.
+	 * @param id the id of the object, without the handle proxy
+	 * @param loader loads the object from the database, returns null if it does not exist
+	 * @return the object, if it exists
+	 */
+	public Optional<T> get(String id, Function<String, T> loader) {
+		return Optional.ofNullable(cache.get(id, loader));
+	}
+
+	/**
+	 * Gets the objects from the cache and loads the missing objects with a single call
+	 * @param ids the ids of the objects, without the handle proxy
+	 * @param loader loads the missing objects from the database, mapped by their id
+	 * @return the objects which exist
+	 */
+	public List<T> getAll(Set<String> ids, Function<Set<? extends String>, Map<String, T>> loader) {
+		return List.copyOf(cache.getAll(ids, loader).values());
+	}
+
+	/**
+	 * Evicts a written object and notifies all replicas. The notification is delivered once the write is committed,
+	 * every replica, including this one, evicts the object when it receives the notification.
+	 * @param id the id of the object, without the handle proxy
+	 * @param version the version which was written, null if the object was removed
+	 */
+	public void invalidate(String id, Integer version) {
+		cache.invalidate(id);
+		context.fetch("select pg_notify(?, ?)", INVALIDATION_CHANNEL,
+				mapper.writeValueAsString(new CacheInvalidation(name, id, version)));
+	}
+
+	/**
+	 * Evicts an object from the cache of this replica only
+	 * @param id the id of the object, without the handle proxy
+	 */
+	public void evict(String id) {
+		cache.invalidate(id);
+	}
+
+	public void evictAll() {
+		cache.invalidateAll();
+	}
+
+}
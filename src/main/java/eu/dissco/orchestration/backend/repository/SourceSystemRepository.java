@@ -1,22 +1,39 @@
 package eu.dissco.orchestration.backend.repository;
 
 import eu.dissco.orchestration.backend.database.jooq.enums.TranslatorType;
+import eu.dissco.orchestration.backend.database.jooq.tables.records.SourceSystemRecord;
 import eu.dissco.orchestration.backend.domain.ExportType;
+import eu.dissco.orchestration.backend.domain.OutboxEvent;
+import eu.dissco.orchestration.backend.domain.RawJsonObject;
+import eu.dissco.orchestration.backend.domain.jsonapi.PageCursor;
 import eu.dissco.orchestration.backend.schema.SourceSystem;
 import lombok.RequiredArgsConstructor;
 import org.jooq.DSLContext;
+import org.jooq.InsertSetMoreStep;
 import org.jooq.JSONB;
+import org.jooq.Query;
 import org.jooq.Record1;
+import org.jooq.Record3;
+import org.jooq.impl.DSL;
 import org.springframework.stereotype.Repository;
 import tools.jackson.databind.json.JsonMapper;
 
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
+import static eu.dissco.orchestration.backend.configuration.ApplicationConfiguration.HANDLE_PROXY;
 import static eu.dissco.orchestration.backend.database.jooq.Tables.SOURCE_SYSTEM;
+import static eu.dissco.orchestration.backend.repository.EventOutboxRepository.insertEvent;
+import static eu.dissco.orchestration.backend.repository.EventOutboxRepository.removePendingEvents;
 import static eu.dissco.orchestration.backend.repository.RepositoryUtils.getOffset;
 import static eu.dissco.orchestration.backend.utils.HandleUtils.removeProxy;
+import static org.jooq.impl.DSL.row;
 
 @Repository
 @RequiredArgsConstructor
@@ -26,28 +43,122 @@ public class SourceSystemRepository {
 
 	private final JsonMapper mapper;
 
-	public void createSourceSystem(SourceSystem sourceSystem) {
-		context.insertInto(SOURCE_SYSTEM)
-			.set(SOURCE_SYSTEM.ID, removeProxy(sourceSystem.getId()))
-			.set(SOURCE_SYSTEM.VERSION, sourceSystem.getSchemaVersion())
-			.set(SOURCE_SYSTEM.NAME, sourceSystem.getSchemaName())
-			.set(SOURCE_SYSTEM.ENDPOINT, sourceSystem.getSchemaUrl().toString())
-			.set(SOURCE_SYSTEM.FILTERS, sourceSystem.getOdsFilters().toArray(new String[0]))
-			.set(SOURCE_SYSTEM.CREATOR, sourceSystem.getSchemaCreator().getId())
-			.set(SOURCE_SYSTEM.CREATED, sourceSystem.getSchemaDateCreated().toInstant())
-			.set(SOURCE_SYSTEM.MODIFIED, sourceSystem.getSchemaDateModified().toInstant())
-			.set(SOURCE_SYSTEM.MAPPING_ID, removeProxy(sourceSystem.getOdsDataMappingID()))
-			.set(SOURCE_SYSTEM.TRANSLATOR_TYPE, TranslatorType.valueOf(sourceSystem.getOdsTranslatorType().value()))
-			.set(SOURCE_SYSTEM.DATA, mapToJSONB(sourceSystem))
-			.execute();
+	private final ObjectCache<SourceSystem> cache;
+
+	/**
+	 * Inserts the source system and its provenance event in one transaction, the event is released once the source
+	 * system is deployed
+	 */
+	public void createSourceSystem(SourceSystem sourceSystem, OutboxEvent event) {
+		context.transaction(configuration -> {
+			var transactionContext = DSL.using(configuration);
+			insertSourceSystem(transactionContext, sourceSystem).execute();
+			insertEvent(transactionContext, event, false).execute();
+		});
+		cache.invalidate(removeProxy(sourceSystem.getId()), sourceSystem.getSchemaVersion());
+	}
+
+	/**
+	 * Inserts the source systems with a single statement and their provenance events with a single JDBC batch in one
+	 * transaction. A source system with the same name or endpoint as an existing source system, or an earlier source
+	 * system of the list, is skipped without affecting the others. The events are released once the source systems
+	 * are deployed.
+	 * @param events the provenance events, in the order of the source systems
+	 * @return the ids of the skipped source systems
+	 */
+	public Set<String> createSourceSystems(List<SourceSystem> sourceSystems, List<OutboxEvent> events) {
+		var createdIds = context.transactionResult(configuration -> {
+			var transactionContext = DSL.using(configuration);
+			InsertSetMoreStep<SourceSystemRecord> insert = null;
+			for (var sourceSystem : sourceSystems) {
+				var sourceSystemRecord = toRecord(sourceSystem);
+				insert = insert == null ? transactionContext.insertInto(SOURCE_SYSTEM).set(sourceSystemRecord)
+						: insert.newRecord().set(sourceSystemRecord);
+			}
+			var created = Objects.requireNonNull(insert)
+				.onConflictDoNothing()
+				.returning(SOURCE_SYSTEM.ID)
+				.fetchSet(SOURCE_SYSTEM.ID);
+			var eventInserts = new ArrayList<Query>();
+			for (int i = 0; i < sourceSystems.size(); i++) {
+				if (created.contains(removeProxy(sourceSystems.get(i).getId()))) {
+					eventInserts.add(insertEvent(transactionContext, events.get(i), false));
+				}
+			}
+			transactionContext.batch(eventInserts).execute();
+			return created;
+		});
+		var skippedIds = new HashSet<String>();
+		for (var sourceSystem : sourceSystems) {
+			if (createdIds.contains(removeProxy(sourceSystem.getId()))) {
+				cache.invalidate(removeProxy(sourceSystem.getId()), sourceSystem.getSchemaVersion());
+			}
+			else {
+				skippedIds.add(sourceSystem.getId());
+			}
+		}
+		return skippedIds;
+	}
+
+	private Query insertSourceSystem(DSLContext dslContext, SourceSystem sourceSystem) {
+		return dslContext.insertInto(SOURCE_SYSTEM).set(toRecord(sourceSystem));
+	}
+
+	private SourceSystemRecord toRecord(SourceSystem sourceSystem) {
+		return new SourceSystemRecord().with(SOURCE_SYSTEM.ID, removeProxy(sourceSystem.getId()))
+			.with(SOURCE_SYSTEM.VERSION, sourceSystem.getSchemaVersion())
+			.with(SOURCE_SYSTEM.NAME, sourceSystem.getSchemaName())
+			.with(SOURCE_SYSTEM.ENDPOINT, sourceSystem.getSchemaUrl().toString())
+			.with(SOURCE_SYSTEM.FILTERS, sourceSystem.getOdsFilters().toArray(new String[0]))
+			.with(SOURCE_SYSTEM.CREATOR, sourceSystem.getSchemaCreator().getId())
+			.with(SOURCE_SYSTEM.CREATED, sourceSystem.getSchemaDateCreated().toInstant())
+			.with(SOURCE_SYSTEM.MODIFIED, sourceSystem.getSchemaDateModified().toInstant())
+			.with(SOURCE_SYSTEM.MAPPING_ID, removeProxy(sourceSystem.getOdsDataMappingID()))
+			.with(SOURCE_SYSTEM.TRANSLATOR_TYPE, TranslatorType.valueOf(sourceSystem.getOdsTranslatorType().value()))
+			.with(SOURCE_SYSTEM.DATA, mapToJSONB(sourceSystem));
 	}
 
 	private JSONB mapToJSONB(SourceSystem sourceSystem) {
 		return JSONB.valueOf(mapper.writeValueAsString(sourceSystem));
 	}
 
-	public void updateSourceSystem(SourceSystem sourceSystem) {
-		context.update(SOURCE_SYSTEM)
+	/**
+	 * Updates the source system and inserts its provenance event in one transaction, the event is released once the
+	 * update is deployed
+	 */
+	public void updateSourceSystem(SourceSystem sourceSystem, OutboxEvent event) {
+		context.transaction(configuration -> {
+			var transactionContext = DSL.using(configuration);
+			updateSourceSystem(transactionContext, sourceSystem).execute();
+			insertEvent(transactionContext, event, false).execute();
+		});
+		cache.invalidate(removeProxy(sourceSystem.getId()), sourceSystem.getSchemaVersion());
+	}
+
+	/**
+	 * Releases the provenance events of the source system up to the given version, once it is deployed
+	 */
+	public void releaseEvents(String id, int version) {
+		EventOutboxRepository.releaseEvents(context, removeProxy(id), version).execute();
+	}
+
+	/**
+	 * Restores the previous version of the source system after a failed update. The provenance events of later
+	 * versions which are not published yet are removed in the same transaction.
+	 */
+	public void rollbackSourceSystemUpdate(SourceSystem previousSourceSystem) {
+		context.transaction(configuration -> {
+			var transactionContext = DSL.using(configuration);
+			updateSourceSystem(transactionContext, previousSourceSystem).execute();
+			removePendingEvents(transactionContext, removeProxy(previousSourceSystem.getId()),
+					previousSourceSystem.getSchemaVersion())
+				.execute();
+		});
+		cache.invalidate(removeProxy(previousSourceSystem.getId()), previousSourceSystem.getSchemaVersion());
+	}
+
+	private Query updateSourceSystem(DSLContext dslContext, SourceSystem sourceSystem) {
+		return dslContext.update(SOURCE_SYSTEM)
 			.set(SOURCE_SYSTEM.VERSION, sourceSystem.getSchemaVersion())
 			.set(SOURCE_SYSTEM.NAME, sourceSystem.getSchemaName())
 			.set(SOURCE_SYSTEM.ENDPOINT, sourceSystem.getSchemaUrl().toString())
@@ -58,8 +169,7 @@ public class SourceSystemRepository {
 			.set(SOURCE_SYSTEM.MAPPING_ID, removeProxy(sourceSystem.getOdsDataMappingID()))
 			.set(SOURCE_SYSTEM.TRANSLATOR_TYPE, TranslatorType.valueOf(sourceSystem.getOdsTranslatorType().value()))
 			.set(SOURCE_SYSTEM.DATA, mapToJSONB(sourceSystem))
-			.where(SOURCE_SYSTEM.ID.eq(removeProxy(sourceSystem.getId())))
-			.execute();
+			.where(SOURCE_SYSTEM.ID.eq(removeProxy(sourceSystem.getId())));
 	}
 
 	public SourceSystem getSourceSystem(String id) {
@@ -70,30 +180,86 @@ public class SourceSystemRepository {
 	}
 
 	public Optional<SourceSystem> getActiveSourceSystem(String id) {
+		return cache.get(removeProxy(id), this::loadActiveSourceSystem);
+	}
+
+	private SourceSystem loadActiveSourceSystem(String id) {
 		return context.select(SOURCE_SYSTEM.DATA)
 			.from(SOURCE_SYSTEM)
-			.where(SOURCE_SYSTEM.ID.eq(removeProxy(id)))
+			.where(SOURCE_SYSTEM.ID.eq(id))
 			.and(SOURCE_SYSTEM.TOMBSTONED.isNull())
-			.fetchOptional(this::mapToSourceSystem);
+			.fetchOne(this::mapToSourceSystem);
 	}
 
-	public void tombstoneSourceSystem(SourceSystem tombstoneSourceSystem, Instant timestamp) {
-		context.update(SOURCE_SYSTEM)
-			.set(SOURCE_SYSTEM.TOMBSTONED, timestamp)
-			.set(SOURCE_SYSTEM.MODIFIED, timestamp)
-			.set(SOURCE_SYSTEM.VERSION, tombstoneSourceSystem.getSchemaVersion())
-			.set(SOURCE_SYSTEM.DATA, mapToJSONB(tombstoneSourceSystem))
-			.where(SOURCE_SYSTEM.ID.eq(removeProxy(tombstoneSourceSystem.getId())))
-			.execute();
+	public void tombstoneSourceSystem(SourceSystem tombstoneSourceSystem, Instant timestamp, OutboxEvent event) {
+		context.transaction(configuration -> {
+			var transactionContext = DSL.using(configuration);
+			transactionContext.update(SOURCE_SYSTEM)
+				.set(SOURCE_SYSTEM.TOMBSTONED, timestamp)
+				.set(SOURCE_SYSTEM.MODIFIED, timestamp)
+				.set(SOURCE_SYSTEM.VERSION, tombstoneSourceSystem.getSchemaVersion())
+				.set(SOURCE_SYSTEM.DATA, mapToJSONB(tombstoneSourceSystem))
+				.where(SOURCE_SYSTEM.ID.eq(removeProxy(tombstoneSourceSystem.getId())))
+				.execute();
+			insertEvent(transactionContext, event, true).execute();
+		});
+		cache.invalidate(removeProxy(tombstoneSourceSystem.getId()), tombstoneSourceSystem.getSchemaVersion());
 	}
 
-	public List<SourceSystem> getSourceSystems(int pageNum, int pageSize) {
+	public Optional<RawJsonObject> getRawSourceSystem(String id) {
+		return context.select(SOURCE_SYSTEM.ID, SOURCE_SYSTEM.CREATED, SOURCE_SYSTEM.DATA)
+			.from(SOURCE_SYSTEM)
+			.where(SOURCE_SYSTEM.ID.eq(removeProxy(id)))
+			.fetchOptional(this::mapToRawJson);
+	}
+
+	public List<RawJsonObject> getSourceSystems(int pageNum, int pageSize) {
 		int offset = getOffset(pageNum, pageSize);
-		return context.select(SOURCE_SYSTEM.DATA)
+		return context.select(SOURCE_SYSTEM.ID, SOURCE_SYSTEM.CREATED, SOURCE_SYSTEM.DATA)
 			.from(SOURCE_SYSTEM)
 			.where(SOURCE_SYSTEM.TOMBSTONED.isNull())
 			.limit(pageSize + 1)
 			.offset(offset)
+			.fetch(this::mapToRawJson);
+	}
+
+	/**
+	 * Retrieves a page of active source systems, ordered by creation date and id, starting after the cursor. One more
+	 * item than the page size is fetched to determine whether there is a next page.
+	 */
+	public List<RawJsonObject> getSourceSystemPage(PageCursor cursor, int pageSize) {
+		var condition = SOURCE_SYSTEM.TOMBSTONED.isNull();
+		if (cursor != null) {
+			condition = condition.and(row(SOURCE_SYSTEM.CREATED, SOURCE_SYSTEM.ID).gt(cursor.key(), cursor.id()));
+		}
+		return context.select(SOURCE_SYSTEM.ID, SOURCE_SYSTEM.CREATED, SOURCE_SYSTEM.DATA)
+			.from(SOURCE_SYSTEM)
+			.where(condition)
+			.orderBy(SOURCE_SYSTEM.CREATED, SOURCE_SYSTEM.ID)
+			.limit(pageSize + 1)
+			.fetch(this::mapToRawJson);
+	}
+
+	/**
+	 * Streams all active source systems in chunks, ordered by id. Every chunk is fetched with a keyset query when the
+	 * previous chunk has been consumed.
+	 */
+	public Stream<List<SourceSystem>> streamActiveSourceSystems(int chunkSize) {
+		return Stream.iterate(getActiveSourceSystemsAfter(null, chunkSize), chunk -> !chunk.isEmpty(),
+				chunk -> chunk.size() < chunkSize ? List.of()
+						: getActiveSourceSystemsAfter(chunk.getLast().getId(), chunkSize));
+	}
+
+	private List<SourceSystem> getActiveSourceSystemsAfter(String lastId, int chunkSize) {
+		var condition = SOURCE_SYSTEM.TOMBSTONED.isNull();
+		if (lastId != null) {
+			condition = condition.and(SOURCE_SYSTEM.ID.gt(removeProxy(lastId)));
+		}
+		return context.select(SOURCE_SYSTEM.DATA)
+			.from(SOURCE_SYSTEM)
+			.where(condition)
+			.orderBy(SOURCE_SYSTEM.ID)
+			.limit(chunkSize)
 			.fetch(this::mapToSourceSystem);
 	}
 
@@ -101,8 +267,20 @@ public class SourceSystemRepository {
 		return mapper.readValue(record1.get(SOURCE_SYSTEM.DATA).data(), SourceSystem.class);
 	}
 
+	private RawJsonObject mapToRawJson(Record3<String, Instant, JSONB> dbRecord) {
+		return new RawJsonObject(HANDLE_PROXY + dbRecord.value1(), dbRecord.value2(), dbRecord.value3().data());
+	}
+
+	/**
+	 * Removes the source system and its provenance events which are not published yet in one transaction
+	 */
 	public void rollbackSourceSystemCreation(String id) {
-		context.deleteFrom(SOURCE_SYSTEM).where(SOURCE_SYSTEM.ID.eq(removeProxy(id))).execute();
+		context.transaction(configuration -> {
+			var transactionContext = DSL.using(configuration);
+			transactionContext.deleteFrom(SOURCE_SYSTEM).where(SOURCE_SYSTEM.ID.eq(removeProxy(id))).execute();
+			removePendingEvents(transactionContext, removeProxy(id), null).execute();
+		});
+		cache.invalidate(removeProxy(id), null);
 	}
 
 	public String getExportLink(String id, ExportType exportType) {
@@ -1,6 +1,7 @@
 package eu.dissco.orchestration.backend.repository;
 
 import eu.dissco.orchestration.backend.domain.TranslatorJobRecord;
+import eu.dissco.orchestration.backend.domain.jsonapi.PageCursor;
 import lombok.RequiredArgsConstructor;
 import org.jooq.DSLContext;
 import org.jooq.Record;
@@ -8,9 +9,11 @@ import org.springframework.stereotype.Repository;
 import tools.jackson.databind.json.JsonMapper;
 
 import java.util.List;
+import java.util.UUID;
 
 import static eu.dissco.orchestration.backend.database.jooq.Tables.TRANSLATOR_JOB_RECORD;
 import static eu.dissco.orchestration.backend.repository.RepositoryUtils.getOffset;
+import static org.jooq.impl.DSL.row;
 
 @Repository
 @RequiredArgsConstructor
@@ -29,6 +32,23 @@ public class TranslatorJobRecordRepository {
 			.fetch(this::mapTranslatorJobRecord);
 	}
 
+	/**
+	 * Retrieves a page of job records of a source system, the most recently started first, starting after the cursor.
+	 * One more record than the page size is fetched to determine whether there is a next page.
+	 */
+	public List<TranslatorJobRecord> getJobRecordPage(String id, PageCursor cursor, int pageSize) {
+		var condition = TRANSLATOR_JOB_RECORD.SOURCE_SYSTEM_ID.eq(id);
+		if (cursor != null) {
+			condition = condition.and(row(TRANSLATOR_JOB_RECORD.TIME_STARTED, TRANSLATOR_JOB_RECORD.JOB_ID)
+				.lt(cursor.key(), UUID.fromString(cursor.id())));
+		}
+		return context.selectFrom(TRANSLATOR_JOB_RECORD)
+			.where(condition)
+			.orderBy(TRANSLATOR_JOB_RECORD.TIME_STARTED.desc(), TRANSLATOR_JOB_RECORD.JOB_ID.desc())
+			.limit(pageSize + 1)
+			.fetch(this::mapTranslatorJobRecord);
+	}
+
 	private TranslatorJobRecord mapTranslatorJobRecord(Record jobRecord) {
 		var report = jobRecord.get(TRANSLATOR_JOB_RECORD.REPORT) != null
 				? mapper.readTree(jobRecord.get(TRANSLATOR_JOB_RECORD.REPORT).data()) : null;
@@ -1,10 +1,14 @@
 package eu.dissco.orchestration.backend.service;
 
+import eu.dissco.orchestration.backend.component.HandlePoolComponent;
 import eu.dissco.orchestration.backend.domain.ObjectType;
+import eu.dissco.orchestration.backend.domain.RawJsonObject;
 import eu.dissco.orchestration.backend.domain.jsonapi.JsonApiData;
 import eu.dissco.orchestration.backend.domain.jsonapi.JsonApiLinks;
 import eu.dissco.orchestration.backend.domain.jsonapi.JsonApiListWrapper;
 import eu.dissco.orchestration.backend.domain.jsonapi.JsonApiWrapper;
+import eu.dissco.orchestration.backend.domain.jsonapi.PageCursor;
+import eu.dissco.orchestration.backend.exception.BadRequestException;
 import eu.dissco.orchestration.backend.exception.NotFoundException;
 import eu.dissco.orchestration.backend.exception.PidException;
 import eu.dissco.orchestration.backend.exception.ProcessingFailedException;
@@ -17,7 +21,6 @@ import eu.dissco.orchestration.backend.web.HandleComponent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import tools.jackson.core.JacksonException;
 import tools.jackson.databind.JsonNode;
 import tools.jackson.databind.json.JsonMapper;
 
@@ -25,6 +28,7 @@ import java.time.Instant;
 import java.util.*;
 
 import static eu.dissco.orchestration.backend.configuration.ApplicationConfiguration.HANDLE_PROXY;
+import static eu.dissco.orchestration.backend.utils.HandleUtils.removeProxy;
 import static eu.dissco.orchestration.backend.utils.TombstoneUtils.buildTombstoneMetadata;
 
 @Slf4j
@@ -36,6 +40,8 @@ public class DataMappingService {
 
 	private final HandleComponent handleComponent;
 
+	private final HandlePoolComponent handlePoolComponent;
+
 	private final RabbitMqPublisherService rabbitMqPublisherService;
 
 	private final DataMappingRepository repository;
@@ -103,14 +109,13 @@ public class DataMappingService {
 		var requestBody = fdoRecordService.buildCreateRequest(mappingRequest, ObjectType.DATA_MAPPING);
 		String handle = null;
 		try {
-			handle = handleComponent.postHandle(requestBody);
+			handle = handlePoolComponent.createHandle(requestBody);
 		}
 		catch (PidException e) {
 			throw new ProcessingFailedException(e.getMessage(), e);
 		}
 		var dataMapping = buildDataMapping(mappingRequest, 1, agent, handle, Date.from(Instant.now()));
-		repository.createDataMapping(dataMapping);
-		publishCreateEvent(dataMapping, agent);
+		repository.createDataMapping(dataMapping, rabbitMqPublisherService.buildCreateEvent(dataMapping, agent));
 		return wrapSingleResponse(dataMapping, path);
 	}
 
@@ -134,23 +139,6 @@ public class DataMappingService {
 					OdsMappingDataStandard.fromValue(dataMappingRequest.getOdsMappingDataStandard().value()));
 	}
 
-	private void publishCreateEvent(DataMapping dataMapping, Agent agent) throws ProcessingFailedException {
-		try {
-			rabbitMqPublisherService.publishCreateEvent(dataMapping, agent);
-		}
-		catch (JacksonException e) {
-			log.error("Unable to publish message to RabbitMQ", e);
-			rollbackMappingCreation(dataMapping);
-			throw new ProcessingFailedException("Failed to create new machine annotation service", e);
-		}
-	}
-
-	private void rollbackMappingCreation(DataMapping dataMapping) {
-		var request = fdoRecordService.buildRollbackCreateRequest(dataMapping.getId());
-		handleComponent.rollbackHandleCreation(request);
-		repository.rollbackDataMappingCreation(dataMapping.getId());
-	}
-
 	public JsonApiWrapper updateDataMapping(String id, DataMappingRequest dataMappingRequest, Agent agent, String path)
 			throws NotFoundException, ProcessingFailedException {
 		var currentDataMappingOptional = repository.getActiveDataMapping(id);
@@ -164,28 +152,12 @@ public class DataMappingService {
 			return null;
 		}
 		else {
-			repository.updateDataMapping(dataMapping);
-			publishUpdateEvent(dataMapping, currentDataMappingOptional.get(), agent);
+			repository.updateDataMapping(dataMapping,
+					rabbitMqPublisherService.buildUpdateEvent(dataMapping, currentDataMapping, agent));
 			return wrapSingleResponse(dataMapping, path);
 		}
 	}
 
-	private void publishUpdateEvent(DataMapping dataMapping, DataMapping currentDataMapping, Agent agent)
-			throws ProcessingFailedException {
-		try {
-			rabbitMqPublisherService.publishUpdateEvent(dataMapping, currentDataMapping, agent);
-		}
-		catch (JacksonException e) {
-			log.error("Unable to publish message to RabbitMQ", e);
-			rollbackToPreviousVersion(currentDataMapping);
-			throw new ProcessingFailedException("Failed to create new machine annotation service", e);
-		}
-	}
-
-	private void rollbackToPreviousVersion(DataMapping currentDataMapping) {
-		repository.updateDataMapping(currentDataMapping);
-	}
-
 	public void tombstoneDataMapping(String id, Agent agent) throws NotFoundException, ProcessingFailedException {
 		var result = repository.getActiveDataMapping(id);
 		if (result.isPresent()) {
@@ -193,14 +165,8 @@ public class DataMappingService {
 			tombstoneHandle(id);
 			var timestamp = Instant.now();
 			var tombstoneDataMapping = buildTombstoneDataMapping(dataMapping, agent, timestamp);
-			repository.tombstoneDataMapping(tombstoneDataMapping, timestamp);
-			try {
-				rabbitMqPublisherService.publishTombstoneEvent(tombstoneDataMapping, dataMapping, agent);
-			}
-			catch (JacksonException e) {
-				log.error("Unable to publish tombstone event to provenance service", e);
-				throw new ProcessingFailedException("Unable to publish tombstone event to provenance service", e);
-			}
+			repository.tombstoneDataMapping(tombstoneDataMapping, timestamp,
+					rabbitMqPublisherService.buildTombstoneEvent(tombstoneDataMapping, dataMapping, agent));
 		}
 		else {
 			throw new NotFoundException("Requested data mapping " + id + " does not exist");
@@ -227,10 +193,23 @@ public class DataMappingService {
 		return wrapResponse(dataMappings, pageNum, pageSize, path);
 	}
 
+	public JsonApiListWrapper getDataMappingPage(String cursor, int pageSize, String path) throws BadRequestException {
+		var dataMappings = repository.getDataMappingPage(PageCursor.decode(cursor), pageSize);
+		boolean hasNext = dataMappings.size() > pageSize;
+		dataMappings = hasNext ? dataMappings.subList(0, pageSize) : dataMappings;
+		var nextCursor = hasNext ? getPageCursor(dataMappings.getLast()).encode() : null;
+		return new JsonApiListWrapper(wrapData(dataMappings), new JsonApiLinks(pageSize, cursor, nextCursor, path));
+	}
+
+	private static PageCursor getPageCursor(RawJsonObject dataMapping) {
+		return new PageCursor(dataMapping.created(), removeProxy(dataMapping.id()));
+	}
+
 	public JsonApiWrapper getDataMappingById(String id, String path) throws NotFoundException {
-		var dataMapping = repository.getDataMapping(id);
-		if (dataMapping != null) {
-			return wrapSingleResponse(dataMapping, path);
+		var dataMapping = repository.getRawDataMapping(id);
+		if (dataMapping.isPresent()) {
+			return new JsonApiWrapper(JsonApiData.fromRawJson(dataMapping.get(), ObjectType.DATA_MAPPING),
+					new JsonApiLinks(path));
 		}
 		log.warn("Unable to find source system {}", id);
 		throw new NotFoundException("Unable to find source system " + id);
@@ -243,7 +222,7 @@ public class DataMappingService {
 				new JsonApiLinks(path));
 	}
 
-	private JsonApiListWrapper wrapResponse(List<DataMapping> dataMappings, int pageNum, int pageSize, String path) {
+	private JsonApiListWrapper wrapResponse(List<RawJsonObject> dataMappings, int pageNum, int pageSize, String path) {
 		boolean hasNext = dataMappings.size() > pageSize;
 		dataMappings = hasNext ? dataMappings.subList(0, pageSize) : dataMappings;
 		var linksNode = new JsonApiLinks(pageSize, pageNum, hasNext, path);
@@ -251,10 +230,8 @@ public class DataMappingService {
 		return new JsonApiListWrapper(dataNode, linksNode);
 	}
 
-	private List<JsonApiData> wrapData(List<DataMapping> dataMappings) {
-		return dataMappings.stream()
-			.map(r -> new JsonApiData(r.getId(), ObjectType.DATA_MAPPING, flattenDataMapping(r)))
-			.toList();
+	private List<JsonApiData> wrapData(List<RawJsonObject> dataMappings) {
+		return dataMappings.stream().map(r -> JsonApiData.fromRawJson(r, ObjectType.DATA_MAPPING)).toList();
 	}
 
 	private JsonNode flattenDataMapping(DataMapping dataMapping) {
@@ -34,6 +34,30 @@ public class FdoRecordService {
 		return request;
 	}
 
+	/**
+	 * Builds the request for a handle of the handle pool, the attributes are set once the handle is claimed
+	 */
+	public JsonNode buildReservationRequest(ObjectType type) {
+		return mapper.createObjectNode()
+			.set("data",
+					mapper.createObjectNode()
+						.put("type", getFdoType(type))
+						.set("attributes", mapper.createObjectNode()));
+	}
+
+	/**
+	 * Builds the request which sets the attributes of a create request on a reserved handle
+	 */
+	public JsonNode buildUpdateRequest(JsonNode createRequest, String handle) {
+		var data = createRequest.get("data");
+		return mapper.createObjectNode()
+			.set("data",
+					mapper.createObjectNode()
+						.put("type", data.get("type").asString())
+						.put("id", handle)
+						.set("attributes", data.get("attributes").deepCopy()));
+	}
+
 	public JsonNode buildTombstoneRequest(ObjectType type, String handle) {
 		return mapper.createObjectNode()
 			.set("data",
@@ -46,7 +70,11 @@ public class FdoRecordService {
 	}
 
 	public JsonNode buildRollbackCreateRequest(String handle) {
-		var dataNode = List.of(mapper.createObjectNode().put("id", removeProxy(handle)));
+		return buildRollbackCreateRequest(List.of(handle));
+	}
+
+	public JsonNode buildRollbackCreateRequest(List<String> handles) {
+		var dataNode = handles.stream().map(handle -> mapper.createObjectNode().put("id", removeProxy(handle))).toList();
 		ArrayNode dataArrayNode = mapper.valueToTree(dataNode);
 		return mapper.createObjectNode().set("data", dataArrayNode);
 	}
@@ -79,7 +107,7 @@ public class FdoRecordService {
 		return mapper.createObjectNode().put(SOURCE_SYSTEM_NAME.getAttribute(), sourceSystemRequest.getSchemaName());
 	}
 
-	private String getFdoType(ObjectType type) {
+	public String getFdoType(ObjectType type) {
 		switch (type) {
 			case MAS -> {
 				return fdoProperties.getMasType();
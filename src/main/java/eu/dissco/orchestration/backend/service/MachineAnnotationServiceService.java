@@ -1,16 +1,26 @@
 package eu.dissco.orchestration.backend.service;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.node.ArrayNode;
-import com.fasterxml.jackson.databind.node.ObjectNode;
-import com.google.gson.Gson;
-import com.google.gson.JsonObject;
-import com.google.gson.JsonParser;
+import eu.dissco.orchestration.backend.component.HandlePoolComponent;
+import eu.dissco.orchestration.backend.component.KubernetesApplyComponent;
+import eu.dissco.orchestration.backend.component.KubernetesInformerComponent;
+import eu.dissco.orchestration.backend.component.LeaderElectionComponent;
+import eu.dissco.orchestration.backend.component.LeaderElectionComponent.LeaderTask;
+import eu.dissco.orchestration.backend.component.MasDeploymentBlueprintComponent;
+import eu.dissco.orchestration.backend.component.ReconciliationComponent;
+import eu.dissco.orchestration.backend.component.ReconciliationComponent.ReconciliationAction;
+import eu.dissco.orchestration.backend.component.SpecHashComponent;
+import eu.dissco.orchestration.backend.domain.InformedResourceType;
 import eu.dissco.orchestration.backend.domain.ObjectType;
+import eu.dissco.orchestration.backend.domain.RawJsonObject;
 import eu.dissco.orchestration.backend.domain.jsonapi.JsonApiData;
 import eu.dissco.orchestration.backend.domain.jsonapi.JsonApiLinks;
 import eu.dissco.orchestration.backend.domain.jsonapi.JsonApiListWrapper;
 import eu.dissco.orchestration.backend.domain.jsonapi.JsonApiWrapper;
+import eu.dissco.orchestration.backend.domain.jsonapi.PageCursor;
+import eu.dissco.orchestration.backend.domain.kubernetes.RabbitBinding;
+import eu.dissco.orchestration.backend.domain.kubernetes.RabbitQueue;
+import eu.dissco.orchestration.backend.domain.kubernetes.ScaledObject;
+import eu.dissco.orchestration.backend.exception.BadRequestException;
 import eu.dissco.orchestration.backend.exception.KubernetesFailedException;
 import eu.dissco.orchestration.backend.exception.NotFoundException;
 import eu.dissco.orchestration.backend.exception.PidException;
@@ -33,7 +43,6 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
-import tools.jackson.core.JacksonException;
 import tools.jackson.databind.JsonNode;
 import tools.jackson.databind.json.JsonMapper;
 
@@ -41,9 +50,13 @@ import java.io.IOException;
 import java.io.StringWriter;
 import java.time.Instant;
 import java.util.*;
-import java.util.stream.Collectors;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
 
 import static eu.dissco.orchestration.backend.configuration.ApplicationConfiguration.HANDLE_PROXY;
+import static eu.dissco.orchestration.backend.repository.MachineAnnotationServiceRepository.DEFAULT_TIME_TO_LIVE;
 import static eu.dissco.orchestration.backend.utils.HandleUtils.removeProxy;
 import static eu.dissco.orchestration.backend.utils.TombstoneUtils.buildTombstoneMetadata;
 import static java.util.stream.Collectors.toMap;
@@ -65,14 +78,10 @@ public class MachineAnnotationServiceService {
 
 	private static final String NAME = "name";
 
-	private static final String VALUE = "value";
-
-	private static final String ITEMS = "items";
-
-	private static final String METADATA = "metadata";
-
 	private final HandleComponent handleComponent;
 
+	private final HandlePoolComponent handlePoolComponent;
+
 	private final FdoRecordService fdoRecordService;
 
 	private final RabbitMqPublisherService rabbitMqPublisherService;
@@ -86,9 +95,6 @@ public class MachineAnnotationServiceService {
 	@Qualifier("kedaTemplate")
 	private final Template kedaTemplate;
 
-	@Qualifier("deploymentTemplate")
-	private final Template deploymentTemplate;
-
 	@Qualifier("masRabbitBindingTemplate")
 	private final Template rabbitBindingTemplate;
 
@@ -97,18 +103,24 @@ public class MachineAnnotationServiceService {
 
 	private final JsonMapper mapper;
 
-	@Qualifier("yamlMapper")
-	private final ObjectMapper yamlMapper;
-
-	@Qualifier("objectMapper")
-	private final ObjectMapper yamlMapperHelper;
-
 	private final MachineAnnotationServiceProperties properties;
 
 	private final KubernetesProperties kubernetesProperties;
 
 	private final FdoProperties fdoProperties;
 
+	private final ReconciliationComponent reconciliationComponent;
+
+	private final KubernetesInformerComponent informerComponent;
+
+	private final SpecHashComponent specHashComponent;
+
+	private final KubernetesApplyComponent applyComponent;
+
+	private final LeaderElectionComponent leaderElectionComponent;
+
+	private final MasDeploymentBlueprintComponent deploymentBlueprintComponent;
+
 	private static String getTopicName(String pid) {
 		return pid.substring(pid.lastIndexOf('/') + 1).toLowerCase();
 	}
@@ -157,281 +169,281 @@ public class MachineAnnotationServiceService {
 			.withOdsHasSecretVariables(mas.getOdsHasSecretVariables());
 	}
 
-	private static boolean equalsCheckKeda(JsonObject kedaObject, JsonObject existingKedaObject) {
-		var existingSpec = existingKedaObject.get("spec").getAsJsonObject();
-		var kedaSpec = kedaObject.get("spec").getAsJsonObject();
-		return Objects.equals(kedaSpec.get("maxReplicaCount").getAsString(),
-				existingSpec.get("maxReplicaCount").getAsString())
-				&& Objects.equals(kedaSpec.get("scaleTargetRef").getAsJsonObject().get("name"),
-						existingSpec.get("scaleTargetRef").getAsJsonObject().get("name"))
-				&& Objects.equals(kedaSpec.get("triggers"), existingSpec.get("triggers"));
+	@PostConstruct
+	public void registerLeaderTask() {
+		leaderElectionComponent
+			.addLeaderTask(new LeaderTask("machine-annotation-services", changeHandlers(), this::setup));
 	}
 
-	@PostConstruct
-	public void setup() throws ApiException, TemplateException, IOException, InterruptedException {
-		var existingMasList = repository.getMachineAnnotationServices(0, 5000);
-		synchronizeDeployment(existingMasList);
-		synchronizeKeda(existingMasList);
-		synchronizeRabbitBinding(existingMasList);
-		synchronizeRabbitQueue(existingMasList);
+	/**
+	 * Reconciles the cluster, only run by the elected leader.
+	 * @throws KubernetesFailedException if one or more objects failed to reconcile, the leader retries the
+	 * synchronization
+	 */
+	public void setup() throws KubernetesFailedException {
+		informerComponent.start();
+		reconciliationComponent.reconcile(Map.of("deployment", this::synchronizeDeployment, "keda",
+				this::synchronizeKeda, "rabbit-binding", this::synchronizeRabbitBinding, "rabbit-queue",
+				this::synchronizeRabbitQueue));
+	}
+
+	/**
+	 * @return the handlers which reconcile a single object after a cluster change, registered by the elected leader
+	 */
+	public Map<InformedResourceType, ReconciliationAction<String>> changeHandlers() {
+		return Map.of(InformedResourceType.DEPLOYMENT, this::reconcileDeploymentChange,
+				InformedResourceType.SCALED_OBJECT, this::reconcileKedaChange, InformedResourceType.RABBIT_BINDING,
+				this::reconcileRabbitBindingChange, InformedResourceType.RABBIT_QUEUE,
+				this::reconcileRabbitQueueChange);
+	}
+
+	private Optional<MachineAnnotationService> getMasForResource(String resourceName, String prefix, String suffix) {
+		if (!resourceName.startsWith(prefix) || !resourceName.endsWith(suffix)) {
+			return Optional.empty();
+		}
+		var topicName = resourceName.substring(prefix.length(), resourceName.length() - suffix.length());
+		var id = fdoProperties.getHandlePrefix() + '/' + topicName.toUpperCase();
+		return repository.getActiveMachineAnnotationService(id);
 	}
 
-	private void synchronizeRabbitQueue(List<MachineAnnotationService> existingMasList)
-			throws ApiException, TemplateException, IOException, InterruptedException {
+	private void synchronizeRabbitQueue() throws KubernetesFailedException {
 		log.info("Synchronizing Rabbit queue resources of Machine Annotation Service");
-		var existingRabbitQueueList = customObjectsApi
-			.listNamespacedCustomObject(kubernetesProperties.getRabbitGroup(), kubernetesProperties.getRabbitVersion(),
-					properties.getNamespace(), kubernetesProperties.getRabbitQueueResource())
-			.execute();
-		var items = new Gson().toJsonTree(existingRabbitQueueList).getAsJsonObject().get(ITEMS).getAsJsonArray();
-		if (items != null) {
-			var existingRabbitQueueMap = items.asList()
-				.stream()
-				.collect(
-						toMap(queue -> (((JsonObject) queue).get(METADATA).getAsJsonObject()).get("name").getAsString(),
-								queue -> queue));
-			for (var machineAnnotationService : existingMasList) {
-				var name = getTopicName(machineAnnotationService.getId());
-				var expectedRabbitQueue = JsonParser.parseString(createRabbitQueueResource(name));
-				var existingRabbitQueue = existingRabbitQueueMap.get(MAS_PREFIX + name + QUEUE);
-				if (existingRabbitQueue == null) {
-					log.warn("Found a machine annotation service: {} without a rabbit queue, creating one",
-							machineAnnotationService.getId());
-					customObjectsApi
-						.createNamespacedCustomObject(kubernetesProperties.getRabbitGroup(),
-								kubernetesProperties.getRabbitVersion(), properties.getNamespace(),
-								kubernetesProperties.getRabbitQueueResource(), expectedRabbitQueue)
-						.execute();
-				}
-				else if (equalsCheckRabbitSpec((JsonObject) expectedRabbitQueue,
-						existingRabbitQueue.getAsJsonObject())) {
-					log.debug("Rabbit queue resource for machine annotation service: {} is in sync with the database",
-							machineAnnotationService.getId());
-				}
-				else {
-					log.warn("Found an out of sync Rabbit queue for machine annotation service: {}, synchronizing",
-							machineAnnotationService.getId());
-					customObjectsApi
-						.deleteNamespacedCustomObject(kubernetesProperties.getRabbitGroup(),
-								kubernetesProperties.getRabbitVersion(), properties.getNamespace(),
-								kubernetesProperties.getRabbitQueueResource(), MAS_PREFIX + name + QUEUE)
-						.execute();
-					Thread.sleep(kubernetesProperties.getKedaPatchWait());
-					customObjectsApi
-						.createNamespacedCustomObject(kubernetesProperties.getRabbitGroup(),
-								kubernetesProperties.getRabbitVersion(), properties.getNamespace(),
-								kubernetesProperties.getRabbitQueueResource(), expectedRabbitQueue)
-						.execute();
-				}
-			}
-			existingRabbitQueueMap.keySet()
-				.removeAll(existingMasList.stream()
-					.map(mas -> MAS_PREFIX + getTopicName(mas.getId()) + QUEUE)
-					.collect(Collectors.toSet()));
-			for (var existingKeda : existingRabbitQueueMap.entrySet()) {
-				log.warn("Found a Rabbit Queue Resource: {} without a machine annotation service, deleting it",
-						existingKeda.getKey());
-				customObjectsApi
-					.deleteNamespacedCustomObject(kubernetesProperties.getRabbitGroup(),
-							kubernetesProperties.getRabbitVersion(), properties.getNamespace(),
-							kubernetesProperties.getRabbitQueueResource(), existingKeda.getKey())
-					.execute();
-			}
+		var existingRabbitQueueMap = informerComponent.getRabbitQueues()
+			.stream()
+			.collect(toMap(queue -> queue.getMetadata().getName(), queue -> queue));
+		Set<String> expectedRabbitQueues = ConcurrentHashMap.newKeySet();
+		reconciliationComponent.forEachChunk(repository::streamActiveMachineAnnotationServices,
+				machineAnnotationService -> {
+					var queueName = MAS_PREFIX + getTopicName(machineAnnotationService.getId()) + QUEUE;
+					expectedRabbitQueues.add(queueName);
+					reconcileRabbitQueue(machineAnnotationService, existingRabbitQueueMap.get(queueName), true);
+				});
+		existingRabbitQueueMap.keySet().removeAll(expectedRabbitQueues);
+		reconciliationComponent.forEach(existingRabbitQueueMap.keySet(), this::deleteOrphanRabbitQueue);
+	}
+
+	private void reconcileRabbitQueueChange(String queueName)
+			throws ApiException, TemplateException, IOException, KubernetesFailedException {
+		var mas = getMasForResource(queueName, MAS_PREFIX, QUEUE);
+		var existingRabbitQueue = informerComponent.getRabbitQueue(queueName);
+		if (mas.isPresent()) {
+			reconcileRabbitQueue(mas.get(), existingRabbitQueue.orElse(null), false);
+		}
+		else if (existingRabbitQueue.isPresent()) {
+			deleteOrphanRabbitQueue(queueName);
+		}
+	}
+
+	private void reconcileRabbitQueue(MachineAnnotationService machineAnnotationService,
+			RabbitQueue existingRabbitQueue, boolean fullSync)
+			throws ApiException, TemplateException, IOException, KubernetesFailedException {
+		var name = getTopicName(machineAnnotationService.getId());
+		var rabbitQueue = createRabbitQueueResource(name);
+		if (existingRabbitQueue == null) {
+			log.warn("Found a machine annotation service: {} without a rabbit queue, creating one",
+					machineAnnotationService.getId());
+		}
+		else if (specHashComponent.isInSync(existingRabbitQueue, rabbitQueue, fullSync)) {
+			log.debug("Rabbit queue resource for machine annotation service: {} is in sync with the database",
+					machineAnnotationService.getId());
+			return;
+		}
+		else {
+			log.warn("Found an out of sync Rabbit queue for machine annotation service: {}, synchronizing",
+					machineAnnotationService.getId());
 		}
+		applyComponent.apply(InformedResourceType.RABBIT_QUEUE, MAS_PREFIX + name + QUEUE, rabbitQueue);
 	}
 
-	private void synchronizeRabbitBinding(List<MachineAnnotationService> existingMasList)
-			throws TemplateException, IOException, ApiException, InterruptedException {
-		log.info("Synchronizing Rabbit binding resources of Machine Annotation Service");
-		var existingRabbitBindingList = customObjectsApi
-			.listNamespacedCustomObject(kubernetesProperties.getRabbitGroup(), kubernetesProperties.getRabbitVersion(),
-					properties.getNamespace(), kubernetesProperties.getRabbitBindingResource())
+	private void deleteOrphanRabbitQueue(String queueName) throws ApiException {
+		log.warn("Found a Rabbit Queue Resource: {} without a machine annotation service, deleting it", queueName);
+		customObjectsApi
+			.deleteNamespacedCustomObject(kubernetesProperties.getRabbitGroup(), kubernetesProperties.getRabbitVersion(),
+					properties.getNamespace(), kubernetesProperties.getRabbitQueueResource(), queueName)
 			.execute();
-		var items = new Gson().toJsonTree(existingRabbitBindingList).getAsJsonObject().get(ITEMS).getAsJsonArray();
-		if (items != null) {
-			var existingRabbitBindingMap = items.asList()
-				.stream()
-				.collect(toMap(
-						binding -> (((JsonObject) binding).get(METADATA).getAsJsonObject()).get("name").getAsString(),
-						binding -> binding));
-			for (var machineAnnotationService : existingMasList) {
-				var name = getTopicName(machineAnnotationService.getId());
-				var expectedRabbitBinding = JsonParser.parseString(createRabbitBindingResource(name));
-				var existingRabbitBinding = existingRabbitBindingMap.get(MAS_PREFIX + name + BINDING);
-				if (existingRabbitBinding == null) {
-					log.warn("Found a machine annotation service: {} without a rabbit binding, creating one",
-							machineAnnotationService.getId());
-					customObjectsApi
-						.createNamespacedCustomObject(kubernetesProperties.getRabbitGroup(),
-								kubernetesProperties.getRabbitVersion(), properties.getNamespace(),
-								kubernetesProperties.getRabbitBindingResource(), expectedRabbitBinding)
-						.execute();
-				}
-				else if (equalsCheckRabbitSpec((JsonObject) expectedRabbitBinding,
-						existingRabbitBinding.getAsJsonObject())) {
-					log.debug("Rabbit binding resource for machine annotation service: {} is in sync with the database",
-							machineAnnotationService.getId());
-				}
-				else {
-					log.warn("Found an out of sync Rabbit binding for machine annotation service: {}, synchronizing",
-							machineAnnotationService.getId());
-					customObjectsApi
-						.deleteNamespacedCustomObject(kubernetesProperties.getRabbitGroup(),
-								kubernetesProperties.getRabbitVersion(), properties.getNamespace(),
-								kubernetesProperties.getRabbitBindingResource(), MAS_PREFIX + name + BINDING)
-						.execute();
-					Thread.sleep(kubernetesProperties.getKedaPatchWait());
-					customObjectsApi
-						.createNamespacedCustomObject(kubernetesProperties.getRabbitGroup(),
-								kubernetesProperties.getRabbitVersion(), properties.getNamespace(),
-								kubernetesProperties.getRabbitBindingResource(), expectedRabbitBinding)
-						.execute();
-				}
-			}
-			existingRabbitBindingMap.keySet()
-				.removeAll(existingMasList.stream()
-					.map(mas -> MAS_PREFIX + getTopicName(mas.getId()) + BINDING)
-					.collect(Collectors.toSet()));
-			for (var existingKeda : existingRabbitBindingMap.entrySet()) {
-				log.warn("Found a Rabbit Binding Resource: {} without a machine annotation service, deleting it",
-						existingKeda.getKey());
-				customObjectsApi
-					.deleteNamespacedCustomObject(kubernetesProperties.getRabbitGroup(),
-							kubernetesProperties.getRabbitVersion(), properties.getNamespace(),
-							kubernetesProperties.getRabbitBindingResource(), existingKeda.getKey())
-					.execute();
-			}
+	}
+
+	private void synchronizeRabbitBinding() throws KubernetesFailedException {
+		log.info("Synchronizing Rabbit binding resources of Machine Annotation Service");
+		var existingRabbitBindingMap = informerComponent.getRabbitBindings()
+			.stream()
+			.collect(toMap(binding -> binding.getMetadata().getName(), binding -> binding));
+		Set<String> expectedRabbitBindings = ConcurrentHashMap.newKeySet();
+		reconciliationComponent.forEachChunk(repository::streamActiveMachineAnnotationServices,
+				machineAnnotationService -> {
+					var bindingName = MAS_PREFIX + getTopicName(machineAnnotationService.getId()) + BINDING;
+					expectedRabbitBindings.add(bindingName);
+					reconcileRabbitBinding(machineAnnotationService, existingRabbitBindingMap.get(bindingName), true);
+				});
+		existingRabbitBindingMap.keySet().removeAll(expectedRabbitBindings);
+		reconciliationComponent.forEach(existingRabbitBindingMap.keySet(), this::deleteOrphanRabbitBinding);
+	}
+
+	private void reconcileRabbitBindingChange(String bindingName)
+			throws ApiException, TemplateException, IOException, KubernetesFailedException {
+		var mas = getMasForResource(bindingName, MAS_PREFIX, BINDING);
+		var existingRabbitBinding = informerComponent.getRabbitBinding(bindingName);
+		if (mas.isPresent()) {
+			reconcileRabbitBinding(mas.get(), existingRabbitBinding.orElse(null), false);
+		}
+		else if (existingRabbitBinding.isPresent()) {
+			deleteOrphanRabbitBinding(bindingName);
+		}
+	}
+
+	private void reconcileRabbitBinding(MachineAnnotationService machineAnnotationService,
+			RabbitBinding existingRabbitBinding, boolean fullSync)
+			throws ApiException, TemplateException, IOException, KubernetesFailedException {
+		var name = getTopicName(machineAnnotationService.getId());
+		var rabbitBinding = createRabbitBindingResource(name);
+		if (existingRabbitBinding == null) {
+			log.warn("Found a machine annotation service: {} without a rabbit binding, creating one",
+					machineAnnotationService.getId());
+		}
+		else if (specHashComponent.isInSync(existingRabbitBinding, rabbitBinding, fullSync)) {
+			log.debug("Rabbit binding resource for machine annotation service: {} is in sync with the database",
+					machineAnnotationService.getId());
+			return;
 		}
+		else {
+			log.warn("Found an out of sync Rabbit binding for machine annotation service: {}, synchronizing",
+					machineAnnotationService.getId());
+		}
+		applyComponent.apply(InformedResourceType.RABBIT_BINDING, MAS_PREFIX + name + BINDING, rabbitBinding);
 	}
 
-	private boolean equalsCheckRabbitSpec(JsonObject kedaObject, JsonObject existingKeda) {
-		return Objects.equals(kedaObject.get("spec"), existingKeda.get("spec"));
+	private void deleteOrphanRabbitBinding(String bindingName) throws ApiException {
+		log.warn("Found a Rabbit Binding Resource: {} without a machine annotation service, deleting it",
+				bindingName);
+		customObjectsApi
+			.deleteNamespacedCustomObject(kubernetesProperties.getRabbitGroup(), kubernetesProperties.getRabbitVersion(),
+					properties.getNamespace(), kubernetesProperties.getRabbitBindingResource(), bindingName)
+			.execute();
 	}
 
-	private void synchronizeKeda(List<MachineAnnotationService> existingMasList)
-			throws ApiException, TemplateException, IOException, InterruptedException {
+	private void synchronizeKeda() throws KubernetesFailedException {
 		log.info("Synchronizing KEDA resources of Machine Annotation Service");
-		var existingKedaList = customObjectsApi
-			.listNamespacedCustomObject(kubernetesProperties.getKedaGroup(), kubernetesProperties.getKedaVersion(),
-					properties.getNamespace(), kubernetesProperties.getKedaResource())
-			.execute();
-		var items = new Gson().toJsonTree(existingKedaList).getAsJsonObject().get(ITEMS).getAsJsonArray();
-		if (items != null) {
-			var existingKedaMap = items.asList()
-				.stream()
-				.collect(toMap(keda -> (((JsonObject) keda).get(METADATA).getAsJsonObject()).get("name").getAsString(),
-						keda -> keda));
-			for (var machineAnnotationService : existingMasList) {
-				var name = getTopicName(machineAnnotationService.getId());
-				var expectedKedaObject = createKedaFiles(machineAnnotationService, name);
-				var existingKedaObject = existingKedaMap.get(name + SCALED_OBJECT);
-				if (existingKedaObject == null) {
-					log.warn("Found a machine annotation service: {} without a keda scaled object, creating one",
-							machineAnnotationService.getId());
-					customObjectsApi
-						.createNamespacedCustomObject(kubernetesProperties.getKedaGroup(),
-								kubernetesProperties.getKedaVersion(), properties.getNamespace(),
-								kubernetesProperties.getKedaResource(), expectedKedaObject)
-						.execute();
-				}
-				else if (equalsCheckKeda((JsonObject) expectedKedaObject, existingKedaObject.getAsJsonObject())) {
-					log.debug("Keda resource for machine annotation service: {} is in sync with the database",
-							machineAnnotationService.getId());
-				}
-				else {
-					log.warn(
-							"Found an out of sync keda scaled object for machine annotation service: {}, synchronizing",
-							machineAnnotationService.getId());
-					customObjectsApi
-						.deleteNamespacedCustomObject(kubernetesProperties.getKedaGroup(),
-								kubernetesProperties.getKedaVersion(), properties.getNamespace(),
-								kubernetesProperties.getKedaResource(), name + SCALED_OBJECT)
-						.execute();
-					Thread.sleep(kubernetesProperties.getKedaPatchWait());
-					customObjectsApi
-						.createNamespacedCustomObject(kubernetesProperties.getKedaGroup(),
-								kubernetesProperties.getKedaVersion(), properties.getNamespace(),
-								kubernetesProperties.getKedaResource(), expectedKedaObject)
-						.execute();
-				}
-			}
-			existingKedaMap.keySet()
-				.removeAll(existingMasList.stream()
-					.map(mas -> getTopicName(mas.getId()) + SCALED_OBJECT)
-					.collect(Collectors.toSet()));
-			for (var existingKeda : existingKedaMap.entrySet()) {
-				log.warn("Found a KEDA resource: {} without a machine annotation service, deleting it",
-						existingKeda.getKey());
-				customObjectsApi
-					.deleteNamespacedCustomObject(kubernetesProperties.getKedaGroup(),
-							kubernetesProperties.getKedaVersion(), properties.getNamespace(),
-							kubernetesProperties.getKedaResource(), existingKeda.getKey())
-					.execute();
-			}
+		var existingKedaMap = informerComponent.getScaledObjects()
+			.stream()
+			.collect(toMap(keda -> keda.getMetadata().getName(), keda -> keda));
+		Set<String> expectedKedaObjects = ConcurrentHashMap.newKeySet();
+		reconciliationComponent.forEachChunk(repository::streamActiveMachineAnnotationServices,
+				machineAnnotationService -> {
+					var kedaName = getTopicName(machineAnnotationService.getId()) + SCALED_OBJECT;
+					expectedKedaObjects.add(kedaName);
+					reconcileKeda(machineAnnotationService, existingKedaMap.get(kedaName), true);
+				});
+		existingKedaMap.keySet().removeAll(expectedKedaObjects);
+		reconciliationComponent.forEach(existingKedaMap.keySet(), this::deleteOrphanKeda);
+	}
+
+	private void reconcileKedaChange(String kedaName)
+			throws ApiException, TemplateException, IOException, KubernetesFailedException {
+		var mas = getMasForResource(kedaName, "", SCALED_OBJECT);
+		var existingKedaObject = informerComponent.getScaledObject(kedaName);
+		if (mas.isPresent()) {
+			reconcileKeda(mas.get(), existingKedaObject.orElse(null), false);
+		}
+		else if (existingKedaObject.isPresent()) {
+			deleteOrphanKeda(kedaName);
+		}
+	}
+
+	private void reconcileKeda(MachineAnnotationService machineAnnotationService, ScaledObject existingKedaObject,
+			boolean fullSync) throws ApiException, TemplateException, IOException, KubernetesFailedException {
+		var name = getTopicName(machineAnnotationService.getId());
+		var scaledObject = createKedaFiles(machineAnnotationService, name);
+		if (existingKedaObject == null) {
+			log.warn("Found a machine annotation service: {} without a keda scaled object, creating one",
+					machineAnnotationService.getId());
+		}
+		else if (specHashComponent.isInSync(existingKedaObject, scaledObject, fullSync)) {
+			log.debug("Keda resource for machine annotation service: {} is in sync with the database",
+					machineAnnotationService.getId());
+			return;
+		}
+		else {
+			log.warn("Found an out of sync keda scaled object for machine annotation service: {}, synchronizing",
+					machineAnnotationService.getId());
 		}
+		applyComponent.apply(InformedResourceType.SCALED_OBJECT, name + SCALED_OBJECT, scaledObject);
+	}
+
+	private void deleteOrphanKeda(String kedaName) throws ApiException {
+		log.warn("Found a KEDA resource: {} without a machine annotation service, deleting it", kedaName);
+		customObjectsApi
+			.deleteNamespacedCustomObject(kubernetesProperties.getKedaGroup(), kubernetesProperties.getKedaVersion(),
+					properties.getNamespace(), kubernetesProperties.getKedaResource(), kedaName)
+			.execute();
 	}
 
-	private void synchronizeDeployment(List<MachineAnnotationService> existingMasList)
-			throws ApiException, TemplateException, IOException {
+	private void synchronizeDeployment() throws KubernetesFailedException {
 		log.info("Synchronizing deployment of Machine Annotation Service");
-		var existingDeployment = appsV1Api.listNamespacedDeployment(properties.getNamespace())
-			.execute()
-			.getItems()
+		var existingDeployment = informerComponent.getDeployments()
 			.stream()
 			.collect(toMap(mas -> mas.getMetadata().getName(), mas -> mas));
-		for (var machineAnnotationService : existingMasList) {
-			var expectedMasDeploy = getV1Deployment(machineAnnotationService,
-					getTopicName(machineAnnotationService.getId()));
-			var existingMasDeploy = existingDeployment.get(getTopicName(machineAnnotationService.getId()) + DEPLOYMENT);
-			if (existingMasDeploy == null) {
-				log.warn("Found a machine annotation service: {} without a deployment, creating one",
-						machineAnnotationService.getId());
-				appsV1Api.createNamespacedDeployment(properties.getNamespace(), expectedMasDeploy).execute();
-			}
-			else if (equalsCheckDeployment(expectedMasDeploy, existingMasDeploy)) {
+		Set<String> expectedDeployments = ConcurrentHashMap.newKeySet();
+		reconciliationComponent.forEachChunk(repository::streamActiveMachineAnnotationServices,
+				machineAnnotationService -> {
+					var deploymentName = getTopicName(machineAnnotationService.getId()) + DEPLOYMENT;
+					expectedDeployments.add(deploymentName);
+					reconcileDeployment(machineAnnotationService, existingDeployment.get(deploymentName), true);
+				});
+		existingDeployment.keySet().removeAll(expectedDeployments);
+		reconciliationComponent.forEach(existingDeployment.keySet(), this::deleteOrphanDeployment);
+	}
+
+	private void reconcileDeploymentChange(String deploymentName)
+			throws ApiException, TemplateException, IOException, KubernetesFailedException {
+		var mas = getMasForResource(deploymentName, "", DEPLOYMENT);
+		var existingMasDeploy = informerComponent.getDeployment(deploymentName);
+		if (mas.isPresent()) {
+			reconcileDeployment(mas.get(), existingMasDeploy.orElse(null), false);
+		}
+		else if (existingMasDeploy.isPresent()) {
+			deleteOrphanDeployment(deploymentName);
+		}
+	}
+
+	/*
+	 * The replicas are scaled by KEDA, so the live replicas are kept
+	 */
+	private void reconcileDeployment(MachineAnnotationService machineAnnotationService,
+			V1Deployment existingMasDeploy, boolean fullSync)
+			throws ApiException, TemplateException, IOException, KubernetesFailedException {
+		var shortPid = getTopicName(machineAnnotationService.getId());
+		var deployment = getV1Deployment(machineAnnotationService, shortPid);
+		if (existingMasDeploy == null) {
+			log.warn("Found a machine annotation service: {} without a deployment, creating one",
+					machineAnnotationService.getId());
+		}
+		else {
+			deployment.getSpec().setReplicas(existingMasDeploy.getSpec().getReplicas());
+			if (specHashComponent.isInSync(existingMasDeploy, deployment, fullSync)) {
 				log.debug("Deployment for machine annotation service: {} is in sync with the database",
 						machineAnnotationService.getId());
+				return;
 			}
-			else {
-				log.warn("Found an out of sync deployment for machine annotation service: {}, synchronizing",
-						machineAnnotationService.getId());
-				appsV1Api
-					.replaceNamespacedDeployment(existingMasDeploy.getMetadata().getName(), properties.getNamespace(),
-							expectedMasDeploy)
-					.execute();
-			}
-		}
-		existingDeployment.keySet()
-			.removeAll(
-					existingMasList.stream()
-						.map(mas -> getTopicName(mas.getId()) + DEPLOYMENT)
-						.collect(Collectors.toSet()));
-		for (var existingDeploy : existingDeployment.values()) {
-			log.warn("Found a deployment: {} without a machine annotation service, deleting it",
-					existingDeploy.getMetadata().getName());
-			appsV1Api.deleteNamespacedDeployment(existingDeploy.getMetadata().getName(), properties.getNamespace())
-				.execute();
+			log.warn("Found an out of sync deployment for machine annotation service: {}, synchronizing",
+					machineAnnotationService.getId());
 		}
+		applyComponent.apply(InformedResourceType.DEPLOYMENT, shortPid + DEPLOYMENT, deployment);
 	}
 
-	private boolean equalsCheckDeployment(V1Deployment databaseMasDeploy, V1Deployment existingMas) {
-		var existingContainer = existingMas.getSpec().getTemplate().getSpec().getContainers().get(0);
-		var databaseContainer = databaseMasDeploy.getSpec().getTemplate().getSpec().getContainers().get(0);
-		return Objects.equals(existingContainer.getName(), databaseContainer.getName())
-				&& Objects.equals(existingContainer.getImage(), databaseContainer.getImage())
-				&& Objects.equals(existingContainer.getEnv(), databaseContainer.getEnv())
-				&& Objects.equals(existingContainer.getVolumeMounts(), databaseContainer.getVolumeMounts());
+	private void deleteOrphanDeployment(String deploymentName) throws ApiException {
+		log.warn("Found a deployment: {} without a machine annotation service, deleting it", deploymentName);
+		appsV1Api.deleteNamespacedDeployment(deploymentName, properties.getNamespace()).execute();
 	}
 
 	public JsonApiWrapper createMachineAnnotationService(MachineAnnotationServiceRequest masRequest, Agent agent,
 			String path) throws ProcessingFailedException {
 		var requestBody = fdoRecordService.buildCreateRequest(masRequest, ObjectType.MAS);
 		try {
-			var handle = handleComponent.postHandle(requestBody);
+			var handle = handlePoolComponent.createHandle(requestBody);
 			var mas = buildMachineAnnotationService(masRequest, 1, agent, handle, Instant.now());
-			repository.createMachineAnnotationService(mas);
+			repository.createMachineAnnotationService(mas, rabbitMqPublisherService.buildCreateEvent(mas, agent));
 			createDeployment(mas);
-			publishCreateEvent(mas, agent);
+			repository.releaseEvents(mas.getId(), mas.getSchemaVersion());
 			return wrapSingleResponse(mas, path);
 		}
 		catch (PidException e) {
@@ -467,7 +479,7 @@ public class MachineAnnotationServiceService {
 			.withOdsTopicName(getTopicName(handle))
 			.withOdsMaxReplicas(getMaxReplicas(mas.getOdsMaxReplicas()))
 			.withOdsBatchingPermitted(mas.getOdsBatchingPermitted())
-			.withOdsTimeToLive(mas.getOdsTimeToLive())
+			.withOdsTimeToLive(getTimeToLive(mas.getOdsTimeToLive()))
 			.withOdsHasSecretVariables(mas.getOdsHasSecretVariables())
 			.withOdsHasEnvironmentalVariables(mas.getOdsHasEnvironmentalVariables());
 	}
@@ -488,32 +500,49 @@ public class MachineAnnotationServiceService {
 		return maxReplicas;
 	}
 
+	/*
+	 * The default is applied before the write, so the provenance event describes the stored version
+	 */
+	private static Integer getTimeToLive(Integer timeToLive) {
+		return timeToLive == null ? DEFAULT_TIME_TO_LIVE : timeToLive;
+	}
+
+	/*
+	 * The resources don't depend on each other, so they are rendered and applied concurrently. When one of them
+	 * fails, the resources which were created are rolled back.
+	 */
 	private void createDeployment(MachineAnnotationService mas) throws ProcessingFailedException {
-		var successfulDeployment = false;
-		var successfulKeda = false;
-		var successfulRabbitBinding = false;
-		try {
-			successfulDeployment = deployMasToCluster(mas, true);
-			successfulKeda = deployKedaToCluster(mas);
-			successfulRabbitBinding = deployRabbitBindingToCluster(mas);
-			deployRabbitQueueToCluster(mas);
+		Future<Boolean> deployment;
+		Future<Boolean> keda;
+		Future<Boolean> rabbitBinding;
+		Future<Boolean> rabbitQueue;
+		try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+			deployment = executor.submit(() -> deployMasToCluster(mas));
+			keda = executor.submit(() -> deployKedaToCluster(mas));
+			rabbitBinding = executor.submit(() -> deployRabbitBindingToCluster(mas));
+			rabbitQueue = executor.submit(() -> deployRabbitQueueToCluster(mas));
 		}
-		catch (KubernetesFailedException e) {
-			rollbackMasCreation(mas, successfulDeployment, successfulKeda, successfulRabbitBinding, false);
-			throw new ProcessingFailedException("Failed to create kubernetes resources", e);
+		var failure = Stream.of(deployment, keda, rabbitBinding, rabbitQueue)
+			.filter(future -> future.state() != Future.State.SUCCESS)
+			.findFirst();
+		if (failure.isPresent()) {
+			rollbackMasCreation(mas, isSuccessful(deployment), isSuccessful(keda), isSuccessful(rabbitBinding),
+					isSuccessful(rabbitQueue));
+			var future = failure.get();
+			throw new ProcessingFailedException("Failed to create kubernetes resources",
+					future.state() == Future.State.FAILED ? future.exceptionNow() : null);
 		}
 	}
 
+	private static boolean isSuccessful(Future<Boolean> future) {
+		return future.state() == Future.State.SUCCESS;
+	}
+
 	private boolean deployRabbitBindingToCluster(MachineAnnotationService mas) throws KubernetesFailedException {
 		var name = getTopicName(mas.getId());
 		try {
-			var rabbitResource = createRabbitBindingResource(name);
-			var rabbitObject = JsonParser.parseString(rabbitResource);
-			customObjectsApi
-				.createNamespacedCustomObject(kubernetesProperties.getRabbitGroup(),
-						kubernetesProperties.getRabbitVersion(), properties.getNamespace(),
-						kubernetesProperties.getRabbitBindingResource(), rabbitObject)
-				.execute();
+			applyComponent.apply(InformedResourceType.RABBIT_BINDING, MAS_PREFIX + name + BINDING,
+					createRabbitBindingResource(name));
 			return true;
 		}
 		catch (TemplateException | IOException e) {
@@ -527,16 +556,12 @@ public class MachineAnnotationServiceService {
 		}
 	}
 
-	private void deployRabbitQueueToCluster(MachineAnnotationService mas) throws KubernetesFailedException {
+	private boolean deployRabbitQueueToCluster(MachineAnnotationService mas) throws KubernetesFailedException {
 		var name = getTopicName(mas.getId());
 		try {
-			var rabbitResource = createRabbitQueueResource(name);
-			var rabbitObject = JsonParser.parseString(rabbitResource);
-			customObjectsApi
-				.createNamespacedCustomObject(kubernetesProperties.getRabbitGroup(),
-						kubernetesProperties.getRabbitVersion(), properties.getNamespace(),
-						kubernetesProperties.getRabbitQueueResource(), rabbitObject)
-				.execute();
+			applyComponent.apply(InformedResourceType.RABBIT_QUEUE, MAS_PREFIX + name + QUEUE,
+					createRabbitQueueResource(name));
+			return true;
 		}
 		catch (TemplateException | IOException e) {
 			log.error("Failed to create rabbitmq queue kubernetes files for: {}", mas, e);
@@ -549,32 +574,33 @@ public class MachineAnnotationServiceService {
 		}
 	}
 
-	private String createRabbitBindingResource(String name) throws TemplateException, IOException {
-		var templateProperties = Map.of(NAME, name, "exchangeName", properties.getMasRabbitExchange());
-		return getRabbitResourceString(templateProperties, rabbitBindingTemplate);
+	private Map<String, String> getRabbitBindingTemplateProperties(String name) {
+		return Map.of(NAME, name, "exchangeName", properties.getMasRabbitExchange());
+	}
+
+	private RabbitBinding createRabbitBindingResource(String name) throws TemplateException, IOException {
+		var templateProperties = getRabbitBindingTemplateProperties(name);
+		var rabbitBinding = mapper.readValue(fillTemplate(rabbitBindingTemplate, templateProperties),
+				RabbitBinding.class);
+		return specHashComponent.withSpecHash(rabbitBinding);
 	}
 
-	private String createRabbitQueueResource(String name) throws TemplateException, IOException {
-		var templateProperties = Map.of(NAME, name);
-		return getRabbitResourceString(templateProperties, rabbitQueueTemplate);
+	private RabbitQueue createRabbitQueueResource(String name) throws TemplateException, IOException {
+		var rabbitQueue = mapper.readValue(fillTemplate(rabbitQueueTemplate, Map.of(NAME, name)), RabbitQueue.class);
+		return specHashComponent.withSpecHash(rabbitQueue);
 	}
 
-	private String getRabbitResourceString(Map<String, String> templateProperties, Template rabbitTemplate)
+	private static String fillTemplate(Template template, Map<String, ?> templateProperties)
 			throws TemplateException, IOException {
 		var writer = new StringWriter();
-		rabbitTemplate.process(templateProperties, writer);
+		template.process(templateProperties, writer);
 		return writer.toString();
 	}
 
 	private boolean deployKedaToCluster(MachineAnnotationService mas) throws KubernetesFailedException {
 		var name = getTopicName(mas.getId());
 		try {
-			var keda = createKedaFiles(mas, name);
-			customObjectsApi
-				.createNamespacedCustomObject(kubernetesProperties.getKedaGroup(),
-						kubernetesProperties.getKedaVersion(), properties.getNamespace(),
-						kubernetesProperties.getKedaResource(), keda)
-				.execute();
+			applyComponent.apply(InformedResourceType.SCALED_OBJECT, name + SCALED_OBJECT, createKedaFiles(mas, name));
 			return true;
 		}
 		catch (TemplateException | IOException e) {
@@ -588,21 +614,10 @@ public class MachineAnnotationServiceService {
 		}
 	}
 
-	private boolean deployMasToCluster(MachineAnnotationService mas, boolean create) throws KubernetesFailedException {
+	private boolean deployMasToCluster(MachineAnnotationService mas) throws KubernetesFailedException {
 		var shortPid = getTopicName(mas.getId());
 		try {
-			var deployment = getV1Deployment(mas, shortPid);
-			if (create) {
-				appsV1Api.createNamespacedDeployment(properties.getNamespace(), deployment).execute();
-			}
-			else {
-				appsV1Api.replaceNamespacedDeployment(shortPid + DEPLOYMENT, properties.getNamespace(), deployment)
-					.execute();
-			}
-		}
-		catch (IOException | TemplateException e) {
-			log.error("Failed to create deployment files for: {}", mas, e);
-			throw new KubernetesFailedException("Failed to deploy to cluster");
+			applyComponent.apply(InformedResourceType.DEPLOYMENT, shortPid + DEPLOYMENT, getV1Deployment(mas, shortPid));
 		}
 		catch (ApiException e) {
 			log.error("Failed to deploy kubernetes deployment to cluster with code: {} and message: {}", e.getCode(),
@@ -612,17 +627,17 @@ public class MachineAnnotationServiceService {
 		return true;
 	}
 
-	private V1Deployment getV1Deployment(MachineAnnotationService mas, String shortPid)
-			throws IOException, TemplateException {
+	private V1Deployment getV1Deployment(MachineAnnotationService mas, String shortPid) {
 		var templateProperties = getDeploymentTemplateProperties(mas, shortPid);
-		var deploymentString = fillDeploymentTemplate(templateProperties, mas);
-		return mapper.readValue(deploymentString, V1Deployment.class);
+		var deployment = deploymentBlueprintComponent.createDeployment(mas, templateProperties);
+		return specHashComponent.withSpecHash(deployment, "replicas");
 	}
 
-	private Object createKedaFiles(MachineAnnotationService mas, String name) throws TemplateException, IOException {
+	private ScaledObject createKedaFiles(MachineAnnotationService mas, String name)
+			throws TemplateException, IOException {
 		var templateProperties = getKedaTemplateProperties(mas, name);
-		var kedaString = fillKedaTemplate(templateProperties);
-		return JsonParser.parseString(kedaString.toString());
+		var scaledObject = mapper.readValue(fillTemplate(kedaTemplate, templateProperties), ScaledObject.class);
+		return specHashComponent.withSpecHash(scaledObject);
 	}
 
 	private Map<String, Object> getKedaTemplateProperties(MachineAnnotationService mas, String name) {
@@ -633,13 +648,6 @@ public class MachineAnnotationServiceService {
 		return map;
 	}
 
-	private StringWriter fillKedaTemplate(Map<String, Object> templateProperties)
-			throws IOException, TemplateException {
-		var writer = new StringWriter();
-		kedaTemplate.process(templateProperties, writer);
-		return writer;
-	}
-
 	private Map<String, Object> getDeploymentTemplateProperties(MachineAnnotationService mas, String shortPid) {
 		var map = new HashMap<String, Object>();
 		map.put("image", mas.getOdsContainerImage());
@@ -652,69 +660,9 @@ public class MachineAnnotationServiceService {
 		return map;
 	}
 
-	// Uses the Jackson2 module as the yaml mapper hasn't been updated yet
-	private List<com.fasterxml.jackson.databind.JsonNode> addMasKeys(MachineAnnotationService mas) {
-		var keyNode = new ArrayList<com.fasterxml.jackson.databind.JsonNode>();
-		if (mas.getOdsHasEnvironmentalVariables() != null) {
-			mas.getOdsHasEnvironmentalVariables().forEach(env -> {
-				if (env.getSchemaValue() instanceof String stringVal) {
-					keyNode
-						.add(yamlMapperHelper.createObjectNode().put(NAME, env.getSchemaName()).put(VALUE, stringVal));
-				}
-				else if (env.getSchemaValue() instanceof Integer intVal) {
-					keyNode.add(yamlMapperHelper.createObjectNode().put(NAME, env.getSchemaName()).put(VALUE, intVal));
-				}
-				else if (env.getSchemaValue() instanceof Boolean boolValue) {
-					keyNode
-						.add(yamlMapperHelper.createObjectNode().put(NAME, env.getSchemaName()).put(VALUE, boolValue));
-				}
-				else {
-					throw new IllegalArgumentException();
-				}
-			});
-		}
-		if (mas.getOdsHasSecretVariables() != null) {
-			mas.getOdsHasSecretVariables()
-				.forEach(secret -> keyNode.add(yamlMapperHelper.createObjectNode()
-					.put(NAME, secret.getSchemaName())
-					.set("valueFrom",
-							yamlMapperHelper.createObjectNode()
-								.set("secretKeyRef",
-										yamlMapperHelper.createObjectNode()
-											.put(NAME, properties.getMasSecretStore())
-											.put("key", secret.getOdsSecretKeyRef())))));
-		}
-		return keyNode;
-	}
-
-	private String fillDeploymentTemplate(Map<String, Object> templateProperties, MachineAnnotationService mas)
-			throws IOException, TemplateException {
-		var writer = new StringWriter();
-		deploymentTemplate.process(templateProperties, writer);
-		var templateAsNode = (ObjectNode) yamlMapper.readTree(writer.toString());
-		var defaultKeyNode = (ArrayNode) templateAsNode.get("spec")
-			.get("template")
-			.get("spec")
-			.get("containers")
-			.get(0)
-			.get("env");
-		defaultKeyNode.addAll(addMasKeys(mas));
-		return yamlMapperHelper.writeValueAsString(templateAsNode);
-	}
-
-	private void publishCreateEvent(MachineAnnotationService mas, Agent agent) throws ProcessingFailedException {
-		try {
-			rabbitMqPublisherService.publishCreateEvent(mas, agent);
-		}
-		catch (JacksonException e) {
-			log.error("Unable to publish message to RabbitMQ", e);
-			rollbackMasCreation(mas, true, true, true, true);
-			throw new ProcessingFailedException("Failed to create new machine annotation service", e);
-		}
-	}
-
 	private void rollbackMasCreation(MachineAnnotationService mas, boolean rollbackDeployment, boolean rollbackKeda,
 			boolean rollbackRabbitBinding, boolean rollbackRabbitQueue) {
+		handlePoolComponent.cancelHandleUpdate(mas.getId());
 		var request = fdoRecordService.buildRollbackCreateRequest(mas.getId());
 		handleComponent.rollbackHandleCreation(request);
 		repository.rollbackMasCreation(mas.getId());
@@ -785,9 +733,10 @@ public class MachineAnnotationServiceService {
 				return null;
 			}
 			else {
-				repository.updateMachineAnnotationService(machineAnnotationService);
+				repository.updateMachineAnnotationService(machineAnnotationService,
+						rabbitMqPublisherService.buildUpdateEvent(machineAnnotationService, currentMas, agent));
 				updateDeployment(machineAnnotationService, currentMas);
-				publishUpdateEvent(machineAnnotationService, currentMas, agent);
+				repository.releaseEvents(machineAnnotationService.getId(), machineAnnotationService.getSchemaVersion());
 				return wrapSingleResponse(machineAnnotationService, path);
 			}
 		}
@@ -821,38 +770,17 @@ public class MachineAnnotationServiceService {
 			throws ProcessingFailedException {
 		var successfulDeployment = false;
 		try {
-			successfulDeployment = deployMasToCluster(mas, false);
+			successfulDeployment = deployMasToCluster(mas);
 			updateKedaResource(mas, currentMas);
 		}
 		catch (KubernetesFailedException e) {
-			rollbackToPreviousVersion(currentMas, successfulDeployment, false);
+			rollbackToPreviousVersion(currentMas, successfulDeployment);
 			throw new ProcessingFailedException("Failed to update kubernetes resources", e);
 		}
 	}
 
 	private void updateKedaResource(MachineAnnotationService mas, MachineAnnotationService rollbackRecord)
-			throws KubernetesFailedException, ProcessingFailedException {
-		var name = getTopicName(mas.getId());
-		try {
-			customObjectsApi
-				.deleteNamespacedCustomObject(kubernetesProperties.getKedaGroup(),
-						kubernetesProperties.getKedaVersion(), properties.getNamespace(),
-						kubernetesProperties.getKedaResource(), name + SCALED_OBJECT)
-				.execute();
-		}
-		catch (ApiException e) {
-			log.error("Deletion of kubernetes keda failed for record: {}, with code: {} and message: {}", mas,
-					e.getCode(), e.getResponseBody());
-			throw new KubernetesFailedException("Failed to remove keda from cluster");
-		}
-		try {
-			Thread.sleep(kubernetesProperties.getKedaPatchWait());
-		}
-		catch (InterruptedException e) {
-			log.error("Application interrupted", e);
-			Thread.currentThread().interrupt();
-			throw new ProcessingFailedException("Application was interrupted during KEDA recreate", e);
-		}
+			throws KubernetesFailedException {
 		try {
 			deployKedaToCluster(mas);
 		}
@@ -866,56 +794,40 @@ public class MachineAnnotationServiceService {
 					log.error("Fatal error, unable to redeploy previous keda configuration", ex);
 				}
 			}
-			throw new KubernetesFailedException("Failed to remove keda from cluster");
+			throw new KubernetesFailedException("Failed to update keda on cluster");
 		}
 	}
 
-	private void publishUpdateEvent(MachineAnnotationService mas, MachineAnnotationService currentMas, Agent agent)
-			throws ProcessingFailedException {
-		try {
-			rabbitMqPublisherService.publishUpdateEvent(mas, currentMas, agent);
-		}
-		catch (JacksonException e) {
-			log.error("Unable to publish message to RabbitMQ", e);
-			rollbackToPreviousVersion(currentMas, true, true);
-			throw new ProcessingFailedException("Failed to create new machine annotation service", e);
-		}
-	}
-
-	private void rollbackToPreviousVersion(MachineAnnotationService currentMas, boolean rollbackDeployment,
-			boolean rollbackKeda) throws ProcessingFailedException {
-		repository.updateMachineAnnotationService(currentMas);
+	private void rollbackToPreviousVersion(MachineAnnotationService currentMas, boolean rollbackDeployment) {
+		repository.rollbackMasUpdate(currentMas);
 		if (rollbackDeployment) {
 			try {
 				log.warn(
 						"Rolling back to previous version of kubernetes deployment with environmental variables provided in update request. Environment may be out of sync with deployment");
-				deployMasToCluster(currentMas, false);
+				deployMasToCluster(currentMas);
 			}
 			catch (KubernetesFailedException e) {
 				log.error("Fatal exception, unable to rollback kubernetes deployment for: {} ", currentMas.getId(), e);
 			}
 		}
-		if (rollbackKeda) {
-			try {
-				updateKedaResource(currentMas, null);
-			}
-			catch (KubernetesFailedException e) {
-				log.error("Fatal exception, unable to rollback keda for: {} ", currentMas.getId(), e);
-			}
-		}
 	}
 
+	/**
+	 * Tombstones a machine annotation service. The machine annotation service is tombstoned before its resources are
+	 * deleted, so the change handlers which see the deletion don't recreate them. A resource which could not be
+	 * deleted is an orphan, which the reconciliation deletes.
+	 */
 	public void tombstoneMachineAnnotationService(String id, Agent agent)
 			throws NotFoundException, ProcessingFailedException {
 		var currentMasOptional = repository.getActiveMachineAnnotationService(id);
 		if (currentMasOptional.isPresent()) {
 			var mas = currentMasOptional.get();
-			deleteDeployment(mas);
 			tombstoneHandle(id);
 			var timestamp = Instant.now();
 			var tombstoneMas = buildTombstoneMachineAnnotationService(mas, agent, timestamp);
-			repository.tombstoneMachineAnnotationService(tombstoneMas, timestamp);
-			rabbitMqPublisherService.publishTombstoneEvent(tombstoneMas, mas, agent);
+			repository.tombstoneMachineAnnotationService(tombstoneMas, timestamp,
+					rabbitMqPublisherService.buildTombstoneEvent(tombstoneMas, mas, agent));
+			deleteDeployment(mas);
 		}
 		else {
 			throw new NotFoundException("Requested machine annotation service: " + id + "does not exist");
@@ -933,15 +845,14 @@ public class MachineAnnotationServiceService {
 		}
 	}
 
-	private void deleteDeployment(MachineAnnotationService currentMas) throws ProcessingFailedException {
+	private void deleteDeployment(MachineAnnotationService currentMas) {
 		var name = getTopicName(currentMas.getId());
 		try {
 			appsV1Api.deleteNamespacedDeployment(name + DEPLOYMENT, properties.getNamespace()).execute();
 		}
 		catch (ApiException e) {
-			log.error("Deletion of kubernetes deployment failed for record: {}, with code: {} and message: {}",
-					currentMas, e.getCode(), e.getResponseBody());
-			throw new ProcessingFailedException("Failed to delete kubernetes resources", e);
+			log.error("Deletion of kubernetes deployment failed for record: {}, with code: {} and message: {}. "
+					+ "Leaving it to the reconciliation.", currentMas, e.getCode(), e.getResponseBody());
 		}
 		try {
 			customObjectsApi
@@ -951,15 +862,8 @@ public class MachineAnnotationServiceService {
 				.execute();
 		}
 		catch (ApiException e) {
-			log.error("Deletion of kubernetes keda failed for record: {}, with code: {} and message: {}", currentMas,
-					e.getCode(), e.getResponseBody());
-			try {
-				deployMasToCluster(currentMas, true);
-			}
-			catch (KubernetesFailedException ex) {
-				log.error("Failed error, unable to create deployment after failed keda deletion", ex);
-			}
-			throw new ProcessingFailedException("Failed to delete kubernetes resources", e);
+			log.error("Deletion of kubernetes keda failed for record: {}, with code: {} and message: {}. "
+					+ "Leaving it to the reconciliation.", currentMas, e.getCode(), e.getResponseBody());
 		}
 		removeRabbitResources(currentMas);
 	}
@@ -980,14 +884,14 @@ public class MachineAnnotationServiceService {
 		}
 		catch (ApiException e) {
 			log.error("Deletion of kubernetes rabbit resources failed for record: {}, with code: {} and message: {}. "
-					+ "Resources need to be removed manually.", currentMas, e.getCode(), e.getResponseBody());
+					+ "Leaving them to the reconciliation.", currentMas, e.getCode(), e.getResponseBody());
 		}
 	}
 
 	public JsonApiWrapper getMachineAnnotationService(String id, String path) throws NotFoundException {
-		var mas = repository.getMachineAnnotationService(id);
-		if (mas != null) {
-			return wrapSingleResponse(mas, path);
+		var mas = repository.getRawMachineAnnotationService(id);
+		if (mas.isPresent()) {
+			return new JsonApiWrapper(JsonApiData.fromRawJson(mas.get(), ObjectType.MAS), new JsonApiLinks(path));
 		}
 		log.warn("Unable to find MAS {}", id);
 		throw new NotFoundException("Unable to find MAS " + id);
@@ -1002,13 +906,25 @@ public class MachineAnnotationServiceService {
 		return wrapResponse(mass, pageNum, pageSize, path);
 	}
 
+	public JsonApiListWrapper getMachineAnnotationServicePage(String cursor, int pageSize, String path)
+			throws BadRequestException {
+		var mass = repository.getMachineAnnotationServicePage(PageCursor.decode(cursor), pageSize);
+		boolean hasNext = mass.size() > pageSize;
+		mass = hasNext ? mass.subList(0, pageSize) : mass;
+		var nextCursor = hasNext ? getPageCursor(mass.getLast()).encode() : null;
+		return new JsonApiListWrapper(wrapData(mass), new JsonApiLinks(pageSize, cursor, nextCursor, path));
+	}
+
+	private static PageCursor getPageCursor(RawJsonObject mas) {
+		return new PageCursor(mas.created(), removeProxy(mas.id()));
+	}
+
 	private JsonApiWrapper wrapSingleResponse(MachineAnnotationService mas, String path) {
 		return new JsonApiWrapper(new JsonApiData(mas.getId(), ObjectType.MAS, flattenMas(mas)),
 				new JsonApiLinks(path));
 	}
 
-	private JsonApiListWrapper wrapResponse(List<MachineAnnotationService> mass, int pageNum, int pageSize,
-			String path) {
+	private JsonApiListWrapper wrapResponse(List<RawJsonObject> mass, int pageNum, int pageSize, String path) {
 		boolean hasNext = mass.size() > pageSize;
 		mass = hasNext ? mass.subList(0, pageSize) : mass;
 		var linksNode = new JsonApiLinks(pageSize, pageNum, hasNext, path);
@@ -1016,8 +932,8 @@ public class MachineAnnotationServiceService {
 		return new JsonApiListWrapper(dataNode, linksNode);
 	}
 
-	private List<JsonApiData> wrapData(List<MachineAnnotationService> mass) {
-		return mass.stream().map(r -> new JsonApiData(r.getId(), ObjectType.MAS, flattenMas(r))).toList();
+	private List<JsonApiData> wrapData(List<RawJsonObject> mass) {
+		return mass.stream().map(r -> JsonApiData.fromRawJson(r, ObjectType.MAS)).toList();
 	}
 
 	private JsonNode flattenMas(MachineAnnotationService mas) {
@@ -1,21 +1,45 @@
 package eu.dissco.orchestration.backend.service;
 
+import eu.dissco.orchestration.backend.domain.OutboxEvent;
 import eu.dissco.orchestration.backend.exception.ProcessingFailedException;
 import eu.dissco.orchestration.backend.properties.RabbitMqProperties;
 import eu.dissco.orchestration.backend.schema.Agent;
+import eu.dissco.orchestration.backend.schema.CreateUpdateTombstoneEvent;
 import eu.dissco.orchestration.backend.schema.DataMapping;
 import eu.dissco.orchestration.backend.schema.MachineAnnotationService;
 import eu.dissco.orchestration.backend.schema.SourceSystem;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.AmqpTimeoutException;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitOperations;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.stereotype.Service;
-import tools.jackson.core.JacksonException;
+import tools.jackson.databind.JsonNode;
 import tools.jackson.databind.json.JsonMapper;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static eu.dissco.orchestration.backend.utils.HandleUtils.removeProxy;
+
+/**
+ * Builds the provenance events of the changes to the digital objects and publishes them to RabbitMQ. The events are
+ * not published during the request, the repositories store them in the outbox in the transaction of the change, from
+ * which the outbox relay publishes them. Every message is correlated with its publisher confirm, so a batch is sent
+ * without waiting for the broker in between. The number of unconfirmed messages is bounded, when the broker falls
+ * behind the publisher waits for confirms before it sends more.
+ */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class RabbitMqPublisherService {
 
 	private final RabbitTemplate rabbitTemplate;
@@ -26,29 +50,144 @@ public class RabbitMqPublisherService {
 
 	private final RabbitMqProperties rabbitMqProperties;
 
-	public void publishCreateEvent(Object object, Agent agent) throws JacksonException, ProcessingFailedException {
-		var event = provenanceService.generateCreateEvent(mapper.valueToTree(object), agent);
-		log.info("Publishing new create message to queue: {}", event);
-		rabbitTemplate.convertAndSend(rabbitMqProperties.getProvenanceExchangeName(), assembleRoutingKey(object),
-				mapper.writeValueAsString(event));
+	private final Semaphore unconfirmedPermits;
+
+	private final Timer publishTimer;
+
+	public RabbitMqPublisherService(RabbitTemplate rabbitTemplate, JsonMapper mapper,
+			ProvenanceService provenanceService, RabbitMqProperties rabbitMqProperties, MeterRegistry meterRegistry) {
+		this.rabbitTemplate = rabbitTemplate;
+		this.mapper = mapper;
+		this.provenanceService = provenanceService;
+		this.rabbitMqProperties = rabbitMqProperties;
+		this.unconfirmedPermits = new Semaphore(rabbitMqProperties.getMaxUnconfirmed());
+		this.publishTimer = Timer.builder("rabbitmq.publish.latency")
+			.description("Time between publishing a provenance event and its confirmation by the broker")
+			.publishPercentileHistogram()
+			.register(meterRegistry);
+		Gauge.builder("rabbitmq.publish.unconfirmed", this, RabbitMqPublisherService::getUnconfirmed)
+			.description("Provenance events which are published but not yet confirmed by the broker")
+			.register(meterRegistry);
+		rabbitTemplate.setConfirmCallback(this::confirm);
 	}
 
-	public void publishUpdateEvent(Object object, Object currentObject, Agent agent)
-			throws JacksonException, ProcessingFailedException {
-		var event = provenanceService.generateUpdateEvent(mapper.valueToTree(object), mapper.valueToTree(currentObject),
-				agent);
-		log.info("Publishing new update message to queue: {}", event);
-		rabbitTemplate.convertAndSend(rabbitMqProperties.getProvenanceExchangeName(), assembleRoutingKey(object),
-				mapper.writeValueAsString(event));
+	public OutboxEvent buildCreateEvent(Object object, Agent agent) throws ProcessingFailedException {
+		JsonNode digitalObject = mapper.valueToTree(object);
+		var event = provenanceService.generateCreateEvent(digitalObject, agent);
+		return buildOutboxEvent(object, digitalObject, event);
+	}
+
+	public OutboxEvent buildUpdateEvent(Object object, Object currentObject, Agent agent)
+			throws ProcessingFailedException {
+		JsonNode digitalObject = mapper.valueToTree(object);
+		var event = provenanceService.generateUpdateEvent(digitalObject, mapper.valueToTree(currentObject), agent);
+		return buildOutboxEvent(object, digitalObject, event);
+	}
+
+	public OutboxEvent buildTombstoneEvent(Object tombstoneObject, Object currentObject, Agent agent)
+			throws ProcessingFailedException {
+		JsonNode digitalObject = mapper.valueToTree(tombstoneObject);
+		var event = provenanceService.generateTombstoneEvent(digitalObject, mapper.valueToTree(currentObject), agent);
+		return buildOutboxEvent(tombstoneObject, digitalObject, event);
 	}
 
-	public void publishTombstoneEvent(Object tombstoneObject, Object currentObject, Agent agent)
-			throws JacksonException, ProcessingFailedException {
-		var event = provenanceService.generateTombstoneEvent(mapper.valueToTree(tombstoneObject),
-				mapper.valueToTree(currentObject), agent);
-		log.info("Publishing new tombstone message to queue: {}", event);
-		rabbitTemplate.convertAndSend(rabbitMqProperties.getProvenanceExchangeName(),
-				assembleRoutingKey(tombstoneObject), mapper.writeValueAsString(event));
+	/**
+	 * Publishes the events in order on a single channel and waits until the broker confirmed all of them. The events
+	 * are sent without waiting for the confirms of the previous events, unless the maximum number of unconfirmed
+	 * events is reached.
+	 * @throws AmqpException if an event was rejected by the broker or not confirmed within the confirm timeout, the
+	 * events may have been published partially
+	 */
+	public void publishEvents(List<OutboxEvent> events) {
+		rabbitTemplate.invoke(operations -> {
+			var confirms = new ArrayList<CompletableFuture<Void>>(events.size());
+			for (var event : events) {
+				confirms.add(publishEvent(operations, event));
+			}
+			awaitConfirms(confirms);
+			return null;
+		});
+		log.info("Published {} provenance events", events.size());
+	}
+
+	private CompletableFuture<Void> publishEvent(RabbitOperations operations, OutboxEvent event) {
+		acquirePermit();
+		var correlation = new EventCorrelation(event.objectId() + "/" + event.objectVersion());
+		try {
+			log.debug("Publishing provenance event of object: {} version: {}", event.objectId(),
+					event.objectVersion());
+			operations.convertAndSend(event.exchange(), event.routingKey(), event.payload(), correlation);
+		}
+		catch (AmqpException e) {
+			unconfirmedPermits.release();
+			throw e;
+		}
+		return correlation.confirmed;
+	}
+
+	/*
+	 * Called once for every published event, with a negative acknowledgement when its channel closed before the
+	 * broker confirmed it
+	 */
+	private void confirm(CorrelationData correlationData, boolean ack, String cause) {
+		if (correlationData instanceof EventCorrelation correlation) {
+			unconfirmedPermits.release();
+			publishTimer.record(System.nanoTime() - correlation.sent, TimeUnit.NANOSECONDS);
+			if (ack) {
+				correlation.confirmed.complete(null);
+			}
+			else {
+				correlation.confirmed.completeExceptionally(
+						new AmqpException("Broker rejected provenance event " + correlation.getId() + ": " + cause));
+			}
+		}
+	}
+
+	private void acquirePermit() {
+		var timeout = rabbitMqProperties.getConfirmTimeout();
+		try {
+			if (!unconfirmedPermits.tryAcquire(timeout.toMillis(), TimeUnit.MILLISECONDS)) {
+				throw new AmqpTimeoutException(
+						"Broker did not confirm the pending provenance events within " + timeout);
+			}
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new AmqpException("Interrupted while waiting for publisher confirms", e);
+		}
+	}
+
+	private void awaitConfirms(List<CompletableFuture<Void>> confirms) {
+		var timeout = rabbitMqProperties.getConfirmTimeout();
+		try {
+			CompletableFuture.allOf(confirms.toArray(new CompletableFuture[0]))
+				.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+		}
+		catch (TimeoutException e) {
+			throw new AmqpTimeoutException("Broker did not confirm the provenance events within " + timeout, e);
+		}
+		catch (ExecutionException e) {
+			if (e.getCause() instanceof AmqpException amqpException) {
+				throw amqpException;
+			}
+			throw new AmqpException("Unable to confirm the provenance events", e.getCause());
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new AmqpException("Interrupted while waiting for publisher confirms", e);
+		}
+	}
+
+	private int getUnconfirmed() {
+		return rabbitMqProperties.getMaxUnconfirmed() - unconfirmedPermits.availablePermits();
+	}
+
+	private OutboxEvent buildOutboxEvent(Object object, JsonNode digitalObject, CreateUpdateTombstoneEvent event)
+			throws ProcessingFailedException {
+		var routingKey = assembleRoutingKey(object);
+		return new OutboxEvent(removeProxy(digitalObject.get("@id").asString()),
+				digitalObject.get("schema:version").asInt(), rabbitMqProperties.getProvenanceExchangeName(), routingKey,
+				mapper.writeValueAsString(event));
 	}
 
 	private String assembleRoutingKey(Object object) throws ProcessingFailedException {
@@ -62,4 +201,16 @@ public class RabbitMqPublisherService {
 		return stringBuilder.toString();
 	}
 
+	private static final class EventCorrelation extends CorrelationData {
+
+		private final CompletableFuture<Void> confirmed = new CompletableFuture<>();
+
+		private final long sent = System.nanoTime();
+
+		private EventCorrelation(String id) {
+			super(id);
+		}
+
+	}
+
 }
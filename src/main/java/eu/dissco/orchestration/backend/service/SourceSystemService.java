@@ -1,17 +1,35 @@
 package eu.dissco.orchestration.backend.service;
 
 import com.fasterxml.jackson.dataformat.yaml.YAMLMapper;
+import eu.dissco.orchestration.backend.component.HandlePoolComponent;
+import eu.dissco.orchestration.backend.component.KubernetesApplyComponent;
+import eu.dissco.orchestration.backend.component.KubernetesInformerComponent;
+import eu.dissco.orchestration.backend.component.LeaderElectionComponent;
+import eu.dissco.orchestration.backend.component.LeaderElectionComponent.LeaderTask;
+import eu.dissco.orchestration.backend.component.ReconciliationComponent;
+import eu.dissco.orchestration.backend.component.ReconciliationComponent.ReconciliationAction;
+import eu.dissco.orchestration.backend.component.SpecHashComponent;
+import eu.dissco.orchestration.backend.component.TranslatorJobBlueprintComponent;
+import eu.dissco.orchestration.backend.domain.BulkCreateResponse;
+import eu.dissco.orchestration.backend.domain.BulkCreateResult;
 import eu.dissco.orchestration.backend.domain.Enrichment;
 import eu.dissco.orchestration.backend.domain.ExportType;
+import eu.dissco.orchestration.backend.domain.InformedResourceType;
 import eu.dissco.orchestration.backend.domain.MasScheduleData;
 import eu.dissco.orchestration.backend.domain.ObjectType;
+import eu.dissco.orchestration.backend.domain.OutboxEvent;
+import eu.dissco.orchestration.backend.domain.RawJsonObject;
 import eu.dissco.orchestration.backend.domain.jsonapi.JsonApiData;
 import eu.dissco.orchestration.backend.domain.jsonapi.JsonApiLinks;
 import eu.dissco.orchestration.backend.domain.jsonapi.JsonApiListWrapper;
 import eu.dissco.orchestration.backend.domain.jsonapi.JsonApiWrapper;
+import eu.dissco.orchestration.backend.domain.jsonapi.PageCursor;
+import eu.dissco.orchestration.backend.exception.BadRequestException;
+import eu.dissco.orchestration.backend.exception.KubernetesFailedException;
 import eu.dissco.orchestration.backend.exception.NotFoundException;
 import eu.dissco.orchestration.backend.exception.PidException;
 import eu.dissco.orchestration.backend.exception.ProcessingFailedException;
+import eu.dissco.orchestration.backend.properties.BulkCreateProperties;
 import eu.dissco.orchestration.backend.properties.FdoProperties;
 import eu.dissco.orchestration.backend.properties.TranslatorJobProperties;
 import eu.dissco.orchestration.backend.repository.SourceSystemRepository;
@@ -23,23 +41,23 @@ import eu.dissco.orchestration.backend.schema.SourceSystem.OdsTranslatorType;
 import eu.dissco.orchestration.backend.schema.SourceSystemRequest;
 import eu.dissco.orchestration.backend.web.HandleComponent;
 import freemarker.template.Configuration;
+import freemarker.template.Template;
 import freemarker.template.TemplateException;
 import io.kubernetes.client.openapi.ApiException;
 import io.kubernetes.client.openapi.apis.BatchV1Api;
 import io.kubernetes.client.openapi.models.V1Container;
 import io.kubernetes.client.openapi.models.V1CronJob;
 import io.kubernetes.client.openapi.models.V1EnvVar;
-import io.kubernetes.client.openapi.models.V1Job;
 import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.RandomStringUtils;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.model.GetObjectRequest;
-import tools.jackson.core.JacksonException;
-import tools.jackson.databind.JsonNode;
 import tools.jackson.databind.json.JsonMapper;
 
 import java.io.IOException;
@@ -49,6 +67,9 @@ import java.net.URI;
 import java.net.URISyntaxException;
 import java.time.Instant;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -61,10 +82,18 @@ import static eu.dissco.orchestration.backend.utils.TombstoneUtils.buildTombston
 @RequiredArgsConstructor
 public class SourceSystemService {
 
+	private static final String DWCA_PREFIX = "dwca-";
+
+	private static final String TRANSLATOR_SUFFIX = "-translator-service";
+
+	private static final String SCHEDULE = "schedule";
+
 	private final FdoRecordService fdoRecordService;
 
 	private final HandleComponent handleComponent;
 
+	private final HandlePoolComponent handlePoolComponent;
+
 	private final SourceSystemRepository repository;
 
 	private final DataMappingService dataMappingService;
@@ -90,13 +119,27 @@ public class SourceSystemService {
 
 	private final S3Client s3Client;
 
+	private final ReconciliationComponent reconciliationComponent;
+
+	private final KubernetesInformerComponent informerComponent;
+
+	private final SpecHashComponent specHashComponent;
+
+	private final KubernetesApplyComponent applyComponent;
+
+	private final LeaderElectionComponent leaderElectionComponent;
+
+	private final TranslatorJobBlueprintComponent blueprintComponent;
+
+	private final BulkCreateProperties bulkCreateProperties;
+
 	private static String getSuffix(String sourceSystemId) {
 		return sourceSystemId.substring(sourceSystemId.lastIndexOf('/') + 1).toLowerCase();
 	}
 
 	private static String generateJobName(SourceSystem sourceSystem, boolean isCron) {
 		var name = sourceSystem.getOdsTranslatorType().value().toLowerCase() + "-" + getSuffix(sourceSystem.getId())
-				+ "-translator-service";
+				+ TRANSLATOR_SUFFIX;
 		if (!isCron) {
 			name = name + "-" + RandomStringUtils.insecure().nextAlphabetic(6).toLowerCase();
 		}
@@ -104,7 +147,7 @@ public class SourceSystemService {
 	}
 
 	private static String generateDwcaExportJobName(SourceSystem sourceSystem) {
-		return "dwca-" + getSuffix(sourceSystem.getId());
+		return DWCA_PREFIX + getSuffix(sourceSystem.getId());
 	}
 
 	private static void logException(SourceSystem sourceSystem, Exception e) {
@@ -115,6 +158,9 @@ public class SourceSystemService {
 			log.error("Failed to deploy kubernetes deployment to cluster with code: {} and message: {}",
 					apiException.getCode(), apiException.getResponseBody());
 		}
+		else {
+			log.error("Failed to deploy kubernetes deployment to cluster for: {}", sourceSystem.getId(), e);
+		}
 	}
 
 	private static boolean isEqual(SourceSystem sourceSystem, SourceSystem currentSourceSystem) {
@@ -175,101 +221,152 @@ public class SourceSystemService {
 		return new ArrayList<>(new HashSet<>(list));
 	}
 
-	private static boolean equalsCheckCron(V1CronJob cronJob, V1CronJob existingCronJob) {
-		var container = cronJob.getSpec().getJobTemplate().getSpec().getTemplate().getSpec().getContainers().get(0);
-		var existingContainer = existingCronJob.getSpec()
-			.getJobTemplate()
-			.getSpec()
-			.getTemplate()
-			.getSpec()
-			.getContainers()
-			.get(0);
-		return Objects.equals(container.getEnv(), existingContainer.getEnv())
-				&& Objects.equals(container.getImage(), existingContainer.getImage())
-				&& Objects.equals(container.getName(), existingContainer.getName())
-				&& Objects.equals(container.getVolumeMounts(), existingContainer.getVolumeMounts());
+	@PostConstruct
+	public void registerLeaderTask() {
+		leaderElectionComponent.addLeaderTask(new LeaderTask("source-systems", changeHandlers(), this::setup));
 	}
 
-	@PostConstruct
-	public void setup() throws ApiException, TemplateException, IOException {
-		synchronizeCronJobs();
-		synchronizeExportJob();
+	/**
+	 * Reconciles the cluster, only run by the elected leader.
+	 * @throws KubernetesFailedException if one or more objects failed to reconcile, the leader retries the
+	 * synchronization
+	 */
+	public void setup() throws KubernetesFailedException {
+		informerComponent.start();
+		reconciliationComponent
+			.reconcile(Map.of("cron-job", this::synchronizeCronJobs, "export-job", this::synchronizeExportJob));
 	}
 
-	private void synchronizeExportJob() throws ApiException, TemplateException, IOException {
+	/**
+	 * @return the handlers which reconcile a single object after a cluster change, registered by the elected leader
+	 */
+	public Map<InformedResourceType, ReconciliationAction<String>> changeHandlers() {
+		return Map.of(InformedResourceType.TRANSLATOR_CRON_JOB, this::reconcileCronJobChange,
+				InformedResourceType.EXPORT_CRON_JOB, this::reconcileExportJobChange);
+	}
+
+	private void synchronizeExportJob() throws KubernetesFailedException {
 		log.info("Synchronizing DWCA Export cron jobs for Source Systems");
-		var existingCronJobMap = batchV1Api.listNamespacedCronJob(jobProperties.getExport().getNamespace())
-			.execute()
-			.getItems()
+		var existingCronJobMap = informerComponent.getExportCronJobs()
 			.stream()
-			.filter(job -> job.getMetadata().getName().startsWith("dwca"))
+			.filter(job -> job.getMetadata().getName().startsWith(DWCA_PREFIX))
 			.collect(Collectors.toMap(cj -> cj.getMetadata().getName(), cj -> cj));
-		var existingSourceSystemList = repository.getSourceSystems(0, 5000);
-		for (var sourceSystem : existingSourceSystemList) {
-			var expectedCronJob = setSourceSystemExportProperties(sourceSystem,
-					generateDwcaExportJobName(sourceSystem));
-			var existingCronJob = existingCronJobMap.get(generateDwcaExportJobName(sourceSystem));
-			if (existingCronJob == null) {
-				log.warn("Found a source system: {} without a DwCA cron Job, creating one", sourceSystem.getId());
-				batchV1Api.createNamespacedCronJob(jobProperties.getExport().getNamespace(), expectedCronJob).execute();
-			}
-			else if (equalsCheckCron(expectedCronJob, existingCronJob)) {
-				log.debug("DwCA cron job: {} is in sync with the database", sourceSystem.getId());
-			}
-			else {
-				log.warn("Found an out of sync DwCA cron job, synchronizing sourceSystem: {}", sourceSystem.getId());
-				batchV1Api
-					.replaceNamespacedCronJob(expectedCronJob.getMetadata().getName(),
-							jobProperties.getExport().getNamespace(), expectedCronJob)
-					.execute();
-			}
+		Set<String> expectedCronJobs = ConcurrentHashMap.newKeySet();
+		reconciliationComponent.forEachChunk(repository::streamActiveSourceSystems, sourceSystem -> {
+			var cronJobName = generateDwcaExportJobName(sourceSystem);
+			expectedCronJobs.add(cronJobName);
+			reconcileExportJob(sourceSystem, existingCronJobMap.get(cronJobName), true);
+		});
+		existingCronJobMap.keySet().removeAll(expectedCronJobs);
+		reconciliationComponent.forEach(existingCronJobMap.keySet(), this::deleteOrphanExportJob);
+	}
+
+	private void reconcileExportJobChange(String cronJobName)
+			throws ApiException, TemplateException, IOException, KubernetesFailedException {
+		if (!cronJobName.startsWith(DWCA_PREFIX)) {
+			return;
 		}
-		existingCronJobMap.keySet()
-			.removeAll(existingSourceSystemList.stream()
-				.map(ss -> generateDwcaExportJobName(ss))
-				.collect(Collectors.toSet()));
-		for (V1CronJob cronjob : existingCronJobMap.values()) {
-			log.warn("Found a DwCA cron job: {} without a source system, deleting it", cronjob.getMetadata().getName());
-			batchV1Api
-				.deleteNamespacedCronJob(cronjob.getMetadata().getName(), jobProperties.getExport().getNamespace())
-				.execute();
+		var sourceSystem = getSourceSystemForSuffix(cronJobName.substring(DWCA_PREFIX.length()));
+		var existingCronJob = informerComponent.getExportCronJob(cronJobName);
+		if (sourceSystem.isPresent()) {
+			reconcileExportJob(sourceSystem.get(), existingCronJob.orElse(null), false);
+		}
+		else if (existingCronJob.isPresent()) {
+			deleteOrphanExportJob(cronJobName);
 		}
 	}
 
-	private void synchronizeCronJobs() throws ApiException, TemplateException, IOException {
+	private void reconcileExportJob(SourceSystem sourceSystem, V1CronJob existingCronJob, boolean fullSync)
+			throws ApiException, TemplateException, IOException, KubernetesFailedException {
+		var jobName = generateDwcaExportJobName(sourceSystem);
+		var k8sCron = setSourceSystemExportProperties(sourceSystem, jobName);
+		if (existingCronJob == null) {
+			log.warn("Found a source system: {} without a DwCA cron Job, creating one", sourceSystem.getId());
+		}
+		else if (isCronJobInSync(existingCronJob, k8sCron, fullSync)) {
+			log.debug("DwCA cron job: {} is in sync with the database", sourceSystem.getId());
+			return;
+		}
+		else {
+			log.warn("Found an out of sync DwCA cron job, synchronizing sourceSystem: {}", sourceSystem.getId());
+		}
+		applyComponent.apply(InformedResourceType.EXPORT_CRON_JOB, jobName, k8sCron);
+	}
+
+	private void deleteOrphanExportJob(String cronJobName) throws ApiException {
+		log.warn("Found a DwCA cron job: {} without a source system, deleting it", cronJobName);
+		batchV1Api.deleteNamespacedCronJob(cronJobName, jobProperties.getExport().getNamespace()).execute();
+	}
+
+	private void synchronizeCronJobs() throws KubernetesFailedException {
 		log.info("Synchronizing Cron Jobs for Source Systems");
-		var existingCronJobMap = batchV1Api.listNamespacedCronJob(jobProperties.getNamespace())
-			.execute()
-			.getItems()
+		var existingCronJobMap = informerComponent.getTranslatorCronJobs()
 			.stream()
 			.collect(Collectors.toMap(cj -> cj.getMetadata().getName(), cj -> cj));
-		var existingSourceSystemList = repository.getSourceSystems(0, 5000);
-		for (var sourceSystem : existingSourceSystemList) {
-			var expectedCronJob = setCronJobProperties(sourceSystem);
-			var existingCronJob = existingCronJobMap.get(generateJobName(sourceSystem, true));
-			if (existingCronJob == null) {
-				log.warn("Found a source system: {} without a cron job, creating one", sourceSystem.getId());
-				batchV1Api.createNamespacedCronJob(jobProperties.getNamespace(), expectedCronJob).execute();
-			}
-			else if (equalsCheckCron(expectedCronJob, existingCronJob)) {
-				log.debug("Cronjob: {} is in sync with the database", sourceSystem.getId());
-			}
-			else {
-				log.warn("Found an out of sync Cron Job, synchronizing sourceSystem: {}", sourceSystem.getId());
-				batchV1Api
-					.replaceNamespacedCronJob(expectedCronJob.getMetadata().getName(), jobProperties.getNamespace(),
-							expectedCronJob)
-					.execute();
-			}
+		Set<String> expectedCronJobs = ConcurrentHashMap.newKeySet();
+		reconciliationComponent.forEachChunk(repository::streamActiveSourceSystems, sourceSystem -> {
+			var cronJobName = generateJobName(sourceSystem, true);
+			expectedCronJobs.add(cronJobName);
+			reconcileCronJob(sourceSystem, existingCronJobMap.get(cronJobName), true);
+		});
+		existingCronJobMap.keySet().removeAll(expectedCronJobs);
+		reconciliationComponent.forEach(existingCronJobMap.keySet(), this::deleteOrphanCronJob);
+	}
+
+	private void reconcileCronJobChange(String cronJobName)
+			throws ApiException, IOException, KubernetesFailedException {
+		var sourceSystem = getSourceSystemForCronJob(cronJobName);
+		var existingCronJob = informerComponent.getTranslatorCronJob(cronJobName);
+		if (sourceSystem.isPresent()) {
+			reconcileCronJob(sourceSystem.get(), existingCronJob.orElse(null), false);
+		}
+		else if (existingCronJob.isPresent()) {
+			deleteOrphanCronJob(cronJobName);
+		}
+	}
+
+	private Optional<SourceSystem> getSourceSystemForCronJob(String cronJobName) {
+		var typeSeparator = cronJobName.indexOf('-');
+		if (typeSeparator < 0 || !cronJobName.endsWith(TRANSLATOR_SUFFIX)) {
+			return Optional.empty();
+		}
+		var suffix = cronJobName.substring(typeSeparator + 1, cronJobName.length() - TRANSLATOR_SUFFIX.length());
+		return getSourceSystemForSuffix(suffix)
+			.filter(sourceSystem -> generateJobName(sourceSystem, true).equals(cronJobName));
+	}
+
+	private Optional<SourceSystem> getSourceSystemForSuffix(String suffix) {
+		return repository.getActiveSourceSystem(fdoProperties.getHandlePrefix() + '/' + suffix.toUpperCase());
+	}
+
+	private void reconcileCronJob(SourceSystem sourceSystem, V1CronJob existingCronJob, boolean fullSync)
+			throws ApiException, IOException, KubernetesFailedException {
+		var k8sCron = setCronJobProperties(sourceSystem);
+		if (existingCronJob == null) {
+			log.warn("Found a source system: {} without a cron job, creating one", sourceSystem.getId());
 		}
-		existingCronJobMap.keySet()
-			.removeAll(
-					existingSourceSystemList.stream().map(ss -> generateJobName(ss, true)).collect(Collectors.toSet()));
-		for (V1CronJob cronjob : existingCronJobMap.values()) {
-			log.warn("Found a cron job: {} without a source system, deleting it", cronjob.getMetadata().getName());
-			batchV1Api.deleteNamespacedCronJob(cronjob.getMetadata().getName(), jobProperties.getNamespace()).execute();
+		else if (isCronJobInSync(existingCronJob, k8sCron, fullSync)) {
+			log.debug("Cronjob: {} is in sync with the database", sourceSystem.getId());
+			return;
 		}
+		else {
+			log.warn("Found an out of sync Cron Job, synchronizing sourceSystem: {}", sourceSystem.getId());
+		}
+		applyCronJob(sourceSystem, k8sCron);
+	}
 
+	/*
+	 * The schedule is randomised every time a cron job is generated, so the live schedule is kept. Otherwise applying
+	 * a new schedule would trigger another change.
+	 */
+	private boolean isCronJobInSync(V1CronJob existingCronJob, V1CronJob k8sCron, boolean fullSync) {
+		k8sCron.getSpec().setSchedule(existingCronJob.getSpec().getSchedule());
+		return specHashComponent.isInSync(existingCronJob, k8sCron, fullSync);
+	}
+
+	private void deleteOrphanCronJob(String cronJobName) throws ApiException {
+		log.warn("Found a cron job: {} without a source system, deleting it", cronJobName);
+		batchV1Api.deleteNamespacedCronJob(cronJobName, jobProperties.getNamespace()).execute();
 	}
 
 	private SourceSystem buildSourceSystem(SourceSystemRequest sourceSystemRequest, int version, Agent agent,
@@ -304,23 +401,133 @@ public class SourceSystemService {
 		validateMappingExists(sourceSystemRequest.getOdsDataMappingID());
 		String handle = createHandle(sourceSystemRequest);
 		var sourceSystem = buildSourceSystem(sourceSystemRequest, 1, agent, handle, Date.from(Instant.now()));
-		repository.createSourceSystem(sourceSystem);
+		repository.createSourceSystem(sourceSystem, rabbitMqPublisherService.buildCreateEvent(sourceSystem, agent));
+		deploySourceSystem(sourceSystem);
+		return wrapSingleResponse(sourceSystem, path);
+	}
+
+	/**
+	 * Creates multiple source systems. The handles of all valid source systems are minted with a single call and the
+	 * source systems are inserted with a single batch, after which their Kubernetes resources are created
+	 * concurrently. A source system which fails validation, conflicts with an existing source system or fails
+	 * deployment does not affect the other source systems.
+	 * @return a result for every source system, in the order of the requests
+	 * @throws BadRequestException if the number of requests exceeds the maximum
+	 * @throws ProcessingFailedException if the handles could not be minted, no source system is created
+	 */
+	public BulkCreateResponse createSourceSystems(List<SourceSystemRequest> sourceSystemRequests, Agent agent)
+			throws BadRequestException, ProcessingFailedException {
+		if (sourceSystemRequests.isEmpty() || sourceSystemRequests.size() > bulkCreateProperties.getMaxItems()) {
+			throw new BadRequestException("A bulk request must contain between 1 and "
+					+ bulkCreateProperties.getMaxItems() + " source systems");
+		}
+		var results = new BulkCreateResult[sourceSystemRequests.size()];
+		var validIndexes = new ArrayList<Integer>();
+		for (int i = 0; i < sourceSystemRequests.size(); i++) {
+			try {
+				validiateMasExists(sourceSystemRequests.get(i));
+				validateMappingExists(sourceSystemRequests.get(i).getOdsDataMappingID());
+				validIndexes.add(i);
+			}
+			catch (NotFoundException e) {
+				results[i] = new BulkCreateResult(i, HttpStatus.NOT_FOUND.value(), null, e.getMessage());
+			}
+		}
+		if (!validIndexes.isEmpty()) {
+			var validRequests = validIndexes.stream().map(sourceSystemRequests::get).toList();
+			var sourceSystems = insertSourceSystems(validRequests, agent);
+			var permits = new Semaphore(bulkCreateProperties.getMaxConcurrency());
+			try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+				for (int i = 0; i < sourceSystems.size(); i++) {
+					var index = validIndexes.get(i);
+					var sourceSystem = sourceSystems.get(i);
+					if (sourceSystem == null) {
+						results[index] = new BulkCreateResult(index, HttpStatus.CONFLICT.value(), null,
+								"Source system conflicts with an existing source system with the same name or endpoint");
+						continue;
+					}
+					executor.submit(() -> {
+						permits.acquireUninterruptibly();
+						try {
+							results[index] = deployBulkSourceSystem(index, sourceSystem);
+						}
+						finally {
+							permits.release();
+						}
+					});
+				}
+			}
+		}
+		return new BulkCreateResponse(List.of(results));
+	}
+
+	/*
+	 * Returns the inserted source systems in the order of the requests, with null for a source system which was not
+	 * inserted because of a conflict. The handles of those source systems are rolled back.
+	 */
+	private List<SourceSystem> insertSourceSystems(List<SourceSystemRequest> sourceSystemRequests, Agent agent)
+			throws ProcessingFailedException {
+		var handles = createHandles(sourceSystemRequests);
+		var created = Date.from(Instant.now());
+		var sourceSystems = new ArrayList<SourceSystem>();
+		for (int i = 0; i < sourceSystemRequests.size(); i++) {
+			sourceSystems.add(buildSourceSystem(sourceSystemRequests.get(i), 1, agent, handles.get(i), created));
+		}
+		Set<String> skippedIds;
+		try {
+			var events = new ArrayList<OutboxEvent>();
+			for (var sourceSystem : sourceSystems) {
+				events.add(rabbitMqPublisherService.buildCreateEvent(sourceSystem, agent));
+			}
+			skippedIds = repository.createSourceSystems(sourceSystems, events);
+		}
+		catch (DataAccessException | ProcessingFailedException e) {
+			log.error("Failed to insert {} source systems, rolling back their handles", sourceSystems.size(), e);
+			var ids = sourceSystems.stream().map(SourceSystem::getId).toList();
+			handleComponent.rollbackHandleCreation(fdoRecordService.buildRollbackCreateRequest(ids));
+			throw e;
+		}
+		if (!skippedIds.isEmpty()) {
+			var ids = sourceSystems.stream().map(SourceSystem::getId).filter(skippedIds::contains).toList();
+			log.warn("Source systems: {} conflict with existing source systems, rolling back their handles", ids);
+			handleComponent.rollbackHandleCreation(fdoRecordService.buildRollbackCreateRequest(ids));
+		}
+		return sourceSystems.stream()
+			.map(sourceSystem -> skippedIds.contains(sourceSystem.getId()) ? null : sourceSystem)
+			.toList();
+	}
+
+	private BulkCreateResult deployBulkSourceSystem(int index, SourceSystem sourceSystem) {
+		try {
+			deploySourceSystem(sourceSystem);
+			return new BulkCreateResult(index, HttpStatus.CREATED.value(), toJsonApiData(sourceSystem), null);
+		}
+		catch (ProcessingFailedException e) {
+			return new BulkCreateResult(index, HttpStatus.INTERNAL_SERVER_ERROR.value(), null, e.getMessage());
+		}
+		catch (RuntimeException e) {
+			log.error("Unexpected failure while deploying source system: {}", sourceSystem.getId(), e);
+			return new BulkCreateResult(index, HttpStatus.INTERNAL_SERVER_ERROR.value(), null,
+					"Unexpected failure while deploying source system " + sourceSystem.getId());
+		}
+	}
+
+	private void deploySourceSystem(SourceSystem sourceSystem) throws ProcessingFailedException {
 		createCronJob(sourceSystem);
 		createTranslatorJob(sourceSystem, true, new MasScheduleData());
 		createDwcaCronJob(sourceSystem);
-		publishCreateEvent(sourceSystem, agent);
-		return wrapSingleResponse(sourceSystem, path);
+		repository.releaseEvents(sourceSystem.getId(), sourceSystem.getSchemaVersion());
 	}
 
 	private void createDwcaCronJob(SourceSystem sourceSystem) {
 		try {
 			var jobName = generateDwcaExportJobName(sourceSystem);
 			var k8sCron = setSourceSystemExportProperties(sourceSystem, jobName);
-			batchV1Api.createNamespacedCronJob(jobProperties.getExport().getNamespace(), k8sCron).execute();
+			applyComponent.apply(InformedResourceType.EXPORT_CRON_JOB, jobName, k8sCron);
 			log.info("Successfully published DwCA cron job: {} to Kubernetes for source system: {}",
 					k8sCron.getMetadata().getName(), sourceSystem.getId());
 		}
-		catch (IOException | TemplateException | ApiException e) {
+		catch (IOException | TemplateException | ApiException | KubernetesFailedException e) {
 			log.error(
 					"Fatal error. Failed to create DwCA cron job for source system: {}. Cause: {}. Will not rollback full deployment.",
 					sourceSystem.getId(), e.getMessage(), e);
@@ -330,15 +537,15 @@ public class SourceSystemService {
 	private V1CronJob setSourceSystemExportProperties(SourceSystem sourceSystem, String jobName)
 			throws IOException, TemplateException {
 		var jobProps = getExportTemplateProperties(sourceSystem, jobName);
-		var job = fillExportTemplate(jobProps);
-		return yamlMapper.readValue(job.toString(), V1CronJob.class);
-	}
-
-	private StringWriter fillExportTemplate(Map<String, String> jobProps) throws IOException, TemplateException {
+		var template = getExportTemplate();
 		var writer = new StringWriter();
-		var template = configuration.getTemplate("source-system-cron-job.ftl");
 		template.process(jobProps, writer);
-		return writer;
+		var k8sCron = yamlMapper.readValue(writer.toString(), V1CronJob.class);
+		return specHashComponent.withSpecHash(k8sCron, SCHEDULE);
+	}
+
+	private Template getExportTemplate() throws IOException {
+		return configuration.getTemplate("source-system-cron-job.ftl");
 	}
 
 	private Map<String, String> getExportTemplateProperties(SourceSystem sourceSystem, String jobName) {
@@ -357,7 +564,21 @@ public class SourceSystemService {
 	private String createHandle(SourceSystemRequest sourceSystemRequest) throws ProcessingFailedException {
 		var request = fdoRecordService.buildCreateRequest(sourceSystemRequest, ObjectType.SOURCE_SYSTEM);
 		try {
-			return handleComponent.postHandle(request);
+			return handlePoolComponent.createHandle(request);
+		}
+		catch (PidException e) {
+			throw new ProcessingFailedException(e.getMessage(), e);
+		}
+	}
+
+	private List<String> createHandles(List<SourceSystemRequest> sourceSystemRequests)
+			throws ProcessingFailedException {
+		var requests = sourceSystemRequests.stream()
+			.map(sourceSystemRequest -> fdoRecordService.buildCreateRequest(sourceSystemRequest,
+					ObjectType.SOURCE_SYSTEM))
+			.toList();
+		try {
+			return handleComponent.postHandles(requests);
 		}
 		catch (PidException e) {
 			throw new ProcessingFailedException(e.getMessage(), e);
@@ -370,7 +591,7 @@ public class SourceSystemService {
 			var masScheduleData = setMasScheduleData(masScheduleDataRequest, sourceSystem);
 			triggerTranslatorJob(sourceSystem, masScheduleData);
 		}
-		catch (IOException | TemplateException | ApiException e) {
+		catch (IOException | ApiException e) {
 			logException(sourceSystem, e);
 			if (rollbackOnFailure) {
 				rollbackSourceSystemCreation(sourceSystem, true);
@@ -395,41 +616,35 @@ public class SourceSystemService {
 		try {
 			deployCronJob(sourceSystem);
 		}
-		catch (IOException | TemplateException | ApiException e) {
+		catch (IOException | ApiException | KubernetesFailedException e) {
 			logException(sourceSystem, e);
 			rollbackSourceSystemCreation(sourceSystem, false);
 			throw new ProcessingFailedException("Failed to create new source system", e);
 		}
 	}
 
-	private void deployCronJob(SourceSystem sourceSystem) throws IOException, TemplateException, ApiException {
-		var k8sCron = setCronJobProperties(sourceSystem);
-		batchV1Api.createNamespacedCronJob(jobProperties.getNamespace(), k8sCron).execute();
+	private void deployCronJob(SourceSystem sourceSystem)
+			throws IOException, ApiException, KubernetesFailedException {
+		applyCronJob(sourceSystem, setCronJobProperties(sourceSystem));
+	}
+
+	private void applyCronJob(SourceSystem sourceSystem, V1CronJob k8sCron)
+			throws ApiException, KubernetesFailedException {
+		applyComponent.apply(InformedResourceType.TRANSLATOR_CRON_JOB, k8sCron.getMetadata().getName(), k8sCron);
 		log.info("Successfully published cronJob: {} to Kubernetes for source system: {}",
 				k8sCron.getMetadata().getName(), sourceSystem.getId());
 	}
 
-	private V1CronJob setCronJobProperties(SourceSystem sourceSystem) throws IOException, TemplateException {
+	private V1CronJob setCronJobProperties(SourceSystem sourceSystem) throws IOException {
 		var jobProps = getTemplateProperties(sourceSystem, true, new MasScheduleData());
-		var job = fillTemplate(jobProps, sourceSystem.getOdsTranslatorType(), true);
-		var k8sCron = yamlMapper.readValue(job.toString(), V1CronJob.class);
+		var k8sCron = blueprintComponent.createCronJob(sourceSystem.getOdsTranslatorType(), jobProps);
 		addEnrichmentService(
 				k8sCron.getSpec().getJobTemplate().getSpec().getTemplate().getSpec().getContainers().get(0), List.of());
-		return k8sCron;
-	}
-
-	private void publishCreateEvent(SourceSystem sourceSystem, Agent agent) throws ProcessingFailedException {
-		try {
-			rabbitMqPublisherService.publishCreateEvent(sourceSystem, agent);
-		}
-		catch (JacksonException e) {
-			log.error("Unable to publish message to RabbitMQ", e);
-			rollbackSourceSystemCreation(sourceSystem, true);
-			throw new ProcessingFailedException("Failed to create new machine annotation service", e);
-		}
+		return specHashComponent.withSpecHash(k8sCron, SCHEDULE);
 	}
 
 	private void rollbackSourceSystemCreation(SourceSystem sourceSystem, boolean removeCron) {
+		handlePoolComponent.cancelHandleUpdate(sourceSystem.getId());
 		var request = fdoRecordService.buildRollbackCreateRequest(sourceSystem.getId());
 		handleComponent.rollbackHandleCreation(request);
 		repository.rollbackSourceSystemCreation(sourceSystem.getId());
@@ -483,13 +698,14 @@ public class SourceSystemService {
 			log.info("Update request for source system: {} is identical to current version, no action taken", id);
 			return null;
 		}
-		repository.updateSourceSystem(sourceSystem);
+		repository.updateSourceSystem(sourceSystem,
+				rabbitMqPublisherService.buildUpdateEvent(sourceSystem, currentSourceSystem, agent));
 		updateCronJob(sourceSystem, currentSourceSystem);
 		if (trigger) {
 			log.info("Translator Job requested for updated source system: {}", id);
 			triggerTranslatorForUpdatedSourceSystem(sourceSystem, currentSourceSystem);
 		}
-		publishUpdateEvent(sourceSystem, currentSourceSystem, agent);
+		repository.releaseEvents(sourceSystem.getId(), sourceSystem.getSchemaVersion());
 		return wrapSingleResponse(sourceSystem, path);
 	}
 
@@ -498,7 +714,7 @@ public class SourceSystemService {
 		try {
 			triggerTranslatorJob(sourceSystem, new MasScheduleData());
 		}
-		catch (IOException | TemplateException | ApiException e) {
+		catch (IOException | ApiException e) {
 			logException(sourceSystem, e);
 			rollbackToPreviousVersion(currentSourceSystem, true);
 			throw new ProcessingFailedException("Failed to deploy job to cluster", e);
@@ -507,50 +723,32 @@ public class SourceSystemService {
 
 	private void updateCronJob(SourceSystem sourceSystem, SourceSystem currentSource) throws ProcessingFailedException {
 		try {
-			var cronjob = setCronJobProperties(sourceSystem);
-			batchV1Api
-				.replaceNamespacedCronJob(generateJobName(currentSource, true), jobProperties.getNamespace(), cronjob)
-				.execute();
+			deployCronJob(sourceSystem);
 		}
-		catch (IOException | TemplateException | ApiException e) {
+		catch (IOException | ApiException | KubernetesFailedException e) {
 			logException(sourceSystem, e);
 			rollbackToPreviousVersion(currentSource, false);
 			throw new ProcessingFailedException("Failed to update new source system", e);
 		}
 	}
 
-	private void publishUpdateEvent(SourceSystem newSourceSystem, SourceSystem currentSourceSystem, Agent agent)
-			throws ProcessingFailedException {
-		try {
-			rabbitMqPublisherService.publishUpdateEvent(newSourceSystem, currentSourceSystem, agent);
-		}
-		catch (JacksonException e) {
-			log.error("Unable to publish message to RabbitMQ", e);
-			rollbackToPreviousVersion(currentSourceSystem, true);
-			throw new ProcessingFailedException("Failed to create new machine annotation service", e);
-		}
-	}
-
 	private void rollbackToPreviousVersion(SourceSystem currentSourceSystem, boolean rollbackCron) {
-		repository.updateSourceSystem(currentSourceSystem);
+		repository.rollbackSourceSystemUpdate(currentSourceSystem);
 		if (rollbackCron) {
 			try {
-				var cronjob = setCronJobProperties(currentSourceSystem);
-				batchV1Api
-					.replaceNamespacedCronJob(generateJobName(currentSourceSystem, true), jobProperties.getNamespace(),
-							cronjob)
-					.execute();
+				deployCronJob(currentSourceSystem);
 			}
-			catch (IOException | TemplateException | ApiException e) {
+			catch (IOException | ApiException | KubernetesFailedException e) {
 				log.error("Fatal error, unable to rollback to previous cronjob, manual action necessary", e);
 			}
 		}
 	}
 
 	public JsonApiWrapper getSourceSystemById(String id, String path) throws NotFoundException {
-		var sourceSystem = repository.getSourceSystem(id);
-		if (sourceSystem != null) {
-			return wrapSingleResponse(sourceSystem, path);
+		var sourceSystem = repository.getRawSourceSystem(id);
+		if (sourceSystem.isPresent()) {
+			return new JsonApiWrapper(JsonApiData.fromRawJson(sourceSystem.get(), ObjectType.SOURCE_SYSTEM),
+					new JsonApiLinks(path));
 		}
 		log.warn("Unable to fund source system {}", id);
 		throw new NotFoundException("Unable to find source system " + id);
@@ -561,35 +759,42 @@ public class SourceSystemService {
 		return wrapResponse(sourceSystems, pageNum, pageSize, path);
 	}
 
+	public JsonApiListWrapper getSourceSystemPage(String cursor, int pageSize, String path) throws BadRequestException {
+		var sourceSystems = repository.getSourceSystemPage(PageCursor.decode(cursor), pageSize);
+		boolean hasNext = sourceSystems.size() > pageSize;
+		sourceSystems = hasNext ? sourceSystems.subList(0, pageSize) : sourceSystems;
+		var nextCursor = hasNext ? getPageCursor(sourceSystems.getLast()).encode() : null;
+		return new JsonApiListWrapper(wrapData(sourceSystems), new JsonApiLinks(pageSize, cursor, nextCursor, path));
+	}
+
+	private static PageCursor getPageCursor(RawJsonObject sourceSystem) {
+		return new PageCursor(sourceSystem.created(), removeProxy(sourceSystem.id()));
+	}
+
 	private JsonApiWrapper wrapSingleResponse(SourceSystem sourceSystem, String path) {
-		return new JsonApiWrapper(
-				new JsonApiData(sourceSystem.getId(), ObjectType.SOURCE_SYSTEM, mapper.valueToTree(sourceSystem)),
-				new JsonApiLinks(path));
+		return new JsonApiWrapper(toJsonApiData(sourceSystem), new JsonApiLinks(path));
+	}
+
+	private JsonApiData toJsonApiData(SourceSystem sourceSystem) {
+		return new JsonApiData(sourceSystem.getId(), ObjectType.SOURCE_SYSTEM, mapper.valueToTree(sourceSystem));
 	}
 
+	/**
+	 * Tombstones a source system. The source system is tombstoned before its cron jobs are deleted, so the change
+	 * handlers which see the deletion don't recreate them. A cron job which could not be deleted is an orphan, which
+	 * the reconciliation deletes.
+	 */
 	public void tombstoneSourceSystem(String id, Agent agent) throws NotFoundException, ProcessingFailedException {
 		var result = repository.getActiveSourceSystem(id);
 		if (result.isPresent()) {
 			var sourceSystem = result.get();
-			try {
-				batchV1Api.deleteNamespacedCronJob(generateJobName(sourceSystem, true), jobProperties.getNamespace())
-					.execute();
-			}
-			catch (ApiException e) {
-				throw new ProcessingFailedException("Failed to delete cronJob for source system: " + id, e);
-			}
-			deleteExportCronJob(sourceSystem);
 			tombstoneHandle(id);
 			var timestamp = Instant.now();
 			var tombstoneSourceSystem = buildTombstoneSourceSystem(sourceSystem, agent, timestamp);
-			repository.tombstoneSourceSystem(tombstoneSourceSystem, timestamp);
-			try {
-				rabbitMqPublisherService.publishTombstoneEvent(tombstoneSourceSystem, sourceSystem, agent);
-			}
-			catch (JacksonException e) {
-				log.error("Unable to publish tombstone event to provenance service", e);
-				throw new ProcessingFailedException("Unable to publish tombstone event to provenance service", e);
-			}
+			repository.tombstoneSourceSystem(tombstoneSourceSystem, timestamp,
+					rabbitMqPublisherService.buildTombstoneEvent(tombstoneSourceSystem, sourceSystem, agent));
+			deleteCronJob(sourceSystem);
+			deleteExportCronJob(sourceSystem);
 			log.info("Delete request for source system: {} was successful", id);
 		}
 		else {
@@ -597,14 +802,25 @@ public class SourceSystemService {
 		}
 	}
 
+	private void deleteCronJob(SourceSystem sourceSystem) {
+		try {
+			batchV1Api.deleteNamespacedCronJob(generateJobName(sourceSystem, true), jobProperties.getNamespace())
+				.execute();
+		}
+		catch (ApiException e) {
+			log.error("Failed to delete cron job for source system: {}, leaving it to the reconciliation. Cause: {}",
+					sourceSystem.getId(), e.getResponseBody(), e);
+		}
+	}
+
 	private void deleteExportCronJob(SourceSystem sourceSystem) {
 		var jobName = generateDwcaExportJobName(sourceSystem);
 		try {
 			batchV1Api.deleteNamespacedCronJob(jobName, jobProperties.getExport().getNamespace()).execute();
 		}
 		catch (ApiException e) {
-			log.error("Failed to delete DwCA cron job for source system: {}. Cause: {}", sourceSystem.getId(),
-					e.getResponseBody(), e);
+			log.error("Failed to delete DwCA cron job for source system: {}, leaving it to the reconciliation. "
+					+ "Cause: {}", sourceSystem.getId(), e.getResponseBody(), e);
 		}
 	}
 
@@ -619,7 +835,7 @@ public class SourceSystemService {
 		}
 	}
 
-	private JsonApiListWrapper wrapResponse(List<SourceSystem> sourceSystems, int pageNum, int pageSize, String path) {
+	private JsonApiListWrapper wrapResponse(List<RawJsonObject> sourceSystems, int pageNum, int pageSize, String path) {
 		boolean hasNext = sourceSystems.size() > pageSize;
 		sourceSystems = hasNext ? sourceSystems.subList(0, pageSize) : sourceSystems;
 		var linksNode = new JsonApiLinks(pageSize, pageNum, hasNext, path);
@@ -627,14 +843,8 @@ public class SourceSystemService {
 		return new JsonApiListWrapper(dataNode, linksNode);
 	}
 
-	private List<JsonApiData> wrapData(List<SourceSystem> sourceSystems) {
-		return sourceSystems.stream()
-			.map(r -> new JsonApiData(r.getId(), ObjectType.SOURCE_SYSTEM, flattenSourceSystem(r)))
-			.toList();
-	}
-
-	private JsonNode flattenSourceSystem(SourceSystem sourceSystem) {
-		return mapper.valueToTree(sourceSystem);
+	private List<JsonApiData> wrapData(List<RawJsonObject> sourceSystems) {
+		return sourceSystems.stream().map(r -> JsonApiData.fromRawJson(r, ObjectType.SOURCE_SYSTEM)).toList();
 	}
 
 	public void runSourceSystemById(String id, MasScheduleData masScheduleDataRequest)
@@ -649,10 +859,9 @@ public class SourceSystemService {
 	}
 
 	private void triggerTranslatorJob(SourceSystem sourceSystem, MasScheduleData masScheduleData)
-			throws IOException, TemplateException, ApiException {
+			throws IOException, ApiException {
 		var jobProps = getTemplateProperties(sourceSystem, false, masScheduleData);
-		var job = fillTemplate(jobProps, sourceSystem.getOdsTranslatorType(), false);
-		var k8sJob = yamlMapper.readValue(job.toString(), V1Job.class);
+		var k8sJob = blueprintComponent.createJob(sourceSystem.getOdsTranslatorType(), jobProps);
 		addEnrichmentService(k8sJob.getSpec().getTemplate().getSpec().getContainers().get(0), List.of());
 		batchV1Api.createNamespacedJob(jobProperties.getNamespace(), k8sJob).execute();
 		log.info("Successfully published job: {} to Kubernetes for source system: {}", k8sJob.getMetadata().getName(),
@@ -695,30 +904,6 @@ public class SourceSystemService {
 		return "0 " + hour + " * * " + day;
 	}
 
-	private StringWriter fillTemplate(Map<String, Object> templateProperties, OdsTranslatorType translatorType,
-			boolean isCron) throws IOException, TemplateException {
-		var writer = new StringWriter();
-		var templateFile = determineTemplate(translatorType, isCron);
-		var template = configuration.getTemplate(templateFile);
-		template.process(templateProperties, writer);
-		return writer;
-	}
-
-	private String determineTemplate(OdsTranslatorType translatorType, boolean isCron) {
-		if (isCron) {
-			return switch (translatorType) {
-				case DWCA -> "dwca-cron-job.ftl";
-				case BIOCASE -> "biocase-cron-job.ftl";
-			};
-		}
-		else {
-			return switch (translatorType) {
-				case DWCA -> "dwca-translator-job.ftl";
-				case BIOCASE -> "biocase-translator-job.ftl";
-			};
-		}
-	}
-
 	private void addEnrichmentService(V1Container container, List<Enrichment> enrichmentList) {
 		for (int i = 0; i < enrichmentList.size(); i++) {
 			var envName = new V1EnvVar();
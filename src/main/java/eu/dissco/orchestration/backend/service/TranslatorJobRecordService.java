@@ -2,12 +2,18 @@ package eu.dissco.orchestration.backend.service;
 
 import eu.dissco.orchestration.backend.domain.jsonapi.JsonApiData;
 import eu.dissco.orchestration.backend.domain.jsonapi.JsonApiLinks;
+import eu.dissco.orchestration.backend.domain.TranslatorJobRecord;
 import eu.dissco.orchestration.backend.domain.jsonapi.JsonApiListWrapper;
+import eu.dissco.orchestration.backend.domain.jsonapi.PageCursor;
+import eu.dissco.orchestration.backend.exception.BadRequestException;
 import eu.dissco.orchestration.backend.repository.TranslatorJobRecordRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import tools.jackson.databind.json.JsonMapper;
 
+import java.util.List;
+import java.util.UUID;
+
 import static eu.dissco.orchestration.backend.domain.ObjectType.TRANSLATOR_JOB_RECORD;
 
 @Service
@@ -21,9 +27,42 @@ public class TranslatorJobRecordService {
     var translatorJobRecords = repository.getJobRecords(id, pageNum, pageSize);
     boolean hasNext = translatorJobRecords.size() > pageSize;
     translatorJobRecords = hasNext ? translatorJobRecords.subList(0, pageSize) : translatorJobRecords;
-    var jsonData = translatorJobRecords.stream().map(
+    return new JsonApiListWrapper(wrapData(translatorJobRecords),
+        new JsonApiLinks(pageSize, pageNum, hasNext, path));
+  }
+
+  public JsonApiListWrapper retrieveJobRecordPage(String id, String cursor, int pageSize, String path)
+      throws BadRequestException {
+    var translatorJobRecords = repository.getJobRecordPage(id, decodeCursor(cursor), pageSize);
+    boolean hasNext = translatorJobRecords.size() > pageSize;
+    translatorJobRecords = hasNext ? translatorJobRecords.subList(0, pageSize) : translatorJobRecords;
+    var nextCursor = hasNext ? getPageCursor(translatorJobRecords.getLast()).encode() : null;
+    return new JsonApiListWrapper(wrapData(translatorJobRecords),
+        new JsonApiLinks(pageSize, cursor, nextCursor, path));
+  }
+
+  /*
+   * Job records are keyed on a uuid, a cursor with any other id can't point to a job record
+   */
+  private static PageCursor decodeCursor(String cursor) throws BadRequestException {
+    var pageCursor = PageCursor.decode(cursor);
+    if (pageCursor != null) {
+      try {
+        UUID.fromString(pageCursor.id());
+      } catch (IllegalArgumentException e) {
+        throw new BadRequestException("Invalid page cursor: " + cursor);
+      }
+    }
+    return pageCursor;
+  }
+
+  private static PageCursor getPageCursor(TranslatorJobRecord jobRecord) {
+    return new PageCursor(jobRecord.startTime(), jobRecord.jobId().toString());
+  }
+
+  private List<JsonApiData> wrapData(List<TranslatorJobRecord> translatorJobRecords) {
+    return translatorJobRecords.stream().map(
         jobRecord -> new JsonApiData(jobRecord.jobId().toString(), TRANSLATOR_JOB_RECORD,
             mapper.valueToTree(jobRecord))).toList();
-    return new JsonApiListWrapper(jsonData, new JsonApiLinks(pageSize, pageNum, hasNext, path));
   }
 }
@@ -25,6 +25,9 @@ public class ControllerUtils {
 
 	public static final String PAGE_SIZE_OAS = "Desired page size";
 
+	public static final String PAGE_CURSOR_OAS = "Cursor of the desired page, taken from the next link. An empty "
+			+ "cursor requests the first page, the page number is ignored when a cursor is given";
+
 	public static final String DEFAULT_PAGE_NUM = "1";
 
 	public static final String DEFAULT_PAGE_SIZE = "10";
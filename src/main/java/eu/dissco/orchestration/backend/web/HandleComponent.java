@@ -7,7 +7,9 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.parameters.P;
 import org.springframework.stereotype.Component;
 import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.node.JsonNodeFactory;
 
+import java.util.ArrayList;
 import java.util.List;
 
 @Component
@@ -22,10 +24,24 @@ public class HandleComponent {
 		return parseResponse(result);
 	}
 
+	/**
+	 * Mints the handles of all requests with a single call to the handle server
+	 * @param requests the create requests
+	 * @return the minted handles, in the order of the requests
+	 */
+	public List<String> postHandles(List<JsonNode> requests) throws PidException {
+		var result = handleClient.postHandle(requests);
+		return parseResponses(result, requests.size());
+	}
+
 	public void tombstoneHandle(JsonNode request, String id) throws PidException {
 		handleClient.tombstoneHandle(id, request);
 	}
 
+	public void updateHandle(JsonNode request, String id) throws PidException {
+		handleClient.updateHandle(id, request);
+	}
+
 	public void rollbackHandleCreation(JsonNode request) {
 		try {
 			handleClient.rollbackHandle(request);
@@ -35,6 +51,40 @@ public class HandleComponent {
 		}
 	}
 
+	private List<String> parseResponses(JsonNode apiResponse, int expectedSize) throws PidException {
+		var data = apiResponse == null ? null : apiResponse.get("data");
+		if (data == null || !data.isArray() || data.size() != expectedSize) {
+			log.error("Unable to parse response from handle server. Received response: {}", apiResponse);
+			if (data != null && data.isArray()) {
+				rollbackMintedHandles(data);
+			}
+			throw new PidException("Unable to parse response from handle server");
+		}
+		var handles = new ArrayList<String>();
+		for (var handle : data) {
+			handles.add(handle.get("id").asString());
+		}
+		return handles;
+	}
+
+	/*
+	 * The caller can't use a response which does not match its requests, so the handles it did mint would be left
+	 * without an object
+	 */
+	private void rollbackMintedHandles(JsonNode data) {
+		var rollbackData = JsonNodeFactory.instance.arrayNode();
+		for (var handle : data) {
+			if (handle.hasNonNull("id")) {
+				rollbackData.addObject().put("id", handle.get("id").asString());
+			}
+		}
+		if (!rollbackData.isEmpty()) {
+			log.warn("Rolling back {} handles minted by a response which does not match the requests",
+					rollbackData.size());
+			rollbackHandleCreation(JsonNodeFactory.instance.objectNode().set("data", rollbackData));
+		}
+	}
+
 	private String parseResponse(JsonNode apiResponse) throws PidException {
 		try {
 			return apiResponse.get("data").get(0).get("id").asString();
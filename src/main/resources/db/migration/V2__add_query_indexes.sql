@@ -0,0 +1,16 @@
+-- Pages of active objects, ordered by creation date and id
+create index if not exists source_system_active_created_idx
+    on source_system (created, id)
+    where tombstoned is null;
+
+create index if not exists machine_annotation_service_active_created_idx
+    on machine_annotation_service (created, id)
+    where tombstoned is null;
+
+create index if not exists data_mapping_active_created_idx
+    on data_mapping (created, id)
+    where tombstoned is null;
+
+-- Pages of the job records of a source system, most recently started first
+create index if not exists translator_job_record_source_system_started_idx
+    on translator_job_record (source_system_id, time_started desc, job_id desc);
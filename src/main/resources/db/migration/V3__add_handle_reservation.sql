@@ -0,0 +1,11 @@
+-- Handles minted ahead of the creates which use them, see the handle pool
+create table if not exists handle_reservation
+(
+    handle   text        not null
+        constraint handle_reservation_pkey primary key,
+    fdo_type text        not null,
+    reserved timestamptz not null
+);
+
+create index if not exists handle_reservation_fdo_type_reserved_idx
+    on handle_reservation (fdo_type, reserved);
@@ -0,0 +1,16 @@
+-- Provenance events written in the transaction of the change, relayed to RabbitMQ by the leader once released
+create table if not exists event_outbox
+(
+    id             bigint generated always as identity
+        constraint event_outbox_pkey primary key,
+    object_id      text        not null,
+    object_version integer     not null,
+    exchange       text        not null,
+    routing_key    text        not null,
+    payload        text        not null,
+    created        timestamptz not null default now(),
+    released       boolean     not null default false
+);
+
+create index if not exists event_outbox_object_id_object_version_idx
+    on event_outbox (object_id, object_version);
@@ -0,0 +1,4 @@
+-- A claimed handle is kept until its attributes are set on the handle server, so a failed update is retried
+alter table handle_reservation
+    add column if not exists claimed        timestamptz,
+    add column if not exists create_request jsonb;
@@ -0,0 +1,178 @@
+package eu.dissco.orchestration.backend.component;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+
+import eu.dissco.orchestration.backend.component.HandleClientInterceptor.CircuitState;
+import eu.dissco.orchestration.backend.exception.PidException;
+import eu.dissco.orchestration.backend.properties.HandleClientProperties;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.ConnectException;
+import java.net.SocketTimeoutException;
+import java.net.URI;
+import java.time.Duration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+
+@ExtendWith(MockitoExtension.class)
+class HandleClientInterceptorTest {
+
+	private static final URI HANDLE_URI = URI.create("https://localhost/api/pids/v1/20.5000.1025/GW0-POP-XSL");
+
+	private static final byte[] BODY = new byte[0];
+
+	@Mock
+	private ClientHttpRequestExecution execution;
+
+	private HandleClientProperties properties;
+
+	private HandleClientInterceptor interceptor;
+
+	private static ClientHttpResponse givenResponse(HttpStatus status) throws IOException {
+		var response = mock(ClientHttpResponse.class);
+		given(response.getStatusCode()).willReturn(status);
+		return response;
+	}
+
+	@BeforeEach
+	void setup() {
+		properties = new HandleClientProperties();
+		properties.setRetryBackoff(Duration.ofMillis(1L));
+		properties.setCircuitBreakerFailureThreshold(2);
+		interceptor = new HandleClientInterceptor(properties);
+	}
+
+	@Test
+	void testRetryFailedIdempotentRequest() throws IOException {
+		// Given
+		var request = new MockClientHttpRequest(HttpMethod.PUT, HANDLE_URI);
+		var failure = givenResponse(HttpStatus.SERVICE_UNAVAILABLE);
+		var response = givenResponse(HttpStatus.OK);
+		given(execution.execute(request, BODY)).willReturn(failure)
+			.willThrow(SocketTimeoutException.class)
+			.willReturn(response);
+
+		// When
+		var result = interceptor.intercept(request, BODY, execution);
+
+		// Then
+		assertThat(result).isEqualTo(response);
+		then(execution).should(times(3)).execute(request, BODY);
+		assertThat(interceptor.getCircuitState()).isEqualTo(CircuitState.CLOSED);
+	}
+
+	@Test
+	void testNoRetryOfFailedMint() throws IOException {
+		// Given
+		var request = new MockClientHttpRequest(HttpMethod.POST, HANDLE_URI);
+		var response = givenResponse(HttpStatus.INTERNAL_SERVER_ERROR);
+		given(execution.execute(request, BODY)).willReturn(response);
+
+		// When
+		var result = interceptor.intercept(request, BODY, execution);
+
+		// Then
+		assertThat(result).isEqualTo(response);
+		then(execution).should().execute(request, BODY);
+	}
+
+	@Test
+	void testRetryMintWhichCouldNotConnect() throws IOException {
+		// Given
+		var request = new MockClientHttpRequest(HttpMethod.POST, HANDLE_URI);
+		var response = givenResponse(HttpStatus.OK);
+		given(execution.execute(request, BODY)).willThrow(ConnectException.class).willReturn(response);
+
+		// When
+		var result = interceptor.intercept(request, BODY, execution);
+
+		// Then
+		assertThat(result).isEqualTo(response);
+		then(execution).should(times(2)).execute(request, BODY);
+	}
+
+	@Test
+	void testUnreachableThrowsPidException() throws IOException {
+		// Given
+		var request = new MockClientHttpRequest(HttpMethod.POST, HANDLE_URI);
+		given(execution.execute(request, BODY)).willThrow(SocketTimeoutException.class);
+
+		// When / Then
+		assertThrows(PidException.class, () -> interceptor.intercept(request, BODY, execution));
+		then(execution).should().execute(request, BODY);
+	}
+
+	@Test
+	void testCircuitBreakerOpens() throws IOException {
+		// Given
+		properties.setMaxRetries(0);
+		var request = new MockClientHttpRequest(HttpMethod.DELETE, HANDLE_URI);
+		var response = givenResponse(HttpStatus.BAD_GATEWAY);
+		given(execution.execute(request, BODY)).willReturn(response);
+		interceptor.intercept(request, BODY, execution);
+		interceptor.intercept(request, BODY, execution);
+
+		// When / Then
+		assertThrows(PidException.class, () -> interceptor.intercept(request, BODY, execution));
+		then(execution).should(times(2)).execute(request, BODY);
+		assertThat(interceptor.getCircuitState()).isEqualTo(CircuitState.OPEN);
+	}
+
+	@Test
+	void testCircuitBreakerClosesAfterTrialRequest() throws IOException {
+		// Given
+		properties.setMaxRetries(0);
+		properties.setCircuitBreakerOpenDuration(Duration.ZERO);
+		var request = new MockClientHttpRequest(HttpMethod.DELETE, HANDLE_URI);
+		var failure = givenResponse(HttpStatus.BAD_GATEWAY);
+		var response = givenResponse(HttpStatus.OK);
+		given(execution.execute(request, BODY)).willReturn(failure, failure, response);
+		interceptor.intercept(request, BODY, execution);
+		interceptor.intercept(request, BODY, execution);
+
+		// When
+		var result = interceptor.intercept(request, BODY, execution);
+
+		// Then
+		assertThat(result).isEqualTo(response);
+		assertThat(interceptor.getCircuitState()).isEqualTo(CircuitState.CLOSED);
+	}
+
+	@Test
+	void testCircuitBreakerReopensAfterInterruptedTrialRequest() throws IOException {
+		// Given
+		properties.setMaxRetries(1);
+		properties.setCircuitBreakerOpenDuration(Duration.ZERO);
+		var request = new MockClientHttpRequest(HttpMethod.DELETE, HANDLE_URI);
+		var failure = givenResponse(HttpStatus.BAD_GATEWAY);
+		given(execution.execute(request, BODY)).willReturn(failure);
+		interceptor.intercept(request, BODY, execution);
+		interceptor.intercept(request, BODY, execution);
+		Thread.currentThread().interrupt();
+
+		// When
+		try {
+			assertThrows(InterruptedIOException.class, () -> interceptor.intercept(request, BODY, execution));
+		}
+		finally {
+			Thread.interrupted();
+		}
+
+		// Then
+		assertThat(interceptor.getCircuitState()).isEqualTo(CircuitState.OPEN);
+	}
+
+}
@@ -0,0 +1,203 @@
+package eu.dissco.orchestration.backend.component;
+
+import static eu.dissco.orchestration.backend.testutils.TestUtils.BARE_HANDLE;
+import static eu.dissco.orchestration.backend.testutils.TestUtils.HANDLE;
+import static eu.dissco.orchestration.backend.testutils.TestUtils.MAPPER;
+import static eu.dissco.orchestration.backend.testutils.TestUtils.MAS_TYPE_DOI;
+import static eu.dissco.orchestration.backend.testutils.TestUtils.givenMasHandleRequest;
+import static eu.dissco.orchestration.backend.testutils.TestUtils.givenRollbackCreationRequest;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+
+import eu.dissco.orchestration.backend.exception.PidException;
+import eu.dissco.orchestration.backend.properties.FdoProperties;
+import eu.dissco.orchestration.backend.properties.HandlePoolProperties;
+import eu.dissco.orchestration.backend.repository.HandleReservationRepository;
+import eu.dissco.orchestration.backend.service.FdoRecordService;
+import eu.dissco.orchestration.backend.web.HandleComponent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class HandlePoolComponentTest {
+
+	private final FdoRecordService fdoRecordService = new FdoRecordService(MAPPER, new FdoProperties());
+
+	@Mock
+	private HandleComponent handleComponent;
+
+	@Mock
+	private HandleReservationRepository repository;
+
+	@Mock
+	private LeaderElectionComponent leaderElectionComponent;
+
+	private HandlePoolProperties properties;
+
+	private SimpleMeterRegistry meterRegistry;
+
+	private HandlePoolComponent handlePoolComponent;
+
+	@BeforeEach
+	void setup() {
+		properties = new HandlePoolProperties();
+		properties.setEnabled(true);
+		meterRegistry = new SimpleMeterRegistry();
+		handlePoolComponent = new HandlePoolComponent(handleComponent, fdoRecordService, repository,
+				leaderElectionComponent, properties, meterRegistry);
+	}
+
+	@Test
+	void testCreateHandleFromPool() throws PidException {
+		// Given
+		given(repository.claimHandle(eq(MAS_TYPE_DOI), any(), eq(givenMasHandleRequest())))
+			.willReturn(Optional.of(BARE_HANDLE));
+
+		// When
+		var result = handlePoolComponent.createHandle(givenMasHandleRequest());
+
+		// Then
+		assertThat(result).isEqualTo(BARE_HANDLE);
+		then(handleComponent).should(timeout(1000))
+			.updateHandle(fdoRecordService.buildUpdateRequest(givenMasHandleRequest(), BARE_HANDLE), BARE_HANDLE);
+		then(repository).should(timeout(1000)).removeClaim(BARE_HANDLE);
+		then(handleComponent).should(never()).postHandle(any());
+	}
+
+	@Test
+	void testCreateHandleUpdateFails() throws PidException {
+		// Given
+		given(repository.claimHandle(eq(MAS_TYPE_DOI), any(), eq(givenMasHandleRequest())))
+			.willReturn(Optional.of(BARE_HANDLE));
+		willThrow(PidException.class).given(handleComponent).updateHandle(any(), eq(BARE_HANDLE));
+
+		// When
+		var result = handlePoolComponent.createHandle(givenMasHandleRequest());
+
+		// Then
+		assertThat(result).isEqualTo(BARE_HANDLE);
+		then(handleComponent).should(timeout(1000)).updateHandle(any(), eq(BARE_HANDLE));
+		then(repository).should(after(100).never()).removeClaim(any());
+	}
+
+	@Test
+	void testCancelHandleUpdate() {
+		// When
+		handlePoolComponent.cancelHandleUpdate(HANDLE);
+
+		// Then
+		then(repository).should().removeClaim(BARE_HANDLE);
+	}
+
+	@Test
+	void testCreateHandlePoolEmpty() throws PidException {
+		// Given
+		given(repository.claimHandle(eq(MAS_TYPE_DOI), any(), any())).willReturn(Optional.empty());
+		given(handleComponent.postHandle(givenMasHandleRequest())).willReturn(BARE_HANDLE);
+
+		// When
+		var result = handlePoolComponent.createHandle(givenMasHandleRequest());
+
+		// Then
+		assertThat(result).isEqualTo(BARE_HANDLE);
+		assertThat(meterRegistry.get("handle.pool.miss").tag("type", MAS_TYPE_DOI).counter().count()).isEqualTo(1);
+	}
+
+	@Test
+	void testCreateHandleDisabled() throws PidException {
+		// Given
+		properties.setEnabled(false);
+		given(handleComponent.postHandle(givenMasHandleRequest())).willReturn(BARE_HANDLE);
+
+		// When
+		var result = handlePoolComponent.createHandle(givenMasHandleRequest());
+
+		// Then
+		assertThat(result).isEqualTo(BARE_HANDLE);
+		then(repository).shouldHaveNoInteractions();
+	}
+
+	@Test
+	void testRefill() throws PidException {
+		// Given
+		properties.setMinimumSize(3);
+		properties.setBatchSize(2);
+		given(repository.countReservations(anyString(), any())).willReturn(0);
+		given(handleComponent.postHandles(anyList())).willAnswer(invocation -> IntStream
+			.range(0, invocation.<List<?>>getArgument(0).size())
+			.mapToObj(i -> BARE_HANDLE + i)
+			.toList());
+
+		// When
+		handlePoolComponent.refill();
+
+		// Then
+		then(repository).should().reserveHandles(MAS_TYPE_DOI, List.of(BARE_HANDLE + 0, BARE_HANDLE + 1));
+		then(repository).should().reserveHandles(MAS_TYPE_DOI, List.of(BARE_HANDLE + 0));
+		then(repository).should(times(6)).reserveHandles(anyString(), anyList());
+		assertThat(meterRegistry.get("handle.pool.refill").tag("type", MAS_TYPE_DOI).timer().count()).isEqualTo(2);
+	}
+
+	@Test
+	void testRefillReclaimsExpiredReservations() {
+		// Given
+		properties.setMinimumSize(0);
+		given(repository.removeExpiredReservations(any())).willReturn(List.of(BARE_HANDLE));
+
+		// When
+		handlePoolComponent.refill();
+
+		// Then
+		then(handleComponent).should().rollbackHandleCreation(givenRollbackCreationRequest());
+		then(handleComponent).shouldHaveNoMoreInteractions();
+	}
+
+	@Test
+	void testRefillRetriesPendingUpdates() throws PidException {
+		// Given
+		properties.setMinimumSize(0);
+		given(repository.getPendingUpdates(any(), eq(properties.getBatchSize())))
+			.willReturn(Map.of(BARE_HANDLE, givenMasHandleRequest()));
+
+		// When
+		handlePoolComponent.refill();
+
+		// Then
+		then(handleComponent).should()
+			.updateHandle(fdoRecordService.buildUpdateRequest(givenMasHandleRequest(), BARE_HANDLE), BARE_HANDLE);
+		then(repository).should().removeClaim(BARE_HANDLE);
+	}
+
+	@Test
+	void testPoolSizeGauge() {
+		// Given
+		given(repository.countReservations(eq(MAS_TYPE_DOI), any())).willReturn(7);
+		handlePoolComponent.start();
+
+		// When
+		var result = meterRegistry.get("handle.pool.size").tag("type", MAS_TYPE_DOI).gauge().value();
+
+		// Then
+		assertThat(result).isEqualTo(7);
+		handlePoolComponent.stop();
+	}
+
+}
@@ -0,0 +1,151 @@
+package eu.dissco.orchestration.backend.component;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.BDDMockito.then;
+
+import eu.dissco.orchestration.backend.domain.InformedResourceType;
+import eu.dissco.orchestration.backend.properties.KubernetesProperties;
+import eu.dissco.orchestration.backend.properties.MachineAnnotationServiceProperties;
+import eu.dissco.orchestration.backend.properties.TranslatorJobProperties;
+import io.kubernetes.client.openapi.ApiClient;
+import io.kubernetes.client.openapi.ApiException;
+import io.kubernetes.client.openapi.models.V1Deployment;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import okhttp3.MediaType;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class KubernetesApplyComponentTest {
+
+	private static final String NAME = "gw0-pop-xsl-deployment";
+
+	private static final String DEPLOYMENT_PATH = "/apis/apps/v1/namespaces/machine-annotation-services/deployments/"
+			+ NAME;
+
+	private static final String DEPLOYMENT = """
+			{"apiVersion": "apps/v1", "kind": "Deployment", "metadata": {"name": "gw0-pop-xsl-deployment"}}""";
+
+	private static final String IMMUTABLE_FIELD_STATUS = """
+			{"apiVersion": "v1", "kind": "Status", "status": "Failure", "reason": "Invalid", "code": 422,
+			 "message": "Deployment.apps \\"gw0-pop-xsl-deployment\\" is invalid",
+			 "details": {"causes": [{"reason": "FieldValueInvalid", "field": "spec.selector",
+			 "message": "Invalid value: {\\"app\\": \\"gw0-pop-xsl\\"}: field is immutable"}]}}""";
+
+	private static final String INVALID_STATUS = """
+			{"apiVersion": "v1", "kind": "Status", "status": "Failure", "reason": "Invalid", "code": 422,
+			 "message": "Deployment.apps \\"gw0-pop-xsl-deployment\\" is invalid: spec.replicas: Invalid value: -1: \
+			must be greater than or equal to 0"}""";
+
+	private static final String NOT_FOUND_STATUS = """
+			{"apiVersion": "v1", "kind": "Status", "status": "Failure", "reason": "NotFound", "code": 404,
+			 "message": "deployments.apps \\"gw0-pop-xsl-deployment\\" not found"}""";
+
+	private final Deque<CannedResponse> responses = new ArrayDeque<>();
+
+	private final List<Request> requests = new ArrayList<>();
+
+	@Mock
+	private KubernetesInformerComponent informerComponent;
+
+	private KubernetesApplyComponent applyComponent;
+
+	private static V1Deployment givenDeployment() {
+		return new V1Deployment().apiVersion("apps/v1").kind("Deployment").metadata(new V1ObjectMeta().name(NAME));
+	}
+
+	@BeforeEach
+	void setup() {
+		var httpClient = new OkHttpClient.Builder().addInterceptor(chain -> {
+			requests.add(chain.request());
+			var response = responses.remove();
+			return new Response.Builder().request(chain.request())
+				.protocol(Protocol.HTTP_1_1)
+				.code(response.code())
+				.message("")
+				.body(ResponseBody.create(response.body(), MediaType.get("application/json")))
+				.build();
+		}).build();
+		var apiClient = new ApiClient(httpClient).setBasePath("https://localhost");
+		applyComponent = new KubernetesApplyComponent(apiClient, informerComponent, new KubernetesProperties(),
+				new MachineAnnotationServiceProperties(), new TranslatorJobProperties());
+	}
+
+	@Test
+	void testApply() throws Exception {
+		// Given
+		responses.add(new CannedResponse(200, DEPLOYMENT));
+
+		// When
+		applyComponent.apply(InformedResourceType.DEPLOYMENT, NAME, givenDeployment());
+
+		// Then
+		assertThat(requests).extracting(Request::method).containsExactly("PATCH");
+		assertThat(requests.getFirst().url().encodedPath()).isEqualTo(DEPLOYMENT_PATH);
+		assertThat(requests.getFirst().url().queryParameter("fieldManager"))
+			.isEqualTo(KubernetesApplyComponent.FIELD_MANAGER);
+		then(informerComponent).shouldHaveNoInteractions();
+	}
+
+	@Test
+	void testApplyImmutableFieldChange() throws Exception {
+		// Given
+		responses.add(new CannedResponse(422, IMMUTABLE_FIELD_STATUS));
+		responses.add(new CannedResponse(200, DEPLOYMENT));
+		responses.add(new CannedResponse(200, DEPLOYMENT));
+
+		// When
+		applyComponent.apply(InformedResourceType.DEPLOYMENT, NAME, givenDeployment());
+
+		// Then
+		assertThat(requests).extracting(Request::method).containsExactly("PATCH", "DELETE", "PATCH");
+		then(informerComponent).should().awaitDeletion(InformedResourceType.DEPLOYMENT, NAME);
+	}
+
+	@Test
+	void testApplyImmutableFieldChangeAlreadyDeleted() throws Exception {
+		// Given
+		responses.add(new CannedResponse(422, IMMUTABLE_FIELD_STATUS));
+		responses.add(new CannedResponse(404, NOT_FOUND_STATUS));
+		responses.add(new CannedResponse(200, DEPLOYMENT));
+
+		// When
+		applyComponent.apply(InformedResourceType.DEPLOYMENT, NAME, givenDeployment());
+
+		// Then
+		assertThat(requests).extracting(Request::method).containsExactly("PATCH", "DELETE", "PATCH");
+		then(informerComponent).should().awaitDeletion(InformedResourceType.DEPLOYMENT, NAME);
+	}
+
+	@Test
+	void testApplyInvalidManifest() {
+		// Given
+		responses.add(new CannedResponse(422, INVALID_STATUS));
+
+		// When
+		var exception = assertThrows(ApiException.class,
+				() -> applyComponent.apply(InformedResourceType.DEPLOYMENT, NAME, givenDeployment()));
+
+		// Then
+		assertThat(exception.getCode()).isEqualTo(422);
+		assertThat(requests).extracting(Request::method).containsExactly("PATCH");
+		then(informerComponent).shouldHaveNoInteractions();
+	}
+
+	private record CannedResponse(int code, String body) {
+	}
+
+}
@@ -0,0 +1,188 @@
+package eu.dissco.orchestration.backend.component;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.timeout;
+
+import eu.dissco.orchestration.backend.component.ReconciliationComponent.ReconciliationAction;
+import eu.dissco.orchestration.backend.domain.InformedResourceType;
+import eu.dissco.orchestration.backend.exception.KubernetesFailedException;
+import eu.dissco.orchestration.backend.properties.KubernetesProperties;
+import eu.dissco.orchestration.backend.properties.MachineAnnotationServiceProperties;
+import eu.dissco.orchestration.backend.properties.TranslatorJobProperties;
+import io.kubernetes.client.openapi.ApiClient;
+import io.kubernetes.client.openapi.models.V1Deployment;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import java.io.InterruptedIOException;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import okhttp3.MediaType;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class KubernetesInformerComponentTest {
+
+	private static final String NAME = "gw0-pop-xsl-deployment";
+
+	private static final String NAMESPACE = "machine-annotation-services";
+
+	private static final String DEPLOYMENT_LIST = """
+			{"apiVersion": "apps/v1", "kind": "DeploymentList", "metadata": {"resourceVersion": "1"},
+			 "items": [{"apiVersion": "apps/v1", "kind": "Deployment", "metadata": {"name": "gw0-pop-xsl-deployment",
+			 "namespace": "machine-annotation-services", "generation": 1, "resourceVersion": "1"}}]}""";
+
+	private static final String EMPTY_LIST = """
+			{"metadata": {"resourceVersion": "1"}, "items": []}""";
+
+	private final CountDownLatch stopped = new CountDownLatch(1);
+
+	@Mock
+	private ReconciliationAction<String> handler;
+
+	private KubernetesInformerComponent informerComponent;
+
+	private static V1Deployment givenDeployment(long generation, String resourceVersion) {
+		return new V1Deployment().apiVersion("apps/v1")
+			.kind("Deployment")
+			.metadata(new V1ObjectMeta().name(NAME)
+				.namespace(NAMESPACE)
+				.generation(generation)
+				.resourceVersion(resourceVersion));
+	}
+
+	@BeforeEach
+	void setup() throws KubernetesFailedException {
+		var httpClient = new OkHttpClient.Builder().addInterceptor(chain -> {
+			var body = chain.request().url().encodedPath().endsWith("/deployments") ? DEPLOYMENT_LIST : EMPTY_LIST;
+			if ("true".equals(chain.request().url().queryParameter("watch"))) {
+				// Keeps the watches open until the informers are stopped
+				try {
+					stopped.await();
+				}
+				catch (InterruptedException e) {
+					throw new InterruptedIOException();
+				}
+				body = "";
+			}
+			return new Response.Builder().request(chain.request())
+				.protocol(Protocol.HTTP_1_1)
+				.code(200)
+				.message("")
+				.body(ResponseBody.create(body, MediaType.get("application/json")))
+				.build();
+		}).build();
+		var properties = new KubernetesProperties();
+		properties.setInformerReconcileDelay(Duration.ofMillis(100));
+		properties.setDeletionTimeout(Duration.ofSeconds(1));
+		informerComponent = new KubernetesInformerComponent(new ApiClient(httpClient).setBasePath("https://localhost"),
+				properties, new MachineAnnotationServiceProperties(), new TranslatorJobProperties());
+		informerComponent.start();
+	}
+
+	@AfterEach
+	void destroy() {
+		stopped.countDown();
+		informerComponent.stop();
+	}
+
+	@Test
+	void testChangesAreDebounced() throws Exception {
+		// Given
+		informerComponent.addChangeHandler(InformedResourceType.DEPLOYMENT, handler);
+
+		// When
+		informerComponent.handleAdd(InformedResourceType.DEPLOYMENT, givenDeployment(1, "1"));
+		informerComponent.handleUpdate(InformedResourceType.DEPLOYMENT, givenDeployment(1, "1"),
+				givenDeployment(2, "2"));
+		informerComponent.handleDelete(InformedResourceType.DEPLOYMENT, givenDeployment(2, "3"));
+
+		// Then
+		then(handler).should(after(500)).accept(NAME);
+	}
+
+	@Test
+	void testStatusUpdateIsIgnored() throws Exception {
+		// Given
+		informerComponent.addChangeHandler(InformedResourceType.DEPLOYMENT, handler);
+
+		// When
+		informerComponent.handleUpdate(InformedResourceType.DEPLOYMENT, givenDeployment(1, "1"),
+				givenDeployment(1, "2"));
+
+		// Then
+		then(handler).should(after(500).never()).accept(any());
+	}
+
+	@Test
+	void testSpecUpdate() throws Exception {
+		// Given
+		informerComponent.addChangeHandler(InformedResourceType.DEPLOYMENT, handler);
+
+		// When
+		informerComponent.handleUpdate(InformedResourceType.DEPLOYMENT, givenDeployment(1, "1"),
+				givenDeployment(2, "2"));
+
+		// Then
+		then(handler).should(timeout(1000)).accept(NAME);
+	}
+
+	@Test
+	void testRemovedChangeHandlerDropsPendingChanges() throws Exception {
+		// Given
+		informerComponent.addChangeHandler(InformedResourceType.DEPLOYMENT, handler);
+		informerComponent.handleAdd(InformedResourceType.DEPLOYMENT, givenDeployment(1, "1"));
+
+		// When
+		informerComponent.removeChangeHandlers();
+
+		// Then
+		then(handler).should(after(500).never()).accept(any());
+	}
+
+	@Test
+	void testAwaitDeletion() throws Exception {
+		// Given
+		try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+			var deletion = executor.submit(() -> {
+				informerComponent.awaitDeletion(InformedResourceType.DEPLOYMENT, NAME);
+				return null;
+			});
+
+			// When
+			while (!deletion.isDone()) {
+				informerComponent.handleDelete(InformedResourceType.DEPLOYMENT, givenDeployment(1, "2"));
+				Thread.sleep(10);
+			}
+
+			// Then
+			assertDoesNotThrow(() -> deletion.get());
+		}
+	}
+
+	@Test
+	void testAwaitDeletionNotCached() {
+		// When / Then
+		assertDoesNotThrow(() -> informerComponent.awaitDeletion(InformedResourceType.DEPLOYMENT, "unknown"));
+	}
+
+	@Test
+	void testAwaitDeletionTimeout() {
+		// When / Then
+		assertThrows(KubernetesFailedException.class,
+				() -> informerComponent.awaitDeletion(InformedResourceType.DEPLOYMENT, NAME));
+	}
+
+}
@@ -0,0 +1,95 @@
+package eu.dissco.orchestration.backend.component;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.times;
+
+import eu.dissco.orchestration.backend.properties.KubernetesProperties;
+import java.io.IOException;
+import java.time.Duration;
+import okhttp3.Interceptor.Chain;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class KubernetesRateLimitInterceptorTest {
+
+	private static final String DEPLOYMENT_URL = "https://localhost/apis/apps/v1/namespaces/mas/deployments";
+
+	@Mock
+	private Chain chain;
+
+	private KubernetesRateLimitInterceptor interceptor;
+
+	private static Response givenResponse(Request request, int code) {
+		return new Response.Builder().request(request)
+			.protocol(Protocol.HTTP_1_1)
+			.code(code)
+			.message("")
+			.body(ResponseBody.create("", null))
+			.build();
+	}
+
+	@BeforeEach
+	void setup() {
+		var properties = new KubernetesProperties();
+		properties.setRetryBackoff(Duration.ofMillis(1L));
+		interceptor = new KubernetesRateLimitInterceptor(properties);
+	}
+
+	@Test
+	void testRetryThrottledRequest() throws IOException {
+		// Given
+		var request = new Request.Builder().url(DEPLOYMENT_URL).get().build();
+		given(chain.request()).willReturn(request);
+		given(chain.proceed(request)).willReturn(givenResponse(request, 429), givenResponse(request, 503),
+				givenResponse(request, 200));
+
+		// When
+		var result = interceptor.intercept(chain);
+
+		// Then
+		assertThat(result.code()).isEqualTo(200);
+		then(chain).should(times(3)).proceed(request);
+	}
+
+	@Test
+	void testRetryGivesUp() throws IOException {
+		// Given
+		var request = new Request.Builder().url(DEPLOYMENT_URL).get().build();
+		given(chain.request()).willReturn(request);
+		given(chain.proceed(request)).willReturn(givenResponse(request, 500));
+
+		// When
+		var result = interceptor.intercept(chain);
+
+		// Then
+		assertThat(result.code()).isEqualTo(500);
+		then(chain).should(times(4)).proceed(request);
+	}
+
+	@Test
+	void testNoRetryOfFailedCreate() throws IOException {
+		// Given
+		var request = new Request.Builder().url(DEPLOYMENT_URL).post(RequestBody.create("{}", null)).build();
+		given(chain.request()).willReturn(request);
+		given(chain.proceed(request)).willReturn(givenResponse(request, 500));
+
+		// When
+		var result = interceptor.intercept(chain);
+
+		// Then
+		assertThat(result.code()).isEqualTo(500);
+		then(chain).should().proceed(request);
+	}
+
+}
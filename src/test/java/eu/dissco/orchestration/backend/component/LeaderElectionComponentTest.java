@@ -0,0 +1,154 @@
+package eu.dissco.orchestration.backend.component;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.timeout;
+
+import eu.dissco.orchestration.backend.component.LeaderElectionComponent.LeaderTask;
+import eu.dissco.orchestration.backend.component.ReconciliationComponent.ReconciliationAction;
+import eu.dissco.orchestration.backend.domain.InformedResourceType;
+import eu.dissco.orchestration.backend.exception.KubernetesFailedException;
+import eu.dissco.orchestration.backend.properties.KubernetesProperties;
+import io.kubernetes.client.extended.leaderelection.resourcelock.LeaseLock;
+import io.kubernetes.client.openapi.ApiClient;
+import io.kubernetes.client.openapi.ApiException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class LeaderElectionComponentTest {
+
+	private static final ReconciliationAction<String> HANDLER = name -> {
+	};
+
+	@Mock
+	private ApiClient apiClient;
+
+	@Mock
+	private KubernetesInformerComponent informerComponent;
+
+	@Mock
+	private ClusterSyncHealthIndicator clusterSyncHealthIndicator;
+
+	@Mock
+	private LeaseLock leaseLock;
+
+	private LeaderElectionComponent leaderElectionComponent;
+
+	@BeforeEach
+	void setup() {
+		var properties = new KubernetesProperties();
+		properties.setLeaseNamespace("dissco-core");
+		properties.setLeaderSyncRetryInterval(Duration.ofMillis(10));
+		leaderElectionComponent = new LeaderElectionComponent(apiClient, properties, informerComponent,
+				clusterSyncHealthIndicator);
+	}
+
+	@Test
+	void testStartLeading() {
+		// Given
+		leaderElectionComponent
+			.addLeaderTask(new LeaderTask("deployments", Map.of(InformedResourceType.DEPLOYMENT, HANDLER), () -> {
+			}));
+
+		// When
+		leaderElectionComponent.onStartLeading();
+
+		// Then
+		then(clusterSyncHealthIndicator).should(timeout(1000)).markSynced(List.of());
+		then(informerComponent).should().addChangeHandler(InformedResourceType.DEPLOYMENT, HANDLER);
+		assertThat(leaderElectionComponent.isLeader()).isTrue();
+	}
+
+	@Test
+	void testStartLeadingSynchronizationFails() {
+		// Given
+		var attempts = new AtomicInteger();
+		leaderElectionComponent.addLeaderTask(
+				new LeaderTask("source-systems", Map.of(InformedResourceType.TRANSLATOR_CRON_JOB, HANDLER), () -> {
+					if (attempts.incrementAndGet() == 1) {
+						throw new KubernetesFailedException("Failed to reconcile resource kinds: [cron-job]");
+					}
+				}));
+
+		// When
+		leaderElectionComponent.onStartLeading();
+
+		// Then
+		then(informerComponent).should(timeout(1000))
+			.addChangeHandler(InformedResourceType.TRANSLATOR_CRON_JOB, HANDLER);
+		then(clusterSyncHealthIndicator).should(timeout(1000)).markSynced(List.of("source-systems"));
+		then(clusterSyncHealthIndicator).should(timeout(1000)).markSynced(List.of());
+		assertThat(attempts).hasValue(2);
+	}
+
+	@Test
+	void testStopLeadingDuringLeaderTask() throws InterruptedException {
+		// Given
+		var started = new CountDownLatch(1);
+		var interrupted = new AtomicBoolean();
+		leaderElectionComponent
+			.addLeaderTask(new LeaderTask("deployments", Map.of(InformedResourceType.DEPLOYMENT, HANDLER), () -> {
+				started.countDown();
+				try {
+					new CountDownLatch(1).await(10, TimeUnit.SECONDS);
+				}
+				catch (InterruptedException e) {
+					interrupted.set(true);
+				}
+			}));
+		leaderElectionComponent.onStartLeading();
+		assertThat(started.await(1, TimeUnit.SECONDS)).isTrue();
+
+		// When
+		leaderElectionComponent.onStopLeading();
+
+		// Then
+		then(clusterSyncHealthIndicator).should(timeout(1000)).markSynced(List.of());
+		var inOrder = inOrder(informerComponent);
+		inOrder.verify(informerComponent).addChangeHandler(InformedResourceType.DEPLOYMENT, HANDLER);
+		inOrder.verify(informerComponent).removeChangeHandlers();
+		assertThat(interrupted).isTrue();
+		assertThat(leaderElectionComponent.isLeader()).isFalse();
+	}
+
+	@Test
+	void testCanAccessLease() throws ApiException {
+		// Given
+		given(leaseLock.get()).willThrow(new ApiException(404, "Not Found"));
+
+		// When
+		var result = leaderElectionComponent.canAccessLease(leaseLock);
+
+		// Then
+		assertThat(result).isTrue();
+		then(clusterSyncHealthIndicator).shouldHaveNoInteractions();
+	}
+
+	@Test
+	void testCanAccessLeaseForbidden() throws ApiException {
+		// Given
+		given(leaseLock.get()).willThrow(new ApiException(403, "Forbidden"));
+
+		// When
+		var result = leaderElectionComponent.canAccessLease(leaseLock);
+
+		// Then
+		assertThat(result).isFalse();
+		then(clusterSyncHealthIndicator).should()
+			.markFailed("Not allowed to access lease: orchestration-backend-leader in namespace: dissco-core");
+	}
+
+}
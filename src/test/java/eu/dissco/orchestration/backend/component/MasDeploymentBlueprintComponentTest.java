@@ -0,0 +1,89 @@
+package eu.dissco.orchestration.backend.component;
+
+import static eu.dissco.orchestration.backend.testutils.TestUtils.givenMas;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
+import eu.dissco.orchestration.backend.properties.MachineAnnotationServiceProperties;
+import eu.dissco.orchestration.backend.schema.EnvironmentalVariable;
+import freemarker.template.Configuration;
+import freemarker.template.Template;
+import io.kubernetes.client.openapi.ApiClient;
+import io.kubernetes.client.openapi.models.V1Deployment;
+import io.kubernetes.client.openapi.models.V1EnvVar;
+import io.kubernetes.client.openapi.models.V1EnvVarSource;
+import io.kubernetes.client.openapi.models.V1SecretKeySelector;
+import java.io.File;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class MasDeploymentBlueprintComponentTest {
+
+	private final ObjectMapper yamlMapper = new ObjectMapper(new YAMLFactory()).findAndRegisterModules();
+
+	private Template deploymentTemplate;
+
+	private MasDeploymentBlueprintComponent blueprintComponent;
+
+	private static Map<String, Object> givenTemplateProperties() {
+		var map = new HashMap<String, Object>();
+		map.put("image", "public.ecr.aws/dissco/fancy-mas");
+		map.put("imageTag", "sha-54289");
+		map.put("pid", "gw0-pop-xsl");
+		map.put("name", "A Machine Annotation Service");
+		map.put("id", "20.5000.1025/GW0-POP-XSL");
+		map.put("topicName", "fancy-topic-name");
+		map.put("runningEndpoint", "https://dev.dissco.tech/api/running");
+		return map;
+	}
+
+	@BeforeEach
+	void setup() throws Exception {
+		var configuration = new Configuration(Configuration.VERSION_2_3_32);
+		configuration.setDirectoryForTemplateLoading(new File("src/main/resources/templates/"));
+		deploymentTemplate = configuration.getTemplate("mas-template.ftl");
+		blueprintComponent = new MasDeploymentBlueprintComponent(new MachineAnnotationServiceProperties(),
+				deploymentTemplate, yamlMapper, new ApiClient());
+		blueprintComponent.loadBlueprint();
+	}
+
+	@Test
+	void testCreateDeployment() throws Exception {
+		// Given
+		var writer = new StringWriter();
+		deploymentTemplate.process(givenTemplateProperties(), writer);
+		var expected = yamlMapper.readValue(writer.toString(), V1Deployment.class);
+		var container = expected.getSpec().getTemplate().getSpec().getContainers().getFirst();
+		var environment = new ArrayList<>(container.getEnv());
+		environment.add(new V1EnvVar().name("server.port").value("8080"));
+		environment.add(new V1EnvVar().name("spring.datasource.password")
+			.valueFrom(new V1EnvVarSource()
+				.secretKeyRef(new V1SecretKeySelector().name("mas-secrets").key("db-password"))));
+		container.setEnv(environment);
+
+		// When
+		var result = blueprintComponent.createDeployment(givenMas(), givenTemplateProperties());
+
+		// Then
+		assertThat(result).isEqualTo(expected);
+	}
+
+	@Test
+	void testCreateDeploymentInvalidEnvironment() {
+		// Given
+		var mas = givenMas().withOdsHasEnvironmentalVariables(
+				List.of(new EnvironmentalVariable().withSchemaName("server.port").withSchemaValue(List.of(8080))));
+
+		// When / Then
+		assertThrows(IllegalArgumentException.class,
+				() -> blueprintComponent.createDeployment(mas, givenTemplateProperties()));
+	}
+
+}
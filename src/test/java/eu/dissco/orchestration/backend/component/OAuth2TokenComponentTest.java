@@ -0,0 +1,143 @@
+package eu.dissco.orchestration.backend.component;
+
+import static eu.dissco.orchestration.backend.component.OAuth2TokenComponent.CLIENT_REGISTRATION_ID;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.times;
+
+import eu.dissco.orchestration.backend.properties.TokenRefreshProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.oauth2.client.OAuth2AuthorizeRequest;
+import org.springframework.security.oauth2.client.OAuth2AuthorizedClient;
+import org.springframework.security.oauth2.client.OAuth2AuthorizedClientManager;
+import org.springframework.security.oauth2.client.OAuth2AuthorizedClientService;
+import org.springframework.security.oauth2.client.registration.ClientRegistration;
+import org.springframework.security.oauth2.core.AuthorizationGrantType;
+import org.springframework.security.oauth2.core.OAuth2AccessToken;
+
+@ExtendWith(MockitoExtension.class)
+class OAuth2TokenComponentTest {
+
+	private static final OAuth2AuthorizeRequest REQUEST = OAuth2AuthorizeRequest
+		.withClientRegistrationId(CLIENT_REGISTRATION_ID)
+		.principal("user")
+		.build();
+
+	@Mock
+	private OAuth2AuthorizedClientManager authorizedClientManager;
+
+	@Mock
+	private OAuth2AuthorizedClientService authorizedClientService;
+
+	private SimpleMeterRegistry meterRegistry;
+
+	private OAuth2TokenComponent tokenComponent;
+
+	private static OAuth2AuthorizedClient givenAuthorizedClient(Duration validity) {
+		var registration = ClientRegistration.withRegistrationId(CLIENT_REGISTRATION_ID)
+			.clientId("orchestration-backend")
+			.authorizationGrantType(AuthorizationGrantType.CLIENT_CREDENTIALS)
+			.tokenUri("https://localhost/token")
+			.build();
+		var now = Instant.now();
+		var token = new OAuth2AccessToken(OAuth2AccessToken.TokenType.BEARER, "token", now, now.plus(validity));
+		return new OAuth2AuthorizedClient(registration, "orchestration-backend", token);
+	}
+
+	@BeforeEach
+	void setup() {
+		meterRegistry = new SimpleMeterRegistry();
+		tokenComponent = new OAuth2TokenComponent(authorizedClientManager, authorizedClientService,
+				new TokenRefreshProperties(), meterRegistry);
+	}
+
+	@Test
+	void testAuthorizeReusesToken() {
+		// Given
+		var authorizedClient = givenAuthorizedClient(Duration.ofMinutes(5));
+		given(authorizedClientManager.authorize(any())).willReturn(authorizedClient);
+		tokenComponent.authorize(REQUEST);
+
+		// When
+		var result = tokenComponent.authorize(REQUEST);
+
+		// Then
+		assertThat(result).isEqualTo(authorizedClient);
+		then(authorizedClientManager).should().authorize(any());
+		assertThat(meterRegistry.get("oauth2.token.age").gauge().value()).isGreaterThanOrEqualTo(0);
+	}
+
+	@Test
+	void testConcurrentAuthorizeFetchesOnce() throws InterruptedException, ExecutionException {
+		// Given
+		var authorizedClient = givenAuthorizedClient(Duration.ofMinutes(5));
+		given(authorizedClientManager.authorize(any())).willAnswer(invocation -> {
+			Thread.sleep(50);
+			return authorizedClient;
+		});
+		var results = new ArrayList<Future<OAuth2AuthorizedClient>>();
+		Callable<OAuth2AuthorizedClient> authorize = () -> tokenComponent.authorize(REQUEST);
+
+		// When
+		try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+			for (int i = 0; i < 10; i++) {
+				results.add(executor.submit(authorize));
+			}
+		}
+
+		// Then
+		for (var result : results) {
+			assertThat(result.get()).isEqualTo(authorizedClient);
+		}
+		then(authorizedClientManager).should().authorize(any());
+	}
+
+	@Test
+	void testRefreshIfExpiring() {
+		// Given
+		var expiringClient = givenAuthorizedClient(Duration.ofSeconds(30));
+		var refreshedClient = givenAuthorizedClient(Duration.ofMinutes(5));
+		given(authorizedClientManager.authorize(any())).willReturn(expiringClient, refreshedClient);
+		tokenComponent.authorize(REQUEST);
+
+		// When
+		tokenComponent.refreshIfExpiring();
+
+		// Then
+		assertThat(tokenComponent.authorize(REQUEST)).isEqualTo(refreshedClient);
+		then(authorizedClientManager).should(times(2)).authorize(any());
+		assertThat(meterRegistry.get("oauth2.token.refresh").tag("outcome", "success").timer().count())
+			.isEqualTo(2);
+	}
+
+	@Test
+	void testInvalidate() {
+		// Given
+		given(authorizedClientManager.authorize(any())).willReturn(givenAuthorizedClient(Duration.ofMinutes(5)));
+		tokenComponent.authorize(REQUEST);
+
+		// When
+		tokenComponent.invalidate();
+
+		// Then
+		tokenComponent.authorize(REQUEST);
+		then(authorizedClientService).should().removeAuthorizedClient(anyString(), anyString());
+		then(authorizedClientManager).should(times(2)).authorize(any());
+	}
+
+}
@@ -0,0 +1,78 @@
+package eu.dissco.orchestration.backend.component;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.times;
+
+import eu.dissco.orchestration.backend.properties.OutboxProperties;
+import eu.dissco.orchestration.backend.repository.EventOutboxRepository;
+import eu.dissco.orchestration.backend.service.RabbitMqPublisherService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxRelayComponentTest {
+
+	@Mock
+	private EventOutboxRepository repository;
+
+	@Mock
+	private RabbitMqPublisherService publisherService;
+
+	@Mock
+	private LeaderElectionComponent leaderElectionComponent;
+
+	private SimpleMeterRegistry meterRegistry;
+
+	private OutboxRelayComponent relayComponent;
+
+	@BeforeEach
+	void setup() {
+		var properties = new OutboxProperties();
+		properties.setBatchSize(2);
+		meterRegistry = new SimpleMeterRegistry();
+		relayComponent = new OutboxRelayComponent(repository, publisherService, leaderElectionComponent, properties,
+				meterRegistry);
+	}
+
+	@Test
+	void testRelayUntilEmpty() {
+		// Given
+		given(repository.relayEvents(eq(2), any())).willReturn(2, 2, 1);
+		given(repository.countEvents()).willReturn(0);
+
+		// When
+		var result = relayComponent.relay();
+
+		// Then
+		assertThat(result).isEqualTo(5);
+		then(repository).should().releaseExpiredEvents(Duration.ofMinutes(10));
+		then(repository).should(times(3)).relayEvents(eq(2), any());
+		assertThat(meterRegistry.get("outbox.relayed").counter().count()).isEqualTo(5);
+		assertThat(meterRegistry.get("outbox.pending").gauge().value()).isZero();
+	}
+
+	@Test
+	void testRelayEmptyOutbox() {
+		// Given
+		given(repository.relayEvents(eq(2), any())).willReturn(0);
+		given(repository.countEvents()).willReturn(0);
+
+		// When
+		var result = relayComponent.relay();
+
+		// Then
+		assertThat(result).isZero();
+		then(repository).should().relayEvents(eq(2), any());
+		then(publisherService).shouldHaveNoInteractions();
+	}
+
+}
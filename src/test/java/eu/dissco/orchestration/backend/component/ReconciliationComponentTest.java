@@ -0,0 +1,145 @@
+package eu.dissco.orchestration.backend.component;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import eu.dissco.orchestration.backend.exception.KubernetesFailedException;
+import eu.dissco.orchestration.backend.properties.ReconciliationProperties;
+import io.kubernetes.client.openapi.ApiException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ReconciliationComponentTest {
+
+	private static final int MAX_CONCURRENCY = 2;
+
+	private static final int CHUNK_SIZE = 2;
+
+	private SimpleMeterRegistry meterRegistry;
+
+	private ReconciliationComponent reconciliationComponent;
+
+	@BeforeEach
+	void setup() {
+		var properties = new ReconciliationProperties();
+		properties.setMaxConcurrency(MAX_CONCURRENCY);
+		properties.setChunkSize(CHUNK_SIZE);
+		meterRegistry = new SimpleMeterRegistry();
+		reconciliationComponent = new ReconciliationComponent(properties, meterRegistry);
+	}
+
+	@Test
+	void testReconcile() throws KubernetesFailedException {
+		// Given
+		Set<String> executed = ConcurrentHashMap.newKeySet();
+
+		// When
+		var result = reconciliationComponent
+			.reconcile(Map.of("deployment", () -> executed.add("deployment"), "keda", () -> executed.add("keda")));
+
+		// Then
+		assertThat(executed).containsExactlyInAnyOrder("deployment", "keda");
+		assertThat(result).containsOnlyKeys("deployment", "keda");
+		assertThat(meterRegistry.get("reconciliation.duration").tag("kind", "keda").timer().count()).isEqualTo(1);
+	}
+
+	@Test
+	void testReconcileKindFails() {
+		// Given
+		Set<String> executed = ConcurrentHashMap.newKeySet();
+
+		// When
+		var exception = assertThrows(KubernetesFailedException.class,
+				() -> reconciliationComponent.reconcile(Map.of("deployment", () -> {
+					throw new ApiException(500, "Internal server error");
+				}, "keda", () -> executed.add("keda"))));
+
+		// Then
+		assertThat(exception.getMessage()).contains("deployment").doesNotContain("keda");
+		assertThat(executed).containsExactly("keda");
+	}
+
+	@Test
+	void testForEachRespectsMaxConcurrency() throws KubernetesFailedException {
+		// Given
+		var active = new AtomicInteger();
+		var maxActive = new AtomicInteger();
+		var processed = new AtomicInteger();
+
+		// When
+		reconciliationComponent.forEach(List.of(1, 2, 3, 4, 5, 6, 7, 8), item -> {
+			maxActive.accumulateAndGet(active.incrementAndGet(), Math::max);
+			Thread.sleep(10);
+			active.decrementAndGet();
+			processed.incrementAndGet();
+		});
+
+		// Then
+		assertThat(processed).hasValue(8);
+		assertThat(maxActive.get()).isLessThanOrEqualTo(MAX_CONCURRENCY);
+	}
+
+	@Test
+	void testForEachContinuesAfterFailure() {
+		// Given
+		Set<Integer> processed = ConcurrentHashMap.newKeySet();
+
+		// When
+		var exception = assertThrows(KubernetesFailedException.class,
+				() -> reconciliationComponent.forEach(List.of(1, 2, 3), item -> {
+					if (item == 2) {
+						throw new ApiException(409, "Conflict");
+					}
+					processed.add(item);
+				}));
+
+		// Then
+		assertThat(processed).containsExactlyInAnyOrder(1, 3);
+		assertThat(exception.getMessage()).isEqualTo("Failed to reconcile 1 of 3 objects");
+		assertThat(exception.getCause()).isInstanceOf(ApiException.class);
+	}
+
+	@Test
+	void testForEachChunk() throws KubernetesFailedException {
+		// Given
+		Set<Integer> processed = ConcurrentHashMap.newKeySet();
+		var requestedChunkSize = new AtomicInteger();
+
+		// When
+		reconciliationComponent.forEachChunk(chunkSize -> {
+			requestedChunkSize.set(chunkSize);
+			return Stream.of(List.of(1, 2), List.of(3));
+		}, processed::add);
+
+		// Then
+		assertThat(processed).containsExactlyInAnyOrder(1, 2, 3);
+		assertThat(requestedChunkSize).hasValue(CHUNK_SIZE);
+	}
+
+	@Test
+	void testForEachChunkContinuesAfterFailedChunk() {
+		// Given
+		Set<Integer> processed = ConcurrentHashMap.newKeySet();
+
+		// When
+		var exception = assertThrows(KubernetesFailedException.class,
+				() -> reconciliationComponent.forEachChunk(chunkSize -> Stream.of(List.of(1, 2), List.of(3)), item -> {
+					if (item == 1) {
+						throw new ApiException(409, "Conflict");
+					}
+					processed.add(item);
+				}));
+
+		// Then
+		assertThat(processed).containsExactlyInAnyOrder(2, 3);
+		assertThat(exception.getMessage()).isEqualTo("Failed to reconcile objects in 1 chunks");
+	}
+
+}
@@ -0,0 +1,107 @@
+package eu.dissco.orchestration.backend.component;
+
+import static eu.dissco.orchestration.backend.component.SpecHashComponent.SPEC_HASH_ANNOTATION;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.kubernetes.client.openapi.models.V1Container;
+import io.kubernetes.client.openapi.models.V1Deployment;
+import io.kubernetes.client.openapi.models.V1DeploymentSpec;
+import io.kubernetes.client.openapi.models.V1DeploymentStatus;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1PodSpec;
+import io.kubernetes.client.openapi.models.V1PodTemplateSpec;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class SpecHashComponentTest {
+
+	private SpecHashComponent specHashComponent;
+
+	private static V1Deployment givenDeployment(String image, int replicas) {
+		return new V1Deployment().apiVersion("apps/v1")
+			.kind("Deployment")
+			.metadata(new V1ObjectMeta().name("gw0-pop-xsl-deployment").namespace("machine-annotation-services"))
+			.spec(new V1DeploymentSpec().replicas(replicas)
+				.template(new V1PodTemplateSpec().spec(new V1PodSpec()
+					.addContainersItem(new V1Container().name("gw0-pop-xsl-deployment").image(image)))));
+	}
+
+	private static String specHash(V1Deployment deployment) {
+		return deployment.getMetadata().getAnnotations().get(SPEC_HASH_ANNOTATION);
+	}
+
+	@BeforeEach
+	void setup() {
+		specHashComponent = new SpecHashComponent();
+	}
+
+	@Test
+	void testWithSpecHash() {
+		// When
+		var result = specHashComponent.withSpecHash(givenDeployment("fancy-mas:sha-54289", 1), "replicas");
+
+		// Then
+		assertThat(specHash(result))
+			.isEqualTo(specHash(specHashComponent.withSpecHash(givenDeployment("fancy-mas:sha-54289", 3), "replicas")))
+			.isNotEqualTo(specHash(specHashComponent.withSpecHash(givenDeployment("fancy-mas:sha-54290", 1),
+					"replicas")))
+			.isNotEqualTo(specHash(specHashComponent.withSpecHash(givenDeployment("fancy-mas:sha-54289", 3))));
+	}
+
+	@Test
+	void testWithSpecHashIsStable() {
+		// Given
+		var deployment = specHashComponent.withSpecHash(givenDeployment("fancy-mas:sha-54289", 1));
+		var hash = specHash(deployment);
+
+		// When
+		var result = specHashComponent.withSpecHash(deployment);
+
+		// Then
+		assertThat(specHash(result)).isEqualTo(hash);
+	}
+
+	@Test
+	void testIsInSyncFullSync() {
+		// Given
+		var generated = specHashComponent.withSpecHash(givenDeployment("fancy-mas:sha-54289", 1));
+		var live = givenDeployment("fancy-mas:sha-54290", 1);
+		live.getMetadata().putAnnotationsItem(SPEC_HASH_ANNOTATION, specHash(generated));
+
+		// When / Then
+		assertThat(specHashComponent.isInSync(live, generated, true)).isTrue();
+		assertThat(specHashComponent.isInSync(givenDeployment("fancy-mas:sha-54289", 1), generated, true)).isFalse();
+	}
+
+	@Test
+	void testIsInSyncComparesLiveResource() {
+		// Given
+		var generated = specHashComponent.withSpecHash(givenDeployment("fancy-mas:sha-54289", 1));
+		var live = specHashComponent.withSpecHash(givenDeployment("fancy-mas:sha-54290", 1));
+		live.getMetadata().putAnnotationsItem(SPEC_HASH_ANNOTATION, specHash(generated));
+
+		// When
+		var result = specHashComponent.isInSync(live, generated, false);
+
+		// Then
+		assertThat(result).isFalse();
+	}
+
+	@Test
+	void testIsInSyncIgnoresLiveDefaults() {
+		// Given
+		var generated = specHashComponent.withSpecHash(givenDeployment("fancy-mas:sha-54289", 1));
+		var live = specHashComponent.withSpecHash(givenDeployment("fancy-mas:sha-54289", 1));
+		live.getMetadata().uid("a0b3e9a4-6c1e-4b5d-9f0a-3d1c2b4a5e6f").resourceVersion("42");
+		live.getSpec().revisionHistoryLimit(10);
+		live.getSpec().getTemplate().getSpec().getContainers().getFirst().imagePullPolicy("IfNotPresent");
+		live.status(new V1DeploymentStatus().readyReplicas(1));
+
+		// When
+		var result = specHashComponent.isInSync(live, generated, false);
+
+		// Then
+		assertThat(result).isTrue();
+	}
+
+}
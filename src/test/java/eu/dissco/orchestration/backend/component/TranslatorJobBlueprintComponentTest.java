@@ -0,0 +1,131 @@
+package eu.dissco.orchestration.backend.component;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.dataformat.yaml.YAMLMapper;
+import eu.dissco.orchestration.backend.properties.TranslatorJobProperties;
+import eu.dissco.orchestration.backend.schema.SourceSystem.OdsTranslatorType;
+import freemarker.template.Configuration;
+import freemarker.template.TemplateException;
+import io.kubernetes.client.openapi.ApiClient;
+import io.kubernetes.client.openapi.models.V1CronJob;
+import io.kubernetes.client.openapi.models.V1Job;
+import java.io.File;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+class TranslatorJobBlueprintComponentTest {
+
+	private final YAMLMapper yamlMapper = new YAMLMapper(YAMLMapper.builder().findAndAddModules().build());
+
+	private final Configuration configuration = new Configuration(Configuration.VERSION_2_3_32);
+
+	private TranslatorJobBlueprintComponent blueprintComponent;
+
+	private static Map<String, Object> givenTemplateProperties(String jobName) {
+		var map = new HashMap<String, Object>();
+		map.put("image", "public.ecr.aws/dissco/dissco-core-translator:latest");
+		map.put("sourceSystemId", "TEST/GW0-POP-XSL");
+		map.put("jobName", jobName);
+		map.put("namespace", "translator-services");
+		map.put("containerName", jobName);
+		map.put("database_url", "jdbc:postgresql://localhost:5432/translator");
+		map.put("forceMasSchedule", true);
+		return map;
+	}
+
+	@BeforeEach
+	void setup() throws IOException, TemplateException {
+		configuration.setDirectoryForTemplateLoading(new File("src/main/resources/templates/"));
+		var jobProperties = new TranslatorJobProperties();
+		jobProperties.setDatabaseUrl("jdbc:postgresql://localhost:5432/translator");
+		blueprintComponent = new TranslatorJobBlueprintComponent(configuration, yamlMapper, jobProperties,
+				new ApiClient());
+		blueprintComponent.loadBlueprints();
+	}
+
+	private String render(String templateName, Map<String, Object> templateProperties)
+			throws IOException, TemplateException {
+		var writer = new StringWriter();
+		configuration.getTemplate(templateName).process(templateProperties, writer);
+		return writer.toString();
+	}
+
+	@ParameterizedTest
+	@EnumSource(OdsTranslatorType.class)
+	void testCreateJob(OdsTranslatorType translatorType) throws Exception {
+		// Given
+		var templateProperties = givenTemplateProperties("dwca-gw0-pop-xsl-translator-service");
+		templateProperties.put("maxItems", 25);
+		templateProperties.put("specimenMass", "https://hdl.handle.net/TEST/SSS-SSS-SSS");
+		templateProperties.put("routingKeyName", "source-system-data-checker");
+		var expected = yamlMapper.readValue(
+				render(TranslatorJobBlueprintComponent.templateName(translatorType, false), templateProperties),
+				V1Job.class);
+
+		// When
+		var result = blueprintComponent.createJob(translatorType, templateProperties);
+
+		// Then
+		assertThat(result).isEqualTo(expected);
+	}
+
+	@Test
+	void testCreateJobWithoutOptionalProperties() throws Exception {
+		// Given
+		var templateProperties = givenTemplateProperties("biocase-gw0-pop-xsl-translator-service");
+		var expected = yamlMapper.readValue(render("biocase-translator-job.ftl", templateProperties), V1Job.class);
+
+		// When
+		var result = blueprintComponent.createJob(OdsTranslatorType.BIOCASE, templateProperties);
+
+		// Then
+		assertThat(result).isEqualTo(expected);
+	}
+
+	@ParameterizedTest
+	@EnumSource(OdsTranslatorType.class)
+	void testCreateCronJob(OdsTranslatorType translatorType) throws Exception {
+		// Given
+		var templateProperties = givenTemplateProperties("dwca-gw0-pop-xsl-translator-service");
+		templateProperties.put("maxItems", 25);
+		templateProperties.put("exchangeName", "source-system-data-checker-exchange");
+		templateProperties.put("cron", "0 5 * * 3");
+		var expected = yamlMapper.readValue(
+				render(TranslatorJobBlueprintComponent.templateName(translatorType, true), templateProperties),
+				V1CronJob.class);
+
+		// When
+		var result = blueprintComponent.createCronJob(translatorType, templateProperties);
+
+		// Then
+		assertThat(result).isEqualTo(expected);
+	}
+
+	@Test
+	void testCreateJobDoesNotChangeBlueprint() {
+		// Given
+		var templateProperties = givenTemplateProperties("dwca-gw0-pop-xsl-translator-service");
+		blueprintComponent.createJob(OdsTranslatorType.DWCA, templateProperties)
+			.getSpec()
+			.getTemplate()
+			.getSpec()
+			.getContainers()
+			.getFirst()
+			.setImage("another-image");
+
+		// When
+		var result = blueprintComponent.createJob(OdsTranslatorType.DWCA, templateProperties);
+
+		// Then
+		assertThat(result.getSpec().getTemplate().getSpec().getContainers().getFirst().getImage())
+			.isEqualTo("public.ecr.aws/dissco/dissco-core-translator:latest");
+	}
+
+}
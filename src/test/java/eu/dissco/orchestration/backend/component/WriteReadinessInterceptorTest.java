@@ -0,0 +1,68 @@
+package eu.dissco.orchestration.backend.component;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class WriteReadinessInterceptorTest {
+
+	private ClusterSyncHealthIndicator clusterSyncHealthIndicator;
+
+	private WriteReadinessInterceptor interceptor;
+
+	@BeforeEach
+	void setup() {
+		clusterSyncHealthIndicator = new ClusterSyncHealthIndicator();
+		interceptor = new WriteReadinessInterceptor(clusterSyncHealthIndicator);
+	}
+
+	@Test
+	void testReadBeforeSync() throws IOException {
+		// Given
+		var response = new MockHttpServletResponse();
+
+		// When
+		var result = interceptor.preHandle(new MockHttpServletRequest("GET", "/source-system"), response, new Object());
+
+		// Then
+		assertThat(result).isTrue();
+		assertThat(response.getStatus()).isEqualTo(200);
+	}
+
+	@Test
+	void testWriteBeforeSync() throws IOException {
+		// Given
+		var response = new MockHttpServletResponse();
+
+		// When
+		var result = interceptor.preHandle(new MockHttpServletRequest("POST", "/source-system"), response,
+				new Object());
+
+		// Then
+		assertThat(result).isFalse();
+		assertThat(response.getStatus()).isEqualTo(503);
+		assertThat(response.getHeader(HttpHeaders.RETRY_AFTER)).isNotNull();
+		assertThat(clusterSyncHealthIndicator.health().getStatus()).isEqualTo(ClusterSyncHealthIndicator.SYNCHRONIZING);
+	}
+
+	@Test
+	void testWriteAfterSync() throws IOException {
+		// Given
+		var response = new MockHttpServletResponse();
+		clusterSyncHealthIndicator.markSynced();
+
+		// When
+		var result = interceptor.preHandle(new MockHttpServletRequest("PATCH", "/source-system"), response,
+				new Object());
+
+		// Then
+		assertThat(result).isTrue();
+		assertThat(response.getStatus()).isEqualTo(200);
+	}
+
+}
@@ -19,6 +19,7 @@ import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
 
 import eu.dissco.orchestration.backend.domain.jsonapi.JsonApiLinks;
+import eu.dissco.orchestration.backend.exception.BadRequestException;
 import eu.dissco.orchestration.backend.exception.NotFoundException;
 import eu.dissco.orchestration.backend.properties.ApplicationProperties;
 import eu.dissco.orchestration.backend.schema.DataMapping;
@@ -118,7 +119,7 @@ class DataMappingControllerTest {
 	}
 
 	@Test
-	void testGetDataMappings() {
+	void testGetDataMappings() throws BadRequestException {
 		int pageNum = 1;
 		int pageSize = 10;
 
@@ -129,7 +130,7 @@ class DataMappingControllerTest {
 		given(appProperties.getBaseUrl()).willReturn("https://sandbox.dissco.tech/orchestrator");
 
 		// When
-		var result = controller.getDataMappings(pageNum, pageSize, mockRequest);
+		var result = controller.getDataMappings(pageNum, pageSize, null, mockRequest);
 
 		// Then
 		assertThat(result.getStatusCode()).isEqualTo(HttpStatus.OK);
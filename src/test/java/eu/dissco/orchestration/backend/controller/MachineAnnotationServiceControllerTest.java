@@ -18,6 +18,7 @@ import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 import static org.mockito.Mockito.mock;
 
+import eu.dissco.orchestration.backend.exception.BadRequestException;
 import eu.dissco.orchestration.backend.exception.NotFoundException;
 import eu.dissco.orchestration.backend.properties.ApplicationProperties;
 import eu.dissco.orchestration.backend.service.MachineAnnotationServiceService;
@@ -123,11 +124,11 @@ class MachineAnnotationServiceControllerTest {
 	}
 
 	@Test
-	void testGetMass() {
+	void testGetMass() throws BadRequestException {
 		// Given
 
 		// When
-		var result = controller.getMachineAnnotationServices(1, 10, mockRequest);
+		var result = controller.getMachineAnnotationServices(1, 10, null, mockRequest);
 
 		// Then
 		assertThat(result.getStatusCode()).isEqualTo(HttpStatus.OK);
@@ -2,6 +2,7 @@ package eu.dissco.orchestration.backend.controller;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import eu.dissco.orchestration.backend.exception.BadRequestException;
 import eu.dissco.orchestration.backend.exception.ForbiddenException;
 import eu.dissco.orchestration.backend.exception.NotFoundException;
 import org.junit.jupiter.api.BeforeEach;
@@ -29,6 +30,15 @@ class RestResponseEntityEntityExceptionHandlerTest {
 		assertThat(result.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
 	}
 
+	@Test
+	void testBadRequestException() {
+		// When
+		var result = exceptionHandler.badRequestException(new BadRequestException(""));
+
+		// Then
+		assertThat(result.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+	}
+
 	@Test
 	void testIllegalArgumentException() {
 		// When
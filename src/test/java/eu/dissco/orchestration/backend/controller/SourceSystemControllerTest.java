@@ -1,9 +1,13 @@
 package eu.dissco.orchestration.backend.controller;
 
+import eu.dissco.orchestration.backend.domain.BulkCreateResponse;
+import eu.dissco.orchestration.backend.domain.BulkCreateResult;
 import eu.dissco.orchestration.backend.domain.ExportType;
 import eu.dissco.orchestration.backend.domain.MasScheduleData;
 import eu.dissco.orchestration.backend.domain.TranslatorJobRecord;
 import eu.dissco.orchestration.backend.domain.jsonapi.JsonApiLinks;
+import eu.dissco.orchestration.backend.domain.openapi.sourcesystem.SourceSystemBulkRequestSchema;
+import eu.dissco.orchestration.backend.exception.BadRequestException;
 import eu.dissco.orchestration.backend.exception.NotFoundException;
 import eu.dissco.orchestration.backend.properties.ApplicationProperties;
 import eu.dissco.orchestration.backend.schema.SourceSystem;
@@ -29,9 +33,12 @@ import java.util.Optional;
 import static eu.dissco.orchestration.backend.testutils.TestUtils.*;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 
 @ExtendWith(MockitoExtension.class)
 class SourceSystemControllerTest {
@@ -71,6 +78,39 @@ class SourceSystemControllerTest {
 		assertThat(result.getStatusCode()).isEqualTo(HttpStatus.CREATED);
 	}
 
+	@Test
+	void testCreateSourceSystems() throws Exception {
+		// Given
+		var request = new SourceSystemBulkRequestSchema(List.of(givenSourceSystemRequestJson().data()));
+		givenAuthentication();
+		given(service.createSourceSystems(List.of(givenSourceSystemRequest()), givenAgent()))
+			.willReturn(new BulkCreateResponse(List.of(new BulkCreateResult(0, 201, null, null))));
+
+		// When
+		var result = controller.createSourceSystems(authentication, request);
+
+		// Then
+		assertThat(result.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+	}
+
+	@Test
+	void testCreateSourceSystemsPartialFailure() throws Exception {
+		// Given
+		var request = new SourceSystemBulkRequestSchema(
+				List.of(givenSourceSystemRequestJson().data(), givenSourceSystemRequestJson().data()));
+		givenAuthentication();
+		given(service.createSourceSystems(List.of(givenSourceSystemRequest(), givenSourceSystemRequest()),
+				givenAgent()))
+			.willReturn(new BulkCreateResponse(List.of(new BulkCreateResult(0, 201, null, null),
+					new BulkCreateResult(1, 404, null, "Unable to locate Data Mapping"))));
+
+		// When
+		var result = controller.createSourceSystems(authentication, request);
+
+		// Then
+		assertThat(result.getStatusCode()).isEqualTo(HttpStatus.MULTI_STATUS);
+	}
+
 	@Test
 	void testScheduleRunSourceSystemById() throws Exception {
 		// Given
@@ -152,7 +192,7 @@ class SourceSystemControllerTest {
 	}
 
 	@Test
-	void testGetSourceSystems() {
+	void testGetSourceSystems() throws BadRequestException {
 		// Given
 		int pageNum = 1;
 		int pageSize = 10;
@@ -163,7 +203,7 @@ class SourceSystemControllerTest {
 		given(appProperties.getBaseUrl()).willReturn(SANDBOX_URI);
 
 		// When
-		var result = controller.getSourceSystems(pageNum, pageSize, mockRequest);
+		var result = controller.getSourceSystems(pageNum, pageSize, null, mockRequest);
 
 		// Then
 		assertThat(result.getStatusCode()).isEqualTo(HttpStatus.OK);
@@ -171,7 +211,7 @@ class SourceSystemControllerTest {
 	}
 
 	@Test
-	void testGetSourceSystemsLastPage() {
+	void testGetSourceSystemsLastPage() throws BadRequestException {
 		// Given
 		int pageNum = 2;
 		int pageSize = 10;
@@ -182,11 +222,30 @@ class SourceSystemControllerTest {
 		given(appProperties.getBaseUrl()).willReturn(SANDBOX_URI);
 
 		// When
-		var result = controller.getSourceSystems(pageNum, pageSize, mockRequest);
+		var result = controller.getSourceSystems(pageNum, pageSize, null, mockRequest);
+
+		// Then
+		assertThat(result.getStatusCode()).isEqualTo(HttpStatus.OK);
+		assertThat(result.getBody()).isEqualTo(expected);
+	}
+
+	@Test
+	void testGetSourceSystemPage() throws BadRequestException {
+		// Given
+		int pageSize = 10;
+		List<SourceSystem> sourceSystems = Collections.nCopies(pageSize, givenSourceSystem());
+		var linksNode = new JsonApiLinks(pageSize, "", "bmV4dA", SYSTEM_PATH);
+		var expected = givenSourceSystemResponse(sourceSystems, linksNode);
+		given(service.getSourceSystemPage("", pageSize, SYSTEM_PATH)).willReturn(expected);
+		given(appProperties.getBaseUrl()).willReturn(SANDBOX_URI);
+
+		// When
+		var result = controller.getSourceSystems(1, pageSize, "", mockRequest);
 
 		// Then
 		assertThat(result.getStatusCode()).isEqualTo(HttpStatus.OK);
 		assertThat(result.getBody()).isEqualTo(expected);
+		then(service).should(never()).getSourceSystems(anyInt(), anyInt(), anyString());
 	}
 
 	@Test
@@ -202,7 +261,7 @@ class SourceSystemControllerTest {
 	}
 
 	@Test
-	void testGetSourceSystemJobRecord() {
+	void testGetSourceSystemJobRecord() throws BadRequestException {
 		// Given
 		int pageNum = 1;
 		int pageSize = 10;
@@ -213,7 +272,7 @@ class SourceSystemControllerTest {
 		given(appProperties.getBaseUrl()).willReturn(SANDBOX_URI);
 
 		// When
-		var result = controller.getTranslatorJobRecords(PREFIX, SUFFIX, pageNum, pageSize, mockRequest);
+		var result = controller.getTranslatorJobRecords(PREFIX, SUFFIX, pageNum, pageSize, null, mockRequest);
 
 		// Then
 		assertThat(result.getStatusCode()).isEqualTo(HttpStatus.OK);
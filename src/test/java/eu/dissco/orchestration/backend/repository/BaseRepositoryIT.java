@@ -21,7 +21,7 @@ class BaseRepositoryIT {
 		.asCompatibleSubstituteFor(IMAGE);
 
 	@Container
-	private static final PostgreSQLContainer CONTAINER = new PostgreSQLContainer(POSTGIS);
+	protected static final PostgreSQLContainer CONTAINER = new PostgreSQLContainer(POSTGIS);
 
 	protected DSLContext context;
 
@@ -0,0 +1,105 @@
+package eu.dissco.orchestration.backend.repository;
+
+import static eu.dissco.orchestration.backend.database.jooq.Tables.EVENT_OUTBOX;
+import static eu.dissco.orchestration.backend.database.jooq.Tables.SOURCE_SYSTEM;
+import static eu.dissco.orchestration.backend.testutils.TestUtils.BARE_HANDLE;
+import static eu.dissco.orchestration.backend.testutils.TestUtils.CREATED;
+import static eu.dissco.orchestration.backend.testutils.TestUtils.HANDLE;
+import static eu.dissco.orchestration.backend.testutils.TestUtils.MAPPER;
+import static eu.dissco.orchestration.backend.testutils.TestUtils.givenOutboxEvent;
+import static eu.dissco.orchestration.backend.testutils.TestUtils.givenSourceSystem;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import eu.dissco.orchestration.backend.component.CacheInvalidationListener;
+import eu.dissco.orchestration.backend.properties.ReadCacheProperties;
+import eu.dissco.orchestration.backend.schema.SourceSystem;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.BooleanSupplier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class CacheInvalidationListenerIT extends BaseRepositoryIT {
+
+	private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+	private SourceSystemRepository writingReplica;
+
+	private SourceSystemRepository readingReplica;
+
+	private CacheInvalidationListener listener;
+
+	private static boolean waitFor(BooleanSupplier condition) throws InterruptedException {
+		var deadline = Instant.now().plus(TIMEOUT);
+		while (Instant.now().isBefore(deadline)) {
+			if (condition.getAsBoolean()) {
+				return true;
+			}
+			Thread.sleep(50);
+		}
+		return false;
+	}
+
+	private SourceSystemRepository givenReplica(ObjectCache<SourceSystem> cache) {
+		return new SourceSystemRepository(context, MAPPER, cache);
+	}
+
+	private ObjectCache<SourceSystem> givenCache() {
+		return new ObjectCache<>("sourceSystem", new ReadCacheProperties(), new SimpleMeterRegistry(), context, MAPPER);
+	}
+
+	@BeforeEach
+	void setup() throws InterruptedException {
+		var readingCache = givenCache();
+		writingReplica = givenReplica(givenCache());
+		readingReplica = givenReplica(readingCache);
+		var properties = new ReadCacheProperties();
+		properties.setListenerPollTimeout(Duration.ofMillis(100));
+		listener = new CacheInvalidationListener(List.of(readingCache), MAPPER, properties, CONTAINER.getJdbcUrl(),
+				CONTAINER.getUsername(), CONTAINER.getPassword());
+		listener.start();
+		assertThat(waitFor(listener::isListening)).isTrue();
+	}
+
+	@AfterEach
+	void destroy() {
+		listener.stop();
+		context.truncate(SOURCE_SYSTEM).cascade().execute();
+		context.truncate(EVENT_OUTBOX).execute();
+	}
+
+	@Test
+	void testUpdateOnOtherReplica() throws InterruptedException {
+		// Given
+		writingReplica.createSourceSystem(givenSourceSystem(), givenOutboxEvent());
+		readingReplica.getActiveSourceSystem(HANDLE);
+		var updatedSourceSystem = givenSourceSystem(2).withSchemaName("An updated name");
+
+		// When
+		writingReplica.updateSourceSystem(updatedSourceSystem, givenOutboxEvent(BARE_HANDLE, 2));
+
+		// Then
+		assertThat(waitFor(() -> readingReplica.getActiveSourceSystem(HANDLE).equals(Optional.of(updatedSourceSystem))))
+			.isTrue();
+	}
+
+	@Test
+	void testTombstoneOnOtherReplica() throws InterruptedException {
+		// Given
+		var sourceSystem = givenSourceSystem();
+		writingReplica.createSourceSystem(sourceSystem, givenOutboxEvent());
+		readingReplica.getActiveSourceSystem(HANDLE);
+
+		// When
+		writingReplica.tombstoneSourceSystem(sourceSystem.withSchemaVersion(2), CREATED,
+				givenOutboxEvent(BARE_HANDLE, 2));
+
+		// Then
+		assertThat(waitFor(() -> readingReplica.getActiveSourceSystem(HANDLE).isEmpty())).isTrue();
+	}
+
+}
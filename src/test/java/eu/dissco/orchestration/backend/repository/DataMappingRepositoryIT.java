@@ -1,18 +1,23 @@
 package eu.dissco.orchestration.backend.repository;
 
 import static eu.dissco.orchestration.backend.database.jooq.Tables.DATA_MAPPING;
+import static eu.dissco.orchestration.backend.database.jooq.Tables.EVENT_OUTBOX;
 import static eu.dissco.orchestration.backend.testutils.TestUtils.BARE_HANDLE;
 import static eu.dissco.orchestration.backend.testutils.TestUtils.CREATED;
 import static eu.dissco.orchestration.backend.testutils.TestUtils.HANDLE;
 import static eu.dissco.orchestration.backend.testutils.TestUtils.MAPPER;
 import static eu.dissco.orchestration.backend.testutils.TestUtils.givenDataMapping;
+import static eu.dissco.orchestration.backend.testutils.TestUtils.givenOutboxEvent;
 import static eu.dissco.orchestration.backend.testutils.TestUtils.givenTombstoneMetadata;
 import static eu.dissco.orchestration.backend.utils.HandleUtils.removeProxy;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import eu.dissco.orchestration.backend.domain.ObjectType;
+import eu.dissco.orchestration.backend.domain.RawJsonObject;
+import eu.dissco.orchestration.backend.properties.ReadCacheProperties;
 import eu.dissco.orchestration.backend.schema.DataMapping;
 import eu.dissco.orchestration.backend.schema.DataMapping.OdsStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.IntStream;
@@ -29,12 +34,15 @@ class DataMappingRepositoryIT extends BaseRepositoryIT {
 
 	@BeforeEach
 	void setup() {
-		repository = new DataMappingRepository(MAPPER, context);
+		var cache = new ObjectCache<DataMapping>("dataMapping", new ReadCacheProperties(), new SimpleMeterRegistry(),
+				context, MAPPER);
+		repository = new DataMappingRepository(MAPPER, context, cache);
 	}
 
 	@AfterEach
 	void destroy() {
 		context.truncate(DATA_MAPPING).execute();
+		context.truncate(EVENT_OUTBOX).execute();
 	}
 
 	@Test
@@ -43,12 +51,13 @@ class DataMappingRepositoryIT extends BaseRepositoryIT {
 		var dataMapping = givenDataMapping(HANDLE, 1);
 
 		// When
-		repository.createDataMapping(dataMapping);
+		repository.createDataMapping(dataMapping, givenOutboxEvent());
 		var result = readAllDataMappings();
 
 		// Then
 		assertThat(result).hasSize(1);
 		assertThat(result.get(0)).isEqualTo(dataMapping);
+		assertThat(context.fetchCount(EVENT_OUTBOX)).isEqualTo(1);
 	}
 
 	@Test
@@ -59,7 +68,7 @@ class DataMappingRepositoryIT extends BaseRepositoryIT {
 		var updatedDataMapping = givenDataMapping(HANDLE, 2, "Updated name");
 
 		// When
-		repository.updateDataMapping(updatedDataMapping);
+		repository.updateDataMapping(updatedDataMapping, givenOutboxEvent(BARE_HANDLE, 2));
 		var result = readAllDataMappings();
 
 		// Then
@@ -79,6 +88,20 @@ class DataMappingRepositoryIT extends BaseRepositoryIT {
 		assertThat(result).isEqualTo(dataMapping);
 	}
 
+	@Test
+	void testGetRawDataMapping() {
+		// Given
+		var dataMapping = givenDataMapping(HANDLE, 1);
+		postDataMappings(List.of(dataMapping));
+
+		// When
+		var result = repository.getRawDataMapping(HANDLE);
+
+		// Then
+		assertThat(result).get().extracting(RawJsonObject::id, RawJsonObject::created).containsExactly(HANDLE, CREATED);
+		assertThat(toDataMappings(List.of(result.get()))).containsOnly(dataMapping);
+	}
+
 	@Test
 	void testGetDataMappingIsDeleted() {
 		// Given
@@ -136,7 +159,7 @@ class DataMappingRepositoryIT extends BaseRepositoryIT {
 		var result = repository.getDataMappings(pageNum, pageSize);
 
 		// Then
-		assertThat(result).isEqualTo(mappingRecords);
+		assertThat(toDataMappings(result)).isEqualTo(mappingRecords);
 	}
 
 	@Test
@@ -166,7 +189,7 @@ class DataMappingRepositoryIT extends BaseRepositoryIT {
 		postDataMappings(List.of(dataMapping));
 
 		// When
-		repository.tombstoneDataMapping(dataMapping, CREATED);
+		repository.tombstoneDataMapping(dataMapping, CREATED, givenOutboxEvent(BARE_HANDLE, 2));
 		var result = getDeleted(BARE_HANDLE);
 
 		// Then
@@ -184,6 +207,10 @@ class DataMappingRepositoryIT extends BaseRepositoryIT {
 		return context.select(DATA_MAPPING.DATA).from(DATA_MAPPING).fetch(this::mapToDataMapping);
 	}
 
+	private List<DataMapping> toDataMappings(List<RawJsonObject> rawDataMappings) {
+		return rawDataMappings.stream().map(raw -> MAPPER.readValue(raw.json(), DataMapping.class)).toList();
+	}
+
 	private DataMapping mapToDataMapping(Record1<JSONB> record1) {
 		return MAPPER.readValue(record1.get(DATA_MAPPING.DATA).data(), DataMapping.class);
 	}
@@ -207,7 +234,7 @@ class DataMappingRepositoryIT extends BaseRepositoryIT {
 	@Test
 	void testRollback() {
 		// Given
-		postDataMappings(List.of(givenDataMapping(HANDLE, 1)));
+		repository.createDataMapping(givenDataMapping(HANDLE, 1), givenOutboxEvent());
 
 		// When
 		repository.rollbackDataMappingCreation(HANDLE);
@@ -215,6 +242,7 @@ class DataMappingRepositoryIT extends BaseRepositoryIT {
 		// Then
 		var result = repository.getDataMapping(HANDLE);
 		assertThat(result).isNull();
+		assertThat(context.fetchCount(EVENT_OUTBOX)).isZero();
 	}
 
 }
@@ -0,0 +1,179 @@
+package eu.dissco.orchestration.backend.repository;
+
+import static eu.dissco.orchestration.backend.database.jooq.Tables.EVENT_OUTBOX;
+import static eu.dissco.orchestration.backend.repository.EventOutboxRepository.insertEvent;
+import static eu.dissco.orchestration.backend.repository.EventOutboxRepository.releaseEvents;
+import static eu.dissco.orchestration.backend.repository.EventOutboxRepository.removePendingEvents;
+import static eu.dissco.orchestration.backend.testutils.TestUtils.BARE_HANDLE;
+import static eu.dissco.orchestration.backend.testutils.TestUtils.givenOutboxEvent;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import eu.dissco.orchestration.backend.domain.OutboxEvent;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class EventOutboxRepositoryIT extends BaseRepositoryIT {
+
+	private static final String OTHER_OBJECT_ID = "20.5000.1025/ABC-123-XYZ";
+
+	private EventOutboxRepository repository;
+
+	@BeforeEach
+	void setup() {
+		repository = new EventOutboxRepository(context);
+	}
+
+	@AfterEach
+	void destroy() {
+		context.truncate(EVENT_OUTBOX).execute();
+	}
+
+	@Test
+	void testRelayEvents() {
+		// Given
+		insertEvent(context, givenOutboxEvent(), true).execute();
+		insertEvent(context, givenOutboxEvent(BARE_HANDLE, 2), true).execute();
+		insertEvent(context, givenOutboxEvent(BARE_HANDLE, 3), true).execute();
+		var published = new ArrayList<OutboxEvent>();
+
+		// When
+		var result = repository.relayEvents(2, published::addAll);
+
+		// Then
+		assertThat(result).isEqualTo(2);
+		assertThat(published).extracting(OutboxEvent::objectVersion).containsExactly(1, 2);
+		assertThat(repository.countEvents()).isEqualTo(1);
+	}
+
+	@Test
+	void testRelayEventsPublishFails() {
+		// Given
+		insertEvent(context, givenOutboxEvent(), true).execute();
+
+		// When
+		assertThrows(IllegalStateException.class, () -> repository.relayEvents(10, events -> {
+			throw new IllegalStateException();
+		}));
+
+		// Then
+		assertThat(repository.countEvents()).isEqualTo(1);
+	}
+
+	@Test
+	void testRelayEventsConcurrently() {
+		// Given
+		insertEvent(context, givenOutboxEvent(), true).execute();
+		var published = new ArrayList<OutboxEvent>();
+		var concurrent = new ArrayList<OutboxEvent>();
+
+		// When
+		var result = repository.relayEvents(10, events -> {
+			published.addAll(events);
+			repository.relayEvents(10, concurrent::addAll);
+		});
+
+		// Then
+		assertThat(result).isEqualTo(1);
+		assertThat(concurrent).isEqualTo(published);
+		assertThat(repository.countEvents()).isZero();
+	}
+
+	@Test
+	void testRelayEventsHoldsBackLaterVersions() {
+		// Given
+		insertEvent(context, givenOutboxEvent(), false).execute();
+		insertEvent(context, givenOutboxEvent(BARE_HANDLE, 2), true).execute();
+		insertEvent(context, givenOutboxEvent(OTHER_OBJECT_ID, 1), true).execute();
+		var published = new ArrayList<OutboxEvent>();
+
+		// When
+		var result = repository.relayEvents(10, published::addAll);
+
+		// Then
+		assertThat(result).isEqualTo(1);
+		assertThat(published).extracting(OutboxEvent::objectId).containsExactly(OTHER_OBJECT_ID);
+		assertThat(repository.countEvents()).isEqualTo(2);
+	}
+
+	@Test
+	void testRelayEventsSkipsUnreleasedEvents() {
+		// Given
+		insertEvent(context, givenOutboxEvent(), false).execute();
+		var published = new ArrayList<OutboxEvent>();
+
+		// When
+		var result = repository.relayEvents(10, published::addAll);
+		removePendingEvents(context, BARE_HANDLE, null).execute();
+
+		// Then
+		assertThat(result).isZero();
+		assertThat(published).isEmpty();
+		assertThat(repository.countEvents()).isZero();
+	}
+
+	@Test
+	void testReleaseEvents() {
+		// Given
+		insertEvent(context, givenOutboxEvent(), false).execute();
+		insertEvent(context, givenOutboxEvent(BARE_HANDLE, 2), false).execute();
+		var published = new ArrayList<OutboxEvent>();
+
+		// When
+		releaseEvents(context, BARE_HANDLE, 1).execute();
+		var result = repository.relayEvents(10, published::addAll);
+
+		// Then
+		assertThat(result).isEqualTo(1);
+		assertThat(published).extracting(OutboxEvent::objectVersion).containsExactly(1);
+		assertThat(repository.countEvents()).isEqualTo(1);
+	}
+
+	@Test
+	void testReleaseExpiredEvents() {
+		// Given
+		insertEvent(context, givenOutboxEvent(), false).execute();
+		context.update(EVENT_OUTBOX).set(EVENT_OUTBOX.CREATED, Instant.now().minus(Duration.ofHours(1))).execute();
+		insertEvent(context, givenOutboxEvent(BARE_HANDLE, 2), false).execute();
+
+		// When
+		var result = repository.releaseExpiredEvents(Duration.ofMinutes(10));
+
+		// Then
+		assertThat(result).isEqualTo(1);
+		assertThat(context.selectFrom(EVENT_OUTBOX)
+			.where(EVENT_OUTBOX.RELEASED.isTrue())
+			.fetch(EVENT_OUTBOX.OBJECT_VERSION)).containsExactly(1);
+	}
+
+	@Test
+	void testRemovePendingEvents() {
+		// Given
+		insertEvent(context, givenOutboxEvent(), true).execute();
+		insertEvent(context, givenOutboxEvent(BARE_HANDLE, 2), true).execute();
+		insertEvent(context, givenOutboxEvent(OTHER_OBJECT_ID, 2), true).execute();
+
+		// When
+		removePendingEvents(context, BARE_HANDLE, 1).execute();
+
+		// Then
+		assertThat(context.selectFrom(EVENT_OUTBOX).fetch(EVENT_OUTBOX.OBJECT_VERSION)).containsExactlyInAnyOrder(1, 2);
+		assertThat(removePendingEvents(context, BARE_HANDLE, null).execute()).isEqualTo(1);
+	}
+
+	@Test
+	void testRelayEventsEmpty() {
+		// When
+		var result = repository.relayEvents(10, events -> {
+			throw new IllegalStateException();
+		});
+
+		// Then
+		assertThat(result).isZero();
+	}
+
+}
@@ -0,0 +1,124 @@
+package eu.dissco.orchestration.backend.repository;
+
+import static eu.dissco.orchestration.backend.database.jooq.Tables.HANDLE_RESERVATION;
+import static eu.dissco.orchestration.backend.testutils.TestUtils.BARE_HANDLE;
+import static eu.dissco.orchestration.backend.testutils.TestUtils.MAPPER;
+import static eu.dissco.orchestration.backend.testutils.TestUtils.MAS_TYPE_DOI;
+import static eu.dissco.orchestration.backend.testutils.TestUtils.SOURCE_SYSTEM_TYPE_DOI;
+import static eu.dissco.orchestration.backend.testutils.TestUtils.givenMasHandleRequest;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class HandleReservationRepositoryIT extends BaseRepositoryIT {
+
+	private static final String HANDLE_ALT = "20.5000.1025/ABC-123-XYZ";
+
+	private HandleReservationRepository repository;
+
+	@BeforeEach
+	void setup() {
+		repository = new HandleReservationRepository(context, MAPPER);
+	}
+
+	@AfterEach
+	void destroy() {
+		context.truncate(HANDLE_RESERVATION).execute();
+	}
+
+	@Test
+	void testClaimHandle() {
+		// Given
+		repository.reserveHandles(MAS_TYPE_DOI, List.of(BARE_HANDLE));
+		repository.reserveHandles(SOURCE_SYSTEM_TYPE_DOI, List.of(HANDLE_ALT));
+
+		// When
+		var result = repository.claimHandle(MAS_TYPE_DOI, Instant.EPOCH, givenMasHandleRequest());
+
+		// Then
+		assertThat(result).contains(BARE_HANDLE);
+		assertThat(repository.claimHandle(MAS_TYPE_DOI, Instant.EPOCH, givenMasHandleRequest())).isEmpty();
+		assertThat(repository.countReservations(SOURCE_SYSTEM_TYPE_DOI, Instant.EPOCH)).isEqualTo(1);
+	}
+
+	@Test
+	void testClaimHandleSkipsLockedReservation() {
+		// Given
+		repository.reserveHandles(MAS_TYPE_DOI, List.of(BARE_HANDLE, HANDLE_ALT));
+
+		// When
+		var result = context.transactionResult(configuration -> {
+			var first = new HandleReservationRepository(configuration.dsl(), MAPPER)
+				.claimHandle(MAS_TYPE_DOI, Instant.EPOCH, givenMasHandleRequest());
+			var second = repository.claimHandle(MAS_TYPE_DOI, Instant.EPOCH, givenMasHandleRequest());
+			return List.of(first, second);
+		});
+
+		// Then
+		assertThat(result).doesNotContain(Optional.empty()).doesNotHaveDuplicates();
+	}
+
+	@Test
+	void testRemoveExpiredReservations() {
+		// Given
+		repository.reserveHandles(MAS_TYPE_DOI, List.of(BARE_HANDLE));
+		var cutoff = Instant.now().plus(Duration.ofMinutes(1));
+
+		// When
+		var result = repository.removeExpiredReservations(cutoff);
+
+		// Then
+		assertThat(result).containsExactly(BARE_HANDLE);
+		assertThat(repository.countReservations(MAS_TYPE_DOI, Instant.EPOCH)).isZero();
+	}
+
+	@Test
+	void testGetPendingUpdates() {
+		// Given
+		repository.reserveHandles(MAS_TYPE_DOI, List.of(BARE_HANDLE, HANDLE_ALT));
+		repository.claimHandle(MAS_TYPE_DOI, Instant.EPOCH, givenMasHandleRequest());
+		var claimedBefore = Instant.now().plus(Duration.ofMinutes(1));
+
+		// When
+		var result = repository.getPendingUpdates(claimedBefore, 10);
+
+		// Then
+		assertThat(result).hasSize(1).containsValue(givenMasHandleRequest());
+		assertThat(repository.removeExpiredReservations(claimedBefore)).doesNotContainAnyElementsOf(result.keySet());
+		assertThat(repository.getPendingUpdates(Instant.EPOCH, 10)).isEmpty();
+	}
+
+	@Test
+	void testRemoveClaim() {
+		// Given
+		repository.reserveHandles(MAS_TYPE_DOI, List.of(BARE_HANDLE));
+		var handle = repository.claimHandle(MAS_TYPE_DOI, Instant.EPOCH, givenMasHandleRequest()).orElseThrow();
+
+		// When
+		repository.removeClaim(handle);
+
+		// Then
+		assertThat(repository.getPendingUpdates(Instant.now().plus(Duration.ofMinutes(1)), 10)).isEmpty();
+		assertThat(context.fetchCount(HANDLE_RESERVATION)).isZero();
+	}
+
+	@Test
+	void testExpiredReservationIsNotClaimed() {
+		// Given
+		repository.reserveHandles(MAS_TYPE_DOI, List.of(BARE_HANDLE));
+
+		// When
+		var result = repository.claimHandle(MAS_TYPE_DOI, Instant.now().plus(Duration.ofMinutes(1)),
+				givenMasHandleRequest());
+
+		// Then
+		assertThat(result).isEmpty();
+	}
+
+}
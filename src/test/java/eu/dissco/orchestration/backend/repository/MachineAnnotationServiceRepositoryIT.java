@@ -1,5 +1,6 @@
 package eu.dissco.orchestration.backend.repository;
 
+import static eu.dissco.orchestration.backend.database.jooq.Tables.EVENT_OUTBOX;
 import static eu.dissco.orchestration.backend.database.jooq.Tables.MACHINE_ANNOTATION_SERVICE;
 import static eu.dissco.orchestration.backend.testutils.TestUtils.BARE_HANDLE;
 import static eu.dissco.orchestration.backend.testutils.TestUtils.CREATED;
@@ -9,11 +10,16 @@ import static eu.dissco.orchestration.backend.testutils.TestUtils.MAS_NAME;
 import static eu.dissco.orchestration.backend.testutils.TestUtils.TTL;
 import static eu.dissco.orchestration.backend.testutils.TestUtils.UPDATED;
 import static eu.dissco.orchestration.backend.testutils.TestUtils.givenMas;
+import static eu.dissco.orchestration.backend.testutils.TestUtils.givenOutboxEvent;
 import static eu.dissco.orchestration.backend.testutils.TestUtils.givenTombstoneMetadata;
+import static eu.dissco.orchestration.backend.utils.HandleUtils.removeProxy;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import eu.dissco.orchestration.backend.domain.ObjectType;
+import eu.dissco.orchestration.backend.domain.RawJsonObject;
+import eu.dissco.orchestration.backend.properties.ReadCacheProperties;
 import eu.dissco.orchestration.backend.schema.MachineAnnotationService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.time.Instant;
 import java.util.List;
 import java.util.Set;
@@ -28,12 +34,15 @@ class MachineAnnotationServiceRepositoryIT extends BaseRepositoryIT {
 
 	@BeforeEach
 	void setup() {
-		repository = new MachineAnnotationServiceRepository(context, MAPPER);
+		var cache = new ObjectCache<MachineAnnotationService>("machineAnnotationService", new ReadCacheProperties(),
+				new SimpleMeterRegistry(), context, MAPPER);
+		repository = new MachineAnnotationServiceRepository(context, MAPPER, cache);
 	}
 
 	@AfterEach
 	void destroy() {
 		context.truncate(MACHINE_ANNOTATION_SERVICE).execute();
+		context.truncate(EVENT_OUTBOX).execute();
 	}
 
 	@Test
@@ -42,8 +51,8 @@ class MachineAnnotationServiceRepositoryIT extends BaseRepositoryIT {
 		var mas = givenMas();
 
 		// When
-		repository.createMachineAnnotationService(mas);
-		var result = repository.getMachineAnnotationServices(1, 10);
+		repository.createMachineAnnotationService(mas, givenOutboxEvent());
+		var result = toMachineAnnotationServices(repository.getMachineAnnotationServices(1, 10));
 
 		// Then
 		assertThat(result).containsOnly(mas);
@@ -55,8 +64,8 @@ class MachineAnnotationServiceRepositoryIT extends BaseRepositoryIT {
 		var mas = givenMas(1);
 
 		// When
-		repository.createMachineAnnotationService(mas);
-		var result = repository.getMachineAnnotationServices(1, 10);
+		repository.createMachineAnnotationService(mas, givenOutboxEvent());
+		var result = toMachineAnnotationServices(repository.getMachineAnnotationServices(1, 10));
 
 		// Then
 		assertThat(result).containsOnly(mas);
@@ -70,11 +79,28 @@ class MachineAnnotationServiceRepositoryIT extends BaseRepositoryIT {
 		var updatedMas = givenMas(2, "Another name", TTL);
 
 		// When
-		repository.updateMachineAnnotationService(updatedMas);
-		var result = repository.getMachineAnnotationServices(1, 10);
+		repository.updateMachineAnnotationService(updatedMas, givenOutboxEvent(BARE_HANDLE, 2));
+		var result = toMachineAnnotationServices(repository.getMachineAnnotationServices(1, 10));
 
 		// Then
 		assertThat(result).containsOnly(updatedMas);
+		assertThat(context.fetchCount(EVENT_OUTBOX)).isEqualTo(2);
+	}
+
+	@Test
+	void testRollbackMasUpdate() {
+		// Given
+		var originalMas = givenMas();
+		postMass(List.of(originalMas));
+		repository.updateMachineAnnotationService(givenMas(2, "Another name", TTL), givenOutboxEvent(BARE_HANDLE, 2));
+
+		// When
+		repository.rollbackMasUpdate(originalMas);
+		var result = toMachineAnnotationServices(repository.getMachineAnnotationServices(1, 10));
+
+		// Then
+		assertThat(result).containsOnly(originalMas);
+		assertThat(context.selectFrom(EVENT_OUTBOX).fetch(EVENT_OUTBOX.OBJECT_VERSION)).containsExactly(1);
 	}
 
 	@Test
@@ -90,6 +116,20 @@ class MachineAnnotationServiceRepositoryIT extends BaseRepositoryIT {
 		assertThat(result).isEqualTo(expected);
 	}
 
+	@Test
+	void testGetRawMas() {
+		// Given
+		var expected = givenMas();
+		postMass(List.of(expected));
+
+		// When
+		var result = repository.getRawMachineAnnotationService(HANDLE);
+
+		// Then
+		assertThat(result).get().extracting(RawJsonObject::id, RawJsonObject::created).containsExactly(HANDLE, CREATED);
+		assertThat(toMachineAnnotationServices(List.of(result.get()))).containsOnly(expected);
+	}
+
 	@Test
 	void testGetMassById() {
 		// Given
@@ -128,7 +168,7 @@ class MachineAnnotationServiceRepositoryIT extends BaseRepositoryIT {
 		var result = repository.getMachineAnnotationServices(pageNum, pageSize);
 
 		// Then
-		assertThat(result).isEqualTo(machineAnnotationServices);
+		assertThat(toMachineAnnotationServices(result)).isEqualTo(machineAnnotationServices);
 	}
 
 	@Test
@@ -146,6 +186,23 @@ class MachineAnnotationServiceRepositoryIT extends BaseRepositoryIT {
 		assertThat(result).hasSize(1);
 	}
 
+	@Test
+	void testStreamActiveMass() {
+		// Given
+		var machineAnnotationServices = IntStream.range(0, 5).boxed().map(this::givenMasWithId).toList();
+		postMass(machineAnnotationServices);
+		repository.tombstoneMachineAnnotationService(machineAnnotationServices.getFirst(), UPDATED,
+				givenOutboxEvent("0", 2));
+
+		// When
+		var result = repository.streamActiveMachineAnnotationServices(2).toList();
+
+		// Then
+		assertThat(result).extracting(List::size).containsExactly(2, 2);
+		assertThat(result.stream().flatMap(List::stream))
+			.containsExactlyInAnyOrderElementsOf(machineAnnotationServices.subList(1, 5));
+	}
+
 	@Test
 	void testDeleteMas() {
 		// Given
@@ -154,7 +211,7 @@ class MachineAnnotationServiceRepositoryIT extends BaseRepositoryIT {
 		postMass(List.of(mas));
 
 		// When
-		repository.tombstoneMachineAnnotationService(mas, UPDATED);
+		repository.tombstoneMachineAnnotationService(mas, UPDATED, givenOutboxEvent(BARE_HANDLE, 2));
 		var result = context.select(MACHINE_ANNOTATION_SERVICE.TOMBSTONED)
 			.from(MACHINE_ANNOTATION_SERVICE)
 			.where(MACHINE_ANNOTATION_SERVICE.ID.eq(BARE_HANDLE))
@@ -186,7 +243,7 @@ class MachineAnnotationServiceRepositoryIT extends BaseRepositoryIT {
 		// Given
 		var expected = givenMas();
 		postMass(List.of(expected));
-		repository.tombstoneMachineAnnotationService(expected, CREATED);
+		repository.tombstoneMachineAnnotationService(expected, CREATED, givenOutboxEvent(BARE_HANDLE, 2));
 
 		// When
 		var result = repository.getActiveMachineAnnotationService(HANDLE);
@@ -207,6 +264,7 @@ class MachineAnnotationServiceRepositoryIT extends BaseRepositoryIT {
 		// Then
 		var result = repository.getMachineAnnotationService(HANDLE);
 		assertThat(result).isNull();
+		assertThat(context.fetchCount(EVENT_OUTBOX)).isZero();
 	}
 
 	@Test
@@ -215,8 +273,8 @@ class MachineAnnotationServiceRepositoryIT extends BaseRepositoryIT {
 		var mas = givenMas(1, MAS_NAME, null);
 
 		// When
-		repository.createMachineAnnotationService(mas);
-		var result = repository.getMachineAnnotationServices(1, 10);
+		repository.createMachineAnnotationService(mas, givenOutboxEvent());
+		var result = toMachineAnnotationServices(repository.getMachineAnnotationServices(1, 10));
 
 		// Then
 		assertThat(result.get(0).getOdsTimeToLive()).isEqualTo(TTL);
@@ -228,15 +286,20 @@ class MachineAnnotationServiceRepositoryIT extends BaseRepositoryIT {
 		var mas = givenMas().withSchemaMaintainer(null);
 
 		// When
-		repository.createMachineAnnotationService(mas);
-		var result = repository.getMachineAnnotationServices(1, 10);
+		repository.createMachineAnnotationService(mas, givenOutboxEvent());
+		var result = toMachineAnnotationServices(repository.getMachineAnnotationServices(1, 10));
 
 		// Then
 		assertThat(result.get(0).getSchemaMaintainer()).isNull();
 	}
 
+	private List<MachineAnnotationService> toMachineAnnotationServices(List<RawJsonObject> rawMass) {
+		return rawMass.stream().map(raw -> MAPPER.readValue(raw.json(), MachineAnnotationService.class)).toList();
+	}
+
 	private void postMass(List<MachineAnnotationService> originalMas) {
-		originalMas.forEach(mas -> repository.createMachineAnnotationService(mas));
+		originalMas.forEach(mas -> repository.createMachineAnnotationService(mas,
+				givenOutboxEvent(removeProxy(mas.getId()), mas.getSchemaVersion())));
 	}
 
 }
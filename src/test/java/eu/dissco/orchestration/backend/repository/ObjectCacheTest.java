@@ -0,0 +1,122 @@
+package eu.dissco.orchestration.backend.repository;
+
+import static eu.dissco.orchestration.backend.testutils.TestUtils.MAPPER;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.then;
+
+import eu.dissco.orchestration.backend.properties.ReadCacheProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.jooq.DSLContext;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ObjectCacheTest {
+
+	private final AtomicInteger loads = new AtomicInteger();
+
+	@Mock
+	private DSLContext context;
+
+	private SimpleMeterRegistry meterRegistry;
+
+	private ObjectCache<String> cache;
+
+	@BeforeEach
+	void setup() {
+		meterRegistry = new SimpleMeterRegistry();
+		cache = new ObjectCache<>("test", new ReadCacheProperties(), meterRegistry, context, MAPPER);
+	}
+
+	private String load(String id) {
+		loads.incrementAndGet();
+		return "value-" + id;
+	}
+
+	@Test
+	void testGet() {
+		// Given
+		cache.get("id", this::load);
+
+		// When
+		var result = cache.get("id", this::load);
+
+		// Then
+		assertThat(result).contains("value-id");
+		assertThat(loads.get()).isEqualTo(1);
+		assertThat(meterRegistry.get("cache.gets").tag("cache", "test").tag("result", "hit").functionCounter().count())
+			.isEqualTo(1);
+		assertThat(meterRegistry.get("cache.gets").tag("cache", "test").tag("result", "miss").functionCounter().count())
+			.isEqualTo(1);
+	}
+
+	@Test
+	void testGetNotFound() {
+		// Given
+		cache.get("id", id -> null);
+
+		// When
+		var result = cache.get("id", this::load);
+
+		// Then
+		assertThat(result).contains("value-id");
+	}
+
+	@Test
+	void testGetAfterInvalidate() {
+		// Given
+		cache.get("id", this::load);
+		cache.invalidate("id", 2);
+
+		// When
+		var result = cache.get("id", id -> "updated-" + id);
+
+		// Then
+		assertThat(result).contains("updated-id");
+		then(context).should()
+			.fetch(anyString(), eq(ObjectCache.INVALIDATION_CHANNEL),
+					eq("{\"type\":\"test\",\"id\":\"id\",\"version\":2}"));
+	}
+
+	@Test
+	void testGetAfterEvict() {
+		// Given
+		cache.get("id", this::load);
+		cache.evict("id");
+
+		// When
+		var result = cache.get("id", id -> "updated-" + id);
+
+		// Then
+		assertThat(result).contains("updated-id");
+		then(context).shouldHaveNoInteractions();
+	}
+
+	@Test
+	void testGetAll() {
+		// Given
+		cache.get("cached", this::load);
+		var requestedIds = new ArrayList<Set<? extends String>>();
+
+		// When
+		var result = cache.getAll(Set.of("cached", "loaded", "missing"), ids -> {
+			requestedIds.add(Set.copyOf(ids));
+			return Map.of("loaded", "value-loaded");
+		});
+
+		// Then
+		assertThat(result).containsExactlyInAnyOrder("value-cached", "value-loaded");
+		assertThat(requestedIds).isEqualTo(List.of(Set.of("loaded", "missing")));
+	}
+
+}
@@ -0,0 +1,172 @@
+package eu.dissco.orchestration.backend.repository;
+
+import static eu.dissco.orchestration.backend.database.jooq.Tables.DATA_MAPPING;
+import static eu.dissco.orchestration.backend.database.jooq.Tables.MACHINE_ANNOTATION_SERVICE;
+import static eu.dissco.orchestration.backend.database.jooq.Tables.SOURCE_SYSTEM;
+import static eu.dissco.orchestration.backend.database.jooq.Tables.TRANSLATOR_JOB_RECORD;
+import static eu.dissco.orchestration.backend.testutils.TestUtils.MAPPER;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import eu.dissco.orchestration.backend.domain.jsonapi.PageCursor;
+import eu.dissco.orchestration.backend.properties.ReadCacheProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.jooq.ExecuteContext;
+import org.jooq.ExecuteListener;
+import org.jooq.Query;
+import org.jooq.impl.DSL;
+import org.jooq.impl.DefaultExecuteListenerProvider;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Seeds the tables with a realistic volume and asserts that the list queries of the repositories are served by the
+ * indexes of the migrations, rather than by a sequential scan and sort.
+ */
+class QueryPlanIT extends BaseRepositoryIT {
+
+	private static final int OBJECTS = 20000;
+
+	private static final int SOURCE_SYSTEMS_WITH_JOBS = 100;
+
+	private static final int JOBS_PER_SOURCE_SYSTEM = 200;
+
+	private static final String SOURCE_SYSTEM_ID = "TEST/1";
+
+	private static final int PAGE_SIZE = 10;
+
+	private final List<Query> executedQueries = new ArrayList<>();
+
+	private SourceSystemRepository sourceSystemRepository;
+
+	private MachineAnnotationServiceRepository masRepository;
+
+	private DataMappingRepository dataMappingRepository;
+
+	private TranslatorJobRecordRepository jobRecordRepository;
+
+	@BeforeEach
+	void setup() {
+		seedDatabase();
+		var recordingContext = DSL.using(context.configuration()
+			.derive(new DefaultExecuteListenerProvider(new ExecuteListener() {
+				@Override
+				public void executeStart(ExecuteContext ctx) {
+					executedQueries.add(ctx.query());
+				}
+			})));
+		var properties = new ReadCacheProperties();
+		sourceSystemRepository = new SourceSystemRepository(recordingContext, MAPPER,
+				new ObjectCache<>("sourceSystem", properties, new SimpleMeterRegistry(), context, MAPPER));
+		masRepository = new MachineAnnotationServiceRepository(recordingContext, MAPPER,
+				new ObjectCache<>("machineAnnotationService", properties, new SimpleMeterRegistry(), context, MAPPER));
+		dataMappingRepository = new DataMappingRepository(MAPPER, recordingContext,
+				new ObjectCache<>("dataMapping", properties, new SimpleMeterRegistry(), context, MAPPER));
+		jobRecordRepository = new TranslatorJobRecordRepository(recordingContext, MAPPER);
+	}
+
+	@AfterEach
+	void destroy() {
+		context.truncate(TRANSLATOR_JOB_RECORD).cascade().execute();
+		context.truncate(SOURCE_SYSTEM).cascade().execute();
+		context.truncate(MACHINE_ANNOTATION_SERVICE).cascade().execute();
+		context.truncate(DATA_MAPPING).cascade().execute();
+	}
+
+	@Test
+	void testSourceSystemPage() {
+		// When
+		var plans = explain(() -> {
+			sourceSystemRepository.getSourceSystemPage(null, PAGE_SIZE);
+			sourceSystemRepository.getSourceSystemPage(new PageCursor(Instant.now(), "TEST/500"), PAGE_SIZE);
+		});
+
+		// Then
+		assertThat(plans).hasSize(2).allSatisfy(plan -> assertIndexScan(plan, "source_system_active_created_idx"));
+	}
+
+	@Test
+	void testMachineAnnotationServicePage() {
+		// When
+		var plans = explain(() -> {
+			masRepository.getMachineAnnotationServicePage(null, PAGE_SIZE);
+			masRepository.getMachineAnnotationServicePage(new PageCursor(Instant.now(), "TEST/500"), PAGE_SIZE);
+		});
+
+		// Then
+		assertThat(plans).hasSize(2)
+			.allSatisfy(plan -> assertIndexScan(plan, "machine_annotation_service_active_created_idx"));
+	}
+
+	@Test
+	void testDataMappingPage() {
+		// When
+		var plans = explain(() -> {
+			dataMappingRepository.getDataMappingPage(null, PAGE_SIZE);
+			dataMappingRepository.getDataMappingPage(new PageCursor(Instant.now(), "TEST/500"), PAGE_SIZE);
+		});
+
+		// Then
+		assertThat(plans).hasSize(2).allSatisfy(plan -> assertIndexScan(plan, "data_mapping_active_created_idx"));
+	}
+
+	@Test
+	void testJobRecords() {
+		// Given
+		var cursor = new PageCursor(Instant.now(), UUID.randomUUID().toString());
+
+		// When
+		var plans = explain(() -> {
+			jobRecordRepository.getJobRecords(SOURCE_SYSTEM_ID, 1, PAGE_SIZE);
+			jobRecordRepository.getJobRecordPage(SOURCE_SYSTEM_ID, null, PAGE_SIZE);
+			jobRecordRepository.getJobRecordPage(SOURCE_SYSTEM_ID, cursor, PAGE_SIZE);
+		});
+
+		// Then
+		assertThat(plans).hasSize(3)
+			.allSatisfy(plan -> assertIndexScan(plan, "translator_job_record_source_system_started_idx"));
+	}
+
+	private List<String> explain(Runnable queries) {
+		executedQueries.clear();
+		queries.run();
+		return executedQueries.stream().map(query -> context.explain(query).plan()).toList();
+	}
+
+	private static void assertIndexScan(String plan, String index) {
+		assertThat(plan).contains("Index Scan using " + index).doesNotContain("Seq Scan");
+	}
+
+	private void seedDatabase() {
+		context.execute("""
+				insert into source_system (id, name, endpoint, created, modified, tombstoned, mapping_id, creator,
+				  translator_type, data)
+				select 'TEST/' || i, 'Source system ' || i, 'https://endpoint.org/' || i,
+				  now() - i * interval '1 minute', now(), case when mod(i, 10) = 0 then now() end, 'TEST/MAPPING',
+				  'creator', 'dwca', jsonb_build_object()
+				from generate_series(1, %d) i""".formatted(OBJECTS));
+		context.execute("""
+				insert into machine_annotation_service (id, version, name, created, modified, tombstoned, creator,
+				  container_image, container_image_tag, data)
+				select 'TEST/' || i, 1, 'Machine annotation service ' || i, now() - i * interval '1 minute', now(),
+				  case when mod(i, 10) = 0 then now() end, 'creator', 'image', 'latest', jsonb_build_object()
+				from generate_series(1, %d) i""".formatted(OBJECTS));
+		context.execute("""
+				insert into data_mapping (id, version, name, created, modified, tombstoned, creator,
+				  mapping_data_standard, data)
+				select 'TEST/' || i, 1, 'Data mapping ' || i, now() - i * interval '1 minute', now(),
+				  case when mod(i, 10) = 0 then now() end, 'creator', 'dwc', jsonb_build_object()
+				from generate_series(1, %d) i""".formatted(OBJECTS));
+		context.execute("""
+				insert into translator_job_record (job_id, job_state, source_system_id, time_started)
+				select gen_random_uuid(), 'COMPLETED', 'TEST/' || (mod(i, %d) + 1), now() - i * interval '1 minute'
+				from generate_series(1, %d) i""".formatted(SOURCE_SYSTEMS_WITH_JOBS,
+				SOURCE_SYSTEMS_WITH_JOBS * JOBS_PER_SOURCE_SYSTEM));
+		context.execute("analyze");
+	}
+
+}
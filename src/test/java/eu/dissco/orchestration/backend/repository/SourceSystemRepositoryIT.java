@@ -1,6 +1,7 @@
 package eu.dissco.orchestration.backend.repository;
 
 import static eu.dissco.orchestration.backend.configuration.ApplicationConfiguration.HANDLE_PROXY;
+import static eu.dissco.orchestration.backend.database.jooq.Tables.EVENT_OUTBOX;
 import static eu.dissco.orchestration.backend.database.jooq.Tables.SOURCE_SYSTEM;
 import static eu.dissco.orchestration.backend.testutils.TestUtils.BARE_HANDLE;
 import static eu.dissco.orchestration.backend.testutils.TestUtils.CREATED;
@@ -9,6 +10,7 @@ import static eu.dissco.orchestration.backend.testutils.TestUtils.HANDLE;
 import static eu.dissco.orchestration.backend.testutils.TestUtils.MAPPER;
 import static eu.dissco.orchestration.backend.testutils.TestUtils.OBJECT_NAME;
 import static eu.dissco.orchestration.backend.testutils.TestUtils.SS_ENDPOINT;
+import static eu.dissco.orchestration.backend.testutils.TestUtils.givenOutboxEvent;
 import static eu.dissco.orchestration.backend.testutils.TestUtils.givenSourceSystem;
 import static eu.dissco.orchestration.backend.testutils.TestUtils.givenTombstoneMetadata;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -17,9 +19,13 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import eu.dissco.orchestration.backend.database.jooq.enums.TranslatorType;
 import eu.dissco.orchestration.backend.domain.ExportType;
 import eu.dissco.orchestration.backend.domain.ObjectType;
+import eu.dissco.orchestration.backend.domain.RawJsonObject;
+import eu.dissco.orchestration.backend.domain.jsonapi.PageCursor;
+import eu.dissco.orchestration.backend.properties.ReadCacheProperties;
 import eu.dissco.orchestration.backend.schema.SourceSystem;
 import eu.dissco.orchestration.backend.schema.SourceSystem.OdsStatus;
 import eu.dissco.orchestration.backend.schema.SourceSystem.OdsTranslatorType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.IntStream;
@@ -33,6 +39,8 @@ import org.junit.jupiter.api.Test;
 
 class SourceSystemRepositoryIT extends BaseRepositoryIT {
 
+	private static final String HANDLE_ALT = HANDLE_PROXY + "20.5000.1025/GW0-POP-XSM";
+
 	private SourceSystemRepository repository;
 
 	private static String removeProxy(String id) {
@@ -41,12 +49,15 @@ class SourceSystemRepositoryIT extends BaseRepositoryIT {
 
 	@BeforeEach
 	void setup() {
-		repository = new SourceSystemRepository(context, MAPPER);
+		var cache = new ObjectCache<SourceSystem>("sourceSystem", new ReadCacheProperties(), new SimpleMeterRegistry(),
+				context, MAPPER);
+		repository = new SourceSystemRepository(context, MAPPER, cache);
 	}
 
 	@AfterEach
 	void destroy() {
 		context.truncate(SOURCE_SYSTEM).cascade().execute();
+		context.truncate(EVENT_OUTBOX).execute();
 	}
 
 	@Test
@@ -55,12 +66,66 @@ class SourceSystemRepositoryIT extends BaseRepositoryIT {
 		var sourceSystem = givenSourceSystem();
 
 		// When
-		repository.createSourceSystem(sourceSystem);
+		repository.createSourceSystem(sourceSystem, givenOutboxEvent());
 		var result = getAllSourceSystems();
 
 		// Then
 		assertThat(result).hasSize(1);
 		assertThat(result.getFirst()).isEqualTo(sourceSystem);
+		assertThat(context.fetchCount(EVENT_OUTBOX)).isEqualTo(1);
+		assertThat(context.fetchCount(EVENT_OUTBOX, EVENT_OUTBOX.RELEASED.isTrue())).isZero();
+	}
+
+	@Test
+	void testCreateSourceSystems() {
+		// Given
+		var sourceSystems = List.of(givenSourceSystem(),
+				givenSourceSystem(HANDLE_ALT, 1, OdsTranslatorType.DWCA, "Another source system", SS_ENDPOINT + "/2"));
+
+		// When
+		repository.createSourceSystems(sourceSystems,
+				List.of(givenOutboxEvent(), givenOutboxEvent(removeProxy(HANDLE_ALT), 1)));
+		var result = getAllSourceSystems();
+
+		// Then
+		assertThat(result).containsExactlyInAnyOrderElementsOf(sourceSystems);
+		assertThat(context.fetchCount(EVENT_OUTBOX)).isEqualTo(2);
+	}
+
+	@Test
+	void testCreateSourceSystemsDuplicateInRequest() {
+		// Given
+		var sourceSystems = List.of(givenSourceSystem(),
+				givenSourceSystem(HANDLE_ALT, 1, OdsTranslatorType.DWCA, OBJECT_NAME, SS_ENDPOINT + "/2"));
+
+		// When
+		var result = repository.createSourceSystems(sourceSystems,
+				List.of(givenOutboxEvent(), givenOutboxEvent(removeProxy(HANDLE_ALT), 1)));
+
+		// Then
+		assertThat(result).containsExactly(HANDLE_ALT);
+		assertThat(getAllSourceSystems()).containsExactly(givenSourceSystem());
+		assertThat(context.fetchCount(EVENT_OUTBOX)).isEqualTo(1);
+	}
+
+	@Test
+	void testCreateSourceSystemsConflictWithExisting() {
+		// Given
+		var existingSourceSystem = givenSourceSystem(HANDLE_ALT, 1, OdsTranslatorType.DWCA, "Another source system",
+				SS_ENDPOINT);
+		postSourceSystem(List.of(existingSourceSystem));
+		var otherId = HANDLE_PROXY + "20.5000.1025/GW0-POP-XSN";
+		var sourceSystems = List.of(givenSourceSystem(),
+				givenSourceSystem(otherId, 1, OdsTranslatorType.DWCA, "A third source system", SS_ENDPOINT + "/3"));
+
+		// When
+		var result = repository.createSourceSystems(sourceSystems,
+				List.of(givenOutboxEvent(), givenOutboxEvent(removeProxy(otherId), 1)));
+
+		// Then
+		assertThat(result).containsExactly(HANDLE);
+		assertThat(getAllSourceSystems()).containsExactlyInAnyOrder(existingSourceSystem, sourceSystems.get(1));
+		assertThat(context.fetchCount(EVENT_OUTBOX)).isEqualTo(1);
 	}
 
 	@Test
@@ -70,7 +135,8 @@ class SourceSystemRepositoryIT extends BaseRepositoryIT {
 		postSourceSystem(List.of(sourceSystem));
 
 		// When
-		assertThrows(IntegrityConstraintViolationException.class, () -> repository.createSourceSystem(sourceSystem));
+		assertThrows(IntegrityConstraintViolationException.class,
+				() -> repository.createSourceSystem(sourceSystem, givenOutboxEvent()));
 	}
 
 	@Test
@@ -81,7 +147,7 @@ class SourceSystemRepositoryIT extends BaseRepositoryIT {
 		var updatedSourceSystem = orginalSourceSystem.withSchemaName("An updated name");
 
 		// When
-		repository.updateSourceSystem(updatedSourceSystem);
+		repository.updateSourceSystem(updatedSourceSystem, givenOutboxEvent(BARE_HANDLE, 2));
 		var result = getAllSourceSystems();
 
 		// Then
@@ -102,6 +168,20 @@ class SourceSystemRepositoryIT extends BaseRepositoryIT {
 		assertThat(result).isEqualTo(expected);
 	}
 
+	@Test
+	void testGetRawSourceSystem() {
+		// Given
+		var expected = givenSourceSystem();
+		postSourceSystem(List.of(expected));
+
+		// When
+		var result = repository.getRawSourceSystem(HANDLE);
+
+		// Then
+		assertThat(result).get().extracting(RawJsonObject::id, RawJsonObject::created).containsExactly(HANDLE, CREATED);
+		assertThat(toSourceSystems(List.of(result.get()))).containsOnly(expected);
+	}
+
 	@Test
 	void testGetDownloadLink() {
 		// Given
@@ -129,7 +209,7 @@ class SourceSystemRepositoryIT extends BaseRepositoryIT {
 		// When
 		var result = repository.getSourceSystems(pageNum, pageSize);
 
-		assertThat(result).isEqualTo(sourceSystems);
+		assertThat(toSourceSystems(result)).isEqualTo(sourceSystems);
 	}
 
 	@Test
@@ -150,6 +230,49 @@ class SourceSystemRepositoryIT extends BaseRepositoryIT {
 		assertThat(result).hasSize(1);
 	}
 
+	@Test
+	void testGetSourceSystemPage() {
+		// Given
+		int pageSize = 2;
+		List<SourceSystem> sourceSystems = IntStream.range(0, 5).boxed().map(this::givenSourceSystemWithId).toList();
+		postSourceSystem(sourceSystems);
+
+		// When
+		var result = repository.getSourceSystemPage(null, pageSize);
+
+		// Then
+		assertThat(toSourceSystems(result)).isEqualTo(sourceSystems.subList(0, pageSize + 1));
+	}
+
+	@Test
+	void testGetSourceSystemPageAfterCursor() {
+		// Given
+		int pageSize = 2;
+		List<SourceSystem> sourceSystems = IntStream.range(0, 5).boxed().map(this::givenSourceSystemWithId).toList();
+		postSourceSystem(sourceSystems);
+		var cursor = new PageCursor(CREATED, removeProxy(sourceSystems.get(2).getId()));
+
+		// When
+		var result = repository.getSourceSystemPage(cursor, pageSize);
+
+		// Then
+		assertThat(toSourceSystems(result)).isEqualTo(sourceSystems.subList(3, 5));
+	}
+
+	@Test
+	void testStreamActiveSourceSystems() {
+		// Given
+		List<SourceSystem> sourceSystems = IntStream.range(0, 5).boxed().map(this::givenSourceSystemWithId).toList();
+		postSourceSystem(sourceSystems);
+
+		// When
+		var result = repository.streamActiveSourceSystems(2).toList();
+
+		// Then
+		assertThat(result).extracting(List::size).containsExactly(2, 2, 1);
+		assertThat(result.stream().flatMap(List::stream)).containsExactlyInAnyOrderElementsOf(sourceSystems);
+	}
+
 	@Test
 	void testTombstoneSourceSystem() {
 		// Given
@@ -159,11 +282,12 @@ class SourceSystemRepositoryIT extends BaseRepositoryIT {
 		postSourceSystem(List.of(sourceSystem));
 
 		// When
-		repository.tombstoneSourceSystem(sourceSystem, CREATED);
+		repository.tombstoneSourceSystem(sourceSystem, CREATED, givenOutboxEvent(BARE_HANDLE, 2));
 		var result = getDeleted(BARE_HANDLE);
 
 		// Then
 		assertThat(result).isEqualTo(sourceSystem);
+		assertThat(context.fetchCount(EVENT_OUTBOX, EVENT_OUTBOX.RELEASED.isTrue())).isEqualTo(1);
 	}
 
 	@Test
@@ -179,6 +303,38 @@ class SourceSystemRepositoryIT extends BaseRepositoryIT {
 		assertThat(result).contains(sourceSystem);
 	}
 
+	@Test
+	void testGetActiveSourceSystemAfterUpdate() {
+		// Given
+		var sourceSystem = givenSourceSystem();
+		postSourceSystem(List.of(sourceSystem));
+		repository.getActiveSourceSystem(sourceSystem.getId());
+		var updatedSourceSystem = givenSourceSystem(2).withSchemaName("An updated name");
+		repository.updateSourceSystem(updatedSourceSystem, givenOutboxEvent(BARE_HANDLE, 2));
+
+		// When
+		var result = repository.getActiveSourceSystem(sourceSystem.getId());
+
+		// Then
+		assertThat(result).contains(updatedSourceSystem);
+	}
+
+	@Test
+	void testGetActiveSourceSystemAfterTombstone() {
+		// Given
+		var sourceSystem = givenSourceSystem();
+		postSourceSystem(List.of(sourceSystem));
+		repository.getActiveSourceSystem(sourceSystem.getId());
+		repository.tombstoneSourceSystem(sourceSystem.withSchemaVersion(2), CREATED,
+				givenOutboxEvent(BARE_HANDLE, 2));
+
+		// When
+		var result = repository.getActiveSourceSystem(sourceSystem.getId());
+
+		// Then
+		assertThat(result).isEmpty();
+	}
+
 	@Test
 	void testGetActiveSourceSystemWasDeleted() {
 		var sourceSystem = givenSourceSystem();
@@ -195,11 +351,26 @@ class SourceSystemRepositoryIT extends BaseRepositoryIT {
 		assertThat(result).isEmpty();
 	}
 
+	@Test
+	void testReleaseEvents() {
+		// Given
+		repository.createSourceSystem(givenSourceSystem(), givenOutboxEvent());
+		repository.updateSourceSystem(givenSourceSystem(2), givenOutboxEvent(BARE_HANDLE, 2));
+
+		// When
+		repository.releaseEvents(HANDLE, 1);
+
+		// Then
+		assertThat(context.select(EVENT_OUTBOX.OBJECT_VERSION)
+			.from(EVENT_OUTBOX)
+			.where(EVENT_OUTBOX.RELEASED.isTrue())
+			.fetch(EVENT_OUTBOX.OBJECT_VERSION)).containsExactly(1);
+	}
+
 	@Test
 	void testRollback() {
 		// Given
-		var sourceSystem = givenSourceSystem();
-		postSourceSystem(List.of(sourceSystem));
+		repository.createSourceSystem(givenSourceSystem(), givenOutboxEvent());
 
 		// When
 		repository.rollbackSourceSystemCreation(HANDLE);
@@ -207,6 +378,7 @@ class SourceSystemRepositoryIT extends BaseRepositoryIT {
 		// Then
 		var result = repository.getSourceSystem(HANDLE);
 		assertThat(result).isNull();
+		assertThat(context.fetchCount(EVENT_OUTBOX)).isZero();
 	}
 
 	private SourceSystem givenSourceSystemWithId(int id) {
@@ -224,6 +396,10 @@ class SourceSystemRepositoryIT extends BaseRepositoryIT {
 			.fetchOne(this::mapToSourceSystem);
 	}
 
+	private List<SourceSystem> toSourceSystems(List<RawJsonObject> rawSourceSystems) {
+		return rawSourceSystems.stream().map(raw -> MAPPER.readValue(raw.json(), SourceSystem.class)).toList();
+	}
+
 	private SourceSystem mapToSourceSystem(Record1<JSONB> record1) {
 		return MAPPER.readValue(record1.get(SOURCE_SYSTEM.DATA).data(), SourceSystem.class);
 	}
@@ -3,6 +3,7 @@ package eu.dissco.orchestration.backend.repository;
 import eu.dissco.orchestration.backend.database.jooq.enums.JobState;
 import eu.dissco.orchestration.backend.database.jooq.enums.TranslatorType;
 import eu.dissco.orchestration.backend.domain.TranslatorJobRecord;
+import eu.dissco.orchestration.backend.domain.jsonapi.PageCursor;
 import eu.dissco.orchestration.backend.schema.SourceSystem;
 import org.jooq.JSONB;
 import org.junit.jupiter.api.AfterEach;
@@ -10,9 +11,11 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.time.Instant;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.IntStream;
 
 import static eu.dissco.orchestration.backend.database.jooq.Tables.SOURCE_SYSTEM;
 import static eu.dissco.orchestration.backend.database.jooq.Tables.TRANSLATOR_JOB_RECORD;
@@ -48,6 +51,23 @@ class TranslatorJobRecordRepositoryIT extends BaseRepositoryIT {
 		assertThat(result).isEqualTo(jobRecords);
 	}
 
+	@Test
+	void testGetTranslatorJobRecordPageAfterCursor() {
+		// Given
+		var jobRecords = IntStream.range(0, 4)
+			.mapToObj(i -> new TranslatorJobRecord(UUID.randomUUID(), CREATED.minus(i, ChronoUnit.HOURS), null,
+					JobState.RUNNING, null))
+			.toList();
+		postJobRecords(jobRecords);
+		var cursor = new PageCursor(jobRecords.getFirst().startTime(), jobRecords.getFirst().jobId().toString());
+
+		// When
+		var result = repository.getJobRecordPage(BARE_HANDLE, cursor, 1);
+
+		// Then
+		assertThat(result).isEqualTo(jobRecords.subList(1, 3));
+	}
+
 	private void postJobRecords(List<TranslatorJobRecord> jobRecords) {
 		var anotherSourceSystemHandle = PREFIX + "GW0-POP-XSL";
 		insertSourceSystem(List.of(givenSourceSystem(), givenSourceSystem(anotherSourceSystemHandle, 1,
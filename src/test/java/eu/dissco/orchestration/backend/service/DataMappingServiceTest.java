@@ -9,12 +9,13 @@ import static eu.dissco.orchestration.backend.testutils.TestUtils.MAPPER;
 import static eu.dissco.orchestration.backend.testutils.TestUtils.MAPPING_PATH;
 import static eu.dissco.orchestration.backend.testutils.TestUtils.SANDBOX_URI;
 import static eu.dissco.orchestration.backend.testutils.TestUtils.UPDATED;
-import static eu.dissco.orchestration.backend.testutils.TestUtils.flattenDataMapping;
 import static eu.dissco.orchestration.backend.testutils.TestUtils.givenAgent;
 import static eu.dissco.orchestration.backend.testutils.TestUtils.givenDataMapping;
 import static eu.dissco.orchestration.backend.testutils.TestUtils.givenDataMappingRequest;
 import static eu.dissco.orchestration.backend.testutils.TestUtils.givenDataMappingSingleJsonApiWrapper;
-import static eu.dissco.orchestration.backend.testutils.TestUtils.givenMappingResponse;
+import static eu.dissco.orchestration.backend.testutils.TestUtils.givenOutboxEvent;
+import static eu.dissco.orchestration.backend.testutils.TestUtils.givenRawJson;
+import static eu.dissco.orchestration.backend.testutils.TestUtils.givenRawJsonResponse;
 import static eu.dissco.orchestration.backend.testutils.TestUtils.givenTombstoneDataMapping;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -24,9 +25,9 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 import static org.mockito.BDDMockito.willThrow;
-import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mockStatic;
 
+import eu.dissco.orchestration.backend.component.HandlePoolComponent;
 import eu.dissco.orchestration.backend.domain.ObjectType;
 import eu.dissco.orchestration.backend.domain.jsonapi.JsonApiData;
 import eu.dissco.orchestration.backend.domain.jsonapi.JsonApiLinks;
@@ -36,14 +37,12 @@ import eu.dissco.orchestration.backend.exception.PidException;
 import eu.dissco.orchestration.backend.exception.ProcessingFailedException;
 import eu.dissco.orchestration.backend.properties.FdoProperties;
 import eu.dissco.orchestration.backend.repository.DataMappingRepository;
-import eu.dissco.orchestration.backend.schema.DataMapping;
 import eu.dissco.orchestration.backend.testutils.TestUtils;
 import eu.dissco.orchestration.backend.web.HandleComponent;
 import java.time.Clock;
 import java.time.Instant;
 import java.time.ZoneOffset;
 import java.util.Collections;
-import java.util.List;
 import java.util.Optional;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -52,7 +51,6 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.junit.jupiter.MockitoExtension;
-import tools.jackson.core.JacksonException;
 
 @ExtendWith(MockitoExtension.class)
 class DataMappingServiceTest {
@@ -67,6 +65,9 @@ class DataMappingServiceTest {
 	@Mock
 	private HandleComponent handleComponent;
 
+	@Mock
+	private HandlePoolComponent handlePoolComponent;
+
 	@Mock
 	private RabbitMqPublisherService rabbitMqPublisherService;
 
@@ -82,8 +83,8 @@ class DataMappingServiceTest {
 
 	@BeforeEach
 	void setup() {
-		service = new DataMappingService(fdoRecordService, handleComponent, rabbitMqPublisherService, repository,
-				MAPPER, fdoProperties);
+		service = new DataMappingService(fdoRecordService, handleComponent, handlePoolComponent,
+				rabbitMqPublisherService, repository, MAPPER, fdoProperties);
 		initTime();
 	}
 
@@ -99,7 +100,9 @@ class DataMappingServiceTest {
 		var dataMapping = givenDataMappingRequest();
 		given(fdoProperties.getDataMappingType()).willReturn(DATA_MAPPING_TYPE_DOI);
 		var expected = givenDataMappingSingleJsonApiWrapper();
-		given(handleComponent.postHandle(any())).willReturn(BARE_HANDLE);
+		given(handlePoolComponent.createHandle(any())).willReturn(BARE_HANDLE);
+		given(rabbitMqPublisherService.buildCreateEvent(givenDataMapping(HANDLE, 1), givenAgent()))
+			.willReturn(givenOutboxEvent());
 
 		// When
 		var result = service.createDataMapping(dataMapping, givenAgent(), MAPPING_PATH);
@@ -107,36 +110,14 @@ class DataMappingServiceTest {
 		// Then
 		assertThat(result).isEqualTo(expected);
 		then(fdoRecordService).should().buildCreateRequest(dataMapping, ObjectType.DATA_MAPPING);
-		then(repository).should().createDataMapping(givenDataMapping(HANDLE, 1));
-		then(rabbitMqPublisherService).should().publishCreateEvent(givenDataMapping(HANDLE, 1), givenAgent());
-	}
-
-	@Test
-	void testCreateDataMappingEventFails() throws Exception {
-		// Given
-		var dataMapping = givenDataMappingRequest();
-		given(fdoProperties.getDataMappingType()).willReturn(DATA_MAPPING_TYPE_DOI);
-		given(handleComponent.postHandle(any())).willReturn(BARE_HANDLE);
-		willThrow(JacksonException.class).given(rabbitMqPublisherService)
-			.publishCreateEvent(givenDataMapping(HANDLE, 1), givenAgent());
-
-		// When
-		assertThrowsExactly(ProcessingFailedException.class,
-				() -> service.createDataMapping(dataMapping, givenAgent(), MAPPING_PATH));
-
-		// Then
-		then(fdoRecordService).should().buildCreateRequest(dataMapping, ObjectType.DATA_MAPPING);
-		then(repository).should().createDataMapping(givenDataMapping(HANDLE, 1));
-		then(fdoRecordService).should().buildRollbackCreateRequest(HANDLE);
-		then(handleComponent).should().rollbackHandleCreation(any());
-		then(repository).should().rollbackDataMappingCreation(HANDLE);
+		then(repository).should().createDataMapping(givenDataMapping(HANDLE, 1), givenOutboxEvent());
 	}
 
 	@Test
 	void testCreateMasHandleFails() throws Exception {
 		// Given
 		var dataMapping = givenDataMappingRequest();
-		willThrow(PidException.class).given(handleComponent).postHandle(any());
+		willThrow(PidException.class).given(handlePoolComponent).createHandle(any());
 
 		// Then
 		assertThrowsExactly(ProcessingFailedException.class,
@@ -151,34 +132,15 @@ class DataMappingServiceTest {
 		var expected = TestUtils.givenDataMappingSingleJsonApiWrapper(2);
 		given(fdoProperties.getDataMappingType()).willReturn(DATA_MAPPING_TYPE_DOI);
 		given(repository.getActiveDataMapping(BARE_HANDLE)).willReturn(Optional.of(prevDataMapping));
+		given(rabbitMqPublisherService.buildUpdateEvent(givenDataMapping(HANDLE, 2), prevDataMapping, givenAgent()))
+			.willReturn(givenOutboxEvent(BARE_HANDLE, 2));
 
 		// When
 		var result = service.updateDataMapping(BARE_HANDLE, dataMapping, givenAgent(), MAPPING_PATH);
 
 		// Then
 		assertThat(result).isEqualTo(expected);
-		then(repository).should().updateDataMapping(givenDataMapping(HANDLE, 2));
-		then(rabbitMqPublisherService).should()
-			.publishUpdateEvent(givenDataMapping(HANDLE, 2), prevDataMapping, givenAgent());
-	}
-
-	@Test
-	void testUpdateDataMappingEventFails() throws Exception {
-		// Given
-		var prevDataMapping = givenDataMapping(HANDLE, 1, "old name");
-		var dataMapping = givenDataMappingRequest();
-		given(repository.getActiveDataMapping(BARE_HANDLE)).willReturn(Optional.of(prevDataMapping));
-		given(fdoProperties.getDataMappingType()).willReturn(DATA_MAPPING_TYPE_DOI);
-		willThrow(JacksonException.class).given(rabbitMqPublisherService)
-			.publishUpdateEvent(givenDataMapping(HANDLE, 2), prevDataMapping, givenAgent());
-
-		// When
-		assertThrowsExactly(ProcessingFailedException.class,
-				() -> service.updateDataMapping(BARE_HANDLE, dataMapping, givenAgent(), MAPPING_PATH));
-
-		// Then
-		then(repository).should().updateDataMapping(givenDataMapping(HANDLE, 2));
-		then(repository).should().updateDataMapping(prevDataMapping);
+		then(repository).should().updateDataMapping(givenDataMapping(HANDLE, 2), givenOutboxEvent(BARE_HANDLE, 2));
 	}
 
 	@Test
@@ -209,9 +171,10 @@ class DataMappingServiceTest {
 	@Test
 	void testGetDataMappingById() throws NotFoundException {
 		// Given
-		var dataMapping = givenDataMapping(HANDLE, 1);
-		given(repository.getDataMapping(BARE_HANDLE)).willReturn(dataMapping);
-		var expected = givenDataMappingSingleJsonApiWrapper();
+		var dataMapping = givenRawJson(givenDataMapping(HANDLE, 1));
+		given(repository.getRawDataMapping(BARE_HANDLE)).willReturn(Optional.of(dataMapping));
+		var expected = new JsonApiWrapper(JsonApiData.fromRawJson(dataMapping, ObjectType.DATA_MAPPING),
+				new JsonApiLinks(MAPPING_PATH));
 
 		// When
 		var result = service.getDataMappingById(BARE_HANDLE, MAPPING_PATH);
@@ -223,6 +186,7 @@ class DataMappingServiceTest {
 	@Test
 	void testGetDataMappingNotFound() {
 		// Given
+		given(repository.getRawDataMapping(HANDLE)).willReturn(Optional.empty());
 
 		// When / Then
 		assertThrows(NotFoundException.class, () -> service.getDataMappingById(HANDLE, MAPPING_PATH));
@@ -231,10 +195,9 @@ class DataMappingServiceTest {
 	@Test
 	void testGetDataMappingByIdIsDeleted() throws NotFoundException {
 		// Given
-		var dataMapping = givenDataMapping();
-		given(repository.getDataMapping(BARE_HANDLE)).willReturn(dataMapping);
-		var expected = new JsonApiWrapper(
-				new JsonApiData(HANDLE, ObjectType.DATA_MAPPING, flattenDataMapping(dataMapping)),
+		var dataMapping = givenRawJson(givenTombstoneDataMapping());
+		given(repository.getRawDataMapping(BARE_HANDLE)).willReturn(Optional.of(dataMapping));
+		var expected = new JsonApiWrapper(JsonApiData.fromRawJson(dataMapping, ObjectType.DATA_MAPPING),
 				new JsonApiLinks(MAPPING_PATH));
 
 		// When
@@ -250,14 +213,16 @@ class DataMappingServiceTest {
 		given(repository.getActiveDataMapping(BARE_HANDLE)).willReturn(Optional.of(givenDataMapping(HANDLE, 1)));
 		mockedStatic.when(Instant::now).thenReturn(UPDATED);
 		mockedClock.when(Clock::systemUTC).thenReturn(updatedClock);
+		given(rabbitMqPublisherService.buildTombstoneEvent(any(), any(), eq(givenAgent())))
+			.willReturn(givenOutboxEvent(BARE_HANDLE, 2));
 
 		// When
 		service.tombstoneDataMapping(BARE_HANDLE, givenAgent());
 
 		// Then
-		then(repository).should().tombstoneDataMapping(givenTombstoneDataMapping(), UPDATED);
+		then(repository).should()
+			.tombstoneDataMapping(givenTombstoneDataMapping(), UPDATED, givenOutboxEvent(BARE_HANDLE, 2));
 		then(handleComponent).should().tombstoneHandle(any(), eq(BARE_HANDLE));
-		then(rabbitMqPublisherService).should().publishTombstoneEvent(any(), any(), eq(givenAgent()));
 	}
 
 	@Test
@@ -269,27 +234,15 @@ class DataMappingServiceTest {
 		assertThrowsExactly(NotFoundException.class, () -> service.tombstoneDataMapping(BARE_HANDLE, givenAgent()));
 	}
 
-	@Test
-	void testTombstoneDataMappingEventFailed() throws Exception {
-		// Given
-		given(repository.getActiveDataMapping(BARE_HANDLE)).willReturn(Optional.of(givenDataMapping(HANDLE, 1)));
-		doThrow(JacksonException.class).when(rabbitMqPublisherService)
-			.publishTombstoneEvent(any(), any(), eq(givenAgent()));
-
-		// Then
-		assertThrowsExactly(ProcessingFailedException.class,
-				() -> service.tombstoneDataMapping(BARE_HANDLE, givenAgent()));
-	}
-
 	@Test
 	void testGetDataMappings() {
 		// Given
 		int pageSize = 10;
 		int pageNum = 1;
-		List<DataMapping> dataMappings = Collections.nCopies(pageSize + 1, givenDataMapping(HANDLE, 1));
+		var dataMappings = Collections.nCopies(pageSize + 1, givenRawJson(givenDataMapping(HANDLE, 1)));
 		given(repository.getDataMappings(pageNum, pageSize)).willReturn(dataMappings);
 		var linksNode = new JsonApiLinks(pageSize, pageNum, true, SANDBOX_URI);
-		var expected = givenMappingResponse(dataMappings.subList(0, pageSize), linksNode);
+		var expected = givenRawJsonResponse(dataMappings.subList(0, pageSize), ObjectType.DATA_MAPPING, linksNode);
 
 		// When
 		var result = service.getDataMappings(pageNum, pageSize, SANDBOX_URI);
@@ -303,10 +256,10 @@ class DataMappingServiceTest {
 		// Given
 		int pageSize = 10;
 		int pageNum = 2;
-		List<DataMapping> dataMappings = Collections.nCopies(pageSize, givenDataMapping(HANDLE, 1));
+		var dataMappings = Collections.nCopies(pageSize, givenRawJson(givenDataMapping(HANDLE, 1)));
 		given(repository.getDataMappings(pageNum, pageSize)).willReturn(dataMappings);
 		var linksNode = new JsonApiLinks(pageSize, pageNum, false, SANDBOX_URI);
-		var expected = givenMappingResponse(dataMappings, linksNode);
+		var expected = givenRawJsonResponse(dataMappings, ObjectType.DATA_MAPPING, linksNode);
 
 		// When
 		var result = service.getDataMappings(pageNum, pageSize, SANDBOX_URI);
@@ -83,4 +83,43 @@ class FdoRecordServiceTest {
 		assertThat(result).isEqualTo(expected);
 	}
 
+	@Test
+	void testReservationRequest() {
+		// Given
+		var expected = MAPPER.readTree("""
+				{
+				  "data": {
+				    "type": "https://doi.org/21.T11148/a369e128df5ef31044d4",
+				    "attributes": {}
+				  }
+				}""");
+
+		// When
+		var result = builder.buildReservationRequest(ObjectType.MAS);
+
+		// Then
+		assertThat(result).isEqualTo(expected);
+	}
+
+	@Test
+	void testUpdateRequest() {
+		// Given
+		var expected = MAPPER.readTree("""
+				{
+				  "data": {
+				    "type": "https://doi.org/21.T11148/a369e128df5ef31044d4",
+				    "id": "20.5000.1025/GW0-POP-XSL",
+				    "attributes": {
+				      "machineAnnotationServiceName":"A Machine Annotation Service"
+				    }
+				  }
+				}""");
+
+		// When
+		var result = builder.buildUpdateRequest(givenMasHandleRequest(), BARE_HANDLE);
+
+		// Then
+		assertThat(result).isEqualTo(expected);
+	}
+
 }
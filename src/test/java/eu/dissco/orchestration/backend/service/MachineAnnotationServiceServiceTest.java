@@ -6,6 +6,7 @@ import static eu.dissco.orchestration.backend.testutils.TestUtils.HANDLE;
 import static eu.dissco.orchestration.backend.testutils.TestUtils.MAPPER;
 import static eu.dissco.orchestration.backend.testutils.TestUtils.MAS_PATH;
 import static eu.dissco.orchestration.backend.testutils.TestUtils.MAS_TYPE_DOI;
+import static eu.dissco.orchestration.backend.testutils.TestUtils.PREFIX;
 import static eu.dissco.orchestration.backend.testutils.TestUtils.SUFFIX;
 import static eu.dissco.orchestration.backend.testutils.TestUtils.TTL;
 import static eu.dissco.orchestration.backend.testutils.TestUtils.UPDATED;
@@ -14,8 +15,10 @@ import static eu.dissco.orchestration.backend.testutils.TestUtils.givenAgent;
 import static eu.dissco.orchestration.backend.testutils.TestUtils.givenMas;
 import static eu.dissco.orchestration.backend.testutils.TestUtils.givenMasEnvironment;
 import static eu.dissco.orchestration.backend.testutils.TestUtils.givenMasRequest;
-import static eu.dissco.orchestration.backend.testutils.TestUtils.givenMasResponse;
 import static eu.dissco.orchestration.backend.testutils.TestUtils.givenMasSecrets;
+import static eu.dissco.orchestration.backend.testutils.TestUtils.givenOutboxEvent;
+import static eu.dissco.orchestration.backend.testutils.TestUtils.givenRawJson;
+import static eu.dissco.orchestration.backend.testutils.TestUtils.givenRawJsonResponse;
 import static eu.dissco.orchestration.backend.testutils.TestUtils.givenMasSingleJsonApiWrapper;
 import static eu.dissco.orchestration.backend.testutils.TestUtils.givenTombstoneMas;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -28,24 +31,37 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
-import com.google.gson.Gson;
-import com.google.gson.JsonElement;
+import eu.dissco.orchestration.backend.component.HandlePoolComponent;
+import eu.dissco.orchestration.backend.component.KubernetesApplyComponent;
+import eu.dissco.orchestration.backend.component.KubernetesInformerComponent;
+import eu.dissco.orchestration.backend.component.LeaderElectionComponent;
+import eu.dissco.orchestration.backend.component.MasDeploymentBlueprintComponent;
+import eu.dissco.orchestration.backend.component.ReconciliationComponent;
+import eu.dissco.orchestration.backend.component.SpecHashComponent;
+import eu.dissco.orchestration.backend.domain.InformedResourceType;
 import eu.dissco.orchestration.backend.domain.ObjectType;
 import eu.dissco.orchestration.backend.domain.jsonapi.JsonApiData;
 import eu.dissco.orchestration.backend.domain.jsonapi.JsonApiLinks;
 import eu.dissco.orchestration.backend.domain.jsonapi.JsonApiWrapper;
+import eu.dissco.orchestration.backend.domain.kubernetes.RabbitBinding;
+import eu.dissco.orchestration.backend.domain.kubernetes.RabbitQueue;
+import eu.dissco.orchestration.backend.domain.kubernetes.ScaledObject;
 import eu.dissco.orchestration.backend.exception.NotFoundException;
 import eu.dissco.orchestration.backend.exception.PidException;
 import eu.dissco.orchestration.backend.exception.ProcessingFailedException;
 import eu.dissco.orchestration.backend.properties.FdoProperties;
 import eu.dissco.orchestration.backend.properties.KubernetesProperties;
 import eu.dissco.orchestration.backend.properties.MachineAnnotationServiceProperties;
+import eu.dissco.orchestration.backend.properties.ReconciliationProperties;
 import eu.dissco.orchestration.backend.repository.MachineAnnotationServiceRepository;
 import eu.dissco.orchestration.backend.schema.EnvironmentalVariable;
 import eu.dissco.orchestration.backend.schema.MachineAnnotationService;
@@ -53,20 +69,14 @@ import eu.dissco.orchestration.backend.schema.SchemaContactPoint__1;
 import eu.dissco.orchestration.backend.schema.SecretVariable;
 import eu.dissco.orchestration.backend.web.HandleComponent;
 import freemarker.template.Configuration;
-import freemarker.template.TemplateException;
+import io.kubernetes.client.openapi.ApiClient;
 import io.kubernetes.client.openapi.ApiException;
 import io.kubernetes.client.openapi.apis.AppsV1Api;
-import io.kubernetes.client.openapi.apis.AppsV1Api.APIcreateNamespacedDeploymentRequest;
 import io.kubernetes.client.openapi.apis.AppsV1Api.APIdeleteNamespacedDeploymentRequest;
-import io.kubernetes.client.openapi.apis.AppsV1Api.APIlistNamespacedDeploymentRequest;
-import io.kubernetes.client.openapi.apis.AppsV1Api.APIreplaceNamespacedDeploymentRequest;
 import io.kubernetes.client.openapi.apis.CustomObjectsApi;
-import io.kubernetes.client.openapi.apis.CustomObjectsApi.APIcreateNamespacedCustomObjectRequest;
 import io.kubernetes.client.openapi.apis.CustomObjectsApi.APIdeleteNamespacedCustomObjectRequest;
-import io.kubernetes.client.openapi.apis.CustomObjectsApi.APIlistNamespacedCustomObjectRequest;
 import io.kubernetes.client.openapi.models.V1Container;
 import io.kubernetes.client.openapi.models.V1Deployment;
-import io.kubernetes.client.openapi.models.V1DeploymentList;
 import io.kubernetes.client.openapi.models.V1DeploymentSpec;
 import io.kubernetes.client.openapi.models.V1EnvVar;
 import io.kubernetes.client.openapi.models.V1EnvVarSource;
@@ -75,6 +85,7 @@ import io.kubernetes.client.openapi.models.V1PodSpec;
 import io.kubernetes.client.openapi.models.V1PodTemplateSpec;
 import io.kubernetes.client.openapi.models.V1SecretKeySelector;
 import io.kubernetes.client.openapi.models.V1VolumeMount;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.io.File;
 import java.io.IOException;
 import java.time.Clock;
@@ -94,17 +105,23 @@ import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.junit.jupiter.params.provider.NullSource;
 import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.junit.jupiter.MockitoExtension;
-import tools.jackson.core.JacksonException;
 
 @ExtendWith(MockitoExtension.class)
 class MachineAnnotationServiceServiceTest {
 
 	private static final String NAMESPACE = "machine-annotation-services";
 
-	private static final Gson GSON = new Gson();
+	private static final String DEPLOYMENT_NAME = "gw0-pop-xsl-deployment";
+
+	private static final String KEDA_NAME = "gw0-pop-xsl-scaled-object";
+
+	private static final String BINDING_NAME = "mas-gw0-pop-xsl-binding";
+
+	private static final String QUEUE_NAME = "mas-gw0-pop-xsl-queue";
 
 	private final Configuration configuration = new Configuration(Configuration.VERSION_2_3_32);
 
@@ -125,6 +142,9 @@ class MachineAnnotationServiceServiceTest {
 	@Mock
 	private HandleComponent handleComponent;
 
+	@Mock
+	private HandlePoolComponent handlePoolComponent;
+
 	@Mock
 	private FdoRecordService fdoRecordService;
 
@@ -137,6 +157,15 @@ class MachineAnnotationServiceServiceTest {
 	@Mock
 	private FdoProperties fdoProperties;
 
+	@Mock
+	private KubernetesInformerComponent informerComponent;
+
+	@Mock
+	private KubernetesApplyComponent applyComponent;
+
+	@Mock
+	private LeaderElectionComponent leaderElectionComponent;
+
 	private MachineAnnotationServiceService service;
 
 	private MockedStatic<Instant> mockedStatic;
@@ -149,27 +178,27 @@ class MachineAnnotationServiceServiceTest {
 				Arguments.of(List.of(new EnvironmentalVariable("name", true)), givenMasSecrets()));
 	}
 
-	private static JsonElement givenKedaResource(String maxCount) {
-		return GSON.fromJson(
-				"{\"apiVersion\":\"keda.sh/v1alpha1\",\"items\":[{\"apiVersion\":\"keda.sh/v1alpha1\",\"kind\":\"ScaledObject\",\"metadata\":{\"name\":\"gw0-pop-xsl-scaled-object\",\"namespace\":\"machine-annotation-services\"},\"spec\":{\"maxReplicaCount\":"
+	private static ScaledObject givenKedaResource(String maxCount) {
+		return MAPPER.readValue(
+				"{\"apiVersion\":\"keda.sh/v1alpha1\",\"kind\":\"ScaledObject\",\"metadata\":{\"name\":\"gw0-pop-xsl-scaled-object\",\"namespace\":\"machine-annotation-services\"},\"spec\":{\"maxReplicaCount\":"
 						+ maxCount
-						+ ",\"minReplicaCount\":0,\"scaleTargetRef\":{\"name\":\"gw0-pop-xsl-deployment\"},\"triggers\":[{\"authenticationRef\":{\"name\":\"keda-trigger-auth-rabbitmq-conn\"},\"metadata\":{\"mode\":\"QueueLength\",\"queueName\":\"mas-gw0-pop-xsl-queue\",\"value\":\"1.0\"},\"type\":\"rabbitmq\"}]}}]}",
-				JsonElement.class);
+						+ ",\"minReplicaCount\":0,\"scaleTargetRef\":{\"name\":\"gw0-pop-xsl-deployment\"},\"triggers\":[{\"authenticationRef\":{\"name\":\"keda-trigger-auth-rabbitmq-conn\"},\"metadata\":{\"mode\":\"QueueLength\",\"queueName\":\"mas-gw0-pop-xsl-queue\",\"value\":\"1.0\"},\"type\":\"rabbitmq\"}]}}",
+				ScaledObject.class);
 	}
 
-	private static JsonElement givenRabbitBinding(String routingKey) {
-		return GSON.fromJson(
-				"{\"apiVersion\":\"rabbitmq.com/v1beta1\",\"items\":[{\"apiVersion\":\"rabbitmq.com/v1beta1\",\"kind\":\"Binding\",\"metadata\":{\"name\":\"mas-gw0-pop-xsl-binding\",\"namespace\":\"machine-annotation-services\"},\"spec\":{\"destination\":\"mas-gw0-pop-xsl-queue\",\"destinationType\":\"queue\",\"rabbitmqClusterReference\":{\"name\":\"rabbitmq-cluster\",\"namespace\":\"rabbitmq\"},\"routingKey\":\""
-						+ routingKey + "\",\"source\":\"mas-exchange\",\"vhost\":\"/\"}}]}",
-				JsonElement.class);
+	private static RabbitBinding givenRabbitBinding(String routingKey) {
+		return MAPPER.readValue(
+				"{\"apiVersion\":\"rabbitmq.com/v1beta1\",\"kind\":\"Binding\",\"metadata\":{\"name\":\"mas-gw0-pop-xsl-binding\",\"namespace\":\"machine-annotation-services\"},\"spec\":{\"destination\":\"mas-gw0-pop-xsl-queue\",\"destinationType\":\"queue\",\"rabbitmqClusterReference\":{\"name\":\"rabbitmq-cluster\",\"namespace\":\"rabbitmq\"},\"routingKey\":\""
+						+ routingKey + "\",\"source\":\"mas-exchange\",\"vhost\":\"/\"}}",
+				RabbitBinding.class);
 	}
 
-	private static JsonElement givenRabbitQueue(String durable) {
-		return GSON.fromJson(
-				"{\"apiVersion\":\"rabbitmq.com/v1beta1\",\"items\":[{\"apiVersion\":\"rabbitmq.com/v1beta1\",\"kind\":\"Queue\",\"metadata\":{\"name\":\"mas-gw0-pop-xsl-queue\",\"namespace\":\"machine-annotation-services\"},\"spec\":{\"durable\":"
+	private static RabbitQueue givenRabbitQueue(String durable) {
+		return MAPPER.readValue(
+				"{\"apiVersion\":\"rabbitmq.com/v1beta1\",\"kind\":\"Queue\",\"metadata\":{\"name\":\"mas-gw0-pop-xsl-queue\",\"namespace\":\"machine-annotation-services\"},\"spec\":{\"durable\":"
 						+ durable
-						+ ",\"name\":\"mas-gw0-pop-xsl-queue\",\"rabbitmqClusterReference\":{\"name\":\"rabbitmq-cluster\",\"namespace\":\"rabbitmq\"},\"type\":\"quorum\",\"deletionPolicy\": \"delete\",\"vhost\":\"/\"}}]}",
-				JsonElement.class);
+						+ ",\"name\":\"mas-gw0-pop-xsl-queue\",\"rabbitmqClusterReference\":{\"name\":\"rabbitmq-cluster\",\"namespace\":\"rabbitmq\"},\"type\":\"quorum\",\"deletionPolicy\": \"delete\",\"vhost\":\"/\"}}",
+				RabbitQueue.class);
 	}
 
 	private static V1Deployment givenMasDeployment(String image, boolean addSecret) {
@@ -212,7 +241,7 @@ class MachineAnnotationServiceServiceTest {
 	}
 
 	@BeforeEach
-	void setup() throws IOException {
+	void setup() throws Exception {
 		initTime();
 		initFreeMaker();
 		var kedaTemplate = configuration.getTemplate("keda-template.ftl");
@@ -220,10 +249,15 @@ class MachineAnnotationServiceServiceTest {
 		var rabbitBindingTemplate = configuration.getTemplate("mas-rabbitmq-binding.ftl");
 		var rabbitQueueTemplate = configuration.getTemplate("mas-rabbitmq-queue.ftl");
 		properties.setRunningEndpoint("https://dev.dissco.tech/api/running");
-		service = new MachineAnnotationServiceService(handleComponent, fdoRecordService, rabbitMqPublisherService,
-				repository, appsV1Api, customObjectsApi, kedaTemplate, deploymentTemplate, rabbitBindingTemplate,
-				rabbitQueueTemplate, MAPPER, yamlMapper, new ObjectMapper().findAndRegisterModules(), properties,
-				kubernetesProperties, fdoProperties);
+		var deploymentBlueprintComponent = new MasDeploymentBlueprintComponent(properties, deploymentTemplate,
+				yamlMapper, new ApiClient());
+		deploymentBlueprintComponent.loadBlueprint();
+		service = new MachineAnnotationServiceService(handleComponent, handlePoolComponent, fdoRecordService,
+				rabbitMqPublisherService, repository, appsV1Api, customObjectsApi, kedaTemplate, rabbitBindingTemplate,
+				rabbitQueueTemplate, MAPPER, properties, kubernetesProperties, fdoProperties,
+				new ReconciliationComponent(new ReconciliationProperties(), new SimpleMeterRegistry()),
+				informerComponent, new SpecHashComponent(), applyComponent, leaderElectionComponent,
+				deploymentBlueprintComponent);
 	}
 
 	private void initFreeMaker() throws IOException {
@@ -245,14 +279,9 @@ class MachineAnnotationServiceServiceTest {
 				new JsonApiLinks(MAS_PATH));
 		var masRequest = givenMasRequest().withOdsHasEnvironmentalVariables(masEnv)
 			.withOdsHasSecretVariables(masSecret);
-		given(handleComponent.postHandle(any())).willReturn(BARE_HANDLE);
+		given(handlePoolComponent.createHandle(any())).willReturn(BARE_HANDLE);
 		given(fdoProperties.getMasType()).willReturn(MAS_TYPE_DOI);
-		var createDeploy = mock(APIcreateNamespacedDeploymentRequest.class);
-		given(appsV1Api.createNamespacedDeployment(eq(NAMESPACE), any(V1Deployment.class))).willReturn(createDeploy);
-		var createCustom = mock(APIcreateNamespacedCustomObjectRequest.class);
-		given(customObjectsApi.createNamespacedCustomObject(anyString(), anyString(), eq(NAMESPACE), anyString(),
-				any(Object.class)))
-			.willReturn(createCustom);
+		given(rabbitMqPublisherService.buildCreateEvent(expectedMas, givenAgent())).willReturn(givenOutboxEvent());
 
 		// When
 		var result = service.createMachineAnnotationService(masRequest, givenAgent(), MAS_PATH);
@@ -260,11 +289,12 @@ class MachineAnnotationServiceServiceTest {
 		// Then
 		assertThat(result).isEqualTo(expected);
 		then(fdoRecordService).should().buildCreateRequest(masRequest, ObjectType.MAS);
-		then(repository).should().createMachineAnnotationService(expectedMas);
-		then(appsV1Api).should().createNamespacedDeployment(eq(NAMESPACE), any(V1Deployment.class));
-		then(customObjectsApi).should(times(3))
-			.createNamespacedCustomObject(anyString(), anyString(), eq(NAMESPACE), anyString(), any(Object.class));
-		then(rabbitMqPublisherService).should().publishCreateEvent(expectedMas, givenAgent());
+		then(repository).should().createMachineAnnotationService(expectedMas, givenOutboxEvent());
+		then(repository).should().releaseEvents(HANDLE, 1);
+		thenApplied(InformedResourceType.DEPLOYMENT, DEPLOYMENT_NAME, 1);
+		thenApplied(InformedResourceType.SCALED_OBJECT, KEDA_NAME, 1);
+		thenApplied(InformedResourceType.RABBIT_BINDING, BINDING_NAME, 1);
+		thenApplied(InformedResourceType.RABBIT_QUEUE, QUEUE_NAME, 1);
 	}
 
 	@ParameterizedTest
@@ -280,14 +310,9 @@ class MachineAnnotationServiceServiceTest {
 
 		var masRequest = givenMasRequest().withSchemaContactPoint(null)
 			.withOdsMaxReplicas(maxReplicas);
-		given(handleComponent.postHandle(any())).willReturn(BARE_HANDLE);
+		given(handlePoolComponent.createHandle(any())).willReturn(BARE_HANDLE);
 		given(fdoProperties.getMasType()).willReturn(MAS_TYPE_DOI);
-		var createDeploy = mock(APIcreateNamespacedDeploymentRequest.class);
-		given(appsV1Api.createNamespacedDeployment(eq(NAMESPACE), any(V1Deployment.class))).willReturn(createDeploy);
-		var createCustom = mock(APIcreateNamespacedCustomObjectRequest.class);
-		given(customObjectsApi.createNamespacedCustomObject(anyString(), anyString(), eq(NAMESPACE), anyString(),
-				any(Object.class)))
-			.willReturn(createCustom);
+		given(rabbitMqPublisherService.buildCreateEvent(mas, givenAgent())).willReturn(givenOutboxEvent());
 
 		// When
 		var result = service.createMachineAnnotationService(masRequest, givenAgent(), MAS_PATH);
@@ -295,18 +320,19 @@ class MachineAnnotationServiceServiceTest {
 		// Then
 		assertThat(result).isEqualTo(expected);
 		then(fdoRecordService).should().buildCreateRequest(masRequest, ObjectType.MAS);
-		then(repository).should().createMachineAnnotationService(mas);
-		then(appsV1Api).should().createNamespacedDeployment(eq(NAMESPACE), any(V1Deployment.class));
-		then(customObjectsApi).should(times(3))
-			.createNamespacedCustomObject(anyString(), anyString(), eq(NAMESPACE), anyString(), any(Object.class));
-		then(rabbitMqPublisherService).should().publishCreateEvent(mas, givenAgent());
+		then(repository).should().createMachineAnnotationService(mas, givenOutboxEvent());
+		then(repository).should().releaseEvents(HANDLE, 1);
+		thenApplied(InformedResourceType.DEPLOYMENT, DEPLOYMENT_NAME, 1);
+		thenApplied(InformedResourceType.SCALED_OBJECT, KEDA_NAME, 1);
+		thenApplied(InformedResourceType.RABBIT_BINDING, BINDING_NAME, 1);
+		thenApplied(InformedResourceType.RABBIT_QUEUE, QUEUE_NAME, 1);
 	}
 
 	@Test
 	void testCreateMasHandleFails() throws Exception {
 		// Given
 		var mas = givenMasRequest();
-		willThrow(PidException.class).given(handleComponent).postHandle(any());
+		willThrow(PidException.class).given(handlePoolComponent).createHandle(any());
 
 		// Then
 		assertThrowsExactly(ProcessingFailedException.class,
@@ -318,71 +344,71 @@ class MachineAnnotationServiceServiceTest {
 		// Given
 		var mas = givenMasRequest();
 		given(fdoProperties.getMasType()).willReturn(MAS_TYPE_DOI);
-		given(handleComponent.postHandle(any())).willReturn(BARE_HANDLE);
-		var createDeploy = mock(APIcreateNamespacedDeploymentRequest.class);
-		given(appsV1Api.createNamespacedDeployment(eq(NAMESPACE), any(V1Deployment.class))).willReturn(createDeploy);
-		given(createDeploy.execute()).willThrow(new ApiException());
+		given(rabbitMqPublisherService.buildCreateEvent(givenMas(), givenAgent())).willReturn(givenOutboxEvent());
+		given(handlePoolComponent.createHandle(any())).willReturn(BARE_HANDLE);
+		given(customObjectsApi.deleteNamespacedCustomObject(anyString(), anyString(), eq(NAMESPACE), anyString(),
+				anyString()))
+			.willReturn(mock(APIdeleteNamespacedCustomObjectRequest.class));
+		willThrow(new ApiException()).given(applyComponent)
+			.apply(eq(InformedResourceType.DEPLOYMENT), eq(DEPLOYMENT_NAME), any(V1Deployment.class));
 
 		// When
 		assertThrowsExactly(ProcessingFailedException.class,
 				() -> service.createMachineAnnotationService(mas, givenAgent(), MAS_PATH));
 
 		// Then
-		then(repository).should().createMachineAnnotationService(givenMas());
+		then(repository).should().createMachineAnnotationService(givenMas(), givenOutboxEvent());
+		then(handlePoolComponent).should().cancelHandleUpdate(HANDLE);
 		then(handleComponent).should().rollbackHandleCreation(any());
 		then(repository).should().rollbackMasCreation(HANDLE);
-		then(customObjectsApi).shouldHaveNoInteractions();
+		then(repository).should(never()).releaseEvents(anyString(), anyInt());
+		then(appsV1Api).shouldHaveNoInteractions();
+		thenRolledBack(KEDA_NAME, BINDING_NAME, QUEUE_NAME);
 	}
 
 	@Test
 	void testCreateKedaFails() throws Exception {
 		// Given
 		var mas = givenMasRequest();
-		given(handleComponent.postHandle(any())).willReturn(BARE_HANDLE);
+		given(handlePoolComponent.createHandle(any())).willReturn(BARE_HANDLE);
 		given(fdoProperties.getMasType()).willReturn(MAS_TYPE_DOI);
-		var createDeploy = mock(APIcreateNamespacedDeploymentRequest.class);
-		given(appsV1Api.createNamespacedDeployment(eq(NAMESPACE), any(V1Deployment.class))).willReturn(createDeploy);
-		var deleteDeploy = mock(APIdeleteNamespacedDeploymentRequest.class);
-		given(appsV1Api.deleteNamespacedDeployment(SUFFIX.toLowerCase() + "-deployment", NAMESPACE))
-			.willReturn(deleteDeploy);
-		var createCustom = mock(APIcreateNamespacedCustomObjectRequest.class);
-		given(customObjectsApi.createNamespacedCustomObject(anyString(), anyString(), eq(NAMESPACE), anyString(),
-				any(Object.class)))
-			.willReturn(createCustom);
-		given(createCustom.execute()).willThrow(new ApiException());
+		given(rabbitMqPublisherService.buildCreateEvent(givenMas(), givenAgent())).willReturn(givenOutboxEvent());
+		given(appsV1Api.deleteNamespacedDeployment(DEPLOYMENT_NAME, NAMESPACE))
+			.willReturn(mock(APIdeleteNamespacedDeploymentRequest.class));
+		given(customObjectsApi.deleteNamespacedCustomObject(anyString(), anyString(), eq(NAMESPACE), anyString(),
+				anyString()))
+			.willReturn(mock(APIdeleteNamespacedCustomObjectRequest.class));
+		willThrow(new ApiException()).given(applyComponent)
+			.apply(eq(InformedResourceType.SCALED_OBJECT), eq(KEDA_NAME), any(ScaledObject.class));
 
 		// When
 		assertThrowsExactly(ProcessingFailedException.class,
 				() -> service.createMachineAnnotationService(mas, givenAgent(), MAS_PATH));
 
 		// Then
-		then(repository).should().createMachineAnnotationService(givenMas());
-		then(appsV1Api).should().createNamespacedDeployment(eq(NAMESPACE), any(V1Deployment.class));
+		then(repository).should().createMachineAnnotationService(givenMas(), givenOutboxEvent());
+		thenApplied(InformedResourceType.DEPLOYMENT, DEPLOYMENT_NAME, 1);
 		then(handleComponent).should().rollbackHandleCreation(any());
 		then(repository).should().rollbackMasCreation(HANDLE);
-		then(appsV1Api).should().deleteNamespacedDeployment(eq(SUFFIX.toLowerCase() + "-deployment"), eq(NAMESPACE));
+		then(repository).should(never()).releaseEvents(anyString(), anyInt());
+		then(appsV1Api).should().deleteNamespacedDeployment(DEPLOYMENT_NAME, NAMESPACE);
+		thenRolledBack(BINDING_NAME, QUEUE_NAME);
 	}
 
 	@Test
 	void testCreateMasRabbitBindingFails() throws Exception {
 		// Given
 		var mas = givenMasRequest();
-		given(handleComponent.postHandle(any())).willReturn(BARE_HANDLE);
+		given(handlePoolComponent.createHandle(any())).willReturn(BARE_HANDLE);
 		given(fdoProperties.getMasType()).willReturn(MAS_TYPE_DOI);
-		var createDeploy = mock(APIcreateNamespacedDeploymentRequest.class);
-		given(appsV1Api.createNamespacedDeployment(eq(NAMESPACE), any(V1Deployment.class))).willReturn(createDeploy);
-		var createCustom = mock(APIcreateNamespacedCustomObjectRequest.class);
-		given(customObjectsApi.createNamespacedCustomObject(anyString(), anyString(), eq(NAMESPACE), anyString(),
-				any(Object.class)))
-			.willReturn(createCustom);
-		var deleteDeploy = mock(APIdeleteNamespacedDeploymentRequest.class);
-		given(appsV1Api.deleteNamespacedDeployment(SUFFIX.toLowerCase() + "-deployment", NAMESPACE))
-			.willReturn(deleteDeploy);
-		var deleteCustom = mock(APIdeleteNamespacedCustomObjectRequest.class);
+		given(rabbitMqPublisherService.buildCreateEvent(givenMas(), givenAgent())).willReturn(givenOutboxEvent());
+		given(appsV1Api.deleteNamespacedDeployment(DEPLOYMENT_NAME, NAMESPACE))
+			.willReturn(mock(APIdeleteNamespacedDeploymentRequest.class));
 		given(customObjectsApi.deleteNamespacedCustomObject(anyString(), anyString(), eq(NAMESPACE), anyString(),
-				eq(SUFFIX.toLowerCase() + "-scaled-object")))
-			.willReturn(deleteCustom);
-		given(createCustom.execute()).willReturn(mock(Object.class)).willThrow(new ApiException());
+				anyString()))
+			.willReturn(mock(APIdeleteNamespacedCustomObjectRequest.class));
+		willThrow(new ApiException()).given(applyComponent)
+			.apply(eq(InformedResourceType.RABBIT_BINDING), eq(BINDING_NAME), any(RabbitBinding.class));
 
 		// When
 		assertThrowsExactly(ProcessingFailedException.class,
@@ -390,99 +416,33 @@ class MachineAnnotationServiceServiceTest {
 
 		// Then
 		then(fdoRecordService).should().buildCreateRequest(mas, ObjectType.MAS);
-		then(repository).should().createMachineAnnotationService(givenMas());
-		then(fdoRecordService).should().buildRollbackCreateRequest(HANDLE);
-		then(handleComponent).should().rollbackHandleCreation(any());
-
-		then(appsV1Api).should().createNamespacedDeployment(eq(NAMESPACE), any(V1Deployment.class));
-		then(customObjectsApi).should(times(2))
-			.createNamespacedCustomObject(anyString(), anyString(), eq(NAMESPACE), anyString(), any(Object.class));
+		then(repository).should().createMachineAnnotationService(givenMas(), givenOutboxEvent());
+		thenApplied(InformedResourceType.DEPLOYMENT, DEPLOYMENT_NAME, 1);
+		thenApplied(InformedResourceType.SCALED_OBJECT, KEDA_NAME, 1);
+		thenApplied(InformedResourceType.RABBIT_BINDING, BINDING_NAME, 1);
+		thenApplied(InformedResourceType.RABBIT_QUEUE, QUEUE_NAME, 1);
 		then(fdoRecordService).should().buildRollbackCreateRequest(HANDLE);
 		then(handleComponent).should().rollbackHandleCreation(any());
 		then(repository).should().rollbackMasCreation(HANDLE);
-		then(appsV1Api).should().deleteNamespacedDeployment(eq(SUFFIX.toLowerCase() + "-deployment"), eq(NAMESPACE));
-		then(customObjectsApi).should()
-			.deleteNamespacedCustomObject(anyString(), anyString(), eq(NAMESPACE), anyString(),
-					eq(SUFFIX.toLowerCase() + "-scaled-object"));
+		then(repository).should(never()).releaseEvents(anyString(), anyInt());
+		then(appsV1Api).should().deleteNamespacedDeployment(DEPLOYMENT_NAME, NAMESPACE);
+		thenRolledBack(KEDA_NAME, QUEUE_NAME);
 	}
 
 	@Test
 	void testCreateMasRabbitQueueFails() throws Exception {
 		// Given
 		var mas = givenMasRequest();
-		given(handleComponent.postHandle(any())).willReturn(BARE_HANDLE);
+		given(handlePoolComponent.createHandle(any())).willReturn(BARE_HANDLE);
 		given(fdoProperties.getMasType()).willReturn(MAS_TYPE_DOI);
-		var createDeploy = mock(APIcreateNamespacedDeploymentRequest.class);
-		given(appsV1Api.createNamespacedDeployment(eq(NAMESPACE), any(V1Deployment.class))).willReturn(createDeploy);
-		var createCustom = mock(APIcreateNamespacedCustomObjectRequest.class);
-		given(customObjectsApi.createNamespacedCustomObject(anyString(), anyString(), eq(NAMESPACE), anyString(),
-				any(Object.class)))
-			.willReturn(createCustom);
-		var deleteDeploy = mock(APIdeleteNamespacedDeploymentRequest.class);
-		given(appsV1Api.deleteNamespacedDeployment(SUFFIX.toLowerCase() + "-deployment", NAMESPACE))
-			.willReturn(deleteDeploy);
-		var deleteCustom = mock(APIdeleteNamespacedCustomObjectRequest.class);
-		given(customObjectsApi.deleteNamespacedCustomObject(anyString(), anyString(), eq(NAMESPACE), anyString(),
-				eq(SUFFIX.toLowerCase() + "-scaled-object")))
-			.willReturn(deleteCustom);
-		given(customObjectsApi.deleteNamespacedCustomObject(anyString(), anyString(), eq(NAMESPACE), anyString(),
-				eq("mas-" + SUFFIX.toLowerCase() + "-binding")))
-			.willReturn(deleteCustom);
-		given(createCustom.execute()).willReturn(mock(Object.class))
-			.willReturn(mock(Object.class))
-			.willThrow(new ApiException());
-
-		// When
-		assertThrowsExactly(ProcessingFailedException.class,
-				() -> service.createMachineAnnotationService(mas, givenAgent(), MAS_PATH));
-
-		// Then
-		then(fdoRecordService).should().buildCreateRequest(mas, ObjectType.MAS);
-		then(repository).should().createMachineAnnotationService(givenMas());
-		then(fdoRecordService).should().buildRollbackCreateRequest(HANDLE);
-		then(handleComponent).should().rollbackHandleCreation(any());
-
-		then(appsV1Api).should().createNamespacedDeployment(eq(NAMESPACE), any(V1Deployment.class));
-		then(customObjectsApi).should(times(3))
-			.createNamespacedCustomObject(anyString(), anyString(), eq(NAMESPACE), anyString(), any(Object.class));
-		then(fdoRecordService).should().buildRollbackCreateRequest(HANDLE);
-		then(handleComponent).should().rollbackHandleCreation(any());
-		then(repository).should().rollbackMasCreation(HANDLE);
-		then(appsV1Api).should().deleteNamespacedDeployment(eq(SUFFIX.toLowerCase() + "-deployment"), eq(NAMESPACE));
-		then(customObjectsApi).should()
-			.deleteNamespacedCustomObject(anyString(), anyString(), eq(NAMESPACE), anyString(),
-					eq(SUFFIX.toLowerCase() + "-scaled-object"));
-		then(customObjectsApi).should()
-			.deleteNamespacedCustomObject(anyString(), anyString(), eq(NAMESPACE), anyString(),
-					eq("mas-" + SUFFIX.toLowerCase() + "-binding"));
-	}
-
-	@Test
-	void testCreateMasEventFails() throws Exception {
-		// Given
-		var mas = givenMasRequest();
-		given(handleComponent.postHandle(any())).willReturn(BARE_HANDLE);
-		given(fdoProperties.getMasType()).willReturn(MAS_TYPE_DOI);
-		willThrow(JacksonException.class).given(rabbitMqPublisherService).publishCreateEvent(givenMas(), givenAgent());
-		var createDeploy = mock(APIcreateNamespacedDeploymentRequest.class);
-		given(appsV1Api.createNamespacedDeployment(eq(NAMESPACE), any(V1Deployment.class))).willReturn(createDeploy);
-		var createCustom = mock(APIcreateNamespacedCustomObjectRequest.class);
-		given(customObjectsApi.createNamespacedCustomObject(anyString(), anyString(), eq(NAMESPACE), anyString(),
-				any(Object.class)))
-			.willReturn(createCustom);
-		var deleteDeploy = mock(APIdeleteNamespacedDeploymentRequest.class);
-		given(appsV1Api.deleteNamespacedDeployment(SUFFIX.toLowerCase() + "-deployment", NAMESPACE))
-			.willReturn(deleteDeploy);
-		var deleteCustom = mock(APIdeleteNamespacedCustomObjectRequest.class);
-		given(customObjectsApi.deleteNamespacedCustomObject(anyString(), anyString(), eq(NAMESPACE), anyString(),
-				eq(SUFFIX.toLowerCase() + "-scaled-object")))
-			.willReturn(deleteCustom);
-		given(customObjectsApi.deleteNamespacedCustomObject(anyString(), anyString(), eq(NAMESPACE), anyString(),
-				eq("mas-" + SUFFIX.toLowerCase() + "-binding")))
-			.willReturn(deleteCustom);
+		given(rabbitMqPublisherService.buildCreateEvent(givenMas(), givenAgent())).willReturn(givenOutboxEvent());
+		given(appsV1Api.deleteNamespacedDeployment(DEPLOYMENT_NAME, NAMESPACE))
+			.willReturn(mock(APIdeleteNamespacedDeploymentRequest.class));
 		given(customObjectsApi.deleteNamespacedCustomObject(anyString(), anyString(), eq(NAMESPACE), anyString(),
-				eq("mas-" + SUFFIX.toLowerCase() + "-queue")))
-			.willReturn(deleteCustom);
+				anyString()))
+			.willReturn(mock(APIdeleteNamespacedCustomObjectRequest.class));
+		willThrow(new ApiException()).given(applyComponent)
+			.apply(eq(InformedResourceType.RABBIT_QUEUE), eq(QUEUE_NAME), any(RabbitQueue.class));
 
 		// When
 		assertThrowsExactly(ProcessingFailedException.class,
@@ -490,26 +450,13 @@ class MachineAnnotationServiceServiceTest {
 
 		// Then
 		then(fdoRecordService).should().buildCreateRequest(mas, ObjectType.MAS);
-		then(repository).should().createMachineAnnotationService(givenMas());
-		then(fdoRecordService).should().buildRollbackCreateRequest(HANDLE);
-		then(handleComponent).should().rollbackHandleCreation(any());
-
-		then(appsV1Api).should().createNamespacedDeployment(eq(NAMESPACE), any(V1Deployment.class));
-		then(customObjectsApi).should(times(3))
-			.createNamespacedCustomObject(anyString(), anyString(), eq(NAMESPACE), anyString(), any(Object.class));
+		then(repository).should().createMachineAnnotationService(givenMas(), givenOutboxEvent());
 		then(fdoRecordService).should().buildRollbackCreateRequest(HANDLE);
 		then(handleComponent).should().rollbackHandleCreation(any());
 		then(repository).should().rollbackMasCreation(HANDLE);
-		then(appsV1Api).should().deleteNamespacedDeployment(eq(SUFFIX.toLowerCase() + "-deployment"), eq(NAMESPACE));
-		then(customObjectsApi).should()
-			.deleteNamespacedCustomObject(anyString(), anyString(), eq(NAMESPACE), anyString(),
-					eq(SUFFIX.toLowerCase() + "-scaled-object"));
-		then(customObjectsApi).should()
-			.deleteNamespacedCustomObject(anyString(), anyString(), eq(NAMESPACE), anyString(),
-					eq("mas-" + SUFFIX.toLowerCase() + "-binding"));
-		then(customObjectsApi).should()
-			.deleteNamespacedCustomObject(anyString(), anyString(), eq(NAMESPACE), anyString(),
-					eq("mas-" + SUFFIX.toLowerCase() + "-queue"));
+		then(repository).should(never()).releaseEvents(anyString(), anyInt());
+		then(appsV1Api).should().deleteNamespacedDeployment(DEPLOYMENT_NAME, NAMESPACE);
+		thenRolledBack(KEDA_NAME, BINDING_NAME);
 	}
 
 	@Test
@@ -520,34 +467,19 @@ class MachineAnnotationServiceServiceTest {
 		var mas = givenMasRequest();
 		given(fdoProperties.getMasType()).willReturn(MAS_TYPE_DOI);
 		given(repository.getActiveMachineAnnotationService(BARE_HANDLE)).willReturn(prevMas);
-		var replaceDeploy = mock(APIreplaceNamespacedDeploymentRequest.class);
-		given(appsV1Api.replaceNamespacedDeployment(eq(SUFFIX.toLowerCase() + "-deployment"), eq(NAMESPACE),
-				any(V1Deployment.class)))
-			.willReturn(replaceDeploy);
-		var deleteCustom = mock(APIdeleteNamespacedCustomObjectRequest.class);
-		given(customObjectsApi.deleteNamespacedCustomObject(anyString(), anyString(), eq(NAMESPACE), anyString(),
-				eq(SUFFIX.toLowerCase() + "-scaled-object")))
-			.willReturn(deleteCustom);
-		var createCustom = mock(APIcreateNamespacedCustomObjectRequest.class);
-		given(customObjectsApi.createNamespacedCustomObject(anyString(), anyString(), eq(NAMESPACE), anyString(),
-				any(Object.class)))
-			.willReturn(createCustom);
+		given(rabbitMqPublisherService.buildUpdateEvent(givenMas(2), prevMas.get(), givenAgent()))
+			.willReturn(givenOutboxEvent(BARE_HANDLE, 2));
 
 		// When
 		var result = service.updateMachineAnnotationService(BARE_HANDLE, mas, givenAgent(), MAS_PATH);
 
 		// Then
 		assertThat(result).isEqualTo(expected);
-		then(repository).should().updateMachineAnnotationService(givenMas(2));
-		then(appsV1Api).should()
-			.replaceNamespacedDeployment(eq(SUFFIX.toLowerCase() + "-deployment"), eq(NAMESPACE),
-					any(V1Deployment.class));
-		then(customObjectsApi).should()
-			.deleteNamespacedCustomObject(anyString(), anyString(), eq(NAMESPACE), anyString(),
-					eq(SUFFIX.toLowerCase() + "-scaled-object"));
-		then(customObjectsApi).should()
-			.createNamespacedCustomObject(anyString(), anyString(), eq(NAMESPACE), anyString(), any(Object.class));
-		then(rabbitMqPublisherService).should().publishUpdateEvent(givenMas(2), prevMas.get(), givenAgent());
+		then(repository).should().updateMachineAnnotationService(givenMas(2), givenOutboxEvent(BARE_HANDLE, 2));
+		then(repository).should().releaseEvents(HANDLE, 2);
+		thenApplied(InformedResourceType.DEPLOYMENT, DEPLOYMENT_NAME, 1);
+		thenApplied(InformedResourceType.SCALED_OBJECT, KEDA_NAME, 1);
+		then(customObjectsApi).shouldHaveNoInteractions();
 	}
 
 	@Test
@@ -557,102 +489,46 @@ class MachineAnnotationServiceServiceTest {
 		var mas = givenMasRequest();
 		given(fdoProperties.getMasType()).willReturn(MAS_TYPE_DOI);
 		given(repository.getActiveMachineAnnotationService(BARE_HANDLE)).willReturn(prevMas);
-		var replaceDeploy = mock(APIreplaceNamespacedDeploymentRequest.class);
-		given(appsV1Api.replaceNamespacedDeployment(eq(SUFFIX.toLowerCase() + "-deployment"), eq(NAMESPACE),
-				any(V1Deployment.class)))
-			.willReturn(replaceDeploy);
-		var deleteCustom = mock(APIdeleteNamespacedCustomObjectRequest.class);
-		given(customObjectsApi.deleteNamespacedCustomObject(anyString(), anyString(), eq(NAMESPACE), anyString(),
-				eq(SUFFIX.toLowerCase() + "-scaled-object")))
-			.willReturn(deleteCustom);
-		var createCustom = mock(APIcreateNamespacedCustomObjectRequest.class);
-		given(customObjectsApi.createNamespacedCustomObject(anyString(), anyString(), eq(NAMESPACE), anyString(),
-				any(Object.class)))
-			.willReturn(createCustom);
-		given(createCustom.execute()).willThrow(new ApiException());
+		given(rabbitMqPublisherService.buildUpdateEvent(givenMas(2), prevMas.get(), givenAgent()))
+			.willReturn(givenOutboxEvent(BARE_HANDLE, 2));
+		willThrow(new ApiException()).given(applyComponent)
+			.apply(eq(InformedResourceType.SCALED_OBJECT), eq(KEDA_NAME), any(ScaledObject.class));
 
 		// When
 		assertThrowsExactly(ProcessingFailedException.class,
 				() -> service.updateMachineAnnotationService(BARE_HANDLE, mas, givenAgent(), MAS_PATH));
 
 		// Then
-		then(repository).should().updateMachineAnnotationService(givenMas(2));
-		then(repository).should().updateMachineAnnotationService(prevMas.get());
-		then(appsV1Api).should(times(2))
-			.replaceNamespacedDeployment(eq(SUFFIX.toLowerCase() + "-deployment"), eq(NAMESPACE),
-					any(V1Deployment.class));
-		then(customObjectsApi).should()
-			.deleteNamespacedCustomObject(anyString(), anyString(), eq(NAMESPACE), anyString(),
-					eq(SUFFIX.toLowerCase() + "-scaled-object"));
-		then(customObjectsApi).should(times(2))
-			.createNamespacedCustomObject(anyString(), anyString(), eq(NAMESPACE), anyString(), any(Object.class));
-		then(rabbitMqPublisherService).shouldHaveNoInteractions();
-	}
-
-	@Test
-	void testUpdateKedaFails() throws ApiException {
-		// Given
-		var prevMas = buildOptionalPrev();
-		var mas = givenMasRequest();
-		given(fdoProperties.getMasType()).willReturn(MAS_TYPE_DOI);
-		given(repository.getActiveMachineAnnotationService(BARE_HANDLE)).willReturn(prevMas);
-		var replaceDeploy = mock(APIreplaceNamespacedDeploymentRequest.class);
-		given(appsV1Api.replaceNamespacedDeployment(eq(SUFFIX.toLowerCase() + "-deployment"), eq(NAMESPACE),
-				any(V1Deployment.class)))
-			.willReturn(replaceDeploy);
-		given(replaceDeploy.execute()).willThrow(new ApiException());
-
-		// When
-		assertThrowsExactly(ProcessingFailedException.class,
-				() -> service.updateMachineAnnotationService(BARE_HANDLE, mas, givenAgent(), MAS_PATH));
-
-		// Then
-		then(repository).should().updateMachineAnnotationService(givenMas(2));
-		then(repository).should().updateMachineAnnotationService(prevMas.get());
-		then(appsV1Api).should()
-			.replaceNamespacedDeployment(eq(SUFFIX.toLowerCase() + "-deployment"), eq(NAMESPACE),
-					any(V1Deployment.class));
+		then(repository).should().updateMachineAnnotationService(givenMas(2), givenOutboxEvent(BARE_HANDLE, 2));
+		then(repository).should().rollbackMasUpdate(prevMas.get());
+		then(repository).should(never()).releaseEvents(anyString(), anyInt());
+		thenApplied(InformedResourceType.DEPLOYMENT, DEPLOYMENT_NAME, 2);
+		thenApplied(InformedResourceType.SCALED_OBJECT, KEDA_NAME, 2);
 		then(customObjectsApi).shouldHaveNoInteractions();
-		then(rabbitMqPublisherService).shouldHaveNoInteractions();
 	}
 
 	@Test
-	void testUpdateMasEventFails() throws Exception {
+	void testUpdateKedaFails() throws Exception {
 		// Given
 		var prevMas = buildOptionalPrev();
 		var mas = givenMasRequest();
 		given(fdoProperties.getMasType()).willReturn(MAS_TYPE_DOI);
 		given(repository.getActiveMachineAnnotationService(BARE_HANDLE)).willReturn(prevMas);
-		willThrow(JacksonException.class).given(rabbitMqPublisherService)
-			.publishUpdateEvent(givenMas(2), prevMas.get(), givenAgent());
-		var replaceDeploy = mock(APIreplaceNamespacedDeploymentRequest.class);
-		given(appsV1Api.replaceNamespacedDeployment(eq(SUFFIX.toLowerCase() + "-deployment"), eq(NAMESPACE),
-				any(V1Deployment.class)))
-			.willReturn(replaceDeploy);
-		var deleteCustom = mock(APIdeleteNamespacedCustomObjectRequest.class);
-		given(customObjectsApi.deleteNamespacedCustomObject(anyString(), anyString(), eq(NAMESPACE), anyString(),
-				eq(SUFFIX.toLowerCase() + "-scaled-object")))
-			.willReturn(deleteCustom);
-		var createCustom = mock(APIcreateNamespacedCustomObjectRequest.class);
-		given(customObjectsApi.createNamespacedCustomObject(anyString(), anyString(), eq(NAMESPACE), anyString(),
-				any(Object.class)))
-			.willReturn(createCustom);
+		given(rabbitMqPublisherService.buildUpdateEvent(givenMas(2), prevMas.get(), givenAgent()))
+			.willReturn(givenOutboxEvent(BARE_HANDLE, 2));
+		willThrow(new ApiException()).given(applyComponent)
+			.apply(eq(InformedResourceType.DEPLOYMENT), eq(DEPLOYMENT_NAME), any(V1Deployment.class));
 
 		// When
 		assertThrowsExactly(ProcessingFailedException.class,
 				() -> service.updateMachineAnnotationService(BARE_HANDLE, mas, givenAgent(), MAS_PATH));
 
 		// Then
-		then(repository).should().updateMachineAnnotationService(givenMas(2));
-		then(appsV1Api).should(times(2))
-			.replaceNamespacedDeployment(eq(SUFFIX.toLowerCase() + "-deployment"), eq(NAMESPACE),
-					any(V1Deployment.class));
-		then(customObjectsApi).should(times(2))
-			.deleteNamespacedCustomObject(anyString(), anyString(), eq(NAMESPACE), anyString(),
-					eq(SUFFIX.toLowerCase() + "-scaled-object"));
-		then(customObjectsApi).should(times(2))
-			.createNamespacedCustomObject(anyString(), anyString(), eq(NAMESPACE), anyString(), any(Object.class));
-		then(repository).should().updateMachineAnnotationService(prevMas.get());
+		then(repository).should().updateMachineAnnotationService(givenMas(2), givenOutboxEvent(BARE_HANDLE, 2));
+		then(repository).should().rollbackMasUpdate(prevMas.get());
+		then(repository).should(never()).releaseEvents(anyString(), anyInt());
+		thenApplied(InformedResourceType.DEPLOYMENT, DEPLOYMENT_NAME, 1);
+		then(customObjectsApi).shouldHaveNoInteractions();
 	}
 
 	@Test
@@ -682,9 +558,9 @@ class MachineAnnotationServiceServiceTest {
 	@Test
 	void testGetMasById() throws NotFoundException {
 		// Given
-		var mas = givenMas();
-		var expected = givenMasSingleJsonApiWrapper();
-		given(repository.getMachineAnnotationService(HANDLE)).willReturn(mas);
+		var mas = givenRawJson(givenMas());
+		var expected = new JsonApiWrapper(JsonApiData.fromRawJson(mas, ObjectType.MAS), new JsonApiLinks(MAS_PATH));
+		given(repository.getRawMachineAnnotationService(HANDLE)).willReturn(Optional.of(mas));
 
 		// When
 		var result = service.getMachineAnnotationService(HANDLE, MAS_PATH);
@@ -696,6 +572,7 @@ class MachineAnnotationServiceServiceTest {
 	@Test
 	void testGetMasNotFound() {
 		// Given
+		given(repository.getRawMachineAnnotationService(HANDLE)).willReturn(Optional.empty());
 
 		// When / Then
 		assertThrows(NotFoundException.class, () -> service.getMachineAnnotationService(HANDLE, MAS_PATH));
@@ -706,10 +583,10 @@ class MachineAnnotationServiceServiceTest {
 		// Given
 		int pageNum = 1;
 		int pageSize = 10;
-		var machineAnnotationServices = Collections.nCopies(pageSize + 1, givenMas());
+		var machineAnnotationServices = Collections.nCopies(pageSize + 1, givenRawJson(givenMas()));
 		given(repository.getMachineAnnotationServices(pageNum, pageSize)).willReturn(machineAnnotationServices);
 		var linksNode = new JsonApiLinks(pageSize, pageNum, true, MAS_PATH);
-		var expected = givenMasResponse(machineAnnotationServices.subList(0, pageSize), linksNode);
+		var expected = givenRawJsonResponse(machineAnnotationServices.subList(0, pageSize), ObjectType.MAS, linksNode);
 
 		// When
 		var result = service.getMachineAnnotationServices(pageNum, pageSize, MAS_PATH);
@@ -723,10 +600,10 @@ class MachineAnnotationServiceServiceTest {
 		// Given
 		int pageNum = 2;
 		int pageSize = 10;
-		var machineAnnotationServices = Collections.nCopies(pageSize, givenMas());
+		var machineAnnotationServices = Collections.nCopies(pageSize, givenRawJson(givenMas()));
 		given(repository.getMachineAnnotationServices(pageNum, pageSize)).willReturn(machineAnnotationServices);
 		var linksNode = new JsonApiLinks(pageSize, pageNum, false, MAS_PATH);
-		var expected = givenMasResponse(machineAnnotationServices.subList(0, pageSize), linksNode);
+		var expected = givenRawJsonResponse(machineAnnotationServices.subList(0, pageSize), ObjectType.MAS, linksNode);
 
 		// When
 		var result = service.getMachineAnnotationServices(pageNum, pageSize, MAS_PATH);
@@ -764,18 +641,21 @@ class MachineAnnotationServiceServiceTest {
 		given(customObjectsApi.deleteNamespacedCustomObject(anyString(), anyString(), eq(NAMESPACE), anyString(),
 				eq("mas-" + SUFFIX.toLowerCase() + "-queue")))
 			.willReturn(deleteCustom);
+		given(rabbitMqPublisherService.buildTombstoneEvent(givenTombstoneMas(), givenMas(), givenAgent()))
+			.willReturn(givenOutboxEvent(BARE_HANDLE, 2));
 
 		// When
 		service.tombstoneMachineAnnotationService(BARE_HANDLE, givenAgent());
 
 		// Then
-		then(repository).should().tombstoneMachineAnnotationService(givenTombstoneMas(), Instant.now());
-		then(appsV1Api).should().deleteNamespacedDeployment(eq(SUFFIX.toLowerCase() + "-deployment"), eq(NAMESPACE));
+		var inOrder = inOrder(handleComponent, repository, appsV1Api);
+		inOrder.verify(handleComponent).tombstoneHandle(any(), eq(BARE_HANDLE));
+		inOrder.verify(repository)
+			.tombstoneMachineAnnotationService(givenTombstoneMas(), UPDATED, givenOutboxEvent(BARE_HANDLE, 2));
+		inOrder.verify(appsV1Api).deleteNamespacedDeployment(SUFFIX.toLowerCase() + "-deployment", NAMESPACE);
 		then(customObjectsApi).should()
 			.deleteNamespacedCustomObject(anyString(), anyString(), eq(NAMESPACE), anyString(),
 					eq(SUFFIX.toLowerCase() + "-scaled-object"));
-		then(handleComponent).should().tombstoneHandle(any(), eq(BARE_HANDLE));
-		then(rabbitMqPublisherService).should().publishTombstoneEvent(any(), any(), eq(givenAgent()));
 		then(customObjectsApi).should()
 			.deleteNamespacedCustomObject(anyString(), anyString(), eq(NAMESPACE), anyString(),
 					eq("mas-" + SUFFIX.toLowerCase() + "-binding"));
@@ -784,6 +664,23 @@ class MachineAnnotationServiceServiceTest {
 					eq("mas-" + SUFFIX.toLowerCase() + "-queue"));
 	}
 
+	@Test
+	void testTombstoneMasHandleFails() throws Exception {
+		// Given
+		given(repository.getActiveMachineAnnotationService(BARE_HANDLE)).willReturn(Optional.of(givenMas()));
+		willThrow(PidException.class).given(handleComponent).tombstoneHandle(any(), eq(BARE_HANDLE));
+
+		// When
+		assertThrowsExactly(ProcessingFailedException.class,
+				() -> service.tombstoneMachineAnnotationService(BARE_HANDLE, givenAgent()));
+
+		// Then
+		then(repository).should().getActiveMachineAnnotationService(BARE_HANDLE);
+		then(repository).shouldHaveNoMoreInteractions();
+		then(appsV1Api).shouldHaveNoInteractions();
+		then(customObjectsApi).shouldHaveNoInteractions();
+	}
+
 	@Test
 	void testDeleteDeployFails() throws Exception {
 		// Given
@@ -792,47 +689,69 @@ class MachineAnnotationServiceServiceTest {
 		given(appsV1Api.deleteNamespacedDeployment(SUFFIX.toLowerCase() + "-deployment", NAMESPACE))
 			.willReturn(deleteDeploy);
 		given(deleteDeploy.execute()).willThrow(new ApiException());
+		var deleteCustom = mock(APIdeleteNamespacedCustomObjectRequest.class);
+		given(customObjectsApi.deleteNamespacedCustomObject(anyString(), anyString(), eq(NAMESPACE), anyString(),
+				anyString()))
+			.willReturn(deleteCustom);
 		mockedStatic.when(Instant::now).thenReturn(UPDATED);
 		mockedClock.when(Clock::systemUTC).thenReturn(updatedClock);
+		given(rabbitMqPublisherService.buildTombstoneEvent(givenTombstoneMas(), givenMas(), givenAgent()))
+			.willReturn(givenOutboxEvent(BARE_HANDLE, 2));
 
 		// When
-		assertThrowsExactly(ProcessingFailedException.class,
-				() -> service.tombstoneMachineAnnotationService(BARE_HANDLE, givenAgent()));
+		service.tombstoneMachineAnnotationService(BARE_HANDLE, givenAgent());
 
 		// Then
-		then(repository).should().getActiveMachineAnnotationService(BARE_HANDLE);
-		then(repository).shouldHaveNoMoreInteractions();
-		then(customObjectsApi).shouldHaveNoInteractions();
-		then(rabbitMqPublisherService).shouldHaveNoInteractions();
+		then(repository).should()
+			.tombstoneMachineAnnotationService(givenTombstoneMas(), UPDATED, givenOutboxEvent(BARE_HANDLE, 2));
+		then(customObjectsApi).should(times(3))
+			.deleteNamespacedCustomObject(anyString(), anyString(), eq(NAMESPACE), anyString(), anyString());
 	}
 
 	@Test
-	void testDeleteKedaFails() throws ApiException {
+	void testDeleteKedaFails() throws Exception {
 		// Given
 		given(repository.getActiveMachineAnnotationService(BARE_HANDLE)).willReturn(Optional.of(givenMas()));
-		var createDeploy = mock(APIcreateNamespacedDeploymentRequest.class);
-		given(appsV1Api.createNamespacedDeployment(eq(NAMESPACE), any(V1Deployment.class))).willReturn(createDeploy);
 		var deleteDeploy = mock(APIdeleteNamespacedDeploymentRequest.class);
 		given(appsV1Api.deleteNamespacedDeployment(SUFFIX.toLowerCase() + "-deployment", NAMESPACE))
 			.willReturn(deleteDeploy);
 		var deleteCustom = mock(APIdeleteNamespacedCustomObjectRequest.class);
+		given(customObjectsApi.deleteNamespacedCustomObject(anyString(), anyString(), eq(NAMESPACE), anyString(),
+				anyString()))
+			.willReturn(deleteCustom);
+		var deleteKeda = mock(APIdeleteNamespacedCustomObjectRequest.class);
 		given(customObjectsApi.deleteNamespacedCustomObject("keda.sh", "v1alpha1", NAMESPACE, "scaledobjects",
 				"gw0-pop-xsl-scaled-object"))
-			.willReturn(deleteCustom);
-		given(deleteCustom.execute()).willThrow(new ApiException());
+			.willReturn(deleteKeda);
+		given(deleteKeda.execute()).willThrow(new ApiException());
 		mockedStatic.when(Instant::now).thenReturn(UPDATED);
 		mockedClock.when(Clock::systemUTC).thenReturn(updatedClock);
+		given(rabbitMqPublisherService.buildTombstoneEvent(givenTombstoneMas(), givenMas(), givenAgent()))
+			.willReturn(givenOutboxEvent(BARE_HANDLE, 2));
 
 		// When
-		assertThrowsExactly(ProcessingFailedException.class,
-				() -> service.tombstoneMachineAnnotationService(BARE_HANDLE, givenAgent()));
+		service.tombstoneMachineAnnotationService(BARE_HANDLE, givenAgent());
 
 		// Then
-		then(repository).should().getActiveMachineAnnotationService(BARE_HANDLE);
-		then(repository).shouldHaveNoMoreInteractions();
-		then(appsV1Api).should().deleteNamespacedDeployment(eq(SUFFIX.toLowerCase() + "-deployment"), eq(NAMESPACE));
-		then(appsV1Api).should().createNamespacedDeployment(eq(NAMESPACE), any(V1Deployment.class));
-		then(rabbitMqPublisherService).shouldHaveNoInteractions();
+		then(repository).should()
+			.tombstoneMachineAnnotationService(givenTombstoneMas(), UPDATED, givenOutboxEvent(BARE_HANDLE, 2));
+		then(customObjectsApi).should()
+			.deleteNamespacedCustomObject(anyString(), anyString(), eq(NAMESPACE), anyString(),
+					eq("mas-" + SUFFIX.toLowerCase() + "-queue"));
+		then(applyComponent).shouldHaveNoInteractions();
+	}
+
+	private void thenApplied(InformedResourceType type, String name, int times) throws Exception {
+		then(applyComponent).should(times(times)).apply(eq(type), eq(name), any());
+	}
+
+	private void thenRolledBack(String... customObjectNames) throws ApiException {
+		then(customObjectsApi).should(times(customObjectNames.length))
+			.deleteNamespacedCustomObject(anyString(), anyString(), eq(NAMESPACE), anyString(), anyString());
+		for (var name : customObjectNames) {
+			then(customObjectsApi).should()
+				.deleteNamespacedCustomObject(anyString(), anyString(), eq(NAMESPACE), anyString(), eq(name));
+		}
 	}
 
 	private Optional<MachineAnnotationService> buildOptionalPrev() {
@@ -840,53 +759,40 @@ class MachineAnnotationServiceServiceTest {
 	}
 
 	@Test
-	void synchronizeMissingResources() throws ApiException, TemplateException, IOException, InterruptedException {
+	void testRegisterLeaderTask() {
+		// When
+		service.registerLeaderTask();
+
+		// Then
+		then(leaderElectionComponent).should().addLeaderTask(any());
+		then(informerComponent).shouldHaveNoInteractions();
+	}
+
+	@Test
+	void synchronizeMissingResources() throws Exception {
 		// Given
-		var deployResponse = mock(APIlistNamespacedDeploymentRequest.class);
-		var customResponse = mock(APIlistNamespacedCustomObjectRequest.class);
-		given(customResponse.execute()).willReturn(GSON.fromJson("{ \"items\": []}", JsonElement.class));
-		given(appsV1Api.listNamespacedDeployment(NAMESPACE)).willReturn(deployResponse);
-		given(customObjectsApi.listNamespacedCustomObject(anyString(), anyString(), eq(NAMESPACE), anyString()))
-			.willReturn(customResponse);
-		given(deployResponse.execute()).willReturn(new V1DeploymentList());
-		given(repository.getMachineAnnotationServices(anyInt(), anyInt())).willReturn(List.of(givenMas()));
-		given(appsV1Api.createNamespacedDeployment(eq(NAMESPACE), any(V1Deployment.class)))
-			.willReturn(mock(APIcreateNamespacedDeploymentRequest.class));
-		given(customObjectsApi.createNamespacedCustomObject(anyString(), anyString(), eq(NAMESPACE), anyString(),
-				any(Object.class)))
-			.willReturn(mock(APIcreateNamespacedCustomObjectRequest.class));
+		given(repository.streamActiveMachineAnnotationServices(anyInt()))
+			.willAnswer(invocation -> Stream.of(List.of(givenMas())));
 
 		// When
 		service.setup();
 
 		// Then
-		then(appsV1Api).should().createNamespacedDeployment(eq(NAMESPACE), any(V1Deployment.class));
+		then(informerComponent).should().start();
+		thenApplied(InformedResourceType.DEPLOYMENT, DEPLOYMENT_NAME, 1);
+		thenApplied(InformedResourceType.SCALED_OBJECT, KEDA_NAME, 1);
+		thenApplied(InformedResourceType.RABBIT_BINDING, BINDING_NAME, 1);
+		thenApplied(InformedResourceType.RABBIT_QUEUE, QUEUE_NAME, 1);
 	}
 
 	@Test
-	void synchronizeExcessMas() throws ApiException, TemplateException, IOException, InterruptedException {
+	void synchronizeExcessMas() throws Exception {
 		// Given
-		var deployResponse = mock(APIlistNamespacedDeploymentRequest.class);
-		var customKedaResponse = mock(APIlistNamespacedCustomObjectRequest.class);
-		var k8sKeda = givenKedaResource("5.0");
-		given(customKedaResponse.execute()).willReturn(k8sKeda);
-		var customRabbitBinding = mock(APIlistNamespacedCustomObjectRequest.class);
-		var k8sRabbitBinding = givenRabbitBinding("gw0-pop-xsl");
-		given(customRabbitBinding.execute()).willReturn(k8sRabbitBinding);
-		var customRabbitQueue = mock(APIlistNamespacedCustomObjectRequest.class);
-		var k8sRabbitQueue = givenRabbitQueue("true");
-		given(customRabbitQueue.execute()).willReturn(k8sRabbitQueue);
-		given(appsV1Api.listNamespacedDeployment(NAMESPACE)).willReturn(deployResponse);
-		given(customObjectsApi.listNamespacedCustomObject(eq("keda.sh"), anyString(), eq(NAMESPACE), anyString()))
-			.willReturn(customKedaResponse);
-		given(customObjectsApi.listNamespacedCustomObject(eq("rabbitmq.com"), anyString(), eq(NAMESPACE),
-				eq("bindings")))
-			.willReturn(customRabbitBinding);
-		given(customObjectsApi.listNamespacedCustomObject(eq("rabbitmq.com"), anyString(), eq(NAMESPACE), eq("queues")))
-			.willReturn(customRabbitQueue);
-		given(deployResponse.execute()).willReturn(new V1DeploymentList()
-			.addItemsItem(givenMasDeployment("public.ecr.aws/dissco/fancy-mas:sha-54289", true)));
-		given(repository.getMachineAnnotationServices(anyInt(), anyInt())).willReturn(List.of());
+		given(informerComponent.getScaledObjects()).willReturn(List.of(givenKedaResource("5")));
+		given(informerComponent.getRabbitBindings()).willReturn(List.of(givenRabbitBinding("gw0-pop-xsl")));
+		given(informerComponent.getRabbitQueues()).willReturn(List.of(givenRabbitQueue("true")));
+		given(informerComponent.getDeployments())
+			.willReturn(List.of(givenMasDeployment("public.ecr.aws/dissco/fancy-mas:sha-54289", true)));
 		given(appsV1Api.deleteNamespacedDeployment(anyString(), eq(NAMESPACE)))
 			.willReturn(mock(APIdeleteNamespacedDeploymentRequest.class));
 		given(customObjectsApi.deleteNamespacedCustomObject(anyString(), anyString(), eq(NAMESPACE), anyString(),
@@ -903,80 +809,129 @@ class MachineAnnotationServiceServiceTest {
 	}
 
 	@Test
-	void synchronizeOutOfSyncMas() throws ApiException, TemplateException, IOException, InterruptedException {
+	void synchronizeOutOfSyncMas() throws Exception {
 		// Given
-		given(repository.getMachineAnnotationServices(anyInt(), anyInt())).willReturn(List.of(givenMas()));
-		var deployResponse = mock(APIlistNamespacedDeploymentRequest.class);
-		var customKedaResponse = mock(APIlistNamespacedCustomObjectRequest.class);
-		var k8sKeda = givenKedaResource("1.0");
-		given(customKedaResponse.execute()).willReturn(k8sKeda);
-		var customRabbitBinding = mock(APIlistNamespacedCustomObjectRequest.class);
-		var k8sRabbitBinding = givenRabbitBinding("another-routing-key");
-		given(customRabbitBinding.execute()).willReturn(k8sRabbitBinding);
-		var customRabbitQueue = mock(APIlistNamespacedCustomObjectRequest.class);
-		var k8sRabbitQueue = givenRabbitQueue("false");
-		given(customRabbitQueue.execute()).willReturn(k8sRabbitQueue);
-		given(appsV1Api.listNamespacedDeployment(NAMESPACE)).willReturn(deployResponse);
-		given(customObjectsApi.listNamespacedCustomObject(eq("keda.sh"), anyString(), eq(NAMESPACE), anyString()))
-			.willReturn(customKedaResponse);
-		given(customObjectsApi.listNamespacedCustomObject(eq("rabbitmq.com"), anyString(), eq(NAMESPACE),
-				eq("bindings")))
-			.willReturn(customRabbitBinding);
-		given(customObjectsApi.listNamespacedCustomObject(eq("rabbitmq.com"), anyString(), eq(NAMESPACE), eq("queues")))
-			.willReturn(customRabbitQueue);
-		given(deployResponse.execute())
-			.willReturn(new V1DeploymentList().addItemsItem(givenMasDeployment("anotherImage", true)));
-		given(appsV1Api.replaceNamespacedDeployment(anyString(), eq(NAMESPACE), any(V1Deployment.class)))
-			.willReturn(mock(APIreplaceNamespacedDeploymentRequest.class));
-		given(customObjectsApi.deleteNamespacedCustomObject(anyString(), anyString(), eq(NAMESPACE), anyString(),
-				anyString()))
-			.willReturn(mock(APIdeleteNamespacedCustomObjectRequest.class));
-		given(customObjectsApi.createNamespacedCustomObject(anyString(), anyString(), eq(NAMESPACE), anyString(),
-				any(Object.class)))
-			.willReturn(mock(APIcreateNamespacedCustomObjectRequest.class));
+		given(repository.streamActiveMachineAnnotationServices(anyInt()))
+			.willAnswer(invocation -> Stream.of(List.of(givenMas())));
+		given(informerComponent.getScaledObjects()).willReturn(List.of(givenKedaResource("1")));
+		given(informerComponent.getRabbitBindings()).willReturn(List.of(givenRabbitBinding("another-routing-key")));
+		given(informerComponent.getRabbitQueues()).willReturn(List.of(givenRabbitQueue("false")));
+		given(informerComponent.getDeployments()).willReturn(List.of(givenMasDeployment("anotherImage", true)));
 
 		// When
 		service.setup();
 
 		// Then
-		then(appsV1Api).should().replaceNamespacedDeployment(anyString(), eq(NAMESPACE), any(V1Deployment.class));
-		then(customObjectsApi).should(times(3))
-			.deleteNamespacedCustomObject(anyString(), anyString(), eq(NAMESPACE), anyString(), anyString());
-		then(customObjectsApi).should(times(3))
-			.createNamespacedCustomObject(anyString(), anyString(), eq(NAMESPACE), anyString(), any(Object.class));
+		thenApplied(InformedResourceType.DEPLOYMENT, DEPLOYMENT_NAME, 1);
+		thenApplied(InformedResourceType.SCALED_OBJECT, KEDA_NAME, 1);
+		thenApplied(InformedResourceType.RABBIT_BINDING, BINDING_NAME, 1);
+		thenApplied(InformedResourceType.RABBIT_QUEUE, QUEUE_NAME, 1);
+		then(appsV1Api).shouldHaveNoInteractions();
+		then(customObjectsApi).shouldHaveNoInteractions();
 	}
 
 	@Test
-	void synchronizeInSyncMas() throws ApiException, TemplateException, IOException, InterruptedException {
+	void synchronizeInSyncMasWithSpecHash() throws Exception {
 		// Given
-		given(repository.getMachineAnnotationServices(anyInt(), anyInt())).willReturn(List.of(givenMas()));
-		var deployResponse = mock(APIlistNamespacedDeploymentRequest.class);
-		var customKedaResponse = mock(APIlistNamespacedCustomObjectRequest.class);
-		var k8sKeda = givenKedaResource("5.0");
-		given(customKedaResponse.execute()).willReturn(k8sKeda);
-		var customRabbitBinding = mock(APIlistNamespacedCustomObjectRequest.class);
-		var k8sRabbitBinding = givenRabbitBinding("gw0-pop-xsl");
-		given(customRabbitBinding.execute()).willReturn(k8sRabbitBinding);
-		var customRabbitQueue = mock(APIlistNamespacedCustomObjectRequest.class);
-		var k8sRabbitQueue = givenRabbitQueue("true");
-		given(customRabbitQueue.execute()).willReturn(k8sRabbitQueue);
-		given(appsV1Api.listNamespacedDeployment(NAMESPACE)).willReturn(deployResponse);
-		given(customObjectsApi.listNamespacedCustomObject(eq("keda.sh"), anyString(), eq(NAMESPACE), anyString()))
-			.willReturn(customKedaResponse);
-		given(customObjectsApi.listNamespacedCustomObject(eq("rabbitmq.com"), anyString(), eq(NAMESPACE),
-				eq("bindings")))
-			.willReturn(customRabbitBinding);
-		given(customObjectsApi.listNamespacedCustomObject(eq("rabbitmq.com"), anyString(), eq(NAMESPACE), eq("queues")))
-			.willReturn(customRabbitQueue);
-		given(deployResponse.execute()).willReturn(new V1DeploymentList()
-			.addItemsItem(givenMasDeployment("public.ecr.aws/dissco/fancy-mas:sha-54289", false)));
+		given(repository.streamActiveMachineAnnotationServices(anyInt()))
+			.willAnswer(invocation -> Stream.of(List.of(givenMas())));
+		service.setup();
+		var manifestCaptor = ArgumentCaptor.forClass(Object.class);
+		then(applyComponent).should(times(4)).apply(any(), anyString(), manifestCaptor.capture());
+		var manifests = manifestCaptor.getAllValues();
+		given(informerComponent.getDeployments()).willReturn(ofType(manifests, V1Deployment.class));
+		given(informerComponent.getScaledObjects()).willReturn(ofType(manifests, ScaledObject.class));
+		given(informerComponent.getRabbitBindings()).willReturn(ofType(manifests, RabbitBinding.class));
+		given(informerComponent.getRabbitQueues()).willReturn(ofType(manifests, RabbitQueue.class));
+		clearInvocations(applyComponent);
 
 		// When
 		service.setup();
 
 		// Then
-		then(appsV1Api).shouldHaveNoMoreInteractions();
-		then(customObjectsApi).shouldHaveNoMoreInteractions();
+		then(applyComponent).shouldHaveNoInteractions();
+		then(appsV1Api).shouldHaveNoInteractions();
+		then(customObjectsApi).shouldHaveNoInteractions();
+	}
+
+	private static <T> List<T> ofType(List<Object> objects, Class<T> type) {
+		return objects.stream().filter(type::isInstance).map(type::cast).toList();
+	}
+
+	@Test
+	void reconcileChangedOrphanDeployment() throws Exception {
+		// Given
+		given(fdoProperties.getHandlePrefix()).willReturn(PREFIX);
+		given(repository.getActiveMachineAnnotationService(BARE_HANDLE)).willReturn(Optional.empty());
+		given(informerComponent.getDeployment(DEPLOYMENT_NAME))
+			.willReturn(Optional.of(givenMasDeployment("public.ecr.aws/dissco/fancy-mas:sha-54289", false)));
+		given(appsV1Api.deleteNamespacedDeployment(DEPLOYMENT_NAME, NAMESPACE))
+			.willReturn(mock(APIdeleteNamespacedDeploymentRequest.class));
+		var handler = service.changeHandlers().get(InformedResourceType.DEPLOYMENT);
+
+		// When
+		handler.accept(DEPLOYMENT_NAME);
+
+		// Then
+		then(appsV1Api).should().deleteNamespacedDeployment(DEPLOYMENT_NAME, NAMESPACE);
+	}
+
+	@Test
+	void reconcileChangedMissingQueue() throws Exception {
+		// Given
+		given(fdoProperties.getHandlePrefix()).willReturn(PREFIX);
+		given(repository.getActiveMachineAnnotationService(BARE_HANDLE)).willReturn(Optional.of(givenMas()));
+		given(informerComponent.getRabbitQueue(QUEUE_NAME)).willReturn(Optional.empty());
+		var handler = service.changeHandlers().get(InformedResourceType.RABBIT_QUEUE);
+
+		// When
+		handler.accept(QUEUE_NAME);
+
+		// Then
+		thenApplied(InformedResourceType.RABBIT_QUEUE, QUEUE_NAME, 1);
+		then(appsV1Api).shouldHaveNoInteractions();
+	}
+
+	@Test
+	void reconcileChangedDeploymentWithSpecHash() throws Exception {
+		// Given
+		var existingDeployment = givenAppliedDeployment();
+		existingDeployment.getSpec().getTemplate().getSpec().getContainers().getFirst().image("anotherImage");
+		given(informerComponent.getDeployment(DEPLOYMENT_NAME)).willReturn(Optional.of(existingDeployment));
+		var handler = service.changeHandlers().get(InformedResourceType.DEPLOYMENT);
+
+		// When
+		handler.accept(DEPLOYMENT_NAME);
+
+		// Then
+		thenApplied(InformedResourceType.DEPLOYMENT, DEPLOYMENT_NAME, 1);
+	}
+
+	@Test
+	void reconcileChangedScaledDeployment() throws Exception {
+		// Given
+		var existingDeployment = givenAppliedDeployment();
+		existingDeployment.getSpec().setReplicas(3);
+		given(informerComponent.getDeployment(DEPLOYMENT_NAME)).willReturn(Optional.of(existingDeployment));
+		var handler = service.changeHandlers().get(InformedResourceType.DEPLOYMENT);
+
+		// When
+		handler.accept(DEPLOYMENT_NAME);
+
+		// Then
+		then(applyComponent).shouldHaveNoInteractions();
+	}
+
+	private V1Deployment givenAppliedDeployment() throws Exception {
+		given(fdoProperties.getHandlePrefix()).willReturn(PREFIX);
+		given(repository.getActiveMachineAnnotationService(BARE_HANDLE)).willReturn(Optional.of(givenMas()));
+		given(informerComponent.getDeployment(DEPLOYMENT_NAME)).willReturn(Optional.empty());
+		service.changeHandlers().get(InformedResourceType.DEPLOYMENT).accept(DEPLOYMENT_NAME);
+		var deploymentCaptor = ArgumentCaptor.forClass(V1Deployment.class);
+		then(applyComponent).should()
+			.apply(eq(InformedResourceType.DEPLOYMENT), eq(DEPLOYMENT_NAME), deploymentCaptor.capture());
+		clearInvocations(applyComponent);
+		return deploymentCaptor.getValue();
 	}
 
 	private void initTime() {
@@ -1,20 +1,25 @@
 package eu.dissco.orchestration.backend.service;
 
+import static eu.dissco.orchestration.backend.testutils.TestUtils.BARE_HANDLE;
 import static eu.dissco.orchestration.backend.testutils.TestUtils.MAPPER;
 import static eu.dissco.orchestration.backend.testutils.TestUtils.givenAgent;
 import static eu.dissco.orchestration.backend.testutils.TestUtils.givenDataMapping;
 import static eu.dissco.orchestration.backend.testutils.TestUtils.givenMas;
+import static eu.dissco.orchestration.backend.testutils.TestUtils.givenOutboxEvent;
 import static eu.dissco.orchestration.backend.testutils.TestUtils.givenSourceSystem;
 import static eu.dissco.orchestration.backend.testutils.TestUtils.givenTombstoneMas;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.BDDMockito.given;
 
+import eu.dissco.orchestration.backend.domain.OutboxEvent;
 import eu.dissco.orchestration.backend.exception.ProcessingFailedException;
 import eu.dissco.orchestration.backend.properties.RabbitMqProperties;
 import eu.dissco.orchestration.backend.schema.CreateUpdateTombstoneEvent;
 import eu.dissco.orchestration.backend.schema.SourceSystem.OdsTranslatorType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.io.IOException;
+import java.util.List;
 import java.util.stream.Stream;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
@@ -22,10 +27,13 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.AmqpException;
 import org.springframework.amqp.rabbit.connection.CachingConnectionFactory;
+import org.springframework.amqp.rabbit.connection.CachingConnectionFactory.ConfirmType;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.testcontainers.junit.jupiter.Testcontainers;
 import org.testcontainers.rabbitmq.RabbitMQContainer;
@@ -38,7 +46,11 @@ class RabbitMqPublisherServiceTest {
 
 	private static RabbitMQContainer container;
 
-	private static RabbitTemplate rabbitTemplate;
+	private static CachingConnectionFactory factory;
+
+	private RabbitTemplate rabbitTemplate;
+
+	private SimpleMeterRegistry meterRegistry;
 
 	private RabbitMqPublisherService rabbitMqPublisherService;
 
@@ -53,12 +65,11 @@ class RabbitMqPublisherServiceTest {
 		// Declare create update tombstone exchange, queue and binding
 		declareRabbitResources("provenance-exchange", "provenance-queue", "provenance.#");
 
-		CachingConnectionFactory factory = new CachingConnectionFactory(container.getHost());
+		factory = new CachingConnectionFactory(container.getHost());
 		factory.setPort(container.getAmqpPort());
 		factory.setUsername(container.getAdminUsername());
 		factory.setPassword(container.getAdminPassword());
-		rabbitTemplate = new RabbitTemplate(factory);
-		rabbitTemplate.setReceiveTimeout(100L);
+		factory.setPublisherConfirmType(ConfirmType.CORRELATED);
 	}
 
 	private static void declareRabbitResources(String exchangeName, String queueName, String routingKey)
@@ -73,77 +84,112 @@ class RabbitMqPublisherServiceTest {
 
 	@AfterAll
 	static void shutdownContainer() {
+		factory.destroy();
 		container.stop();
 	}
 
 	@BeforeEach
 	void setup() {
+		rabbitTemplate = new RabbitTemplate(factory);
+		rabbitTemplate.setReceiveTimeout(100L);
+		meterRegistry = new SimpleMeterRegistry();
 		rabbitMqPublisherService = new RabbitMqPublisherService(rabbitTemplate, MAPPER, provenanceService,
-				new RabbitMqProperties());
+				new RabbitMqProperties(), meterRegistry);
 	}
 
 	@ParameterizedTest
 	@MethodSource("createEventProvider")
-	void testPublishCreateEvent(Object createObject) throws Exception {
+	void testBuildCreateEvent(Object createObject, String routingKey) throws Exception {
 		// Given
 		given(provenanceService.generateCreateEvent(MAPPER.valueToTree(createObject), givenAgent()))
 			.willReturn(new CreateUpdateTombstoneEvent().withId(ID));
 
 		// When
-		rabbitMqPublisherService.publishCreateEvent(createObject, givenAgent());
+		var result = rabbitMqPublisherService.buildCreateEvent(createObject, givenAgent());
 
 		// Then
-		var result = rabbitTemplate.receive("provenance-queue");
-		assertThat(MAPPER.readValue(new String(result.getBody()), CreateUpdateTombstoneEvent.class).getId())
-			.isEqualTo(ID);
+		assertThat(result.objectId()).isEqualTo(BARE_HANDLE);
+		assertThat(result.objectVersion()).isEqualTo(1);
+		assertThat(result.exchange()).isEqualTo("provenance-exchange");
+		assertThat(result.routingKey()).isEqualTo(routingKey);
+		assertThat(MAPPER.readValue(result.payload(), CreateUpdateTombstoneEvent.class).getId()).isEqualTo(ID);
 	}
 
 	@Test
-	void testPublishCreateEventInvalidType() {
+	void testBuildCreateEventInvalidType() {
 		// Given
 		given(provenanceService.generateCreateEvent(MAPPER.createObjectNode(), givenAgent()))
 			.willReturn(new CreateUpdateTombstoneEvent().withId(ID));
 
 		// When / Then
 		assertThrows(ProcessingFailedException.class,
-				() -> rabbitMqPublisherService.publishCreateEvent(MAPPER.createObjectNode(), givenAgent()));
+				() -> rabbitMqPublisherService.buildCreateEvent(MAPPER.createObjectNode(), givenAgent()));
 	}
 
 	@Test
-	void testPublishUpdateEvent() throws Exception {
+	void testBuildUpdateEvent() throws Exception {
 		// Given
 		var unequalSourceSystem = givenSourceSystem().withOdsTranslatorType(OdsTranslatorType.BIOCASE);
-		given(provenanceService.generateUpdateEvent(MAPPER.valueToTree(givenSourceSystem()),
+		given(provenanceService.generateUpdateEvent(MAPPER.valueToTree(givenSourceSystem(2)),
 				MAPPER.valueToTree(unequalSourceSystem), givenAgent()))
 			.willReturn(new CreateUpdateTombstoneEvent().withId(ID));
 
 		// When
-		rabbitMqPublisherService.publishUpdateEvent(givenSourceSystem(), unequalSourceSystem, givenAgent());
+		var result = rabbitMqPublisherService.buildUpdateEvent(givenSourceSystem(2), unequalSourceSystem,
+				givenAgent());
 
 		// Then
-		var result = rabbitTemplate.receive("provenance-queue");
-		assertThat(MAPPER.readValue(new String(result.getBody()), CreateUpdateTombstoneEvent.class).getId())
-			.isEqualTo(ID);
+		assertThat(result.objectId()).isEqualTo(BARE_HANDLE);
+		assertThat(result.objectVersion()).isEqualTo(2);
+		assertThat(result.routingKey()).isEqualTo("provenance.source-system");
 	}
 
 	@Test
-	void testPublishTombstoneEvent() throws Exception {
+	void testBuildTombstoneEvent() throws Exception {
 		// Given
 		given(provenanceService.generateTombstoneEvent(MAPPER.valueToTree(givenTombstoneMas()),
 				MAPPER.valueToTree(givenMas()), givenAgent()))
 			.willReturn(new CreateUpdateTombstoneEvent().withId(ID));
 
 		// When
-		rabbitMqPublisherService.publishTombstoneEvent(givenTombstoneMas(), givenMas(), givenAgent());
+		var result = rabbitMqPublisherService.buildTombstoneEvent(givenTombstoneMas(), givenMas(), givenAgent());
+
+		// Then
+		assertThat(result.objectId()).isEqualTo(BARE_HANDLE);
+		assertThat(result.objectVersion()).isEqualTo(2);
+		assertThat(result.routingKey()).isEqualTo("provenance.machine-annotation-service");
+	}
+
+	@Test
+	void testPublishEvents() {
+		// Given
+		var events = List.of(givenOutboxEvent(), givenOutboxEvent(BARE_HANDLE, 2));
+
+		// When
+		rabbitMqPublisherService.publishEvents(events);
 
 		// Then
-		var result = rabbitTemplate.receive("provenance-queue");
-		assertThat(MAPPER.readValue(new String(result.getBody()), CreateUpdateTombstoneEvent.class).getId())
-			.isEqualTo(ID);
+		assertThat(new String(rabbitTemplate.receive("provenance-queue").getBody()))
+			.isEqualTo(givenOutboxEvent().payload());
+		assertThat(new String(rabbitTemplate.receive("provenance-queue").getBody()))
+			.isEqualTo(givenOutboxEvent(BARE_HANDLE, 2).payload());
+		assertThat(meterRegistry.get("rabbitmq.publish.latency").timer().count()).isEqualTo(2);
+		assertThat(meterRegistry.get("rabbitmq.publish.unconfirmed").gauge().value()).isZero();
+	}
+
+	@Test
+	void testPublishEventsNotConfirmed() {
+		// Given
+		var event = new OutboxEvent(BARE_HANDLE, 1, "unknown-exchange", "provenance.data-mapping", "{}");
+
+		// When / Then
+		assertThrows(AmqpException.class, () -> rabbitMqPublisherService.publishEvents(List.of(event)));
 	}
 
-	private static Stream<Object> createEventProvider() {
-		return Stream.of(givenDataMapping(), givenSourceSystem(), givenMas());
+	private static Stream<Arguments> createEventProvider() {
+		return Stream.of(Arguments.of(givenDataMapping(), "provenance.data-mapping"),
+				Arguments.of(givenSourceSystem(), "provenance.source-system"),
+				Arguments.of(givenMas(), "provenance.machine-annotation-service"));
 	}
 
 }
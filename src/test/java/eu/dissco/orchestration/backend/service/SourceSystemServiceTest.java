@@ -5,20 +5,24 @@ import static eu.dissco.orchestration.backend.testutils.TestUtils.BARE_HANDLE;
 import static eu.dissco.orchestration.backend.testutils.TestUtils.CREATED;
 import static eu.dissco.orchestration.backend.testutils.TestUtils.DWC_DP_S3_URI;
 import static eu.dissco.orchestration.backend.testutils.TestUtils.HANDLE;
+import static eu.dissco.orchestration.backend.testutils.TestUtils.HANDLE_ALT;
+import static eu.dissco.orchestration.backend.testutils.TestUtils.HANDLE_PROXY;
 import static eu.dissco.orchestration.backend.testutils.TestUtils.MAPPER;
 import static eu.dissco.orchestration.backend.testutils.TestUtils.MAPPING_PATH;
+import static eu.dissco.orchestration.backend.testutils.TestUtils.PREFIX;
 import static eu.dissco.orchestration.backend.testutils.TestUtils.SANDBOX_URI;
 import static eu.dissco.orchestration.backend.testutils.TestUtils.SOURCE_SYSTEM_TYPE_DOI;
 import static eu.dissco.orchestration.backend.testutils.TestUtils.SYSTEM_PATH;
 import static eu.dissco.orchestration.backend.testutils.TestUtils.UPDATED;
-import static eu.dissco.orchestration.backend.testutils.TestUtils.flattenSourceSystem;
 import static eu.dissco.orchestration.backend.testutils.TestUtils.givenAgent;
 import static eu.dissco.orchestration.backend.testutils.TestUtils.givenDataMapping;
 import static eu.dissco.orchestration.backend.testutils.TestUtils.givenMas;
 import static eu.dissco.orchestration.backend.testutils.TestUtils.givenMasScheduleData;
+import static eu.dissco.orchestration.backend.testutils.TestUtils.givenOutboxEvent;
+import static eu.dissco.orchestration.backend.testutils.TestUtils.givenRawJson;
+import static eu.dissco.orchestration.backend.testutils.TestUtils.givenRawJsonResponse;
 import static eu.dissco.orchestration.backend.testutils.TestUtils.givenSourceSystem;
 import static eu.dissco.orchestration.backend.testutils.TestUtils.givenSourceSystemRequest;
-import static eu.dissco.orchestration.backend.testutils.TestUtils.givenSourceSystemResponse;
 import static eu.dissco.orchestration.backend.testutils.TestUtils.givenSourceSystemSingleJsonApiWrapper;
 import static eu.dissco.orchestration.backend.testutils.TestUtils.givenTombstoneSourceSystem;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
@@ -32,22 +36,39 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 
 import com.fasterxml.jackson.dataformat.yaml.YAMLMapper;
+import eu.dissco.orchestration.backend.component.HandlePoolComponent;
+import eu.dissco.orchestration.backend.component.KubernetesApplyComponent;
+import eu.dissco.orchestration.backend.component.KubernetesInformerComponent;
+import eu.dissco.orchestration.backend.component.LeaderElectionComponent;
+import eu.dissco.orchestration.backend.component.ReconciliationComponent;
+import eu.dissco.orchestration.backend.component.SpecHashComponent;
+import eu.dissco.orchestration.backend.component.TranslatorJobBlueprintComponent;
+import eu.dissco.orchestration.backend.domain.BulkCreateResponse;
+import eu.dissco.orchestration.backend.domain.BulkCreateResult;
 import eu.dissco.orchestration.backend.domain.ExportType;
+import eu.dissco.orchestration.backend.domain.InformedResourceType;
 import eu.dissco.orchestration.backend.domain.MasScheduleData;
 import eu.dissco.orchestration.backend.domain.ObjectType;
 import eu.dissco.orchestration.backend.domain.jsonapi.JsonApiData;
 import eu.dissco.orchestration.backend.domain.jsonapi.JsonApiLinks;
 import eu.dissco.orchestration.backend.domain.jsonapi.JsonApiWrapper;
+import eu.dissco.orchestration.backend.domain.jsonapi.PageCursor;
+import eu.dissco.orchestration.backend.exception.BadRequestException;
 import eu.dissco.orchestration.backend.exception.NotFoundException;
 import eu.dissco.orchestration.backend.exception.PidException;
 import eu.dissco.orchestration.backend.exception.ProcessingFailedException;
+import eu.dissco.orchestration.backend.properties.BulkCreateProperties;
 import eu.dissco.orchestration.backend.properties.FdoProperties;
+import eu.dissco.orchestration.backend.properties.ReconciliationProperties;
 import eu.dissco.orchestration.backend.properties.TranslatorJobProperties;
 import eu.dissco.orchestration.backend.properties.TranslatorJobProperties.Export;
 import eu.dissco.orchestration.backend.properties.TranslatorJobProperties.RabbitMq;
@@ -58,17 +79,13 @@ import eu.dissco.orchestration.backend.schema.SourceSystemRequest;
 import eu.dissco.orchestration.backend.schema.TombstoneMetadata;
 import eu.dissco.orchestration.backend.web.HandleComponent;
 import freemarker.template.Configuration;
-import freemarker.template.TemplateException;
+import io.kubernetes.client.openapi.ApiClient;
 import io.kubernetes.client.openapi.ApiException;
 import io.kubernetes.client.openapi.apis.BatchV1Api;
-import io.kubernetes.client.openapi.apis.BatchV1Api.APIcreateNamespacedCronJobRequest;
 import io.kubernetes.client.openapi.apis.BatchV1Api.APIcreateNamespacedJobRequest;
 import io.kubernetes.client.openapi.apis.BatchV1Api.APIdeleteNamespacedCronJobRequest;
-import io.kubernetes.client.openapi.apis.BatchV1Api.APIlistNamespacedCronJobRequest;
-import io.kubernetes.client.openapi.apis.BatchV1Api.APIreplaceNamespacedCronJobRequest;
 import io.kubernetes.client.openapi.models.V1Container;
 import io.kubernetes.client.openapi.models.V1CronJob;
-import io.kubernetes.client.openapi.models.V1CronJobList;
 import io.kubernetes.client.openapi.models.V1CronJobSpec;
 import io.kubernetes.client.openapi.models.V1EnvVar;
 import io.kubernetes.client.openapi.models.V1EnvVarSource;
@@ -80,6 +97,7 @@ import io.kubernetes.client.openapi.models.V1PodSpec;
 import io.kubernetes.client.openapi.models.V1PodTemplateSpec;
 import io.kubernetes.client.openapi.models.V1SecretKeySelector;
 import io.kubernetes.client.openapi.models.V1VolumeMount;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.io.File;
 import java.io.IOException;
 import java.net.URISyntaxException;
@@ -100,13 +118,15 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DuplicateKeyException;
 import software.amazon.awssdk.core.ResponseInputStream;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.model.GetObjectRequest;
-import tools.jackson.core.JacksonException;
 
 @ExtendWith(MockitoExtension.class)
 class SourceSystemServiceTest {
@@ -139,6 +159,9 @@ class SourceSystemServiceTest {
 	@Mock
 	private HandleComponent handleComponent;
 
+	@Mock
+	private HandlePoolComponent handlePoolComponent;
+
 	@Mock
 	private DataMappingService dataMappingService;
 
@@ -154,6 +177,15 @@ class SourceSystemServiceTest {
 	@Mock
 	private MachineAnnotationServiceService machineAnnotationService;
 
+	@Mock
+	private KubernetesInformerComponent informerComponent;
+
+	@Mock
+	private KubernetesApplyComponent applyComponent;
+
+	@Mock
+	private LeaderElectionComponent leaderElectionComponent;
+
 	private MockedStatic<Instant> mockedStatic;
 
 	private MockedStatic<Clock> mockedClock;
@@ -263,14 +295,20 @@ class SourceSystemServiceTest {
 	}
 
 	@BeforeEach
-	void setup() throws IOException {
+	void setup() throws Exception {
 		jobProperties.setDatabaseUrl("jdbc:postgresql://localhost:5432/translator");
 		jobProperties.setExport(givenExport());
-		service = new SourceSystemService(fdoRecordService, handleComponent, repository, dataMappingService,
-				machineAnnotationService, rabbitMqPublisherService, MAPPER, yamlMapper, jobProperties, configuration,
-				batchV1Api, random, fdoProperties, s3Client);
-		initTime();
 		initFreeMaker();
+		var blueprintComponent = new TranslatorJobBlueprintComponent(configuration, yamlMapper, jobProperties,
+				new ApiClient());
+		blueprintComponent.loadBlueprints();
+		service = new SourceSystemService(fdoRecordService, handleComponent, handlePoolComponent, repository,
+				dataMappingService, machineAnnotationService, rabbitMqPublisherService, MAPPER, yamlMapper,
+				jobProperties, configuration, batchV1Api, random, fdoProperties, s3Client,
+				new ReconciliationComponent(new ReconciliationProperties(), new SimpleMeterRegistry()),
+				informerComponent, new SpecHashComponent(), applyComponent, leaderElectionComponent,
+				blueprintComponent, new BulkCreateProperties());
+		initTime();
 	}
 
 	private void initFreeMaker() throws IOException {
@@ -289,12 +327,11 @@ class SourceSystemServiceTest {
 		var expected = givenSourceSystemSingleJsonApiWrapper();
 		var sourceSystem = givenSourceSystemRequest();
 		given(fdoProperties.getSourceSystemType()).willReturn(SOURCE_SYSTEM_TYPE_DOI);
-		given(handleComponent.postHandle(any())).willReturn(BARE_HANDLE);
+		given(rabbitMqPublisherService.buildCreateEvent(givenSourceSystem(), givenAgent()))
+			.willReturn(givenOutboxEvent());
+		given(handlePoolComponent.createHandle(any())).willReturn(BARE_HANDLE);
 		given(dataMappingService.getActiveDataMapping(sourceSystem.getOdsDataMappingID()))
 			.willReturn(Optional.of(givenDataMapping(sourceSystem.getOdsDataMappingID(), 1)));
-		var createCron = mock(APIcreateNamespacedCronJobRequest.class);
-		given(batchV1Api.createNamespacedCronJob(eq(NAMESPACE), any(V1CronJob.class))).willReturn(createCron);
-		given(batchV1Api.createNamespacedCronJob(eq(EXPORT_NAMESPACE), any(V1CronJob.class))).willReturn(createCron);
 
 		var createJob = mock(APIcreateNamespacedJobRequest.class);
 		given(batchV1Api.createNamespacedJob(eq(NAMESPACE), any(V1Job.class))).willReturn(createJob);
@@ -304,8 +341,8 @@ class SourceSystemServiceTest {
 
 		// Then
 		assertThat(result).isEqualTo(expected);
-		then(repository).should().createSourceSystem(givenSourceSystem());
-		then(rabbitMqPublisherService).should().publishCreateEvent(givenSourceSystem(), givenAgent());
+		then(repository).should().createSourceSystem(givenSourceSystem(), givenOutboxEvent());
+		then(repository).should().releaseEvents(HANDLE, 1);
 	}
 
 	@Test
@@ -314,12 +351,11 @@ class SourceSystemServiceTest {
 		var expected = givenSourceSystemSingleJsonApiWrapper();
 		var sourceSystem = givenSourceSystemRequest();
 		given(fdoProperties.getSourceSystemType()).willReturn(SOURCE_SYSTEM_TYPE_DOI);
-		given(handleComponent.postHandle(any())).willReturn(BARE_HANDLE);
+		given(rabbitMqPublisherService.buildCreateEvent(givenSourceSystem(), givenAgent()))
+			.willReturn(givenOutboxEvent());
+		given(handlePoolComponent.createHandle(any())).willReturn(BARE_HANDLE);
 		given(dataMappingService.getActiveDataMapping(sourceSystem.getOdsDataMappingID()))
 			.willReturn(Optional.of(givenDataMapping(sourceSystem.getOdsDataMappingID(), 1)));
-		var createCron = mock(APIcreateNamespacedCronJobRequest.class);
-		given(batchV1Api.createNamespacedCronJob(eq(NAMESPACE), any(V1CronJob.class))).willReturn(createCron);
-		given(batchV1Api.createNamespacedCronJob(eq(EXPORT_NAMESPACE), any(V1CronJob.class))).willReturn(createCron);
 		var rabbitMq = new RabbitMq();
 		rabbitMq.setExchangeName("source-system-data-checker-exchange");
 		rabbitMq.setRoutingKeyName("source-system-data-checker");
@@ -333,150 +369,215 @@ class SourceSystemServiceTest {
 
 		// Then
 		assertThat(result).isEqualTo(expected);
-		then(repository).should().createSourceSystem(givenSourceSystem());
-		then(rabbitMqPublisherService).should().publishCreateEvent(givenSourceSystem(), givenAgent());
+		then(repository).should().createSourceSystem(givenSourceSystem(), givenOutboxEvent());
+		then(repository).should().releaseEvents(HANDLE, 1);
 		jobProperties.setRabbitMq(null);
 	}
 
 	@Test
-	void testCreateSourceSystemMappingNotFound() {
+	void testCreateSourceSystems() throws Exception {
 		// Given
+		var missingMappingId = "https://hdl.handle.net/20.5000.1025/MISSING";
 		var sourceSystem = givenSourceSystemRequest();
-		given(dataMappingService.getActiveDataMapping(sourceSystem.getOdsDataMappingID())).willReturn(Optional.empty());
-
-		assertThrowsExactly(NotFoundException.class,
-				() -> service.createSourceSystem(sourceSystem, givenAgent(), SYSTEM_PATH));
-	}
+		var invalidSourceSystem = givenSourceSystemRequest().withOdsDataMappingID(missingMappingId);
+		given(fdoProperties.getSourceSystemType()).willReturn(SOURCE_SYSTEM_TYPE_DOI);
+		given(rabbitMqPublisherService.buildCreateEvent(givenSourceSystem(), givenAgent()))
+			.willReturn(givenOutboxEvent());
+		given(handleComponent.postHandles(any())).willReturn(List.of(BARE_HANDLE));
+		given(dataMappingService.getActiveDataMapping(sourceSystem.getOdsDataMappingID()))
+			.willReturn(Optional.of(givenDataMapping(sourceSystem.getOdsDataMappingID(), 1)));
+		given(dataMappingService.getActiveDataMapping(missingMappingId)).willReturn(Optional.empty());
+		var createJob = mock(APIcreateNamespacedJobRequest.class);
+		given(batchV1Api.createNamespacedJob(eq(NAMESPACE), any(V1Job.class))).willReturn(createJob);
+		var expected = new BulkCreateResponse(
+				List.of(new BulkCreateResult(0, 201, givenSourceSystemSingleJsonApiWrapper().data(), null),
+						new BulkCreateResult(1, 404, null,
+								"Unable to locate Data Mapping with id " + missingMappingId)));
 
-	@Test
-	void testCreateSourceSystemMasNotFound() {
-		// Given
-		var sourceSystem = givenSourceSystemRequest().withOdsSpecimenMachineAnnotationServices(List.of(HANDLE));
-		given(machineAnnotationService.getMachineAnnotationServices(Set.of(HANDLE))).willReturn(List.of());
+		// When
+		var result = service.createSourceSystems(List.of(sourceSystem, invalidSourceSystem), givenAgent());
 
-		assertThrowsExactly(NotFoundException.class,
-				() -> service.createSourceSystem(sourceSystem, givenAgent(), SYSTEM_PATH));
+		// Then
+		assertThat(result).isEqualTo(expected);
+		then(repository).should().createSourceSystems(List.of(givenSourceSystem()), List.of(givenOutboxEvent()));
+		then(repository).should().releaseEvents(HANDLE, 1);
 	}
 
 	@Test
-	void testCreateSourceSystemCronFails() throws Exception {
+	void testCreateSourceSystemsConflict() throws Exception {
 		// Given
 		var sourceSystem = givenSourceSystemRequest();
-		given(handleComponent.postHandle(any())).willReturn(BARE_HANDLE);
 		given(fdoProperties.getSourceSystemType()).willReturn(SOURCE_SYSTEM_TYPE_DOI);
+		given(rabbitMqPublisherService.buildCreateEvent(any(), any())).willReturn(givenOutboxEvent());
+		given(handleComponent.postHandles(any()))
+			.willReturn(List.of(BARE_HANDLE, HANDLE_ALT.substring(HANDLE_PROXY.length())));
 		given(dataMappingService.getActiveDataMapping(sourceSystem.getOdsDataMappingID()))
 			.willReturn(Optional.of(givenDataMapping(sourceSystem.getOdsDataMappingID(), 1)));
-		var createCron = mock(APIcreateNamespacedCronJobRequest.class);
-		given(batchV1Api.createNamespacedCronJob(eq(NAMESPACE), any(V1CronJob.class))).willReturn(createCron);
-		given(createCron.execute()).willThrow(ApiException.class);
+		given(repository.createSourceSystems(any(), any())).willReturn(Set.of(HANDLE_ALT));
+		var createJob = mock(APIcreateNamespacedJobRequest.class);
+		given(batchV1Api.createNamespacedJob(eq(NAMESPACE), any(V1Job.class))).willReturn(createJob);
+		var expected = new BulkCreateResponse(
+				List.of(new BulkCreateResult(0, 201, givenSourceSystemSingleJsonApiWrapper().data(), null),
+						new BulkCreateResult(1, 409, null, "Source system conflicts with an existing source system "
+								+ "with the same name or endpoint")));
 
 		// When
-		assertThrowsExactly(ProcessingFailedException.class,
-				() -> service.createSourceSystem(sourceSystem, givenAgent(), SYSTEM_PATH));
+		var result = service.createSourceSystems(List.of(sourceSystem, givenSourceSystemRequest()), givenAgent());
 
 		// Then
-		then(repository).should().createSourceSystem(givenSourceSystem());
-		then(fdoRecordService).should().buildRollbackCreateRequest(HANDLE);
+		assertThat(result).isEqualTo(expected);
+		then(fdoRecordService).should().buildRollbackCreateRequest(List.of(HANDLE_ALT));
 		then(handleComponent).should().rollbackHandleCreation(any());
-		then(repository).should().rollbackSourceSystemCreation(HANDLE);
+		then(repository).should().releaseEvents(HANDLE, 1);
+		then(repository).should(never()).releaseEvents(HANDLE_ALT, 1);
 	}
 
 	@Test
-	void testCreateSourceSystemTranslatorJobFails() throws Exception {
+	void testCreateSourceSystemsUnexpectedDeployFailure() throws Exception {
 		// Given
 		var sourceSystem = givenSourceSystemRequest();
-		given(handleComponent.postHandle(any())).willReturn(BARE_HANDLE);
 		given(fdoProperties.getSourceSystemType()).willReturn(SOURCE_SYSTEM_TYPE_DOI);
+		given(rabbitMqPublisherService.buildCreateEvent(givenSourceSystem(), givenAgent()))
+			.willReturn(givenOutboxEvent());
+		given(handleComponent.postHandles(any())).willReturn(List.of(BARE_HANDLE));
 		given(dataMappingService.getActiveDataMapping(sourceSystem.getOdsDataMappingID()))
 			.willReturn(Optional.of(givenDataMapping(sourceSystem.getOdsDataMappingID(), 1)));
-		var createCron = mock(APIcreateNamespacedCronJobRequest.class);
-		given(batchV1Api.createNamespacedCronJob(eq(NAMESPACE), any(V1CronJob.class))).willReturn(createCron);
-		var deleteCron = mock(APIdeleteNamespacedCronJobRequest.class);
-		given(batchV1Api.deleteNamespacedCronJob(anyString(), eq(NAMESPACE))).willReturn(deleteCron);
 		var createJob = mock(APIcreateNamespacedJobRequest.class);
 		given(batchV1Api.createNamespacedJob(eq(NAMESPACE), any(V1Job.class))).willReturn(createJob);
-		given(createJob.execute()).willThrow(ApiException.class);
+		willThrow(DataAccessResourceFailureException.class).given(repository).releaseEvents(HANDLE, 1);
+		var expected = new BulkCreateResponse(List.of(new BulkCreateResult(0, 500, null,
+				"Unexpected failure while deploying source system " + HANDLE)));
 
 		// When
-		assertThrowsExactly(ProcessingFailedException.class,
-				() -> service.createSourceSystem(sourceSystem, givenAgent(), SYSTEM_PATH));
+		var result = service.createSourceSystems(List.of(sourceSystem), givenAgent());
 
 		// Then
-		then(repository).should().createSourceSystem(givenSourceSystem());
-		then(fdoRecordService).should().buildRollbackCreateRequest(HANDLE);
-		then(handleComponent).should().rollbackHandleCreation(any());
-		then(repository).should().rollbackSourceSystemCreation(HANDLE);
+		assertThat(result).isEqualTo(expected);
 	}
 
 	@Test
-	void testCreateSourceSystemEventFails() throws Exception {
+	void testCreateSourceSystemsPidFailure() throws Exception {
 		// Given
 		var sourceSystem = givenSourceSystemRequest();
-		given(handleComponent.postHandle(any())).willReturn(BARE_HANDLE);
-		given(fdoProperties.getSourceSystemType()).willReturn(SOURCE_SYSTEM_TYPE_DOI);
 		given(dataMappingService.getActiveDataMapping(sourceSystem.getOdsDataMappingID()))
 			.willReturn(Optional.of(givenDataMapping(sourceSystem.getOdsDataMappingID(), 1)));
-		var createCron = mock(APIcreateNamespacedCronJobRequest.class);
-		given(batchV1Api.createNamespacedCronJob(eq(NAMESPACE), any(V1CronJob.class))).willReturn(createCron);
-		given(batchV1Api.createNamespacedCronJob(eq(EXPORT_NAMESPACE), any(V1CronJob.class))).willReturn(createCron);
-		var deleteCron = mock(APIdeleteNamespacedCronJobRequest.class);
-		given(batchV1Api.deleteNamespacedCronJob(anyString(), eq(NAMESPACE))).willReturn(deleteCron);
-		var createJob = mock(APIcreateNamespacedJobRequest.class);
-		given(batchV1Api.createNamespacedJob(eq(NAMESPACE), any(V1Job.class))).willReturn(createJob);
-		willThrow(JacksonException.class).given(rabbitMqPublisherService)
-			.publishCreateEvent(givenSourceSystem(), givenAgent());
+		willThrow(PidException.class).given(handleComponent).postHandles(any());
 
-		// When
+		// When / Then
 		assertThrowsExactly(ProcessingFailedException.class,
-				() -> service.createSourceSystem(sourceSystem, givenAgent(), SYSTEM_PATH));
+				() -> service.createSourceSystems(List.of(sourceSystem), givenAgent()));
+		then(repository).shouldHaveNoInteractions();
+	}
 
-		// Then
-		then(repository).should().createSourceSystem(givenSourceSystem());
-		then(fdoRecordService).should().buildRollbackCreateRequest(HANDLE);
+	@Test
+	void testCreateSourceSystemsInsertFailure() throws Exception {
+		// Given
+		var sourceSystem = givenSourceSystemRequest();
+		given(fdoProperties.getSourceSystemType()).willReturn(SOURCE_SYSTEM_TYPE_DOI);
+		given(dataMappingService.getActiveDataMapping(sourceSystem.getOdsDataMappingID()))
+			.willReturn(Optional.of(givenDataMapping(sourceSystem.getOdsDataMappingID(), 1)));
+		given(handleComponent.postHandles(any())).willReturn(List.of(BARE_HANDLE));
+		willThrow(DuplicateKeyException.class).given(repository).createSourceSystems(any(), any());
+
+		// When / Then
+		assertThrowsExactly(DuplicateKeyException.class,
+				() -> service.createSourceSystems(List.of(sourceSystem), givenAgent()));
+		then(fdoRecordService).should().buildRollbackCreateRequest(List.of(HANDLE));
 		then(handleComponent).should().rollbackHandleCreation(any());
-		then(repository).should().rollbackSourceSystemCreation(HANDLE);
+		then(applyComponent).shouldHaveNoInteractions();
 	}
 
 	@Test
-	void testCreateMasHandleFails() throws Exception {
+	void testCreateSourceSystemsEmpty() {
+		// When / Then
+		assertThrowsExactly(BadRequestException.class, () -> service.createSourceSystems(List.of(), givenAgent()));
+	}
+
+	@Test
+	void testCreateSourceSystemMappingNotFound() {
 		// Given
 		var sourceSystem = givenSourceSystemRequest();
+		given(dataMappingService.getActiveDataMapping(sourceSystem.getOdsDataMappingID())).willReturn(Optional.empty());
+
+		assertThrowsExactly(NotFoundException.class,
+				() -> service.createSourceSystem(sourceSystem, givenAgent(), SYSTEM_PATH));
+	}
+
+	@Test
+	void testCreateSourceSystemMasNotFound() {
+		// Given
+		var sourceSystem = givenSourceSystemRequest().withOdsSpecimenMachineAnnotationServices(List.of(HANDLE));
+		given(machineAnnotationService.getMachineAnnotationServices(Set.of(HANDLE))).willReturn(List.of());
+
+		assertThrowsExactly(NotFoundException.class,
+				() -> service.createSourceSystem(sourceSystem, givenAgent(), SYSTEM_PATH));
+	}
+
+	@Test
+	void testCreateSourceSystemCronFails() throws Exception {
+		// Given
+		var sourceSystem = givenSourceSystemRequest();
+		given(handlePoolComponent.createHandle(any())).willReturn(BARE_HANDLE);
+		given(fdoProperties.getSourceSystemType()).willReturn(SOURCE_SYSTEM_TYPE_DOI);
+		given(rabbitMqPublisherService.buildCreateEvent(givenSourceSystem(), givenAgent()))
+			.willReturn(givenOutboxEvent());
 		given(dataMappingService.getActiveDataMapping(sourceSystem.getOdsDataMappingID()))
 			.willReturn(Optional.of(givenDataMapping(sourceSystem.getOdsDataMappingID(), 1)));
-		willThrow(PidException.class).given(handleComponent).postHandle(any());
+		willThrow(new ApiException()).given(applyComponent)
+			.apply(eq(InformedResourceType.TRANSLATOR_CRON_JOB), anyString(), any(V1CronJob.class));
 
-		// When / Then
+		// When
 		assertThrowsExactly(ProcessingFailedException.class,
-				() -> service.createSourceSystem(sourceSystem, givenAgent(), MAPPING_PATH));
+				() -> service.createSourceSystem(sourceSystem, givenAgent(), SYSTEM_PATH));
+
+		// Then
+		then(repository).should().createSourceSystem(givenSourceSystem(), givenOutboxEvent());
+		then(handlePoolComponent).should().cancelHandleUpdate(HANDLE);
+		then(fdoRecordService).should().buildRollbackCreateRequest(HANDLE);
+		then(handleComponent).should().rollbackHandleCreation(any());
+		then(repository).should().rollbackSourceSystemCreation(HANDLE);
+		then(repository).should(never()).releaseEvents(anyString(), anyInt());
 	}
 
 	@Test
-	void testCreateSourceSystemEventAndRollbackFails() throws Exception {
+	void testCreateSourceSystemTranslatorJobFails() throws Exception {
 		// Given
-		var sourceSystem = givenSourceSystemRequest(SourceSystemRequest.OdsTranslatorType.DWCA);
-		given(handleComponent.postHandle(any())).willReturn(BARE_HANDLE);
+		var sourceSystem = givenSourceSystemRequest();
+		given(handlePoolComponent.createHandle(any())).willReturn(BARE_HANDLE);
 		given(fdoProperties.getSourceSystemType()).willReturn(SOURCE_SYSTEM_TYPE_DOI);
+		given(rabbitMqPublisherService.buildCreateEvent(givenSourceSystem(), givenAgent()))
+			.willReturn(givenOutboxEvent());
 		given(dataMappingService.getActiveDataMapping(sourceSystem.getOdsDataMappingID()))
 			.willReturn(Optional.of(givenDataMapping(sourceSystem.getOdsDataMappingID(), 1)));
-		willThrow(JacksonException.class).given(rabbitMqPublisherService)
-			.publishCreateEvent(givenSourceSystem(OdsTranslatorType.DWCA), givenAgent());
-		var createCron = mock(APIcreateNamespacedCronJobRequest.class);
-		given(batchV1Api.createNamespacedCronJob(eq(NAMESPACE), any(V1CronJob.class))).willReturn(createCron);
-		given(batchV1Api.createNamespacedCronJob(eq(EXPORT_NAMESPACE), any(V1CronJob.class))).willReturn(createCron);
 		var deleteCron = mock(APIdeleteNamespacedCronJobRequest.class);
 		given(batchV1Api.deleteNamespacedCronJob(anyString(), eq(NAMESPACE))).willReturn(deleteCron);
 		var createJob = mock(APIcreateNamespacedJobRequest.class);
 		given(batchV1Api.createNamespacedJob(eq(NAMESPACE), any(V1Job.class))).willReturn(createJob);
+		given(createJob.execute()).willThrow(ApiException.class);
 
 		// When
 		assertThrowsExactly(ProcessingFailedException.class,
 				() -> service.createSourceSystem(sourceSystem, givenAgent(), SYSTEM_PATH));
 
 		// Then
-		then(repository).should().createSourceSystem(givenSourceSystem(OdsTranslatorType.DWCA));
+		then(repository).should().createSourceSystem(givenSourceSystem(), givenOutboxEvent());
 		then(fdoRecordService).should().buildRollbackCreateRequest(HANDLE);
 		then(handleComponent).should().rollbackHandleCreation(any());
 		then(repository).should().rollbackSourceSystemCreation(HANDLE);
+		then(repository).should(never()).releaseEvents(anyString(), anyInt());
+	}
+
+	@Test
+	void testCreateMasHandleFails() throws Exception {
+		// Given
+		var sourceSystem = givenSourceSystemRequest();
+		given(dataMappingService.getActiveDataMapping(sourceSystem.getOdsDataMappingID()))
+			.willReturn(Optional.of(givenDataMapping(sourceSystem.getOdsDataMappingID(), 1)));
+		willThrow(PidException.class).given(handlePoolComponent).createHandle(any());
+
+		// When / Then
+		assertThrowsExactly(ProcessingFailedException.class,
+				() -> service.createSourceSystem(sourceSystem, givenAgent(), MAPPING_PATH));
 	}
 
 	@Test
@@ -530,9 +631,8 @@ class SourceSystemServiceTest {
 		given(fdoProperties.getSourceSystemType()).willReturn(SOURCE_SYSTEM_TYPE_DOI);
 		var expected = givenSourceSystemSingleJsonApiWrapper(2);
 		given(repository.getActiveSourceSystem(BARE_HANDLE)).willReturn(prevSourceSystem);
-		var updateCron = mock(APIreplaceNamespacedCronJobRequest.class);
-		given(batchV1Api.replaceNamespacedCronJob(anyString(), eq(NAMESPACE), any(V1CronJob.class)))
-			.willReturn(updateCron);
+		given(rabbitMqPublisherService.buildUpdateEvent(givenSourceSystem(2), prevSourceSystem.get(), givenAgent()))
+			.willReturn(givenOutboxEvent(BARE_HANDLE, 2));
 		if (triggerTranslator) {
 			var createJob = mock(APIcreateNamespacedJobRequest.class);
 			given(batchV1Api.createNamespacedJob(eq(NAMESPACE), any(V1Job.class))).willReturn(createJob);
@@ -545,15 +645,14 @@ class SourceSystemServiceTest {
 
 		// Then
 		assertThat(result).isEqualTo(expected);
-		then(repository).should().updateSourceSystem(givenSourceSystem(2));
+		then(repository).should().updateSourceSystem(givenSourceSystem(2), givenOutboxEvent(BARE_HANDLE, 2));
+		then(repository).should().releaseEvents(HANDLE, 2);
 		if (!triggerTranslator) {
 			then(batchV1Api).shouldHaveNoMoreInteractions();
 		}
 		else {
 			then(batchV1Api).should().createNamespacedJob(eq(NAMESPACE), any(V1Job.class));
 		}
-		then(rabbitMqPublisherService).should()
-			.publishUpdateEvent(givenSourceSystem(2), prevSourceSystem.get(), givenAgent());
 	}
 
 	@ParameterizedTest
@@ -563,9 +662,6 @@ class SourceSystemServiceTest {
 		var prevSourceSystem = Optional.of(sourceSystem);
 		given(fdoProperties.getSourceSystemType()).willReturn(SOURCE_SYSTEM_TYPE_DOI);
 		given(repository.getActiveSourceSystem(BARE_HANDLE)).willReturn(prevSourceSystem);
-		var updateCron = mock(APIreplaceNamespacedCronJobRequest.class);
-		given(batchV1Api.replaceNamespacedCronJob(anyString(), eq(NAMESPACE), any(V1CronJob.class)))
-			.willReturn(updateCron);
 		given(dataMappingService.getActiveDataMapping(any())).willReturn(Optional.of(givenDataMapping()));
 		if (checkDb) {
 			given(machineAnnotationService.getMachineAnnotationServices(Set.of(APP_HANDLE)))
@@ -576,9 +672,9 @@ class SourceSystemServiceTest {
 		service.updateSourceSystem(BARE_HANDLE, sourceSystemRequest, givenAgent(), SYSTEM_PATH, false);
 
 		// Then
-		then(repository).should().updateSourceSystem(any());
+		then(repository).should().updateSourceSystem(any(), any());
 		then(batchV1Api).shouldHaveNoMoreInteractions();
-		then(rabbitMqPublisherService).should().publishUpdateEvent(any(), any(), any());
+		then(rabbitMqPublisherService).should().buildUpdateEvent(any(), any(), any());
 	}
 
 	@Test
@@ -586,11 +682,11 @@ class SourceSystemServiceTest {
 		var sourceSystem = givenSourceSystemRequest();
 		var prevSourceSystem = Optional.of(givenSourceSystem(OdsTranslatorType.DWCA));
 		given(repository.getActiveSourceSystem(BARE_HANDLE)).willReturn(prevSourceSystem);
+		given(rabbitMqPublisherService.buildUpdateEvent(givenSourceSystem(2), prevSourceSystem.get(), givenAgent()))
+			.willReturn(givenOutboxEvent(BARE_HANDLE, 2));
 		given(fdoProperties.getSourceSystemType()).willReturn(SOURCE_SYSTEM_TYPE_DOI);
-		var updateCron = mock(APIreplaceNamespacedCronJobRequest.class);
-		given(batchV1Api.replaceNamespacedCronJob(anyString(), eq(NAMESPACE), any(V1CronJob.class)))
-			.willReturn(updateCron);
-		given(updateCron.execute()).willThrow(ApiException.class);
+		willThrow(new ApiException()).given(applyComponent)
+			.apply(eq(InformedResourceType.TRANSLATOR_CRON_JOB), anyString(), any(V1CronJob.class));
 		given(dataMappingService.getActiveDataMapping(any())).willReturn(Optional.of(givenDataMapping()));
 
 		// When
@@ -598,30 +694,9 @@ class SourceSystemServiceTest {
 				() -> service.updateSourceSystem(BARE_HANDLE, sourceSystem, givenAgent(), SYSTEM_PATH, false));
 
 		// Then
-		then(repository).should().updateSourceSystem(givenSourceSystem(2));
-		then(repository).should().updateSourceSystem(prevSourceSystem.get());
-	}
-
-	@Test
-	void testUpdateSourceSystemEventFails() throws Exception {
-		var sourceSystem = givenSourceSystemRequest();
-		var prevSourceSystem = Optional.of(givenSourceSystem(OdsTranslatorType.DWCA));
-		given(repository.getActiveSourceSystem(BARE_HANDLE)).willReturn(prevSourceSystem);
-		given(fdoProperties.getSourceSystemType()).willReturn(SOURCE_SYSTEM_TYPE_DOI);
-		willThrow(JacksonException.class).given(rabbitMqPublisherService)
-			.publishUpdateEvent(givenSourceSystem(2), prevSourceSystem.get(), givenAgent());
-		var updateCron = mock(APIreplaceNamespacedCronJobRequest.class);
-		given(batchV1Api.replaceNamespacedCronJob(anyString(), eq(NAMESPACE), any(V1CronJob.class)))
-			.willReturn(updateCron);
-		given(dataMappingService.getActiveDataMapping(any())).willReturn(Optional.of(givenDataMapping()));
-
-		// When
-		assertThrowsExactly(ProcessingFailedException.class,
-				() -> service.updateSourceSystem(BARE_HANDLE, sourceSystem, givenAgent(), SYSTEM_PATH, false));
-
-		// Then
-		then(repository).should().updateSourceSystem(givenSourceSystem(2));
-		then(repository).should().updateSourceSystem(prevSourceSystem.get());
+		then(repository).should().updateSourceSystem(givenSourceSystem(2), givenOutboxEvent(BARE_HANDLE, 2));
+		then(repository).should().rollbackSourceSystemUpdate(prevSourceSystem.get());
+		then(repository).should(never()).releaseEvents(anyString(), anyInt());
 	}
 
 	@Test
@@ -629,10 +704,9 @@ class SourceSystemServiceTest {
 		var sourceSystem = givenSourceSystemRequest();
 		var prevSourceSystem = Optional.of(givenSourceSystem(OdsTranslatorType.DWCA));
 		given(repository.getActiveSourceSystem(BARE_HANDLE)).willReturn(prevSourceSystem);
+		given(rabbitMqPublisherService.buildUpdateEvent(givenSourceSystem(2), prevSourceSystem.get(), givenAgent()))
+			.willReturn(givenOutboxEvent(BARE_HANDLE, 2));
 		given(fdoProperties.getSourceSystemType()).willReturn(SOURCE_SYSTEM_TYPE_DOI);
-		var updateCron = mock(APIreplaceNamespacedCronJobRequest.class);
-		given(batchV1Api.replaceNamespacedCronJob(anyString(), eq(NAMESPACE), any(V1CronJob.class)))
-			.willReturn(updateCron);
 		var createJob = mock(APIcreateNamespacedJobRequest.class);
 		given(batchV1Api.createNamespacedJob(eq(NAMESPACE), any(V1Job.class))).willReturn(createJob);
 		given(createJob.execute()).willThrow(ApiException.class);
@@ -643,9 +717,11 @@ class SourceSystemServiceTest {
 				() -> service.updateSourceSystem(BARE_HANDLE, sourceSystem, givenAgent(), SYSTEM_PATH, true));
 
 		// Then
-		then(repository).should().updateSourceSystem(givenSourceSystem(2));
-		then(repository).should().updateSourceSystem(prevSourceSystem.get());
-		then(batchV1Api).should(times(2)).replaceNamespacedCronJob(anyString(), eq(NAMESPACE), any(V1CronJob.class));
+		then(repository).should().updateSourceSystem(givenSourceSystem(2), givenOutboxEvent(BARE_HANDLE, 2));
+		then(repository).should().rollbackSourceSystemUpdate(prevSourceSystem.get());
+		then(repository).should(never()).releaseEvents(anyString(), anyInt());
+		then(applyComponent).should(times(2))
+			.apply(eq(InformedResourceType.TRANSLATOR_CRON_JOB), anyString(), any(V1CronJob.class));
 	}
 
 	@Test
@@ -678,10 +754,11 @@ class SourceSystemServiceTest {
 	@Test
 	void testGetSourceSystemById() throws NotFoundException {
 		// Given
-		var sourceSystem = givenSourceSystem();
-		var expected = givenSourceSystemSingleJsonApiWrapper();
+		var sourceSystem = givenRawJson(givenSourceSystem());
+		var expected = new JsonApiWrapper(JsonApiData.fromRawJson(sourceSystem, ObjectType.SOURCE_SYSTEM),
+				new JsonApiLinks(SYSTEM_PATH));
 
-		given(repository.getSourceSystem(HANDLE)).willReturn(sourceSystem);
+		given(repository.getRawSourceSystem(HANDLE)).willReturn(Optional.of(sourceSystem));
 
 		// When
 		var result = service.getSourceSystemById(HANDLE, SYSTEM_PATH);
@@ -721,12 +798,11 @@ class SourceSystemServiceTest {
 	@Test
 	void testGetSourceSystemByIdIsDeleted() throws NotFoundException {
 		// Given
-		var sourceSystem = givenSourceSystem();
-		var expected = new JsonApiWrapper(
-				new JsonApiData(HANDLE, ObjectType.SOURCE_SYSTEM, flattenSourceSystem(sourceSystem)),
+		var sourceSystem = givenRawJson(givenTombstoneSourceSystem());
+		var expected = new JsonApiWrapper(JsonApiData.fromRawJson(sourceSystem, ObjectType.SOURCE_SYSTEM),
 				new JsonApiLinks(SYSTEM_PATH));
 
-		given(repository.getSourceSystem(HANDLE)).willReturn(sourceSystem);
+		given(repository.getRawSourceSystem(HANDLE)).willReturn(Optional.of(sourceSystem));
 
 		// When
 		var result = service.getSourceSystemById(HANDLE, SYSTEM_PATH);
@@ -738,6 +814,7 @@ class SourceSystemServiceTest {
 	@Test
 	void testGetSourceSystemNotFound() {
 		// Given
+		given(repository.getRawSourceSystem(HANDLE)).willReturn(Optional.empty());
 
 		// When / Then
 		assertThrows(NotFoundException.class, () -> service.getSourceSystemById(HANDLE, SYSTEM_PATH));
@@ -749,10 +826,10 @@ class SourceSystemServiceTest {
 		int pageNum = 1;
 		int pageSize = 10;
 		String path = SANDBOX_URI;
-		List<SourceSystem> sourceSystems = Collections.nCopies(pageSize + 1, givenSourceSystem());
+		var sourceSystems = Collections.nCopies(pageSize + 1, givenRawJson(givenSourceSystem()));
 		given(repository.getSourceSystems(pageNum, pageSize)).willReturn(sourceSystems);
 		var linksNode = new JsonApiLinks(pageSize, pageNum, true, path);
-		var expected = givenSourceSystemResponse(sourceSystems.subList(0, pageSize), linksNode);
+		var expected = givenRawJsonResponse(sourceSystems.subList(0, pageSize), ObjectType.SOURCE_SYSTEM, linksNode);
 
 		// When
 		var result = service.getSourceSystems(pageNum, pageSize, path);
@@ -767,10 +844,10 @@ class SourceSystemServiceTest {
 		int pageNum = 2;
 		int pageSize = 10;
 		String path = SANDBOX_URI;
-		List<SourceSystem> sourceSystems = Collections.nCopies(pageSize, givenSourceSystem());
+		var sourceSystems = Collections.nCopies(pageSize, givenRawJson(givenSourceSystem()));
 		given(repository.getSourceSystems(pageNum, pageSize)).willReturn(sourceSystems);
 		var linksNode = new JsonApiLinks(pageSize, pageNum, false, path);
-		var expected = givenSourceSystemResponse(sourceSystems, linksNode);
+		var expected = givenRawJsonResponse(sourceSystems, ObjectType.SOURCE_SYSTEM, linksNode);
 
 		// When
 		var result = service.getSourceSystems(pageNum, pageSize, path);
@@ -779,6 +856,48 @@ class SourceSystemServiceTest {
 		assertThat(result).isEqualTo(expected);
 	}
 
+	@Test
+	void getSourceSystemPage() throws BadRequestException {
+		// Given
+		int pageSize = 10;
+		String path = SANDBOX_URI;
+		var sourceSystems = Collections.nCopies(pageSize + 1, givenRawJson(givenSourceSystem()));
+		given(repository.getSourceSystemPage(null, pageSize)).willReturn(sourceSystems);
+		var nextCursor = new PageCursor(CREATED, BARE_HANDLE).encode();
+		var linksNode = new JsonApiLinks(pageSize, "", nextCursor, path);
+		var expected = givenRawJsonResponse(sourceSystems.subList(0, pageSize), ObjectType.SOURCE_SYSTEM, linksNode);
+
+		// When
+		var result = service.getSourceSystemPage("", pageSize, path);
+
+		// Then
+		assertThat(result).isEqualTo(expected);
+	}
+
+	@Test
+	void getSourceSystemPageLastPage() throws BadRequestException {
+		// Given
+		int pageSize = 10;
+		String path = SANDBOX_URI;
+		var cursor = new PageCursor(CREATED, BARE_HANDLE);
+		var sourceSystems = Collections.nCopies(pageSize, givenRawJson(givenSourceSystem()));
+		given(repository.getSourceSystemPage(cursor, pageSize)).willReturn(sourceSystems);
+		var linksNode = new JsonApiLinks(pageSize, cursor.encode(), null, path);
+		var expected = givenRawJsonResponse(sourceSystems, ObjectType.SOURCE_SYSTEM, linksNode);
+
+		// When
+		var result = service.getSourceSystemPage(cursor.encode(), pageSize, path);
+
+		// Then
+		assertThat(result).isEqualTo(expected);
+	}
+
+	@Test
+	void getSourceSystemPageInvalidCursor() {
+		// When / Then
+		assertThrows(BadRequestException.class, () -> service.getSourceSystemPage("not-a-cursor", 10, SANDBOX_URI));
+	}
+
 	@Test
 	void testTombstoneSourceSystem() throws Exception {
 		// Given
@@ -788,27 +907,60 @@ class SourceSystemServiceTest {
 		given(batchV1Api.deleteNamespacedCronJob(anyString(), eq(EXPORT_NAMESPACE))).willReturn(deleteCron);
 		mockedStatic.when(Instant::now).thenReturn(UPDATED);
 		mockedClock.when(Clock::systemUTC).thenReturn(updatedClock);
+		given(rabbitMqPublisherService.buildTombstoneEvent(givenTombstoneSourceSystem(), givenSourceSystem(),
+				givenAgent()))
+			.willReturn(givenOutboxEvent(BARE_HANDLE, 2));
 
 		// When
 		service.tombstoneSourceSystem(BARE_HANDLE, givenAgent());
 
 		// Then
-		then(repository).should().tombstoneSourceSystem(givenTombstoneSourceSystem(), UPDATED);
-		then(handleComponent).should().tombstoneHandle(any(), eq(BARE_HANDLE));
-		then(rabbitMqPublisherService).should().publishTombstoneEvent(any(), any(), eq(givenAgent()));
+		var inOrder = inOrder(handleComponent, repository, batchV1Api);
+		inOrder.verify(handleComponent).tombstoneHandle(any(), eq(BARE_HANDLE));
+		inOrder.verify(repository)
+			.tombstoneSourceSystem(givenTombstoneSourceSystem(), UPDATED, givenOutboxEvent(BARE_HANDLE, 2));
+		inOrder.verify(batchV1Api).deleteNamespacedCronJob(anyString(), eq(NAMESPACE));
+		then(batchV1Api).should().deleteNamespacedCronJob(anyString(), eq(EXPORT_NAMESPACE));
 	}
 
 	@Test
-	void testTombstoneSourceSystemCronFailed() throws ApiException {
+	void testTombstoneSourceSystemCronFailed() throws Exception {
 		// Given
 		given(repository.getActiveSourceSystem(BARE_HANDLE)).willReturn(Optional.of(givenSourceSystem()));
 		var deleteCron = mock(APIdeleteNamespacedCronJobRequest.class);
 		given(batchV1Api.deleteNamespacedCronJob(anyString(), eq(NAMESPACE))).willReturn(deleteCron);
 		given(deleteCron.execute()).willThrow(ApiException.class);
+		var deleteExportCron = mock(APIdeleteNamespacedCronJobRequest.class);
+		given(batchV1Api.deleteNamespacedCronJob(anyString(), eq(EXPORT_NAMESPACE))).willReturn(deleteExportCron);
+		mockedStatic.when(Instant::now).thenReturn(UPDATED);
+		mockedClock.when(Clock::systemUTC).thenReturn(updatedClock);
+		given(rabbitMqPublisherService.buildTombstoneEvent(givenTombstoneSourceSystem(), givenSourceSystem(),
+				givenAgent()))
+			.willReturn(givenOutboxEvent(BARE_HANDLE, 2));
+
+		// When
+		service.tombstoneSourceSystem(BARE_HANDLE, givenAgent());
 
 		// Then
+		then(repository).should()
+			.tombstoneSourceSystem(givenTombstoneSourceSystem(), UPDATED, givenOutboxEvent(BARE_HANDLE, 2));
+		then(deleteExportCron).should().execute();
+	}
+
+	@Test
+	void testTombstoneSourceSystemHandleFailed() throws Exception {
+		// Given
+		given(repository.getActiveSourceSystem(BARE_HANDLE)).willReturn(Optional.of(givenSourceSystem()));
+		willThrow(PidException.class).given(handleComponent).tombstoneHandle(any(), eq(BARE_HANDLE));
+
+		// When
 		assertThrowsExactly(ProcessingFailedException.class,
 				() -> service.tombstoneSourceSystem(BARE_HANDLE, givenAgent()));
+
+		// Then
+		then(repository).should().getActiveSourceSystem(BARE_HANDLE);
+		then(repository).shouldHaveNoMoreInteractions();
+		then(batchV1Api).shouldHaveNoInteractions();
 	}
 
 	@Test
@@ -821,40 +973,42 @@ class SourceSystemServiceTest {
 	}
 
 	@Test
-	void synchronizeMissingSourceSystem() throws ApiException, TemplateException, IOException {
+	void testRegisterLeaderTask() {
+		// When
+		service.registerLeaderTask();
+
+		// Then
+		then(leaderElectionComponent).should().addLeaderTask(any());
+		then(informerComponent).shouldHaveNoInteractions();
+	}
+
+	@Test
+	void synchronizeMissingSourceSystem() throws Exception {
 		// Given
-		var cronResponse = mock(APIlistNamespacedCronJobRequest.class);
-		given(batchV1Api.listNamespacedCronJob(NAMESPACE)).willReturn(cronResponse);
-		given(batchV1Api.listNamespacedCronJob(EXPORT_NAMESPACE)).willReturn(cronResponse);
-		given(cronResponse.execute()).willReturn(new V1CronJobList());
-		given(repository.getSourceSystems(anyInt(), anyInt())).willReturn(List.of(givenSourceSystem()));
-		given(batchV1Api.createNamespacedCronJob(eq(NAMESPACE), any(V1CronJob.class)))
-			.willReturn(mock(APIcreateNamespacedCronJobRequest.class));
-		given(batchV1Api.createNamespacedCronJob(eq(EXPORT_NAMESPACE), any(V1CronJob.class)))
-			.willReturn(mock(APIcreateNamespacedCronJobRequest.class));
+		given(repository.streamActiveSourceSystems(anyInt()))
+			.willAnswer(invocation -> Stream.of(List.of(givenSourceSystem())));
 
 		// When
 		service.setup();
 
 		// Then
-		then(batchV1Api).should().createNamespacedCronJob(eq(NAMESPACE), any(V1CronJob.class));
-		then(batchV1Api).should().createNamespacedCronJob(eq(EXPORT_NAMESPACE), any(V1CronJob.class));
+		then(informerComponent).should().start();
+		then(applyComponent).should()
+			.apply(eq(InformedResourceType.TRANSLATOR_CRON_JOB), eq("biocase-gw0-pop-xsl-translator-service"),
+					any(V1CronJob.class));
+		then(applyComponent).should()
+			.apply(eq(InformedResourceType.EXPORT_CRON_JOB), eq("dwca-gw0-pop-xsl"), any(V1CronJob.class));
 	}
 
 	@Test
-	void synchronizeExcessSourceSystem() throws ApiException, TemplateException, IOException {
+	void synchronizeExcessSourceSystem() throws Exception {
 		// Given
-		var cronResponse = mock(APIlistNamespacedCronJobRequest.class);
-		var dwcaCronResponse = mock(APIlistNamespacedCronJobRequest.class);
 		var cronName = "biocase-gw0-pop-xsl-translator-service";
 		var expectedCron = getV1CronJob(jobProperties.getImage(), cronName);
 		var dwcaCronName = "dwca-gw0-pop-xsl";
 		var expectedDwcaCron = getV1DwcaCronJob(dwcaCronName);
-		given(batchV1Api.listNamespacedCronJob(NAMESPACE)).willReturn(cronResponse);
-		given(batchV1Api.listNamespacedCronJob(EXPORT_NAMESPACE)).willReturn(dwcaCronResponse);
-		given(cronResponse.execute()).willReturn(new V1CronJobList().addItemsItem(expectedCron));
-		given(dwcaCronResponse.execute()).willReturn(new V1CronJobList().addItemsItem(expectedDwcaCron));
-		given(repository.getSourceSystems(anyInt(), anyInt())).willReturn(List.of());
+		given(informerComponent.getTranslatorCronJobs()).willReturn(List.of(expectedCron));
+		given(informerComponent.getExportCronJobs()).willReturn(List.of(expectedDwcaCron));
 		given(batchV1Api.deleteNamespacedCronJob(anyString(), anyString()))
 			.willReturn(mock(APIdeleteNamespacedCronJobRequest.class));
 
@@ -867,10 +1021,8 @@ class SourceSystemServiceTest {
 	}
 
 	@Test
-	void synchronizeOutOfSyncSourceSystem() throws ApiException, TemplateException, IOException {
+	void synchronizeOutOfSyncSourceSystem() throws Exception {
 		// Given
-		var cronResponse = mock(APIlistNamespacedCronJobRequest.class);
-		var dwcaCronResponse = mock(APIlistNamespacedCronJobRequest.class);
 		var cronName = "biocase-gw0-pop-xsl-translator-service";
 		var expectedCron = getV1CronJob(jobProperties.getImage(), cronName);
 		expectedCron.getSpec()
@@ -891,45 +1043,115 @@ class SourceSystemServiceTest {
 			.getContainers()
 			.get(0)
 			.setEnv(List.of());
-		given(batchV1Api.listNamespacedCronJob(NAMESPACE)).willReturn(cronResponse);
-		given(batchV1Api.listNamespacedCronJob(EXPORT_NAMESPACE)).willReturn(dwcaCronResponse);
-		given(cronResponse.execute()).willReturn(new V1CronJobList().addItemsItem(expectedCron));
-		given(dwcaCronResponse.execute()).willReturn(new V1CronJobList().addItemsItem(expectedDwcaCron));
-		given(repository.getSourceSystems(anyInt(), anyInt())).willReturn(List.of(givenSourceSystem()));
-		given(batchV1Api.replaceNamespacedCronJob(eq(cronName), eq(NAMESPACE), any(V1CronJob.class)))
-			.willReturn(mock(APIreplaceNamespacedCronJobRequest.class));
-		given(batchV1Api.replaceNamespacedCronJob(eq(dwcaCronName), eq(EXPORT_NAMESPACE), any(V1CronJob.class)))
-			.willReturn(mock(APIreplaceNamespacedCronJobRequest.class));
+		given(informerComponent.getTranslatorCronJobs()).willReturn(List.of(expectedCron));
+		given(informerComponent.getExportCronJobs()).willReturn(List.of(expectedDwcaCron));
+		given(repository.streamActiveSourceSystems(anyInt()))
+			.willAnswer(invocation -> Stream.of(List.of(givenSourceSystem())));
+
+		// When
+		service.setup();
+
+		// Then
+		then(applyComponent).should()
+			.apply(eq(InformedResourceType.TRANSLATOR_CRON_JOB), eq(cronName), any(V1CronJob.class));
+		then(applyComponent).should()
+			.apply(eq(InformedResourceType.EXPORT_CRON_JOB), eq(dwcaCronName), any(V1CronJob.class));
+	}
+
+	@Test
+	void synchronizeInSyncSourceSystemWithSpecHash() throws Exception {
+		// Given
+		given(repository.streamActiveSourceSystems(anyInt()))
+			.willAnswer(invocation -> Stream.of(List.of(givenSourceSystem())));
+		service.setup();
+		var cronJobCaptor = ArgumentCaptor.forClass(V1CronJob.class);
+		then(applyComponent).should()
+			.apply(eq(InformedResourceType.TRANSLATOR_CRON_JOB), anyString(), cronJobCaptor.capture());
+		then(applyComponent).should()
+			.apply(eq(InformedResourceType.EXPORT_CRON_JOB), anyString(), cronJobCaptor.capture());
+		given(informerComponent.getTranslatorCronJobs()).willReturn(List.of(cronJobCaptor.getAllValues().get(0)));
+		given(informerComponent.getExportCronJobs()).willReturn(List.of(cronJobCaptor.getAllValues().get(1)));
+		clearInvocations(applyComponent);
 
 		// When
 		service.setup();
 
 		// Then
-		then(batchV1Api).should().replaceNamespacedCronJob(eq(cronName), eq(NAMESPACE), any(V1CronJob.class));
-		then(batchV1Api).should()
-			.replaceNamespacedCronJob(eq(dwcaCronName), eq(EXPORT_NAMESPACE), any(V1CronJob.class));
+		then(applyComponent).shouldHaveNoInteractions();
+		then(batchV1Api).shouldHaveNoInteractions();
 	}
 
 	@Test
-	void synchronizeInSyncSourceSystem() throws ApiException, TemplateException, IOException {
+	void reconcileChangedCronJob() throws Exception {
 		// Given
-		var cronResponse = mock(APIlistNamespacedCronJobRequest.class);
-		var dwcaCronResponse = mock(APIlistNamespacedCronJobRequest.class);
 		var cronName = "biocase-gw0-pop-xsl-translator-service";
-		var expectedCron = getV1CronJob(jobProperties.getImage(), cronName);
+		var existingCron = getV1CronJob("anotherImage", cronName);
+		given(fdoProperties.getHandlePrefix()).willReturn(PREFIX);
+		given(repository.getActiveSourceSystem(BARE_HANDLE)).willReturn(Optional.of(givenSourceSystem()));
+		given(informerComponent.getTranslatorCronJob(cronName)).willReturn(Optional.of(existingCron));
+		var handler = service.changeHandlers().get(InformedResourceType.TRANSLATOR_CRON_JOB);
+
+		// When
+		handler.accept(cronName);
+
+		// Then
+		then(applyComponent).should()
+			.apply(eq(InformedResourceType.TRANSLATOR_CRON_JOB), eq(cronName), any(V1CronJob.class));
+	}
+
+	@Test
+	void reconcileChangedCronJobWithSpecHash() throws Exception {
+		// Given
+		var cronName = "biocase-gw0-pop-xsl-translator-service";
+		given(fdoProperties.getHandlePrefix()).willReturn(PREFIX);
+		given(repository.getActiveSourceSystem(BARE_HANDLE)).willReturn(Optional.of(givenSourceSystem()));
+		given(informerComponent.getTranslatorCronJob(cronName)).willReturn(Optional.empty());
+		var handler = service.changeHandlers().get(InformedResourceType.TRANSLATOR_CRON_JOB);
+		handler.accept(cronName);
+		var cronJobCaptor = ArgumentCaptor.forClass(V1CronJob.class);
+		then(applyComponent).should()
+			.apply(eq(InformedResourceType.TRANSLATOR_CRON_JOB), eq(cronName), cronJobCaptor.capture());
+		var existingCron = cronJobCaptor.getValue();
+		existingCron.getSpec().setSchedule("0 1 * * 2");
+		given(informerComponent.getTranslatorCronJob(cronName)).willReturn(Optional.of(existingCron));
+		clearInvocations(applyComponent);
+
+		// When
+		handler.accept(cronName);
+		existingCron.getSpec()
+			.getJobTemplate()
+			.getSpec()
+			.getTemplate()
+			.getSpec()
+			.getContainers()
+			.getFirst()
+			.image("anotherImage");
+		handler.accept(cronName);
+
+		// Then
+		var appliedCaptor = ArgumentCaptor.forClass(V1CronJob.class);
+		then(applyComponent).should()
+			.apply(eq(InformedResourceType.TRANSLATOR_CRON_JOB), eq(cronName), appliedCaptor.capture());
+		assertThat(appliedCaptor.getValue().getSpec().getSchedule()).isEqualTo("0 1 * * 2");
+	}
+
+	@Test
+	void reconcileChangedOrphanExportJob() throws Exception {
+		// Given
 		var dwcaCronName = "dwca-gw0-pop-xsl";
-		var expectedDwcaCron = getV1DwcaCronJob(dwcaCronName);
-		given(batchV1Api.listNamespacedCronJob(NAMESPACE)).willReturn(cronResponse);
-		given(batchV1Api.listNamespacedCronJob(EXPORT_NAMESPACE)).willReturn(dwcaCronResponse);
-		given(cronResponse.execute()).willReturn(new V1CronJobList().addItemsItem(expectedCron));
-		given(dwcaCronResponse.execute()).willReturn(new V1CronJobList().addItemsItem(expectedDwcaCron));
-		given(repository.getSourceSystems(anyInt(), anyInt())).willReturn(List.of(givenSourceSystem()));
+		given(fdoProperties.getHandlePrefix()).willReturn(PREFIX);
+		given(repository.getActiveSourceSystem(BARE_HANDLE)).willReturn(Optional.empty());
+		given(informerComponent.getExportCronJob(dwcaCronName))
+			.willReturn(Optional.of(getV1DwcaCronJob(dwcaCronName)));
+		given(batchV1Api.deleteNamespacedCronJob(dwcaCronName, EXPORT_NAMESPACE))
+			.willReturn(mock(APIdeleteNamespacedCronJobRequest.class));
+		var handler = service.changeHandlers().get(InformedResourceType.EXPORT_CRON_JOB);
 
 		// When
-		service.setup();
+		handler.accept(dwcaCronName);
 
 		// Then
-		then(batchV1Api).shouldHaveNoMoreInteractions();
+		then(batchV1Api).should().deleteNamespacedCronJob(dwcaCronName, EXPORT_NAMESPACE);
 	}
 
 	private void initTime() {
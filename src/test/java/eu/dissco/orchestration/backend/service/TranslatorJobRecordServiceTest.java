@@ -2,6 +2,8 @@ package eu.dissco.orchestration.backend.service;
 
 import eu.dissco.orchestration.backend.domain.TranslatorJobRecord;
 import eu.dissco.orchestration.backend.domain.jsonapi.JsonApiLinks;
+import eu.dissco.orchestration.backend.domain.jsonapi.PageCursor;
+import eu.dissco.orchestration.backend.exception.BadRequestException;
 import eu.dissco.orchestration.backend.repository.TranslatorJobRecordRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -9,12 +11,15 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Instant;
 import java.util.Collections;
 import java.util.List;
 
 import static eu.dissco.orchestration.backend.testutils.TestUtils.*;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
 
 @ExtendWith(MockitoExtension.class)
 class TranslatorJobRecordServiceTest {
@@ -65,4 +70,15 @@ class TranslatorJobRecordServiceTest {
 		assertThat(result).isEqualTo(expected);
 	}
 
+	@Test
+	void getTranslatorJobRecordPageInvalidCursorId() {
+		// Given
+		var cursor = new PageCursor(Instant.parse("2022-11-01T09:59:24Z"), "not-a-uuid").encode();
+
+		// When / Then
+		assertThrows(BadRequestException.class,
+				() -> service.retrieveJobRecordPage(BARE_HANDLE, cursor, 10, JOB_RECORD_PATH));
+		then(repository).shouldHaveNoInteractions();
+	}
+
 }
@@ -6,6 +6,8 @@ import eu.dissco.orchestration.backend.database.jooq.enums.JobState;
 import eu.dissco.orchestration.backend.domain.AgentRoleType;
 import eu.dissco.orchestration.backend.domain.MasScheduleData;
 import eu.dissco.orchestration.backend.domain.ObjectType;
+import eu.dissco.orchestration.backend.domain.OutboxEvent;
+import eu.dissco.orchestration.backend.domain.RawJsonObject;
 import eu.dissco.orchestration.backend.domain.TranslatorJobRecord;
 import eu.dissco.orchestration.backend.domain.jsonapi.JsonApiData;
 import eu.dissco.orchestration.backend.domain.jsonapi.JsonApiLinks;
@@ -241,6 +243,26 @@ public class TestUtils {
 		return new JsonApiListWrapper(dataNode, linksNode);
 	}
 
+	public static JsonApiListWrapper givenRawJsonResponse(List<RawJsonObject> objects, ObjectType type,
+			JsonApiLinks linksNode) {
+		var dataNode = objects.stream().map(object -> JsonApiData.fromRawJson(object, type)).toList();
+		return new JsonApiListWrapper(dataNode, linksNode);
+	}
+
+	public static RawJsonObject givenRawJson(SourceSystem sourceSystem) {
+		return new RawJsonObject(sourceSystem.getId(), sourceSystem.getSchemaDateCreated().toInstant(),
+				MAPPER.writeValueAsString(sourceSystem));
+	}
+
+	public static RawJsonObject givenRawJson(MachineAnnotationService mas) {
+		return new RawJsonObject(mas.getId(), mas.getSchemaDateCreated().toInstant(), MAPPER.writeValueAsString(mas));
+	}
+
+	public static RawJsonObject givenRawJson(DataMapping dataMapping) {
+		return new RawJsonObject(dataMapping.getId(), dataMapping.getSchemaDateCreated().toInstant(),
+				MAPPER.writeValueAsString(dataMapping));
+	}
+
 	public static JsonNode flattenSourceSystem(SourceSystem sourceSystem) {
 		return MAPPER.valueToTree(sourceSystem);
 	}
@@ -490,4 +512,13 @@ public class TestUtils {
 
 	}
 
+	public static OutboxEvent givenOutboxEvent() {
+		return givenOutboxEvent(BARE_HANDLE, 1);
+	}
+
+	public static OutboxEvent givenOutboxEvent(String objectId, int version) {
+		return new OutboxEvent(objectId, version, "provenance-exchange", "provenance.data-mapping",
+				"{\"@id\":\"" + HANDLE_PROXY + objectId + "/" + version + "\"}");
+	}
+
 }
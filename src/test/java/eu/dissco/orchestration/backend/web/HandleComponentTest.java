@@ -10,6 +10,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
 
 import eu.dissco.orchestration.backend.client.HandleClient;
 import eu.dissco.orchestration.backend.exception.PidException;
@@ -56,6 +57,55 @@ class HandleComponentTest {
 		assertThrows(PidException.class, () -> handleComponent.postHandle(givenMasHandleRequest()));
 	}
 
+	@Test
+	void testPostHandles() throws PidException {
+		// Given
+		var requests = List.of(givenMasHandleRequest(), givenMasHandleRequest());
+		given(handleClient.postHandle(requests)).willReturn(MAPPER.readTree("""
+				{
+				  "data": [
+				    { "id": "20.5000.1025/GW0-POP-XSL" },
+				    { "id": "20.5000.1025/GW0-POP-XSM" }
+				  ]
+				}"""));
+
+		// When
+		var result = handleComponent.postHandles(requests);
+
+		// Then
+		assertThat(result).containsExactly(BARE_HANDLE, "20.5000.1025/GW0-POP-XSM");
+	}
+
+	@Test
+	void testPostHandlesMissingHandle() throws Exception {
+		// Given
+		given(handleClient.postHandle(any())).willReturn(givenHandleApiResponse());
+
+		// When
+		assertThrows(PidException.class,
+				() -> handleComponent.postHandles(List.of(givenMasHandleRequest(), givenMasHandleRequest())));
+
+		// Then
+		then(handleClient).should().rollbackHandle(MAPPER.readTree("""
+				{
+				  "data": [
+				    { "id": "20.5000.1025/GW0-POP-XSL" }
+				  ]
+				}"""));
+	}
+
+	@Test
+	void testPostHandlesNoData() throws Exception {
+		// Given
+		given(handleClient.postHandle(any())).willReturn(MAPPER.createObjectNode());
+
+		// When
+		assertThrows(PidException.class, () -> handleComponent.postHandles(List.of(givenMasHandleRequest())));
+
+		// Then
+		then(handleClient).should(never()).rollbackHandle(any());
+	}
+
 	@Test
 	void testRollbackHandleCreation() throws Exception {
 		// Given
@@ -86,6 +136,18 @@ class HandleComponentTest {
 		assertDoesNotThrow(() -> handleComponent.tombstoneHandle(givenMasHandleRequest(), BARE_HANDLE));
 	}
 
+	@Test
+	void testUpdateHandle() throws Exception {
+		// Given
+		var request = givenMasHandleRequest();
+
+		// When
+		handleComponent.updateHandle(request, BARE_HANDLE);
+
+		// Then
+		then(handleClient).should().updateHandle(BARE_HANDLE, request);
+	}
+
 	private JsonNode givenHandleApiResponse() {
 		return MAPPER.readTree("""
 				{